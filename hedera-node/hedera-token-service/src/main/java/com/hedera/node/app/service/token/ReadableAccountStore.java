@@ -7,6 +7,7 @@ import com.hedera.hapi.node.state.token.Account;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collection;
 
 /**
  * Provides read-only methods for interacting with the underlying data storage mechanisms for
@@ -125,4 +126,16 @@ public interface ReadableAccountStore {
      * @param accountID the account id
      */
     default void warm(@NonNull final AccountID accountID) {}
+
+    /**
+     * Warms the system by preloading multiple accounts into memory at once. This is usually
+     * faster than warming the accounts one by one.
+     *
+     * <p>The default implementation warms the accounts one by one.
+     *
+     * @param accountIDs the account ids
+     */
+    default void warmAll(@NonNull final Collection<AccountID> accountIDs) {
+        accountIDs.forEach(this::warm);
+    }
 }
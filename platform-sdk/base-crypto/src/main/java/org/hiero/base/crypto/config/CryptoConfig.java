@@ -10,6 +10,9 @@ import com.swirlds.config.api.ConfigProperty;
  * @param cpuDigestThreadRatio   the ratio of simultaneous CPU threads to utilize for hashing. A value between
  *                               {@code 0.0} and {@code 1.0} inclusive representing the percentage of cores that should
  *                               be used for hash computations.
+ * @param cpuVerifierThreadRatio the ratio of simultaneous CPU threads to utilize for verifying signatures in batches.
+ *                               A value between {@code 0.0} and {@code 1.0} inclusive representing the percentage of
+ *                               cores that should be used for signature verification.
  * @param keystorePassword       the password used to protect the PKCS12 key stores containing the nodes RSA keys. The
  *                               password used to protect the PKCS12 key stores containing the node RSA public/private
  *                               key pairs.
@@ -20,6 +23,7 @@ import com.swirlds.config.api.ConfigProperty;
 @ConfigData("crypto")
 public record CryptoConfig(
         @ConfigProperty(defaultValue = "0.5") double cpuDigestThreadRatio,
+        @ConfigProperty(defaultValue = "0.5") double cpuVerifierThreadRatio,
         @ConfigProperty(defaultValue = "password") String keystorePassword,
         @ConfigProperty(defaultValue = "true") boolean enableNewKeyStoreModel) {
 
@@ -29,8 +33,21 @@ public record CryptoConfig(
      * @return the number of threads to be allocated
      */
     public int computeCpuDigestThreadCount() {
+        return computeThreadCount(cpuDigestThreadRatio());
+    }
+
+    /**
+     * Calculates the number of threads needed to achieve the CPU core ratio given by {@link #cpuVerifierThreadRatio()}.
+     *
+     * @return the number of threads to be allocated
+     */
+    public int computeCpuVerifierThreadCount() {
+        return computeThreadCount(cpuVerifierThreadRatio());
+    }
+
+    private static int computeThreadCount(final double ratio) {
         final int numberOfCores = Runtime.getRuntime().availableProcessors();
-        final double interimThreadCount = Math.ceil(numberOfCores * cpuDigestThreadRatio());
+        final double interimThreadCount = Math.ceil(numberOfCores * ratio);
 
         return (interimThreadCount >= 1.0) ? (int) interimThreadCount : 1;
     }
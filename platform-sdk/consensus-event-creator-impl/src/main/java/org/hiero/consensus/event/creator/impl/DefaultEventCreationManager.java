@@ -16,11 +16,13 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.hiero.consensus.event.FutureEventBuffer;
 import org.hiero.consensus.event.FutureEventBufferingOption;
 import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
 import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
+import org.hiero.consensus.event.creator.impl.rules.AdaptiveRateRule;
 import org.hiero.consensus.event.creator.impl.rules.AggregateEventCreationRules;
 import org.hiero.consensus.event.creator.impl.rules.EventCreationRule;
 import org.hiero.consensus.event.creator.impl.rules.MaximumRateRule;
@@ -28,6 +30,7 @@ import org.hiero.consensus.event.creator.impl.rules.PlatformHealthRule;
 import org.hiero.consensus.event.creator.impl.rules.PlatformStatusRule;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
 import org.hiero.consensus.model.status.PlatformStatus;
 
 /**
@@ -84,6 +87,9 @@ public class DefaultEventCreationManager implements EventCreationManager {
 
         final List<EventCreationRule> rules = new ArrayList<>();
         rules.add(new MaximumRateRule(configuration, time));
+        if (config.adaptiveCreationRateEnabled()) {
+            rules.add(new AdaptiveRateRule(configuration, metrics, time, transactionPoolNexus));
+        }
         rules.add(new PlatformStatusRule(this::getPlatformStatus, transactionPoolNexus));
         rules.add(new PlatformHealthRule(config.maximumPermissibleUnhealthyDuration(), this::getUnhealthyDuration));
 
@@ -172,6 +178,14 @@ public class DefaultEventCreationManager implements EventCreationManager {
         unhealthyDuration = Objects.requireNonNull(duration);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reportPeerLatencies(@NonNull final Map<NodeId, Duration> peerLatencies) {
+        creator.setPeerLatencies(peerLatencies);
+    }
+
     /**
      * Get the current platform status.
      *
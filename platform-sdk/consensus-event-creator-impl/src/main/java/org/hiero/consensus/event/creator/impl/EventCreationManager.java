@@ -5,8 +5,10 @@ import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.Map;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
 import org.hiero.consensus.model.status.PlatformStatus;
 
 /**
@@ -57,6 +59,14 @@ public interface EventCreationManager {
     @InputWireLabel("health info")
     void reportUnhealthyDuration(@NonNull final Duration duration);
 
+    /**
+     * Report the average round-trip time to every peer, as measured by gossip.
+     *
+     * @param peerLatencies the average round-trip time to every peer
+     */
+    @InputWireLabel("peer latencies")
+    void reportPeerLatencies(@NonNull Map<NodeId, Duration> peerLatencies);
+
     /**
      * Clear the internal state of the event creation manager.
      */
@@ -3,8 +3,11 @@ package org.hiero.consensus.event.creator.impl;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.Map;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
 
 /**
  * An object that creates new events.
@@ -25,6 +28,13 @@ public interface EventCreator {
      */
     void setEventWindow(@NonNull EventWindow eventWindow);
 
+    /**
+     * Update the round-trip times to peers. Event creators that don't take round-trip times into account ignore them.
+     *
+     * @param peerLatencies the average round-trip time to every peer
+     */
+    default void setPeerLatencies(@NonNull final Map<NodeId, Duration> peerLatencies) {}
+
     /**
      * Create a new event if it is legal to do so. The only time this should not create an event is if there are no
      * eligible parents.
@@ -29,6 +29,21 @@ import java.time.Duration;
  *                                            not permit the creation of new self events.
  * @param maximumPermissibleUnhealthyDuration the maximum amount of time that the system can be unhealthy before event
  *                                            creation stops
+ * @param adaptiveCreationRateEnabled         if true, the rate at which events are created adapts to the transaction
+ *                                            backlog: it stays close to {@code minimumAdaptiveCreationRate} while the
+ *                                            transaction pool is empty, and rises towards the maximum creation rate as
+ *                                            transactions accumulate or wait. Never exceeds the maximum creation rate.
+ * @param minimumAdaptiveCreationRate         the rate (in hz) at which events are created when adaptive creation is
+ *                                            enabled and no transactions are waiting. Must be greater than 0, since
+ *                                            events without transactions are still needed to reach consensus.
+ * @param adaptiveCreationBacklogAge          when adaptive creation is enabled, events are created at the maximum rate
+ *                                            once the oldest waiting transaction has waited this long
+ * @param parentLatencyWeight                 how much the round-trip time to a peer counts against its events when
+ *                                            other parents are chosen by tipset advancement weight. The advancement
+ *                                            weight of every candidate is divided by
+ *                                            {@code 1 + parentLatencyWeight * rtt / averageRtt}, so events of nearby
+ *                                            peers, which reach the rest of the network sooner, are preferred. A value
+ *                                            of 0 means that parents are chosen by advancement weight only.
  */
 @ConfigData("event.creation")
 public record EventCreationConfig(
@@ -37,4 +52,8 @@ public record EventCreationConfig(
         @ConfigProperty(defaultValue = "10") double antiSelfishnessFactor,
         @ConfigProperty(defaultValue = "10") int tipsetSnapshotHistorySize,
         @ConfigProperty(defaultValue = "1024") int eventIntakeThrottle,
-        @ConfigProperty(defaultValue = "1s") Duration maximumPermissibleUnhealthyDuration) {}
+        @ConfigProperty(defaultValue = "1s") Duration maximumPermissibleUnhealthyDuration,
+        @ConfigProperty(defaultValue = "false") boolean adaptiveCreationRateEnabled,
+        @ConfigProperty(defaultValue = "5") double minimumAdaptiveCreationRate,
+        @ConfigProperty(defaultValue = "50ms") Duration adaptiveCreationBacklogAge,
+        @ConfigProperty(defaultValue = "0") double parentLatencyWeight) {}
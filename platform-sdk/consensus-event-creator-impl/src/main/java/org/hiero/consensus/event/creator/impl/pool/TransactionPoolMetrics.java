@@ -36,11 +36,13 @@ public class TransactionPoolMetrics {
      * @param metrics                             the metrics instance to use
      * @param getBufferedTransactionCount         a supplier for the number of buffered transactions
      * @param getPriorityBufferedTransactionCount a supplier for the number of priority buffered transactions
+     * @param getBufferedTransactionBytes         a supplier for the number of bytes of all buffered transactions
      */
     public TransactionPoolMetrics(
             @NonNull final Metrics metrics,
             @NonNull final Supplier<Integer> getBufferedTransactionCount,
-            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount) {
+            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount,
+            @NonNull final Supplier<Long> getBufferedTransactionBytes) {
 
         acceptedAppTransactions = metrics.getOrCreate(ACCEPTED_APP_TRANSACTIONS_CONFIG);
         rejectedAppTransactions = metrics.getOrCreate(REJECTED_APP_TRANSACTIONS_CONFIG);
@@ -57,6 +59,10 @@ public class TransactionPoolMetrics {
                         getPriorityBufferedTransactionCount)
                 .withDescription("The number of priority transactions waiting to be inserted into an event.")
                 .withUnit("count"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        PLATFORM_CATEGORY, "bufferedTransactionBytes", Long.class, getBufferedTransactionBytes)
+                .withDescription("The number of bytes of all transactions waiting to be inserted into an event.")
+                .withUnit("bytes"));
     }
 
     /**
@@ -12,11 +12,14 @@ import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.config.TransactionConfig;
@@ -27,27 +30,58 @@ import org.hiero.consensus.model.status.PlatformStatus;
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ * <p>
+ * Transactions are submitted by many threads and removed by the event creator. Submitting a transaction never takes a
+ * lock: transactions are buffered in lock-free queues, and the counts and sizes of the buffered transactions are kept
+ * in atomic counters. The counters are incremented before a transaction is added to a queue and decremented after it
+ * is removed, so they never under-report what is buffered. Removing transactions is serialized by a lock that is only
+ * taken by the consumers of this pool.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
     private static final Logger logger = LogManager.getLogger(TransactionPoolNexus.class);
     private final RateLimitedLogger illegalTransactionLogger;
 
+    /**
+     * A transaction waiting to be put into a self-event.
+     *
+     * @param transaction    the transaction
+     * @param submittedNanos the time the transaction was submitted, as reported by {@link Time#nanoTime()}
+     */
+    private record BufferedTransaction(@NonNull Bytes transaction, long submittedNanos) {}
+
     /**
      * A list of transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<Bytes> bufferedTransactions = new LinkedList<>();
+    private final Queue<BufferedTransaction> bufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<Bytes> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<BufferedTransaction> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of transactions in {@link #bufferedTransactions}.
+     */
+    private final AtomicInteger bufferedTransactionCount = new AtomicInteger();
+
+    /**
+     * The number of transactions in {@link #priorityBufferedTransactions}. These are the signature transactions waiting
+     * to be put into events.
+     */
+    private final AtomicInteger priorityBufferedTransactionCount = new AtomicInteger();
+
+    /**
+     * The total number of bytes of all buffered transactions, priority or not.
+     */
+    private final AtomicLong bufferedTransactionBytes = new AtomicLong();
 
     /**
-     * The number of buffered signature transactions waiting to be put into events.
+     * Serializes the removal of transactions, so that a transaction that was peeked is the one that gets polled. Never
+     * taken when submitting transactions.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final Object consumerLock = new Object();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -73,7 +107,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -83,7 +117,12 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
+
+    /**
+     * The time source.
+     */
+    private final Time time;
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -95,6 +134,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     public TransactionPoolNexus(
             @NonNull final Configuration configuration, @NonNull final Metrics metrics, @NonNull final Time time) {
 
+        this.time = Objects.requireNonNull(time);
         illegalTransactionLogger = new RateLimitedLogger(logger, time, Duration.ofMinutes(10));
 
         final TransactionConfig transactionConfig = configuration.getConfigData(TransactionConfig.class);
@@ -102,7 +142,10 @@ public class TransactionPoolNexus implements TransactionSupplier {
         throttleTransactionQueueSize = transactionConfig.throttleTransactionQueueSize();
 
         transactionPoolMetrics = new TransactionPoolMetrics(
-                metrics, this::getBufferedTransactionCount, this::getPriorityBufferedTransactionCount);
+                metrics,
+                bufferedTransactionCount::get,
+                priorityBufferedTransactionCount::get,
+                bufferedTransactionBytes::get);
 
         maximumTransactionSize = transactionConfig.transactionMaxBytes();
 
@@ -121,7 +164,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -154,39 +197,57 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
         Objects.requireNonNull(transaction);
 
         // Always submit system transactions. If it's not a system transaction, then only submit it if we
         // don't violate queue size capacity restrictions.
-        if (!priority
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
-            transactionPoolMetrics.recordRejectedAppTransaction();
-            return false;
-        }
-
         if (priority) {
-            bufferedSignatureTransactionCount++;
+            priorityBufferedTransactionCount.incrementAndGet();
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
+        } else if (reserveApplicationTransaction()) {
             transactionPoolMetrics.recordAcceptedAppTransaction();
+        } else {
+            transactionPoolMetrics.recordRejectedAppTransaction();
+            return false;
         }
 
+        bufferedTransactionBytes.addAndGet(transaction.length());
+        final BufferedTransaction bufferedTransaction = new BufferedTransaction(transaction, time.nanoTime());
         if (priority) {
-            priorityBufferedTransactions.add(transaction);
+            priorityBufferedTransactions.add(bufferedTransaction);
         } else {
-            bufferedTransactions.add(transaction);
+            bufferedTransactions.add(bufferedTransaction);
         }
 
         return true;
     }
 
+    /**
+     * Count one more buffered application transaction, unless the number of buffered transactions is above the
+     * throttle. The check and the increment are a single atomic step, so concurrent submitters can't overshoot the
+     * throttle.
+     *
+     * @return true if the transaction was counted, false if it must be rejected
+     */
+    private boolean reserveApplicationTransaction() {
+        while (true) {
+            final int current = bufferedTransactionCount.get();
+            if (current + priorityBufferedTransactionCount.get() > throttleTransactionQueueSize) {
+                return false;
+            }
+            if (bufferedTransactionCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
     /**
      * Update the platform status.
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -196,12 +257,13 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
     /**
      * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
+     * Must be called while holding {@link #consumerLock}.
      *
      * @param currentEventSize the current size in bytes of the event being constructed
      * @return the next transaction, or null if no transaction is available
@@ -215,14 +277,20 @@ public class TransactionPoolNexus implements TransactionSupplier {
             return null;
         }
 
-        if (!priorityBufferedTransactions.isEmpty()
-                && priorityBufferedTransactions.peek().length() <= maxSize) {
-            bufferedSignatureTransactionCount--;
-            return priorityBufferedTransactions.poll();
+        final BufferedTransaction priorityTransaction = priorityBufferedTransactions.peek();
+        if (priorityTransaction != null && priorityTransaction.transaction().length() <= maxSize) {
+            priorityBufferedTransactions.poll();
+            priorityBufferedTransactionCount.decrementAndGet();
+            bufferedTransactionBytes.addAndGet(-priorityTransaction.transaction().length());
+            return priorityTransaction.transaction();
         }
 
-        if (!bufferedTransactions.isEmpty() && bufferedTransactions.peek().length() <= maxSize) {
-            return bufferedTransactions.poll();
+        final BufferedTransaction transaction = bufferedTransactions.peek();
+        if (transaction != null && transaction.transaction().length() <= maxSize) {
+            bufferedTransactions.poll();
+            bufferedTransactionCount.decrementAndGet();
+            bufferedTransactionBytes.addAndGet(-transaction.transaction().length());
+            return transaction.transaction();
         }
 
         return null;
@@ -235,25 +303,27 @@ public class TransactionPoolNexus implements TransactionSupplier {
      */
     @NonNull
     @Override
-    public synchronized List<Bytes> getTransactions() {
+    public List<Bytes> getTransactions() {
         // Early return due to no transactions waiting
-        if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
+        if (bufferedTransactionCount.get() == 0 && priorityBufferedTransactionCount.get() == 0) {
             return Collections.emptyList();
         }
 
-        final List<Bytes> selectedTrans = new LinkedList<>();
+        final List<Bytes> selectedTrans = new ArrayList<>();
         long currEventSize = 0;
 
-        while (true) {
-            final Bytes transaction = getNextTransaction(currEventSize);
+        synchronized (consumerLock) {
+            while (true) {
+                final Bytes transaction = getNextTransaction(currEventSize);
 
-            if (transaction == null) {
-                // No transaction of suitable size is available
-                break;
-            }
+                if (transaction == null) {
+                    // No transaction of suitable size is available
+                    break;
+                }
 
-            currEventSize += transaction.length();
-            selectedTrans.add(transaction);
+                currEventSize += transaction.length();
+                selectedTrans.add(transaction);
+            }
         }
 
         return selectedTrans;
@@ -264,34 +334,63 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return priorityBufferedTransactionCount.get() > 0;
     }
 
     /**
-     * get the number of buffered transactions
+     * Get the number of transactions, priority or not, waiting to be put into events.
      *
-     * @return the number of transactions
+     * @return the number of buffered transactions
      */
-    private synchronized int getBufferedTransactionCount() {
-        return bufferedTransactions.size();
+    public int getBufferedTransactionCount() {
+        return bufferedTransactionCount.get() + priorityBufferedTransactionCount.get();
     }
 
     /**
-     * get the number of priority buffered transactions
+     * Get the number of bytes of all transactions, priority or not, waiting to be put into events.
      *
-     * @return the number of transactions
+     * @return the number of buffered bytes
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    public long getBufferedTransactionBytes() {
+        return bufferedTransactionBytes.get();
     }
 
     /**
-     * Clear all the transactions
+     * Get the amount of time the oldest transaction waiting to be put into an event has been waiting.
+     *
+     * @return the age of the oldest buffered transaction, or {@link Duration#ZERO} if no transaction is buffered
      */
-    synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+    @NonNull
+    public Duration getOldestBufferedTransactionAge() {
+        final BufferedTransaction priorityTransaction = priorityBufferedTransactions.peek();
+        final BufferedTransaction transaction = bufferedTransactions.peek();
+        final long now = time.nanoTime();
+
+        long oldestNanos = now;
+        if (priorityTransaction != null) {
+            oldestNanos = priorityTransaction.submittedNanos();
+        }
+        if (transaction != null && transaction.submittedNanos() - oldestNanos < 0) {
+            oldestNanos = transaction.submittedNanos();
+        }
+        return Duration.ofNanos(Math.max(0, now - oldestNanos));
+    }
+
+    /**
+     * Clear all the transactions. Transactions submitted while the pool is being cleared may or may not be removed.
+     */
+    void clear() {
+        synchronized (consumerLock) {
+            BufferedTransaction transaction;
+            while ((transaction = priorityBufferedTransactions.poll()) != null) {
+                priorityBufferedTransactionCount.decrementAndGet();
+                bufferedTransactionBytes.addAndGet(-transaction.transaction().length());
+            }
+            while ((transaction = bufferedTransactions.poll()) != null) {
+                bufferedTransactionCount.decrementAndGet();
+                bufferedTransactionBytes.addAndGet(-transaction.transaction().length());
+            }
+        }
     }
 }
@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.event.creator.impl.rules;
+
+import static com.swirlds.base.units.UnitConstants.SECONDS_TO_NANOSECONDS;
+import static org.hiero.consensus.event.creator.impl.EventCreationStatus.RATE_LIMITED;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import org.hiero.consensus.config.TransactionConfig;
+import org.hiero.consensus.event.creator.impl.EventCreationStatus;
+import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
+import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
+
+/**
+ * Throttles event creation rate depending on the transactions waiting to be put into events. While no transactions are
+ * waiting, events are created at a low rate, keeping the overhead of empty events down. As transactions accumulate,
+ * or as the oldest waiting transaction ages, the rate rises linearly up to the maximum creation rate, keeping the
+ * latency of transactions down.
+ */
+public class AdaptiveRateRule implements EventCreationRule {
+
+    private static final DoubleGauge.Config ADAPTIVE_CREATION_RATE_CONFIG = new DoubleGauge.Config(
+                    "platform", "adaptiveCreationRate")
+            .withDescription("The rate (in hz), chosen from the transaction backlog, at which this node currently "
+                    + "permits events to be created.");
+    private final DoubleGauge adaptiveCreationRate;
+
+    private final Time time;
+    private final TransactionPoolNexus transactionPoolNexus;
+
+    /**
+     * The rate (in hz) at which events are created when no transactions are waiting.
+     */
+    private final double minimumRate;
+
+    /**
+     * The rate (in hz) at which events are created when the backlog is full.
+     */
+    private final double maximumRate;
+
+    /**
+     * The number of bytes of waiting transactions that make up a full backlog.
+     */
+    private final long backlogBytes;
+
+    /**
+     * The age of the oldest waiting transaction that makes up a full backlog, in nanoseconds.
+     */
+    private final long backlogAgeNanos;
+
+    /**
+     * The time the last event was created, as reported by {@link Time#nanoTime()}. Only meaningful if
+     * {@link #eventCreated} is true.
+     */
+    private long lastEventNanos;
+
+    /**
+     * Whether any event was created yet.
+     */
+    private boolean eventCreated = false;
+
+    /**
+     * Constructor.
+     *
+     * @param configuration        provides the configuration for the event creator
+     * @param metrics              the metrics to report the creation rate to
+     * @param time                 provides the time source for rate limiting
+     * @param transactionPoolNexus provides the transactions waiting to be put into events
+     */
+    public AdaptiveRateRule(
+            @NonNull final Configuration configuration,
+            @NonNull final Metrics metrics,
+            @NonNull final Time time,
+            @NonNull final TransactionPoolNexus transactionPoolNexus) {
+
+        this.time = Objects.requireNonNull(time);
+        this.transactionPoolNexus = Objects.requireNonNull(transactionPoolNexus);
+
+        final EventCreationConfig eventCreationConfig = configuration.getConfigData(EventCreationConfig.class);
+        // A max creation rate of 0 means no limit, in which case events can't be created faster than they are
+        // attempted.
+        maximumRate = eventCreationConfig.maxCreationRate() > 0
+                ? eventCreationConfig.maxCreationRate()
+                : eventCreationConfig.creationAttemptRate();
+        minimumRate = Math.min(eventCreationConfig.minimumAdaptiveCreationRate(), maximumRate);
+        if (minimumRate <= 0) {
+            throw new IllegalArgumentException(
+                    "minimumAdaptiveCreationRate must be greater than 0, was " + minimumRate);
+        }
+        backlogAgeNanos = Math.max(1, eventCreationConfig.adaptiveCreationBacklogAge().toNanos());
+        backlogBytes = Math.max(1, configuration.getConfigData(TransactionConfig.class).maxTransactionBytesPerEvent());
+
+        adaptiveCreationRate = metrics.getOrCreate(ADAPTIVE_CREATION_RATE_CONFIG);
+    }
+
+    /**
+     * Compute the rate at which events may currently be created.
+     *
+     * @return the rate, in hz
+     */
+    private double computeRate() {
+        if (transactionPoolNexus.getBufferedTransactionCount() == 0) {
+            return minimumRate;
+        }
+
+        final double bytesFraction = (double) transactionPoolNexus.getBufferedTransactionBytes() / backlogBytes;
+        final double ageFraction =
+                (double) transactionPoolNexus.getOldestBufferedTransactionAge().toNanos() / backlogAgeNanos;
+        final double backlogFraction = Math.min(1.0, Math.max(bytesFraction, ageFraction));
+
+        return minimumRate + (maximumRate - minimumRate) * backlogFraction;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEventCreationPermitted() {
+        final double rate = computeRate();
+        adaptiveCreationRate.set(rate);
+
+        if (!eventCreated) {
+            return true;
+        }
+        final long minimumPeriodNanos = (long) (SECONDS_TO_NANOSECONDS / rate);
+        return time.nanoTime() - lastEventNanos >= minimumPeriodNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eventWasCreated() {
+        lastEventNanos = time.nanoTime();
+        eventCreated = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public EventCreationStatus getEventCreationStatus() {
+        return RATE_LIMITED;
+    }
+}
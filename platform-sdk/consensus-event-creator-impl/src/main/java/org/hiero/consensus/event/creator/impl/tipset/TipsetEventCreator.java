@@ -16,7 +16,9 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import org.apache.logging.log4j.LogManager;
@@ -68,6 +70,23 @@ public class TipsetEventCreator implements EventCreator {
      */
     private final double antiSelfishnessFactor;
 
+    /**
+     * How much the round-trip time to a peer counts against its events when choosing an other parent. If zero,
+     * round-trip times are not taken into account.
+     */
+    private final double parentLatencyWeight;
+
+    /**
+     * The factors the advancement weights of candidate other parents are multiplied by, per creator. Computed from
+     * round-trip times to creators. Empty if no round-trip times are known.
+     */
+    private Map<NodeId, Double> parentLatencyFactors = Map.of();
+
+    /**
+     * The factor used for creators with no known round-trip time. Such creators are treated as average.
+     */
+    private double defaultParentLatencyFactor = 1.0;
+
     /**
      * The metrics for the tipset algorithm.
      */
@@ -118,6 +137,7 @@ public class TipsetEventCreator implements EventCreator {
         final EventCreationConfig eventCreationConfig = configuration.getConfigData(EventCreationConfig.class);
 
         antiSelfishnessFactor = Math.max(1.0, eventCreationConfig.antiSelfishnessFactor());
+        parentLatencyWeight = Math.max(0.0, eventCreationConfig.parentLatencyWeight());
         tipsetMetrics = new TipsetMetrics(metrics, roster);
         tipsetTracker = new TipsetTracker(time, selfId, roster);
         childlessOtherEventTracker = new ChildlessEventTracker();
@@ -178,6 +198,41 @@ public class TipsetEventCreator implements EventCreator {
         childlessOtherEventTracker.pruneOldEvents(eventWindow);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPeerLatencies(@NonNull final Map<NodeId, Duration> peerLatencies) {
+        if (parentLatencyWeight == 0) {
+            return;
+        }
+
+        long totalNanos = 0;
+        int peerCount = 0;
+        for (final Map.Entry<NodeId, Duration> entry : peerLatencies.entrySet()) {
+            if (!entry.getKey().equals(selfId)) {
+                totalNanos += entry.getValue().toNanos();
+                peerCount++;
+            }
+        }
+        if (totalNanos <= 0) {
+            // No round-trip times measured yet
+            parentLatencyFactors = Map.of();
+            defaultParentLatencyFactor = 1.0;
+            return;
+        }
+
+        final double averageNanos = totalNanos / (double) peerCount;
+        final Map<NodeId, Double> factors = new HashMap<>();
+        peerLatencies.forEach((nodeId, latency) -> {
+            if (!nodeId.equals(selfId)) {
+                factors.put(nodeId, 1.0 / (1.0 + parentLatencyWeight * latency.toNanos() / averageNanos));
+            }
+        });
+        parentLatencyFactors = factors;
+        defaultParentLatencyFactor = 1.0 / (1.0 + parentLatencyWeight);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -235,7 +290,9 @@ public class TipsetEventCreator implements EventCreator {
     }
 
     /**
-     * Create an event using the other parent with the best tipset advancement weight.
+     * Create an event using the other parent with the best tipset advancement weight. If round-trip times to peers are
+     * known, advancement weights are scaled down by the round-trip times to their creators, see
+     * {@link EventCreationConfig#parentLatencyWeight()}. Other parents with zero advancement weight are never used.
      *
      * @return the new event, or null if it is not legal to create a new event
      */
@@ -247,6 +304,7 @@ public class TipsetEventCreator implements EventCreator {
 
         PlatformEvent bestOtherParent = null;
         TipsetAdvancementWeight bestAdvancementWeight = ZERO_ADVANCEMENT_WEIGHT;
+        double bestScore = 0;
         for (final PlatformEvent otherParent : possibleOtherParents) {
             final List<EventDescriptorWrapper> parents = new ArrayList<>(2);
             parents.add(otherParent.getDescriptor());
@@ -256,9 +314,14 @@ public class TipsetEventCreator implements EventCreator {
 
             final TipsetAdvancementWeight advancementWeight =
                     tipsetWeightCalculator.getTheoreticalAdvancementWeight(parents);
-            if (advancementWeight.isGreaterThan(bestAdvancementWeight)) {
+            // Without round-trip times, the factor is 1 and this is the same as comparing advancement weights
+            final double score = advancementWeight.advancementWeight()
+                    * parentLatencyFactors.getOrDefault(otherParent.getCreatorId(), defaultParentLatencyFactor);
+            if (score > bestScore
+                    || (score == bestScore && advancementWeight.isGreaterThan(bestAdvancementWeight))) {
                 bestOtherParent = otherParent;
                 bestAdvancementWeight = advancementWeight;
+                bestScore = score;
             }
         }
 
@@ -416,6 +479,8 @@ public class TipsetEventCreator implements EventCreator {
         tipsetWeightCalculator.clear();
         eventWindow = EventWindow.getGenesisEventWindow();
         lastSelfEvent = null;
+        parentLatencyFactors = Map.of();
+        defaultParentLatencyFactor = 1.0;
     }
 
     @NonNull
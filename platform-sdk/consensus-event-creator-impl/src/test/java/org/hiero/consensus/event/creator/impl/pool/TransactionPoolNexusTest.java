@@ -2,6 +2,7 @@
 package org.hiero.consensus.event.creator.impl.pool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -15,7 +16,11 @@ import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.metrics.api.Metrics;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import org.hiero.consensus.config.TransactionConfig;
 import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
 import org.hiero.consensus.model.status.PlatformStatus;
@@ -34,18 +39,23 @@ class TransactionPoolNexusTest {
 
     @BeforeEach
     public void beforeEach() {
+        nexus = buildNexus(100_000);
+    }
+
+    static TransactionPoolNexus buildNexus(final int throttleTransactionQueueSize) {
         final TransactionConfig txConfig =
-                new TransactionConfig(TX_MAX_BYTES, MAX_TX_BYTES_PER_EVENT, 245_760, 100_000);
-        final EventCreationConfig eventCreationConfig =
-                new EventCreationConfig(20, 100, 10, 10, 1024, Duration.ofSeconds(1));
+                new TransactionConfig(TX_MAX_BYTES, MAX_TX_BYTES_PER_EVENT, 245_760, throttleTransactionQueueSize);
+        final EventCreationConfig eventCreationConfig = new EventCreationConfig(
+                20, 100, 10, 10, 1024, Duration.ofSeconds(1), false, 5, Duration.ofMillis(50));
         final Configuration configuration = mock(Configuration.class);
         when(configuration.getConfigData(TransactionConfig.class)).thenReturn(txConfig);
         when(configuration.getConfigData(EventCreationConfig.class)).thenReturn(eventCreationConfig);
         final Metrics metrics = new NoOpMetrics();
         final Time time = OSTime.getInstance();
 
-        nexus = new TransactionPoolNexus(configuration, metrics, time);
+        final TransactionPoolNexus nexus = new TransactionPoolNexus(configuration, metrics, time);
         nexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+        return nexus;
     }
 
     @ParameterizedTest
@@ -109,4 +119,82 @@ class TransactionPoolNexusTest {
         assertNotNull(thirdBatch);
         assertTrue(thirdBatch.isEmpty());
     }
+
+    @Test
+    void testPriorityAndThrottle() {
+        final TransactionPoolNexus throttledNexus = buildNexus(2);
+        final Bytes tx = Bytes.wrap(new byte[] {1});
+        final Bytes priorityTx = Bytes.wrap(new byte[] {2});
+
+        // the throttle rejects application transactions once more than 2 transactions are buffered
+        assertTrue(throttledNexus.submitApplicationTransaction(tx));
+        assertTrue(throttledNexus.submitApplicationTransaction(tx));
+        assertTrue(throttledNexus.submitApplicationTransaction(tx));
+        assertFalse(throttledNexus.submitApplicationTransaction(tx));
+
+        // priority transactions are never throttled
+        assertFalse(throttledNexus.hasBufferedSignatureTransactions());
+        assertTrue(throttledNexus.submitTransaction(priorityTx, true));
+        assertTrue(throttledNexus.hasBufferedSignatureTransactions());
+
+        // priority transactions are put into the event first
+        final List<Bytes> transactions = throttledNexus.getTransactions();
+        assertEquals(List.of(priorityTx, tx, tx, tx), transactions);
+        assertFalse(throttledNexus.hasBufferedSignatureTransactions());
+
+        // once drained, application transactions are accepted again
+        assertTrue(throttledNexus.submitApplicationTransaction(tx));
+        throttledNexus.clear();
+        assertTrue(throttledNexus.getTransactions().isEmpty());
+    }
+
+    @Test
+    void testConcurrentSubmission() throws InterruptedException {
+        final int threadCount = 8;
+        final int transactionsPerThread = 10_000;
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int threadIndex = 0; threadIndex < threadCount; threadIndex++) {
+            final int base = threadIndex * transactionsPerThread;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < transactionsPerThread; i++) {
+                    final int value = base + i;
+                    final Bytes tx = Bytes.wrap(new byte[] {
+                        (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value
+                    });
+                    assertTrue(nexus.submitApplicationTransaction(tx));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // drain while the transactions are being submitted, and make sure each transaction is received exactly once
+        final Set<Integer> received = new HashSet<>();
+        start.countDown();
+        while (true) {
+            final boolean submitting = threads.stream().anyMatch(Thread::isAlive);
+            final List<Bytes> batch = nexus.getTransactions();
+            assertTrue(batch.stream().mapToLong(Bytes::length).sum() <= MAX_TX_BYTES_PER_EVENT);
+            for (final Bytes tx : batch) {
+                assertTrue(received.add(tx.getInt(0)), "transaction received twice");
+            }
+            if (!submitting && batch.isEmpty()) {
+                break;
+            }
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * transactionsPerThread, received.size());
+        assertTrue(nexus.getTransactions().isEmpty());
+    }
 }
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
@@ -21,8 +22,10 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import org.hiero.consensus.config.TransactionConfig;
 import org.hiero.consensus.event.creator.impl.EventCreator;
 import org.hiero.consensus.event.creator.impl.config.EventCreationConfig_;
 import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
@@ -221,6 +224,66 @@ class EventCreationRulesTests {
         }
     }
 
+    @Test
+    void adaptiveRateTest() {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(EventCreationConfig_.MAX_CREATION_RATE, 100)
+                .withValue(EventCreationConfig_.MINIMUM_ADAPTIVE_CREATION_RATE, 10)
+                .withValue(EventCreationConfig_.ADAPTIVE_CREATION_BACKLOG_AGE, "100ms")
+                .getOrCreateConfig();
+        final int maxTransactionBytesPerEvent =
+                configuration.getConfigData(TransactionConfig.class).maxTransactionBytesPerEvent();
+
+        final AtomicInteger transactionCount = new AtomicInteger(0);
+        final AtomicLong transactionBytes = new AtomicLong(0);
+        final AtomicReference<Duration> oldestTransactionAge = new AtomicReference<>(Duration.ZERO);
+        final TransactionPoolNexus transactionPoolNexus = mock(TransactionPoolNexus.class);
+        when(transactionPoolNexus.getBufferedTransactionCount()).thenAnswer(invocation -> transactionCount.get());
+        when(transactionPoolNexus.getBufferedTransactionBytes()).thenAnswer(invocation -> transactionBytes.get());
+        when(transactionPoolNexus.getOldestBufferedTransactionAge())
+                .thenAnswer(invocation -> oldestTransactionAge.get());
+
+        final FakeTime time = new FakeTime();
+        final EventCreationRule rule =
+                new AdaptiveRateRule(configuration, new NoOpMetrics(), time, transactionPoolNexus);
+
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // with no transactions waiting, events are created at the minimum rate
+        time.tick(Duration.ofMillis(99));
+        assertFalse(rule.isEventCreationPermitted());
+        time.tick(Duration.ofMillis(1));
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // with a full event worth of transactions waiting, events are created at the maximum rate
+        transactionCount.set(100);
+        transactionBytes.set(maxTransactionBytesPerEvent);
+        time.tick(Duration.ofMillis(9));
+        assertFalse(rule.isEventCreationPermitted());
+        time.tick(Duration.ofMillis(1));
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // a single transaction that waited half of the backlog age puts the rate halfway, at 55hz
+        transactionCount.set(1);
+        transactionBytes.set(1);
+        oldestTransactionAge.set(Duration.ofMillis(50));
+        time.tick(Duration.ofMillis(18));
+        assertFalse(rule.isEventCreationPermitted());
+        time.tick(Duration.ofMillis(1));
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // transactions that waited longer than the backlog age don't raise the rate past the maximum
+        oldestTransactionAge.set(Duration.ofSeconds(10));
+        time.tick(Duration.ofMillis(9));
+        assertFalse(rule.isEventCreationPermitted());
+        time.tick(Duration.ofMillis(1));
+        assertTrue(rule.isEventCreationPermitted());
+    }
+
     @Test
     void platformHealthRuleTest() {
         final AtomicReference<Duration> unhealthyDuration = new AtomicReference<>(Duration.ZERO);
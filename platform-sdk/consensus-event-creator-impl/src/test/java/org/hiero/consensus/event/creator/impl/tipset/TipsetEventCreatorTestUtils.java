@@ -62,6 +62,21 @@ public class TipsetEventCreatorTestUtils {
 
         final Configuration configuration =
                 ConfigurationBuilder.create().autoDiscoverExtensions().build();
+        return buildEventCreator(random, time, roster, nodeId, transactionSupplier, configuration);
+    }
+
+    /**
+     * Build an event creator for a node, using the given configuration.
+     */
+    @NonNull
+    public static EventCreator buildEventCreator(
+            @NonNull final Random random,
+            @NonNull final Time time,
+            @NonNull final Roster roster,
+            @NonNull final NodeId nodeId,
+            @NonNull final TransactionSupplier transactionSupplier,
+            @NonNull final Configuration configuration) {
+
         final Metrics metrics = new NoOpMetrics();
 
         final HashSigner signer = mock(HashSigner.class);
@@ -21,6 +21,8 @@ import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.node.state.roster.RosterEntry;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder;
 import java.time.Duration;
 import java.time.Instant;
@@ -33,6 +35,7 @@ import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 import org.hiero.base.utility.test.fixtures.RandomUtils;
 import org.hiero.consensus.event.creator.impl.EventCreator;
+import org.hiero.consensus.event.creator.impl.config.EventCreationConfig_;
 import org.hiero.consensus.model.event.EventDescriptorWrapper;
 import org.hiero.consensus.model.event.NonDeterministicGeneration;
 import org.hiero.consensus.model.event.PlatformEvent;
@@ -813,6 +816,77 @@ class TipsetEventCreatorTests {
         assertNull(eventCreator.maybeCreateEvent());
     }
 
+    /**
+     * When round-trip times to peers are known, the other parent is chosen among events with the same advancement
+     * weight by the round-trip time to their creators.
+     *
+     * @param random  {@link RandomUtils#getRandomPrintSeed()}
+     */
+    @TestTemplate
+    @ExtendWith(ParameterCombinationExtension.class)
+    @UseParameterSources({
+        @ParamSource(
+                param = "random",
+                fullyQualifiedClass = "org.hiero.base.utility.test.fixtures.RandomUtils",
+                method = "getRandomPrintSeed")
+    })
+    @DisplayName("Parents Are Chosen By Peer Latency Test")
+    void parentsAreChosenByPeerLatencyTest(@ParamName("random") final Random random) {
+        final int networkSize = 4;
+
+        final Roster roster = RandomRosterBuilder.create(random)
+                .withMinimumWeight(1)
+                .withMaximumWeight(1)
+                .withSize(networkSize)
+                .build();
+
+        final FakeTime time = new FakeTime();
+
+        final NodeId nodeA = NodeId.of(roster.rosterEntries().get(0).nodeId()); // self
+        final NodeId nodeB = NodeId.of(roster.rosterEntries().get(1).nodeId());
+        final NodeId nodeC = NodeId.of(roster.rosterEntries().get(2).nodeId());
+        final NodeId nodeD = NodeId.of(roster.rosterEntries().get(3).nodeId());
+
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(EventCreationConfig_.PARENT_LATENCY_WEIGHT, 1)
+                .getOrCreateConfig();
+        final EventCreator eventCreator =
+                buildEventCreator(random, time, roster, nodeA, Collections::emptyList, configuration);
+        eventCreator.setEventWindow(EventWindow.getGenesisEventWindow());
+        final Map<NodeId, Duration> peerLatencies = new HashMap<>();
+        peerLatencies.put(nodeA, Duration.ZERO);
+        peerLatencies.put(nodeB, Duration.ofMillis(100));
+        peerLatencies.put(nodeC, Duration.ofMillis(5));
+        peerLatencies.put(nodeD, Duration.ofMillis(50));
+        eventCreator.setPeerLatencies(peerLatencies);
+
+        final PlatformEvent eventA1 = eventCreator.maybeCreateEvent();
+        assertNotNull(eventA1);
+
+        final PlatformEvent eventB1 =
+                createTestEventWithParent(random, nodeB, NonDeterministicGeneration.FIRST_GENERATION, ROUND_FIRST);
+        final PlatformEvent eventC1 =
+                createTestEventWithParent(random, nodeC, NonDeterministicGeneration.FIRST_GENERATION, ROUND_FIRST);
+        final PlatformEvent eventD1 =
+                createTestEventWithParent(random, nodeD, NonDeterministicGeneration.FIRST_GENERATION, ROUND_FIRST);
+        eventCreator.registerEvent(eventB1);
+        eventCreator.registerEvent(eventC1);
+        eventCreator.registerEvent(eventD1);
+
+        // All other parents advance the same weight, so they are chosen from the nearest peer to the farthest one
+        final PlatformEvent eventA2 = eventCreator.maybeCreateEvent();
+        assertNotNull(eventA2);
+        assertEquals(List.of(eventC1.getDescriptor()), eventA2.getOtherParents());
+
+        final PlatformEvent eventA3 = eventCreator.maybeCreateEvent();
+        assertNotNull(eventA3);
+        assertEquals(List.of(eventD1.getDescriptor()), eventA3.getOtherParents());
+
+        final PlatformEvent eventA4 = eventCreator.maybeCreateEvent();
+        assertNotNull(eventA4);
+        assertEquals(List.of(eventB1.getDescriptor()), eventA4.getOtherParents());
+    }
+
     /**
      * There was once a bug where it was possible to create a self event that was stale at the moment of its creation
      * time. This test verifies that this is no longer possible.
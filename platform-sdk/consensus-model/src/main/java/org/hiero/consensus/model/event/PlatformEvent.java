@@ -46,6 +46,12 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      */
     private NodeId senderId;
 
+    /**
+     * True if the hash and the signature of this event were verified by this node before it was written to a PCES file,
+     * and the file was proven unmodified when it was read back. Like the sender ID, this is local metadata only.
+     */
+    private boolean previouslyVerified = false;
+
     /** The consensus data for this event */
     private EventConsensusData consensusData;
     /**
@@ -251,6 +257,24 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
         this.senderId = senderId;
     }
 
+    /**
+     * Check if the hash and the signature of this event were verified by this node in the past, and need not be verified
+     * again. Never true for events received via gossip.
+     *
+     * @return true if this event was previously verified
+     */
+    public boolean isPreviouslyVerified() {
+        return previouslyVerified;
+    }
+
+    /**
+     * Mark this event as previously verified, see {@link #isPreviouslyVerified()}. Must only be called for events this
+     * node has verified itself, and only if the event has its hash set.
+     */
+    public void markPreviouslyVerified() {
+        this.previouslyVerified = true;
+    }
+
     /**
      * @return this event's consensus data, this will be null if the event has not reached consensus
      */
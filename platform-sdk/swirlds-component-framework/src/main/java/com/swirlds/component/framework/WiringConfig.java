@@ -24,6 +24,12 @@ import java.time.Duration;
  * @param healthLogPeriod                the minimum amount of time that must pass between health log messages for the
  *                                       same scheduler
  * @param healthyReportThreshold         indicates how long between two consecutive reports when the system is healthy.
+ * @param latencyProfilingEnabled        whether the queue time and service time of every task scheduler are recorded
+ *                                       and published as metrics. Adds overhead to every task, intended for tuning.
+ * @param latencyProfilingPeriod         the period at which latencies are published and the critical path is logged,
+ *                                       if latency profiling is enabled
+ * @param criticalPathSource             the name of the vertex the reported critical path starts at
+ * @param criticalPathSink               the name of the vertex the reported critical path ends at
  *
  */
 @ConfigData("platform.wiring")
@@ -36,4 +42,8 @@ public record WiringConfig(
         @ConfigProperty(defaultValue = "1ms") Duration healthMonitorHeartbeatPeriod,
         @ConfigProperty(defaultValue = "1s") Duration healthLogThreshold,
         @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod,
-        @ConfigProperty(defaultValue = "1s") Duration healthyReportThreshold) {}
+        @ConfigProperty(defaultValue = "1s") Duration healthyReportThreshold,
+        @ConfigProperty(defaultValue = "false") boolean latencyProfilingEnabled,
+        @ConfigProperty(defaultValue = "10s") Duration latencyProfilingPeriod,
+        @ConfigProperty(defaultValue = "gossip") String criticalPathSource,
+        @ConfigProperty(defaultValue = "TransactionHandler") String criticalPathSink) {}
@@ -1,13 +1,18 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.model;
 
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.CONCURRENT_VIRTUAL_THREAD;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_VIRTUAL_THREAD;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.component.framework.model.diagram.HyperlinkBuilder;
 import com.swirlds.component.framework.model.internal.monitor.HealthMonitor;
+import com.swirlds.component.framework.model.internal.monitor.VirtualThreadPinningMonitor;
+import com.swirlds.component.framework.model.internal.monitor.WiringLatencyProfiler;
 import com.swirlds.component.framework.model.internal.standard.AbstractHeartbeatScheduler;
 import com.swirlds.component.framework.model.internal.standard.HeartbeatScheduler;
 import com.swirlds.component.framework.model.internal.standard.JvmAnchor;
@@ -15,6 +20,7 @@ import com.swirlds.component.framework.schedulers.ExceptionHandlers;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.component.framework.schedulers.builders.internal.StandardTaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.internal.SequentialRingBufferTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
@@ -29,6 +35,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * A standard implementation of a wiring model suitable for production use.
@@ -59,10 +67,20 @@ public class StandardWiringModel extends TraceableWiringModel {
     private final BindableInputWire<Instant, Duration> healthMonitorInputWire;
 
     /**
-     * Thread schedulers need to have their threads started/stopped.
+     * Thread schedulers need to have their threads started/stopped. Includes schedulers that run on a virtual thread.
      */
     private final List<SequentialThreadTaskScheduler<?>> threadSchedulers = new ArrayList<>();
 
+    /**
+     * Ring buffer schedulers need to have their threads started/stopped.
+     */
+    private final List<SequentialRingBufferTaskScheduler<?>> ringBufferSchedulers = new ArrayList<>();
+
+    /**
+     * Reports virtual thread pinning, null unless there is a scheduler that runs on virtual threads.
+     */
+    private VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
     /**
      * The default fork join pool, schedulers not explicitly assigned a pool will use this one.
      */
@@ -93,6 +111,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      */
     private final UncaughtExceptionHandler taskSchedulerExceptionHandler;
 
+    /**
+     * Records the latencies of all task schedulers, null if latency profiling is not enabled.
+     */
+    private final WiringLatencyProfiler latencyProfiler;
+
     /**
      * Constructor.
      *
@@ -105,6 +128,13 @@ public class StandardWiringModel extends TraceableWiringModel {
         this.time = Objects.requireNonNull(builder.getTime());
         this.defaultPool = Objects.requireNonNull(builder.getDefaultPool());
 
+        if (builder.isLatencyProfilingEnabled()) {
+            latencyProfiler = new WiringLatencyProfiler(
+                    metrics, time, getVertices(), builder.getCriticalPathSource(), builder.getCriticalPathSink());
+        } else {
+            latencyProfiler = null;
+        }
+
         final TaskSchedulerBuilder<Duration> healthMonitorSchedulerBuilder = this.schedulerBuilder("HealthMonitor");
         healthMonitorSchedulerBuilder.withHyperlink(HyperlinkBuilder.platformCoreHyperlink(HealthMonitor.class));
         if (builder.isHealthMonitorEnabled()) {
@@ -123,6 +153,16 @@ public class StandardWiringModel extends TraceableWiringModel {
         healthMonitorInputWire = healthMonitorScheduler.buildInputWire("check system health");
         buildHeartbeatWire(builder.getHealthMonitorPeriod()).solderTo(healthMonitorInputWire);
 
+        if (latencyProfiler != null) {
+            final TaskScheduler<Void> latencyProfilerScheduler = this.<Void>schedulerBuilder("WiringLatencyProfiler")
+                    .withType(SEQUENTIAL)
+                    .build();
+            final BindableInputWire<Instant, Void> latencyProfilerInputWire =
+                    latencyProfilerScheduler.buildInputWire("report latencies");
+            latencyProfilerInputWire.bindConsumer(latencyProfiler::report);
+            buildHeartbeatWire(builder.getLatencyProfilingPeriod()).solderTo(latencyProfilerInputWire);
+        }
+
         if (builder.isJvmAnchorEnabled()) {
             anchor = new JvmAnchor();
         } else {
@@ -192,11 +232,29 @@ public class StandardWiringModel extends TraceableWiringModel {
     @Override
     public void registerScheduler(@NonNull final TaskScheduler<?> scheduler, @Nullable final String hyperlink) {
         super.registerScheduler(scheduler, hyperlink);
-        if (scheduler.getType() == SEQUENTIAL_THREAD) {
+        if (scheduler.getType() == SEQUENTIAL_THREAD || scheduler.getType() == SEQUENTIAL_VIRTUAL_THREAD) {
             threadSchedulers.add((SequentialThreadTaskScheduler<?>) scheduler);
+        } else if (scheduler.getType() == SEQUENTIAL_RING_BUFFER) {
+            ringBufferSchedulers.add((SequentialRingBufferTaskScheduler<?>) scheduler);
+        }
+        if ((scheduler.getType() == SEQUENTIAL_VIRTUAL_THREAD || scheduler.getType() == CONCURRENT_VIRTUAL_THREAD)
+                && virtualThreadPinningMonitor == null) {
+            virtualThreadPinningMonitor = new VirtualThreadPinningMonitor(metrics);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public UnaryOperator<Consumer<Object>> getTaskTimer(@NonNull final String schedulerName) {
+        if (latencyProfiler == null) {
+            return null;
+        }
+        return latencyProfiler.getRecorder(schedulerName)::timeTask;
+    }
+
     /**
      * Get the uncaught exception handler for the heartbeat scheduler if it has been set, otherwise return a default
      *
@@ -238,6 +296,14 @@ public class StandardWiringModel extends TraceableWiringModel {
         for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
             threadScheduler.start();
         }
+
+        for (final SequentialRingBufferTaskScheduler<?> ringBufferScheduler : ringBufferSchedulers) {
+            ringBufferScheduler.start();
+        }
+
+        if (virtualThreadPinningMonitor != null) {
+            virtualThreadPinningMonitor.start();
+        }
     }
 
     /**
@@ -255,6 +321,14 @@ public class StandardWiringModel extends TraceableWiringModel {
             threadScheduler.stop();
         }
 
+        for (final SequentialRingBufferTaskScheduler<?> ringBufferScheduler : ringBufferSchedulers) {
+            ringBufferScheduler.stop();
+        }
+
+        if (virtualThreadPinningMonitor != null) {
+            virtualThreadPinningMonitor.stop();
+        }
+
         if (anchor != null) {
             anchor.stop();
         }
@@ -22,12 +22,15 @@ import com.swirlds.component.framework.wires.SolderType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Common functionality for wiring model implementations. Has methods for registering information about the topology of
@@ -157,6 +160,28 @@ public abstract class TraceableWiringModel implements WiringModel {
         }
     }
 
+    /**
+     * Get the function that wraps the handler of each task inserted into a task scheduler so that the latencies of the
+     * task are recorded, if latency profiling is enabled.
+     *
+     * @param schedulerName the name of the task scheduler
+     * @return the function that wraps task handlers, or null if latency profiling is not enabled
+     */
+    @Nullable
+    public UnaryOperator<Consumer<Object>> getTaskTimer(@NonNull final String schedulerName) {
+        return null;
+    }
+
+    /**
+     * Get the vertices of the wiring model.
+     *
+     * @return an unmodifiable view of the vertices, by name
+     */
+    @NonNull
+    Map<String, ModelVertex> getVertices() {
+        return Collections.unmodifiableMap(vertices);
+    }
+
     /**
      * Register a task scheduler with the wiring model.
      *
@@ -4,6 +4,7 @@ package com.swirlds.component.framework.model;
 import com.swirlds.base.time.Time;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.time.Duration;
 import java.util.Objects;
@@ -27,6 +28,10 @@ public class WiringModelBuilder {
     private final Time time;
     private Duration healthyReportThreshold = Duration.ofSeconds(1);
     private UncaughtExceptionHandler taskSchedulerExceptionHandler = null;
+    private boolean latencyProfilingEnabled = false;
+    private Duration latencyProfilingPeriod = Duration.ofSeconds(10);
+    private String criticalPathSource = null;
+    private String criticalPathSink = null;
 
     /**
      * Create a new builder.
@@ -191,6 +196,48 @@ public class WiringModelBuilder {
         return this;
     }
 
+    /**
+     * Enable or disable latency profiling. If enabled, the time each task waits before it is handled and the time it
+     * takes to handle are recorded for every task scheduler, and are published as metrics once per profiling period.
+     * Recording adds overhead to every task, so this should only be enabled while tuning. Default is false.
+     *
+     * @param latencyProfilingEnabled true if latency profiling should be enabled
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withLatencyProfilingEnabled(final boolean latencyProfilingEnabled) {
+        this.latencyProfilingEnabled = latencyProfilingEnabled;
+        return this;
+    }
+
+    /**
+     * Set the period at which latencies are published if latency profiling is enabled. Default is 10 seconds.
+     *
+     * @param latencyProfilingPeriod the period at which latencies are published
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withLatencyProfilingPeriod(@NonNull final Duration latencyProfilingPeriod) {
+        this.latencyProfilingPeriod = Objects.requireNonNull(latencyProfilingPeriod);
+        return this;
+    }
+
+    /**
+     * Set the vertices between which the critical path is reported if latency profiling is enabled. The critical path
+     * is the path with the highest sum of mean queue and service times. Default is to not report a critical path.
+     *
+     * @param criticalPathSource the name of the vertex the critical path starts at
+     * @param criticalPathSink   the name of the vertex the critical path ends at
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withCriticalPath(
+            @NonNull final String criticalPathSource, @NonNull final String criticalPathSink) {
+        this.criticalPathSource = Objects.requireNonNull(criticalPathSource);
+        this.criticalPathSink = Objects.requireNonNull(criticalPathSink);
+        return this;
+    }
+
     /**
      * Build the wiring model.
      *
@@ -314,6 +361,45 @@ public class WiringModelBuilder {
         return healthyReportThreshold;
     }
 
+    /**
+     * Check if latency profiling is enabled.
+     *
+     * @return true if latency profiling is enabled
+     */
+    boolean isLatencyProfilingEnabled() {
+        return latencyProfilingEnabled;
+    }
+
+    /**
+     * Get the period at which latencies are published if latency profiling is enabled.
+     *
+     * @return the latency profiling period
+     */
+    @NonNull
+    Duration getLatencyProfilingPeriod() {
+        return latencyProfilingPeriod;
+    }
+
+    /**
+     * Get the name of the vertex the critical path starts at.
+     *
+     * @return the name of the vertex, or null if no critical path is reported
+     */
+    @Nullable
+    String getCriticalPathSource() {
+        return criticalPathSource;
+    }
+
+    /**
+     * Get the name of the vertex the critical path ends at.
+     *
+     * @return the name of the vertex, or null if no critical path is reported
+     */
+    @Nullable
+    String getCriticalPathSink() {
+        return criticalPathSink;
+    }
+
     /**
      * Get the global {@link UncaughtExceptionHandler}.
      *
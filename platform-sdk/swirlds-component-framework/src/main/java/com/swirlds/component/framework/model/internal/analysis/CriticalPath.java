@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.analysis;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+
+/**
+ * The path through a wiring model with the highest latency between two vertices.
+ *
+ * @param vertices     the names of the vertices on the path, starting with the source and ending with the sink
+ * @param latencies    the latency of each vertex on the path, in nanoseconds
+ * @param totalLatency the sum of the latencies of all vertices on the path, in nanoseconds
+ */
+public record CriticalPath(@NonNull List<String> vertices, @NonNull List<Double> latencies, double totalLatency) {}
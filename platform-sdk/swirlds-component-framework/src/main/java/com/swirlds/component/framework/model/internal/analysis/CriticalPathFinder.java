@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.analysis;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A utility for finding the path with the highest latency between two vertices in a wiring model.
+ * <p>
+ * The latency of a path is the sum of the latencies of its vertices. Wiring models may contain cycles, a path never
+ * visits a vertex twice. Edges that close a cycle are ignored in the order in which a depth first traversal from the
+ * source finds them, so in a model with cycles, the path found is the critical path of an acyclic subgraph that
+ * contains every vertex reachable from the source.
+ */
+public final class CriticalPathFinder {
+
+    private CriticalPathFinder() {}
+
+    /**
+     * Find the path with the highest latency between two vertices.
+     *
+     * @param vertices the vertices in the wiring model, by name
+     * @param source   the name of the vertex the path starts at
+     * @param sink     the name of the vertex the path ends at
+     * @param latency  the latency of a vertex, given its name
+     * @return the critical path, or null if either vertex doesn't exist or the sink is not reachable from the source
+     */
+    @Nullable
+    public static CriticalPath findCriticalPath(
+            @NonNull final Map<String, ModelVertex> vertices,
+            @NonNull final String source,
+            @NonNull final String sink,
+            @NonNull final ToDoubleFunction<String> latency) {
+
+        final ModelVertex sourceVertex = vertices.get(source);
+        final ModelVertex sinkVertex = vertices.get(sink);
+        if (sourceVertex == null || sinkVertex == null) {
+            return null;
+        }
+
+        final Map<ModelVertex, Double> longestToSink = new HashMap<>();
+        final Map<ModelVertex, ModelVertex> nextOnPath = new HashMap<>();
+        final double totalLatency =
+                findLongestToSink(sourceVertex, sinkVertex, latency, longestToSink, nextOnPath, new HashSet<>());
+        if (totalLatency == Double.NEGATIVE_INFINITY) {
+            return null;
+        }
+
+        final List<String> pathVertices = new ArrayList<>();
+        final List<Double> pathLatencies = new ArrayList<>();
+        for (ModelVertex vertex = sourceVertex; vertex != null; vertex = nextOnPath.get(vertex)) {
+            pathVertices.add(vertex.getName());
+            pathLatencies.add(latency.applyAsDouble(vertex.getName()));
+        }
+
+        return new CriticalPath(pathVertices, pathLatencies, totalLatency);
+    }
+
+    /**
+     * Find the latency of the path with the highest latency from a vertex to the sink.
+     *
+     * @param vertex        the vertex
+     * @param sink          the sink
+     * @param latency       the latency of a vertex, given its name
+     * @param longestToSink the latencies already found, by vertex
+     * @param nextOnPath    the next vertex on the paths already found, by vertex
+     * @param onStack       the vertices currently being traversed
+     * @return the latency, or negative infinity if the sink can't be reached
+     */
+    private static double findLongestToSink(
+            @NonNull final ModelVertex vertex,
+            @NonNull final ModelVertex sink,
+            @NonNull final ToDoubleFunction<String> latency,
+            @NonNull final Map<ModelVertex, Double> longestToSink,
+            @NonNull final Map<ModelVertex, ModelVertex> nextOnPath,
+            @NonNull final Set<ModelVertex> onStack) {
+
+        if (vertex == sink) {
+            return latency.applyAsDouble(vertex.getName());
+        }
+        final Double known = longestToSink.get(vertex);
+        if (known != null) {
+            return known;
+        }
+
+        onStack.add(vertex);
+        double longest = Double.NEGATIVE_INFINITY;
+        ModelVertex next = null;
+        for (final ModelEdge edge : vertex.getOutgoingEdges()) {
+            final ModelVertex destination = edge.getDestination();
+            if (onStack.contains(destination)) {
+                // this edge closes a cycle
+                continue;
+            }
+            final double candidate =
+                    findLongestToSink(destination, sink, latency, longestToSink, nextOnPath, onStack);
+            if (candidate > longest) {
+                longest = candidate;
+                next = destination;
+            }
+        }
+        onStack.remove(vertex);
+
+        final double result =
+                next == null ? Double.NEGATIVE_INFINITY : latency.applyAsDouble(vertex.getName()) + longest;
+        longestToSink.put(vertex, result);
+        if (next != null) {
+            nextOnPath.put(vertex, next);
+        }
+        return result;
+    }
+}
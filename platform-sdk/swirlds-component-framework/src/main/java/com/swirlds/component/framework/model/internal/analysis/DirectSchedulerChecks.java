@@ -31,14 +31,17 @@ public final class DirectSchedulerChecks {
      * <ul>
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
-     * from a component with {@link TaskSchedulerType#CONCURRENT CONCURRENT} is not
+     * from a component with {@link TaskSchedulerType#CONCURRENT CONCURRENT} or
+     * {@link TaskSchedulerType#CONCURRENT_VIRTUAL_THREAD CONCURRENT_VIRTUAL_THREAD} is not
      * allowed.
      * </li>
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
      * from more than one component with type
-     * {@link TaskSchedulerType#SEQUENTIAL SEQUENTIAL} or type
-     * {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} is not allowed.
+     * {@link TaskSchedulerType#SEQUENTIAL SEQUENTIAL}, type
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD}, type
+     * {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER SEQUENTIAL_RING_BUFFER} or type
+     * {@link TaskSchedulerType#SEQUENTIAL_VIRTUAL_THREAD SEQUENTIAL_VIRTUAL_THREAD} is not allowed.
      * </li>
      * <li>
      * Calling into a component A with type
@@ -74,7 +77,9 @@ public final class DirectSchedulerChecks {
 
             final Set<ModelVertex> directSchedulersAccessed = collectDirectVerticesAccessedByScheduler(vertex);
 
-            if (vertexType == TaskSchedulerType.CONCURRENT && !directSchedulersAccessed.isEmpty()) {
+            final boolean concurrent = vertexType == TaskSchedulerType.CONCURRENT
+                    || vertexType == TaskSchedulerType.CONCURRENT_VIRTUAL_THREAD;
+            if (concurrent && !directSchedulersAccessed.isEmpty()) {
                 // It is illegal for a concurrent scheduler to call into a direct scheduler.
                 illegalAccessDetected = true;
                 sb.append("  ")
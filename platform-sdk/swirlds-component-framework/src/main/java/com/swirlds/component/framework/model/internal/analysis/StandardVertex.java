@@ -200,7 +200,7 @@ public class StandardVertex implements ModelVertex {
             case GROUP -> sb.append("[");
             case SCHEDULER -> {
                 switch (type) {
-                    case CONCURRENT -> sb.append("[[");
+                    case CONCURRENT, CONCURRENT_VIRTUAL_THREAD -> sb.append("[[");
                     case DIRECT -> sb.append("[/");
                     case DIRECT_THREADSAFE -> sb.append("{{");
                     default -> sb.append("[");
@@ -229,7 +229,7 @@ public class StandardVertex implements ModelVertex {
             case GROUP -> sb.append("]");
             case SCHEDULER -> {
                 switch (type) {
-                    case CONCURRENT -> sb.append("]]");
+                    case CONCURRENT, CONCURRENT_VIRTUAL_THREAD -> sb.append("]]");
                     case DIRECT -> sb.append("/]");
                     case DIRECT_THREADSAFE -> sb.append("}}");
                     default -> sb.append("]");
@@ -4,10 +4,13 @@ package com.swirlds.component.framework.model.internal.analysis;
 import static com.swirlds.component.framework.model.internal.analysis.ModelVertexMetaType.SCHEDULER;
 import static com.swirlds.component.framework.model.internal.analysis.ModelVertexMetaType.SUBSTITUTION;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.CONCURRENT;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.CONCURRENT_VIRTUAL_THREAD;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_VIRTUAL_THREAD;
 
 import com.swirlds.component.framework.model.diagram.ModelEdgeSubstitution;
 import com.swirlds.component.framework.model.diagram.ModelGroup;
@@ -290,11 +293,14 @@ public class WiringFlowchart {
         boolean hasState = false;
 
         for (final ModelVertex vertex : groupVertices) {
-            if (vertex.getType() == CONCURRENT) {
+            if (vertex.getType() == CONCURRENT || vertex.getType() == CONCURRENT_VIRTUAL_THREAD) {
                 return CONCURRENT;
             }
 
-            if (vertex.getType() == SEQUENTIAL || vertex.getType() == SEQUENTIAL_THREAD) {
+            if (vertex.getType() == SEQUENTIAL
+                    || vertex.getType() == SEQUENTIAL_THREAD
+                    || vertex.getType() == SEQUENTIAL_RING_BUFFER
+                    || vertex.getType() == SEQUENTIAL_VIRTUAL_THREAD) {
                 if (hasSequential) {
                     // We've detected more than one sequential scheduler type, so there is more than one logical
                     // thread of execution within this group.
@@ -59,7 +59,12 @@ public class DeterministicTaskSchedulerBuilder<OUT> extends AbstractTaskSchedule
 
         final TaskScheduler<OUT> scheduler =
                 switch (type) {
-                    case CONCURRENT, SEQUENTIAL, SEQUENTIAL_THREAD -> new DeterministicTaskScheduler<>(
+                    case CONCURRENT,
+                            CONCURRENT_VIRTUAL_THREAD,
+                            SEQUENTIAL,
+                            SEQUENTIAL_THREAD,
+                            SEQUENTIAL_RING_BUFFER,
+                            SEQUENTIAL_VIRTUAL_THREAD -> new DeterministicTaskScheduler<>(
                             model,
                             name,
                             type,
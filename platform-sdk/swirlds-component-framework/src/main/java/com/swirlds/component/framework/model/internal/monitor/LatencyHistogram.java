@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.monitor;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of latencies, in nanoseconds. Latencies are counted in buckets that double in size, bucket
+ * {@code i} counts latencies greater than or equal to {@code 2^(i-1)} and less than {@code 2^i} nanoseconds, bucket 0
+ * counts latencies of 0. Percentiles are therefore accurate to within a factor of two, which is enough to tell where
+ * time is spent.
+ * <p>
+ * Any number of threads may record latencies. Latencies are reported by taking a {@link #snapshot()}, which resets the
+ * histogram, so each snapshot covers the latencies recorded since the previous one.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency, in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(final long nanos) {
+        final long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(latency));
+        sum.add(latency);
+    }
+
+    /**
+     * Take a snapshot of the latencies recorded since the previous snapshot, and reset the histogram. A latency
+     * recorded while the snapshot is taken may be missing from the mean or from the buckets of this snapshot, and is
+     * then reported by the next one.
+     *
+     * @return the snapshot
+     */
+    @NonNull
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.getAndSet(i, 0);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, sum.sumThenReset());
+    }
+
+    /**
+     * The latencies recorded during a period of time.
+     *
+     * @param buckets the number of latencies in each bucket
+     * @param count   the number of latencies
+     * @param sum     the sum of all latencies, in nanoseconds
+     */
+    public record Snapshot(@NonNull long[] buckets, long count, long sum) {
+
+        /**
+         * Get the mean latency.
+         *
+         * @return the mean latency in nanoseconds, or 0 if no latencies were recorded
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Get an upper bound of a percentile of the latencies.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the upper bound of the bucket that contains the percentile, in nanoseconds, or 0 if no latencies were
+         * recorded
+         */
+        public long percentile(final double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(buckets.length - 1);
+        }
+
+        /**
+         * Get the exclusive upper bound of a bucket.
+         *
+         * @param bucket the bucket index
+         * @return the upper bound, in nanoseconds
+         */
+        private static long upperBound(final int bucket) {
+            return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bucket;
+        }
+    }
+}
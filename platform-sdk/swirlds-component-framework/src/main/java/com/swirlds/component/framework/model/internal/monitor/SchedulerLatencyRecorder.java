@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.monitor;
+
+import com.swirlds.base.time.Time;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Records how long the tasks of a single task scheduler wait before they are handled (queue time), and how long they
+ * take to handle (service time). Queue time starts when data enters an input wire of the scheduler, so it includes the
+ * time spent waiting for capacity if insertion blocks.
+ */
+public class SchedulerLatencyRecorder {
+
+    private final String schedulerName;
+    private final Time time;
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+    /**
+     * Constructor.
+     *
+     * @param schedulerName the name of the task scheduler
+     * @param time          provides the time
+     */
+    public SchedulerLatencyRecorder(@NonNull final String schedulerName, @NonNull final Time time) {
+        this.schedulerName = Objects.requireNonNull(schedulerName);
+        this.time = Objects.requireNonNull(time);
+    }
+
+    /**
+     * Wrap the handler of a task that is about to enter the task scheduler, so that its queue time and service time are
+     * recorded.
+     *
+     * @param handler the handler of the task
+     * @return the handler that records the latencies of the task
+     */
+    @NonNull
+    public Consumer<Object> timeTask(@NonNull final Consumer<Object> handler) {
+        final long entryTime = time.nanoTime();
+        return data -> {
+            final long startTime = time.nanoTime();
+            queueTime.record(startTime - entryTime);
+            try {
+                handler.accept(data);
+            } finally {
+                serviceTime.record(time.nanoTime() - startTime);
+            }
+        };
+    }
+
+    /**
+     * Get the name of the task scheduler.
+     *
+     * @return the name of the task scheduler
+     */
+    @NonNull
+    public String getSchedulerName() {
+        return schedulerName;
+    }
+
+    /**
+     * Get the histogram of the time tasks wait before they are handled.
+     *
+     * @return the queue time histogram
+     */
+    @NonNull
+    public LatencyHistogram getQueueTime() {
+        return queueTime;
+    }
+
+    /**
+     * Get the histogram of the time tasks take to handle.
+     *
+     * @return the service time histogram
+     */
+    @NonNull
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+}
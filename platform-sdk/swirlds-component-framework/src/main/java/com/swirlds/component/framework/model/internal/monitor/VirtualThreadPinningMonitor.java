@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.monitor;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Counts the times a virtual thread is pinned to its carrier thread, i.e. blocks without releasing the carrier thread,
+ * for example while holding a monitor. Pinned virtual threads take carrier threads away from all other virtual
+ * threads, so task schedulers that run on virtual threads should rarely pin. The JVM reports pinning through the
+ * {@value #PINNED_EVENT} flight recorder event, which this class streams into metrics. The metrics cover all virtual
+ * threads in the JVM, not only the threads of task schedulers.
+ */
+public class VirtualThreadPinningMonitor implements Startable, Stoppable {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreadPinningMonitor.class);
+
+    /**
+     * The flight recorder event emitted when a virtual thread blocks while pinned.
+     */
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Pinning shorter than this is not reported. This is the default threshold of the flight recorder.
+     */
+    public static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private static final Counter.Config PINNED_COUNT_CONFIG = new Counter.Config(
+                    "platform", "virtualThreadPinnedCount")
+            .withDescription("The number of times a virtual thread was pinned to its carrier thread while blocked for"
+                    + " at least " + PINNED_THRESHOLD.toMillis() + "ms");
+    private final Counter pinnedCount;
+
+    private static final Counter.Config PINNED_MICROS_CONFIG = new Counter.Config(
+                    "platform", "virtualThreadPinnedMicros")
+            .withDescription("The total time, in microseconds, virtual threads were pinned to their carrier threads"
+                    + " while blocked for at least " + PINNED_THRESHOLD.toMillis() + "ms");
+    private final Counter pinnedMicros;
+
+    /**
+     * Streams the pinning events, null if not started or if the flight recorder is not available.
+     */
+    private RecordingStream recordingStream;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics
+     */
+    public VirtualThreadPinningMonitor(@NonNull final Metrics metrics) {
+        pinnedCount = metrics.getOrCreate(PINNED_COUNT_CONFIG);
+        pinnedMicros = metrics.getOrCreate(PINNED_MICROS_CONFIG);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withoutStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::handlePinnedEvent);
+            recordingStream.startAsync();
+            logger.info(STARTUP.getMarker(), "Monitoring virtual thread pinning.");
+        } catch (final IllegalStateException | SecurityException e) {
+            // The flight recorder is disabled or not supported by this JVM, scheduling works without it.
+            logger.error(EXCEPTION.getMarker(), "Unable to monitor virtual thread pinning", e);
+            recordingStream = null;
+        }
+    }
+
+    /**
+     * Record a single pinning event.
+     *
+     * @param event the event
+     */
+    private void handlePinnedEvent(@NonNull final RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedMicros.add(event.getDuration().toNanos() / 1_000);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+}
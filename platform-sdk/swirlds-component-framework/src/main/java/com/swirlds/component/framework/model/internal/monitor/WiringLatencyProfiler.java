@@ -0,0 +1,199 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.monitor;
+
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.component.framework.model.internal.analysis.CriticalPath;
+import com.swirlds.component.framework.model.internal.analysis.CriticalPathFinder;
+import com.swirlds.component.framework.model.internal.analysis.ModelVertex;
+import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Measures the latency of each task scheduler in a wiring model, and finds the path through the model with the highest
+ * latency. Each time {@link #report(Instant)} is called, the queue time and service time of the tasks handled since the
+ * previous report are published as metrics, and the critical path between the configured source and sink is logged.
+ */
+public class WiringLatencyProfiler {
+
+    private static final Logger logger = LogManager.getLogger(WiringLatencyProfiler.class);
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final Metrics metrics;
+    private final Time time;
+
+    /**
+     * The vertices of the wiring model, by name.
+     */
+    private final Map<String, ModelVertex> vertices;
+
+    /**
+     * The name of the vertex the critical path starts at, or null if the critical path is not reported.
+     */
+    private final String criticalPathSource;
+
+    /**
+     * The name of the vertex the critical path ends at, or null if the critical path is not reported.
+     */
+    private final String criticalPathSink;
+
+    private final Map<String, RecorderMetrics> recorders = new ConcurrentHashMap<>();
+
+    private final DoubleGauge criticalPathLatency;
+
+    /**
+     * The latency recorder of a task scheduler, and the metrics it is reported to.
+     *
+     * @param recorder   the latency recorder
+     * @param queueMean  the mean queue time, in microseconds
+     * @param queueP99   the 99th percentile of the queue time, in microseconds
+     * @param serviceMean the mean service time, in microseconds
+     * @param serviceP99 the 99th percentile of the service time, in microseconds
+     */
+    private record RecorderMetrics(
+            @NonNull SchedulerLatencyRecorder recorder,
+            @NonNull DoubleGauge queueMean,
+            @NonNull DoubleGauge queueP99,
+            @NonNull DoubleGauge serviceMean,
+            @NonNull DoubleGauge serviceP99) {}
+
+    /**
+     * Constructor.
+     *
+     * @param metrics            the metrics
+     * @param time               provides the time
+     * @param vertices           the vertices of the wiring model, by name. Read when a report is made.
+     * @param criticalPathSource the name of the vertex the critical path starts at, or null to not report the critical
+     *                           path
+     * @param criticalPathSink   the name of the vertex the critical path ends at, or null to not report the critical
+     *                           path
+     */
+    public WiringLatencyProfiler(
+            @NonNull final Metrics metrics,
+            @NonNull final Time time,
+            @NonNull final Map<String, ModelVertex> vertices,
+            @Nullable final String criticalPathSource,
+            @Nullable final String criticalPathSink) {
+        this.metrics = Objects.requireNonNull(metrics);
+        this.time = Objects.requireNonNull(time);
+        this.vertices = Objects.requireNonNull(vertices);
+        this.criticalPathSource = criticalPathSource;
+        this.criticalPathSink = criticalPathSink;
+
+        criticalPathLatency = metrics.getOrCreate(new DoubleGauge.Config("platform", "wiring_critical_path_micros")
+                .withDescription("The sum of the mean queue and service times, in microseconds, of the task"
+                        + " schedulers on the path with the highest latency from " + criticalPathSource + " to "
+                        + criticalPathSink));
+    }
+
+    /**
+     * Get the latency recorder of a task scheduler, creating it if it doesn't exist yet.
+     *
+     * @param schedulerName the name of the task scheduler
+     * @return the latency recorder
+     */
+    @NonNull
+    public SchedulerLatencyRecorder getRecorder(@NonNull final String schedulerName) {
+        return recorders
+                .computeIfAbsent(schedulerName, this::buildRecorder)
+                .recorder();
+    }
+
+    /**
+     * Build the latency recorder of a task scheduler and register its metrics.
+     *
+     * @param schedulerName the name of the task scheduler
+     * @return the latency recorder and its metrics
+     */
+    @NonNull
+    private RecorderMetrics buildRecorder(@NonNull final String schedulerName) {
+        return new RecorderMetrics(
+                new SchedulerLatencyRecorder(schedulerName, time),
+                buildGauge(schedulerName, "queue_time_mean", "The mean time tasks wait before they are handled"),
+                buildGauge(
+                        schedulerName,
+                        "queue_time_p99",
+                        "The 99th percentile, within a factor of two, of the time tasks wait before they are handled"),
+                buildGauge(schedulerName, "service_time_mean", "The mean time tasks take to handle"),
+                buildGauge(
+                        schedulerName,
+                        "service_time_p99",
+                        "The 99th percentile, within a factor of two, of the time tasks take to handle"));
+    }
+
+    /**
+     * Build a latency gauge of a task scheduler.
+     *
+     * @param schedulerName the name of the task scheduler
+     * @param suffix        the suffix of the metric name
+     * @param description   the description of the metric, without the scheduler and the unit
+     * @return the gauge
+     */
+    @NonNull
+    private DoubleGauge buildGauge(
+            @NonNull final String schedulerName, @NonNull final String suffix, @NonNull final String description) {
+        return metrics.getOrCreate(new DoubleGauge.Config("platform", schedulerName + "_" + suffix + "_micros")
+                .withDescription(description + ", in microseconds, for the task scheduler " + schedulerName));
+    }
+
+    /**
+     * Publish the latencies recorded since the previous report, and log the critical path.
+     *
+     * @param now the current time
+     */
+    public void report(@NonNull final Instant now) {
+        final Map<String, Double> meanLatencies = new HashMap<>();
+        for (final RecorderMetrics recorderMetrics : recorders.values()) {
+            final LatencyHistogram.Snapshot queueTime =
+                    recorderMetrics.recorder().getQueueTime().snapshot();
+            final LatencyHistogram.Snapshot serviceTime =
+                    recorderMetrics.recorder().getServiceTime().snapshot();
+
+            recorderMetrics.queueMean().set(queueTime.mean() / NANOS_PER_MICRO);
+            recorderMetrics.queueP99().set(queueTime.percentile(99) / NANOS_PER_MICRO);
+            recorderMetrics.serviceMean().set(serviceTime.mean() / NANOS_PER_MICRO);
+            recorderMetrics.serviceP99().set(serviceTime.percentile(99) / NANOS_PER_MICRO);
+
+            meanLatencies.put(recorderMetrics.recorder().getSchedulerName(), queueTime.mean() + serviceTime.mean());
+        }
+
+        if (criticalPathSource == null || criticalPathSink == null) {
+            return;
+        }
+
+        final CriticalPath criticalPath = CriticalPathFinder.findCriticalPath(
+                vertices, criticalPathSource, criticalPathSink, name -> meanLatencies.getOrDefault(name, 0.0));
+        if (criticalPath == null) {
+            return;
+        }
+        criticalPathLatency.set(criticalPath.totalLatency() / NANOS_PER_MICRO);
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < criticalPath.vertices().size(); i++) {
+            if (i > 0) {
+                sb.append(" -> ");
+            }
+            sb.append(criticalPath.vertices().get(i))
+                    .append(" (")
+                    .append(Math.round(criticalPath.latencies().get(i) / NANOS_PER_MICRO))
+                    .append("us)");
+        }
+        logger.info(
+                STARTUP.getMarker(),
+                "Wiring critical path at {}: {}us total, {}",
+                now,
+                Math.round(criticalPath.totalLatency() / NANOS_PER_MICRO),
+                sb);
+    }
+}
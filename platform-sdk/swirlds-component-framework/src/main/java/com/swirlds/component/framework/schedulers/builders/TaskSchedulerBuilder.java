@@ -112,6 +112,16 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withSleepDuration(@NonNull Duration backpressureSleepDuration);
 
+    /**
+     * Set how threads wait for a {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER SEQUENTIAL_RING_BUFFER} task
+     * scheduler. Ignored by other task scheduler types. Default {@link WaitStrategy#PARK}.
+     *
+     * @param waitStrategy the wait strategy
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withWaitStrategy(@NonNull WaitStrategy waitStrategy);
+
     /**
      * Set whether the unhandled task count metric should be enabled. Default false.
      *
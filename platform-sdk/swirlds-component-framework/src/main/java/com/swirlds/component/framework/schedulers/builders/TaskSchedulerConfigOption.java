@@ -28,4 +28,10 @@ public enum TaskSchedulerConfigOption {
      * use a string in the form "CAPACITY(1234)" where 1234 is the desired capacity.
      */
     public static final String CAPACITY = "CAPACITY";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the wait strategy, use
+     * a string in the form "WAIT_STRATEGY(PARK)" where PARK is a value from {@link WaitStrategy}.
+     */
+    public static final String WAIT_STRATEGY = "WAIT_STRATEGY";
 }
@@ -20,6 +20,8 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * @param busyFractionMetricEnabled  whether the busy fraction metric should be enabled, if null then false is used
  * @param flushingEnabled            whether flushing is enabled, if null then false is used
  * @param squelchingEnabled          whether squelching is enabled, if null then false is used
+ * @param waitStrategy               how threads wait for a {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER} scheduler,
+ *                                   if null then {@link WaitStrategy#PARK} is used
  */
 public record TaskSchedulerConfiguration(
         @Nullable TaskSchedulerType type,
@@ -27,28 +29,29 @@ public record TaskSchedulerConfiguration(
         @Nullable Boolean unhandledTaskMetricEnabled,
         @Nullable Boolean busyFractionMetricEnabled,
         @Nullable Boolean flushingEnabled,
-        @Nullable Boolean squelchingEnabled) {
+        @Nullable Boolean squelchingEnabled,
+        @Nullable WaitStrategy waitStrategy) {
 
     /**
      * This configuration is for a no-op task scheduler. It is not necessary to use this constant for a no-op task
      * scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration NO_OP_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false, null);
 
     /**
      * This configuration is for a simple direct task scheduler. It is not necessary to use this constant for a direct
      * task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false, null);
 
     /**
      * This configuration is for a thread-safe direct task scheduler. It is not necessary to use this constant for a
      * thread-safe direct task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false, null);
 
     /**
      * Parse a string representation of a task scheduler configuration.
@@ -63,6 +66,9 @@ public record TaskSchedulerConfiguration(
      *         Zero or one string of the form "CAPACITY(1234)", specifies the maximum number of unhandled tasks.
      *     </li>
      *     <li>
+     *         Zero or one string of the form "WAIT_STRATEGY(PARK)", specifies the {@link WaitStrategy}.
+     *     </li>
+     *     <li>
      *         Zero or more values from the {@link TaskSchedulerConfigOption} enum, specifies the configuration options.
      *         Sets a boolean configuration option to true if the value is present, and false if the value is prefixed
      *         with a "!". If not present then the default is used.
@@ -84,6 +90,7 @@ public record TaskSchedulerConfiguration(
         Boolean busyFractionMetricEnabled = null;
         Boolean flushingEnabled = null;
         Boolean squelchingEnabled = null;
+        WaitStrategy waitStrategy = null;
 
         final String[] parts = string.split(" ");
         for (final String part : parts) {
@@ -110,6 +117,15 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final WaitStrategy parsedWaitStrategy = tryToParseWaitStrategy(strippedPart);
+            if (parsedWaitStrategy != null) {
+                if (waitStrategy != null) {
+                    throw new IllegalArgumentException("Multiple wait strategies specified: " + string);
+                }
+                waitStrategy = parsedWaitStrategy;
+                continue;
+            }
+
             final Boolean parsedUnhandledTaskMetric = tryToParseOption(UNHANDLED_TASK_METRIC, strippedPart);
             if (parsedUnhandledTaskMetric != null) {
                 if (unhandledTaskMetricEnabled != null) {
@@ -157,7 +173,8 @@ public record TaskSchedulerConfiguration(
                 unhandledTaskMetricEnabled,
                 busyFractionMetricEnabled,
                 flushingEnabled,
-                squelchingEnabled);
+                squelchingEnabled,
+                waitStrategy);
     }
 
     /**
@@ -201,6 +218,31 @@ public record TaskSchedulerConfiguration(
         return null;
     }
 
+    /**
+     * Try to parse a string as a wait strategy.
+     *
+     * @param string the string to parse
+     * @return the parsed wait strategy, or null if the string is not a wait strategy
+     */
+    @Nullable
+    private static WaitStrategy tryToParseWaitStrategy(@NonNull final String string) {
+        if (string.startsWith(TaskSchedulerConfigOption.WAIT_STRATEGY)) {
+            // parse a string in the form "WAIT_STRATEGY(PARK)"
+            final int openParenIndex = string.indexOf('(');
+            final int closeParenIndex = string.indexOf(')');
+            if (openParenIndex == -1 || closeParenIndex == -1) {
+                throw new IllegalArgumentException("Invalid wait strategy \"" + string + "\"");
+            }
+            final String waitStrategyString = string.substring(openParenIndex + 1, closeParenIndex);
+            try {
+                return WaitStrategy.valueOf(waitStrategyString);
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid wait strategy \"" + string + "\"", e);
+            }
+        }
+        return null;
+    }
+
     /**
      * Try to parse a string as a configuration option that is represented by an enum string and an optional "!".
      *
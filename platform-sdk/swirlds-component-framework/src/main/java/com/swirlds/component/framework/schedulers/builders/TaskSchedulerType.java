@@ -17,11 +17,33 @@ public enum TaskSchedulerType {
      * the implementation and performance characteristics are not identical.
      */
     SEQUENTIAL_THREAD,
+    /**
+     * Tasks are executed on a dedicated thread one at a time in the order they were enqueued, like
+     * {@link #SEQUENTIAL_THREAD}. Tasks are passed to the thread through a preallocated ring buffer with one slot per
+     * unit of capacity (rounded up to a power of two), which avoids allocating an object per task, and the thread
+     * handles tasks in batches. With backpressure enabled, the ring buffer itself applies the backpressure. Threads
+     * waiting for work or for a free slot follow the configured {@link WaitStrategy}. Suited to wires that carry a very
+     * high volume of small tasks.
+     */
+    SEQUENTIAL_RING_BUFFER,
+    /**
+     * Tasks are executed on a dedicated virtual thread one at a time in the order they were enqueued, with the same
+     * semantics as {@link #SEQUENTIAL_THREAD}. While a task blocks, for example on I/O, the virtual thread releases its
+     * carrier thread instead of occupying an OS thread or a thread of a fork join pool. Suited to components that
+     * spend much of their time blocked.
+     */
+    SEQUENTIAL_VIRTUAL_THREAD,
     /**
      * Tasks are executed on a fork join pool. Tasks may be executed in parallel with each other. Ordering is not
      * guaranteed.
      */
     CONCURRENT,
+    /**
+     * Each task is executed on a new virtual thread. Tasks may be executed in parallel with each other. Ordering is not
+     * guaranteed. This scheduler type has the same semantics as {@link #CONCURRENT}, but tasks that block do not occupy
+     * a thread of a fork join pool.
+     */
+    CONCURRENT_VIRTUAL_THREAD,
     /**
      * Tasks are executed immediately on the caller's thread. There is no queue for tasks waiting to be handled (logical
      * or otherwise). Useful for scenarios where tasks are extremely small and not worth the scheduling overhead.
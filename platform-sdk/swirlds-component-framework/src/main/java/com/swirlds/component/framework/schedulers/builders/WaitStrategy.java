@@ -0,0 +1,24 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.builders;
+
+/**
+ * How a thread waits for a {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER SEQUENTIAL_RING_BUFFER} task scheduler. The
+ * handler thread waits for work when the ring buffer is empty, and producers wait for a free slot when the ring buffer
+ * is full. Pass one of these to {@link TaskSchedulerBuilder#withWaitStrategy(WaitStrategy)}.
+ */
+public enum WaitStrategy {
+    /**
+     * Busy spin. Lowest latency, but the handler thread occupies a CPU core even when there is no work.
+     */
+    SPIN,
+    /**
+     * Yield the CPU between checks. Lower latency than {@link #PARK}, but the handler thread still runs when there is
+     * no work.
+     */
+    YIELD,
+    /**
+     * Park the thread. The handler thread is unparked by producers when work arrives, producers waiting for capacity
+     * sleep for the configured sleep duration between checks.
+     */
+    PARK
+}
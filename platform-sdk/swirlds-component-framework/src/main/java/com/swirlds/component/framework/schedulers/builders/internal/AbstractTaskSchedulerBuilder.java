@@ -4,6 +4,7 @@ package com.swirlds.component.framework.schedulers.builders.internal;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
 
 import com.swirlds.component.framework.counters.BackpressureObjectCounter;
 import com.swirlds.component.framework.counters.MultiObjectCounter;
@@ -16,6 +17,7 @@ import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.builders.WaitStrategy;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -56,6 +58,7 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected boolean busyFractionMetricEnabled = false;
 
     protected Duration sleepDuration = Duration.ofNanos(100);
+    protected WaitStrategy waitStrategy = WaitStrategy.PARK;
 
     protected final Metrics metrics;
     /**
@@ -113,6 +116,9 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.waitStrategy() != null) {
+            withWaitStrategy(configuration.waitStrategy());
+        }
         return this;
     }
 
@@ -199,6 +205,16 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withWaitStrategy(@NonNull final WaitStrategy waitStrategy) {
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -310,7 +326,8 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
 
         final ObjectCounter innerCounter;
 
-        // If we need to enforce a maximum capacity, we have no choice but to use a backpressure object counter.
+        // If we need to enforce a maximum capacity, we have no choice but to use a backpressure object counter,
+        // unless this is a ring buffer scheduler, which enforces its capacity with the ring buffer itself.
         //
         // If we don't need to enforce a maximum capacity, we need to use a standard object counter if any
         // of the following conditions are true:
@@ -324,7 +341,8 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (model.isBackpressureEnabled()
                 && unhandledTaskCapacity != UNLIMITED_CAPACITY
                 && type != DIRECT
-                && type != DIRECT_THREADSAFE) {
+                && type != DIRECT_THREADSAFE
+                && type != SEQUENTIAL_RING_BUFFER) {
 
             innerCounter = new BackpressureObjectCounter(name, unhandledTaskCapacity, sleepDuration);
         } else if (unhandledTaskMetricEnabled || flushingEnabled) {
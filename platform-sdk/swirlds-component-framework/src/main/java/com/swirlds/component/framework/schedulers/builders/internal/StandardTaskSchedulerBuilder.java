@@ -13,8 +13,10 @@ import com.swirlds.component.framework.model.StandardWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.ConcurrentVirtualThreadTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.NoOpTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.SequentialRingBufferTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.metrics.api.Metrics;
@@ -65,7 +67,7 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
         if (!busyFractionMetricEnabled || type == NO_OP) {
             return NoOpFractionalTimer.getInstance();
         }
-        if (type == TaskSchedulerType.CONCURRENT) {
+        if (type == TaskSchedulerType.CONCURRENT || type == TaskSchedulerType.CONCURRENT_VIRTUAL_THREAD) {
             throw new IllegalStateException("Busy fraction metric is not compatible with concurrent schedulers");
         }
         return new StandardFractionalTimer(time);
@@ -128,6 +130,16 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
+                    case CONCURRENT_VIRTUAL_THREAD -> new ConcurrentVirtualThreadTaskScheduler<>(
+                            model,
+                            name,
+                            buildUncaughtExceptionHandler(),
+                            counters.onRamp(),
+                            counters.offRamp(),
+                            unhandledTaskCapacity,
+                            flushingEnabled,
+                            squelchingEnabled,
+                            insertionIsBlocking);
                     case SEQUENTIAL -> new SequentialTaskScheduler<>(
                             model,
                             name,
@@ -140,7 +152,20 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
-                    case SEQUENTIAL_THREAD -> new SequentialThreadTaskScheduler<>(
+                    case SEQUENTIAL_THREAD, SEQUENTIAL_VIRTUAL_THREAD -> new SequentialThreadTaskScheduler<>(
+                            model,
+                            name,
+                            buildUncaughtExceptionHandler(),
+                            counters.onRamp(),
+                            counters.offRamp(),
+                            dataCounter,
+                            busyFractionTimer,
+                            unhandledTaskCapacity,
+                            flushingEnabled,
+                            squelchingEnabled,
+                            insertionIsBlocking,
+                            type == TaskSchedulerType.SEQUENTIAL_VIRTUAL_THREAD);
+                    case SEQUENTIAL_RING_BUFFER -> new SequentialRingBufferTaskScheduler<>(
                             model,
                             name,
                             buildUncaughtExceptionHandler(),
@@ -149,6 +174,9 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             dataCounter,
                             busyFractionTimer,
                             unhandledTaskCapacity,
+                            model.isBackpressureEnabled() && unhandledTaskCapacity != UNLIMITED_CAPACITY,
+                            waitStrategy,
+                            sleepDuration,
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
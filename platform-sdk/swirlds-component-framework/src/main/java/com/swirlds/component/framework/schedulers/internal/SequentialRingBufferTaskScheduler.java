@@ -0,0 +1,480 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import static com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler.THREAD_NAME_PREFIX;
+import static com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler.THREAD_NAME_SUFFIX;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.builders.WaitStrategy;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A scheduler that performs work sequentially on a dedicated thread, like {@link SequentialThreadTaskScheduler}, but
+ * passes tasks to the thread through a preallocated multi-producer single-consumer ring buffer instead of a linked
+ * queue. Inserting a task claims a slot and writes the handler and the data into it, no objects are allocated, and the
+ * handler thread drains the ring buffer in batches.
+ * <p>
+ * The ring buffer has one slot per unit of capacity, rounded up to a power of two. If backpressure is enabled, the
+ * ring buffer is the backpressure: {@link #put(Consumer, Object)} waits for a free slot, and
+ * {@link #offer(Consumer, Object)} fails if there is none. Capacity is counted in tasks, not in the weight of the data.
+ * {@link #inject(Consumer, Object)} never waits. If the ring buffer is full, injected tasks, and all tasks inserted
+ * without backpressure, go to an unbounded overflow queue. While the overflow queue is not empty, all new tasks go to
+ * it as well, so that tasks inserted by a single thread are always handled in the order they were inserted.
+ *
+ * @param <OUT> the type of the primary output wire
+ */
+public class SequentialRingBufferTaskScheduler<OUT> extends TaskScheduler<OUT> implements Startable, Stoppable {
+
+    /**
+     * The number of slots used if the scheduler has unlimited capacity. Tasks that don't fit go to the overflow queue.
+     */
+    public static final int DEFAULT_SLOT_COUNT = 1024;
+
+    /**
+     * The maximum number of tasks handled before the busy timer is updated and the overflow queue is checked.
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * The maximum time the handler thread parks before checking for work again, if it isn't unparked earlier.
+     */
+    private static final long MAX_PARK_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final ToLongFunction<Object> dataCounter;
+    private final FractionalTimer busyTimer;
+    private final long capacity;
+    private final boolean backpressureEnabled;
+    private final WaitStrategy waitStrategy;
+    private final long sleepNanos;
+
+    /**
+     * Used to map a position in the ring buffer to a slot index.
+     */
+    private final int mask;
+
+    /**
+     * The handler of the task in each slot.
+     */
+    private final Consumer<Object>[] handlers;
+
+    /**
+     * The data of the task in each slot.
+     */
+    private final Object[] data;
+
+    /**
+     * The sequence of each slot. A slot at position {@code p} is free for a producer if its sequence is {@code p}, and
+     * holds a task for the handler thread if its sequence is {@code p + 1}. Writing the sequence publishes the handler
+     * and the data written to the slot before.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The next position to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position to be handled. Only accessed by the handler thread.
+     */
+    private long head;
+
+    /**
+     * Tasks that didn't fit into the ring buffer.
+     */
+    private final Queue<SequentialThreadTask> overflow = new ConcurrentLinkedQueue<>();
+
+    /**
+     * True while the handler thread is parked or about to park, producers unpark it after inserting a task.
+     */
+    private volatile boolean handlerParked = false;
+
+    private volatile boolean alive = true;
+
+    private final Thread thread;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task. In this scheduler,
+     *                                 the handler is executed immediately after the task that throws the exception.
+     * @param onRamp                   the counter to increment when a task is added to the queue
+     * @param offRamp                  the counter to decrement when a task is removed from the queue
+     * @param dataCounter              the function to weight input data objects for health monitoring
+     * @param busyTimer                the timer to activate when a task is being handled
+     * @param capacity                 the maximum desired capacity for this task scheduler, the number of slots in the
+     *                                 ring buffer
+     * @param backpressureEnabled      if true, then inserting a task with {@link #put(Consumer, Object)} waits for a
+     *                                 free slot, and with {@link #offer(Consumer, Object)} fails if there is none
+     * @param waitStrategy             how threads wait for work or for a free slot
+     * @param sleepDuration            the time producers sleep while waiting for a free slot with
+     *                                 {@link WaitStrategy#PARK}
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     */
+    @SuppressWarnings("unchecked")
+    public SequentialRingBufferTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> dataCounter,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final boolean backpressureEnabled,
+            @NonNull final WaitStrategy waitStrategy,
+            @NonNull final Duration sleepDuration,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+        super(
+                model,
+                name,
+                TaskSchedulerType.SEQUENTIAL_RING_BUFFER,
+                uncaughtExceptionHandler,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.dataCounter = Objects.requireNonNull(dataCounter);
+        this.busyTimer = Objects.requireNonNull(busyTimer);
+        this.capacity = capacity;
+        this.backpressureEnabled = backpressureEnabled;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        this.sleepNanos = sleepDuration.toNanos();
+
+        if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity " + capacity + " is too large");
+        }
+        final int slotCount = capacity > 0 ? ceilingPowerOfTwo((int) capacity) : DEFAULT_SLOT_COUNT;
+        mask = slotCount - 1;
+        handlers = (Consumer<Object>[]) new Consumer[slotCount];
+        data = new Object[slotCount];
+        sequences = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            sequences.set(i, i);
+        }
+
+        thread = new Thread(this::run, THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX);
+    }
+
+    /**
+     * Get the smallest power of two that is greater than or equal to a value.
+     *
+     * @param value a positive value
+     * @return the power of two
+     */
+    private static int ceilingPowerOfTwo(final int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp(dataCounter.applyAsLong(data));
+        if (!overflow.isEmpty() || !tryPublish(handler, data)) {
+            if (backpressureEnabled) {
+                waitAndPublish(handler, data);
+            } else {
+                overflow.add(new SequentialThreadTask(handler, data));
+            }
+        }
+        wakeHandler();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final long weight = dataCounter.applyAsLong(data);
+        if (!onRamp.attemptOnRamp(weight)) {
+            return false;
+        }
+        if (!overflow.isEmpty() || !tryPublish(handler, data)) {
+            if (backpressureEnabled) {
+                // undo the on ramp, the task is rejected
+                onRamp.offRamp(weight);
+                return false;
+            }
+            overflow.add(new SequentialThreadTask(handler, data));
+        }
+        wakeHandler();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp(dataCounter.applyAsLong(data));
+        if (!overflow.isEmpty() || !tryPublish(handler, data)) {
+            overflow.add(new SequentialThreadTask(handler, data));
+        }
+        wakeHandler();
+    }
+
+    /**
+     * Try to claim a slot in the ring buffer and write a task into it.
+     *
+     * @param handler the handler of the task
+     * @param item    the data of the task
+     * @return true if the task was written, false if the ring buffer is full
+     */
+    private boolean tryPublish(@NonNull final Consumer<Object> handler, @NonNull final Object item) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                final long witness = tail.compareAndExchange(position, position + 1);
+                if (witness == position) {
+                    handlers[index] = handler;
+                    data[index] = item;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = witness;
+            } else if (difference < 0) {
+                // the slot still holds the task from the previous lap, the ring buffer is full
+                return false;
+            } else {
+                // another producer claimed this position
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Wait until a task can be written into the ring buffer, and write it.
+     *
+     * @param handler the handler of the task
+     * @param item    the data of the task
+     */
+    private void waitAndPublish(@NonNull final Consumer<Object> handler, @NonNull final Object item) {
+        final ManagedBlocker blocker = new ManagedBlocker() {
+            @Override
+            public boolean block() {
+                switch (waitStrategy) {
+                    case SPIN -> Thread.onSpinWait();
+                    case YIELD -> Thread.yield();
+                    case PARK -> {
+                        if (sleepNanos > 0) {
+                            LockSupport.parkNanos(this, sleepNanos);
+                        } else {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }
+                // isReleasable() is called right after this method, and does the checking
+                return false;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return overflow.isEmpty() && tryPublish(handler, item);
+            }
+        };
+
+        while (true) {
+            try {
+                // Blocking on a fork join pool may monopolize a CPU core, managedBlock() allows the pool to
+                // compensate while this thread waits.
+                ForkJoinPool.managedBlock(blocker);
+                return;
+            } catch (final InterruptedException e) {
+                // This should be impossible, block() never throws.
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for capacity in " + getName());
+            } catch (final RejectedExecutionException e) {
+                // We've exhausted our supply of background threads, we have no choice but to busy wait.
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Unpark the handler thread if it is parked.
+     */
+    private void wakeHandler() {
+        if (handlerParked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        alive = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Handle tasks until stopped.
+     */
+    private void run() {
+        while (alive) {
+            if (!hasWork()) {
+                waitForWork();
+                continue;
+            }
+
+            busyTimer.activate();
+            final int handled = drainRingBuffer();
+            if (handled == 0) {
+                // Only handle the overflow queue once the ring buffer is empty. All tasks in the ring buffer were
+                // inserted before the overflow queue was last empty.
+                drainOverflow();
+            }
+            busyTimer.deactivate();
+        }
+    }
+
+    /**
+     * Check if there is a task waiting to be handled.
+     *
+     * @return true if there is work to do
+     */
+    private boolean hasWork() {
+        return sequences.get((int) head & mask) == head + 1 || !overflow.isEmpty();
+    }
+
+    /**
+     * Wait for work to become available, using the configured wait strategy.
+     */
+    private void waitForWork() {
+        switch (waitStrategy) {
+            case SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> {
+                handlerParked = true;
+                // check again after announcing that we are about to park, a producer that inserted a task before
+                // seeing the flag is seen here
+                if (alive && !hasWork()) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                handlerParked = false;
+            }
+        }
+    }
+
+    /**
+     * Handle a batch of tasks from the ring buffer, freeing each slot before its task is handled.
+     *
+     * @return the number of tasks handled
+     */
+    private int drainRingBuffer() {
+        int handled = 0;
+        while (handled < BATCH_SIZE && alive) {
+            final int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            final Consumer<Object> handler = handlers[index];
+            final Object item = this.data[index];
+            handlers[index] = null;
+            this.data[index] = null;
+            sequences.set(index, head + mask + 1);
+            head++;
+
+            handle(handler, item);
+            handled++;
+        }
+        return handled;
+    }
+
+    /**
+     * Handle a batch of tasks from the overflow queue.
+     */
+    private void drainOverflow() {
+        for (int i = 0; i < BATCH_SIZE && alive; i++) {
+            final SequentialThreadTask task = overflow.poll();
+            if (task == null) {
+                return;
+            }
+            handle(task.handler(), task.data());
+        }
+    }
+
+    /**
+     * Handle a single task.
+     *
+     * @param handler the handler of the task
+     * @param item    the data of the task
+     */
+    private void handle(@NonNull final Consumer<Object> handler, @NonNull final Object item) {
+        try {
+            handler.accept(item);
+        } catch (final Throwable t) {
+            getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            offRamp.offRamp(dataCounter.applyAsLong(item));
+        }
+    }
+}
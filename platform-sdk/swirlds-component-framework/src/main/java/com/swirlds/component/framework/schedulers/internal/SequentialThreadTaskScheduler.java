@@ -20,7 +20,9 @@ import java.util.function.ToLongFunction;
 
 /**
  * A scheduler that performs work sequentially on a dedicated thread. This class has very similar semantics to
- * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool.
+ * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool. The thread is
+ * either a platform thread ({@link TaskSchedulerType#SEQUENTIAL_THREAD}) or a virtual thread
+ * ({@link TaskSchedulerType#SEQUENTIAL_VIRTUAL_THREAD}).
  *
  * @param <OUT> the type of the primary output wire
  */
@@ -76,10 +78,57 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
             final boolean flushEnabled,
             final boolean squelchingEnabled,
             final boolean insertionIsBlocking) {
+        this(
+                model,
+                name,
+                uncaughtExceptionHandler,
+                onRamp,
+                offRamp,
+                dataCounter,
+                busyTimer,
+                capacity,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking,
+                false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task.
+     *                                   In this scheduler, the handler is executed immediately after the task that throws the exception.
+     * @param onRamp                   the counter to increment when a task is added to the queue
+     * @param offRamp                  the counter to decrement when a task is removed from the queue
+     * @param dataCounter              the function to weight input data objects for health monitoring
+     * @param busyTimer                the timer to activate when a task is being handled
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     * @param virtualThread            if true, then tasks are handled on a virtual thread, otherwise on a platform
+     *                                 thread
+     */
+    public SequentialThreadTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> dataCounter,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking,
+            final boolean virtualThread) {
         super(
                 model,
                 name,
-                TaskSchedulerType.SEQUENTIAL_THREAD,
+                virtualThread ? TaskSchedulerType.SEQUENTIAL_VIRTUAL_THREAD : TaskSchedulerType.SEQUENTIAL_THREAD,
                 uncaughtExceptionHandler,
                 flushEnabled,
                 squelchingEnabled,
@@ -91,7 +140,10 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
         this.busyTimer = Objects.requireNonNull(busyTimer);
         this.capacity = capacity;
 
-        thread = new Thread(this::run, THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX);
+        final String threadName = THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX;
+        thread = virtualThread
+                ? Thread.ofVirtual().name(threadName).unstarted(this::run)
+                : new Thread(this::run, threadName);
     }
 
     /**
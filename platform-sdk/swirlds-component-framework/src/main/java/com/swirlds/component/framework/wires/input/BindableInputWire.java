@@ -58,6 +58,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
             return;
         }
         model.registerInputWireCreation(taskSchedulerName, name);
+        setTaskTimer(model.getTaskTimer(taskSchedulerName));
     }
 
     /**
@@ -4,8 +4,10 @@ package com.swirlds.component.framework.wires.input;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * An object that can insert work to be handled by a {@link TaskScheduler}.
@@ -20,6 +22,12 @@ public abstract class InputWire<IN> {
     private final String taskSchedulerName;
     private final TaskSchedulerType taskSchedulerType;
 
+    /**
+     * Wraps the handler of each task inserted through this wire so that the latencies of the task are recorded, or null
+     * if latency profiling is not enabled.
+     */
+    private UnaryOperator<Consumer<Object>> taskTimer;
+
     /**
      * Constructor.
      *
@@ -69,7 +77,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void put(@NonNull final IN data) {
-        taskSchedulerInput.put(handler, data);
+        taskSchedulerInput.put(getTaskHandler(), data);
     }
 
     /**
@@ -80,7 +88,7 @@ public abstract class InputWire<IN> {
      * @return true if the data was accepted, false otherwise
      */
     public boolean offer(@NonNull final IN data) {
-        return taskSchedulerInput.offer(handler, data);
+        return taskSchedulerInput.offer(getTaskHandler(), data);
     }
 
     /**
@@ -91,7 +99,27 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void inject(@NonNull final IN data) {
-        taskSchedulerInput.inject(handler, data);
+        taskSchedulerInput.inject(getTaskHandler(), data);
+    }
+
+    /**
+     * Get the handler for a task that is about to be inserted into the task scheduler.
+     *
+     * @return the handler, wrapped so that the latencies of the task are recorded if latency profiling is enabled
+     */
+    @NonNull
+    private Consumer<Object> getTaskHandler() {
+        return taskTimer == null ? handler : taskTimer.apply(handler);
+    }
+
+    /**
+     * Set the function that wraps the handler of each task inserted through this wire so that the latencies of the task
+     * are recorded.
+     *
+     * @param taskTimer the function that wraps task handlers, or null if latency profiling is not enabled
+     */
+    protected void setTaskTimer(@Nullable final UnaryOperator<Consumer<Object>> taskTimer) {
+        this.taskTimer = taskTimer;
     }
 
     /**
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.builders.WaitStrategy;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +25,7 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.waitStrategy());
     }
 
     @Test
@@ -87,6 +89,17 @@ class TaskSchedulerConfigurationTests {
                 expectedSquelchingEnabled = null;
             }
 
+            final WaitStrategy expectedWaitStrategy;
+            if (random.nextBoolean()) {
+                expectedWaitStrategy = WaitStrategy.values()[random.nextInt(WaitStrategy.values().length)];
+                configStringBuilder
+                        .append("WAIT_STRATEGY(")
+                        .append(expectedWaitStrategy)
+                        .append(") ");
+            } else {
+                expectedWaitStrategy = null;
+            }
+
             final String configString = configStringBuilder.toString();
 
             final TaskSchedulerConfiguration config = TaskSchedulerConfiguration.parse(configString);
@@ -97,6 +110,7 @@ class TaskSchedulerConfigurationTests {
             assertEquals(expectedBusyFractionMetricEnabled, config.busyFractionMetricEnabled());
             assertEquals(expectedFlushingEnabled, config.flushingEnabled());
             assertEquals(expectedSquelchingEnabled, config.squelchingEnabled());
+            assertEquals(expectedWaitStrategy, config.waitStrategy());
         }
     }
 
@@ -130,11 +144,15 @@ class TaskSchedulerConfigurationTests {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE !SQUELCHABLE"));
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TaskSchedulerConfiguration.parse("WAIT_STRATEGY(SPIN) WAIT_STRATEGY(PARK)"));
     }
 
     @Test
     void unmatchedFieldTest() {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("DIRECT CAPACITY(100) QWERTY"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("WAIT_STRATEGY(NAP)"));
     }
 }
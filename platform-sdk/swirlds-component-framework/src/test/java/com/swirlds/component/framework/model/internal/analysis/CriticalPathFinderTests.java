@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.analysis;
+
+import static com.swirlds.component.framework.model.internal.analysis.ModelVertexMetaType.SCHEDULER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CriticalPathFinderTests {
+
+    private final Map<String, ModelVertex> vertices = new HashMap<>();
+
+    private void addVertices(@NonNull final String... names) {
+        for (final String name : names) {
+            vertices.put(name, new StandardVertex(name, TaskSchedulerType.SEQUENTIAL, SCHEDULER, null, true));
+        }
+    }
+
+    private void addEdge(@NonNull final String source, @NonNull final String destination) {
+        final ModelVertex sourceVertex = vertices.get(source);
+        sourceVertex
+                .getOutgoingEdges()
+                .add(new ModelEdge(sourceVertex, vertices.get(destination), source + "_to_" + destination, true, false));
+    }
+
+    @Test
+    void slowestBranchTest() {
+        addVertices("A", "B", "C", "D");
+        addEdge("A", "B");
+        addEdge("A", "C");
+        addEdge("B", "D");
+        addEdge("C", "D");
+        final Map<String, Double> latencies = Map.of("A", 1.0, "B", 5.0, "C", 10.0, "D", 2.0);
+
+        final CriticalPath path = CriticalPathFinder.findCriticalPath(vertices, "A", "D", latencies::get);
+
+        assertNotNull(path);
+        assertEquals(List.of("A", "C", "D"), path.vertices());
+        assertEquals(List.of(1.0, 10.0, 2.0), path.latencies());
+        assertEquals(13.0, path.totalLatency());
+    }
+
+    @Test
+    void cycleTest() {
+        addVertices("A", "B", "C", "D");
+        addEdge("A", "B");
+        addEdge("B", "C");
+        addEdge("C", "B");
+        addEdge("C", "A");
+        addEdge("C", "D");
+        final Map<String, Double> latencies = Map.of("A", 1.0, "B", 1.0, "C", 1.0, "D", 1.0);
+
+        final CriticalPath path = CriticalPathFinder.findCriticalPath(vertices, "A", "D", latencies::get);
+
+        assertNotNull(path);
+        assertEquals(List.of("A", "B", "C", "D"), path.vertices());
+        assertEquals(4.0, path.totalLatency());
+    }
+
+    @Test
+    void unreachableSinkTest() {
+        addVertices("A", "B", "C");
+        addEdge("A", "B");
+        addEdge("C", "A");
+
+        assertNull(CriticalPathFinder.findCriticalPath(vertices, "A", "C", name -> 1.0));
+        assertNull(CriticalPathFinder.findCriticalPath(vertices, "A", "unknown", name -> 1.0));
+    }
+}
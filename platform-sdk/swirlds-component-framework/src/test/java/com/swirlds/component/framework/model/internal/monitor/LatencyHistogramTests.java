@@ -0,0 +1,54 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTests {
+
+    @Test
+    void emptySnapshotTest() {
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0.0, snapshot.mean());
+        assertEquals(0, snapshot.percentile(99));
+    }
+
+    @Test
+    void percentileTest() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        // 99 fast tasks and one slow task
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(1_000_000);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.count());
+        assertEquals((99 * 100 + 1_000_000) / 100.0, snapshot.mean());
+        // 100 is in the bucket [64, 128), 1_000_000 is in the bucket [2^19, 2^20)
+        assertEquals(128, snapshot.percentile(50));
+        assertEquals(128, snapshot.percentile(99));
+        assertEquals(1L << 20, snapshot.percentile(100));
+    }
+
+    @Test
+    void snapshotResetsTest() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(-5);
+
+        final LatencyHistogram.Snapshot first = histogram.snapshot();
+        assertEquals(2, first.count());
+        assertEquals(0.0, first.mean());
+        assertEquals(1, first.percentile(100));
+
+        histogram.record(10);
+        final LatencyHistogram.Snapshot second = histogram.snapshot();
+        assertEquals(1, second.count());
+        assertEquals(10.0, second.mean());
+    }
+}
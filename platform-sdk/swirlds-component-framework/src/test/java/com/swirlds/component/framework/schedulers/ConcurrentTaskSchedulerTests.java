@@ -21,15 +21,17 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class ConcurrentTaskSchedulerTests {
 
     /**
      * Add a bunch of operations to a wire and ensure that they are all eventually handled.
      */
-    @Test
-    void allOperationsHandledTest() {
+    @ParameterizedTest
+    @ValueSource(strings = {"CONCURRENT", "CONCURRENT_VIRTUAL_THREAD"})
+    void allOperationsHandledTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
         final Random random = getRandomPrintSeed();
@@ -45,7 +47,7 @@ class ConcurrentTaskSchedulerTests {
         };
 
         final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
-                .withType(TaskSchedulerType.CONCURRENT)
+                .withType(TaskSchedulerType.valueOf(typeString))
                 .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
                 .build();
         final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
@@ -68,8 +70,9 @@ class ConcurrentTaskSchedulerTests {
     /**
      * Verify that operations can be handled in parallel.
      */
-    @Test
-    void parallelOperationTest() {
+    @ParameterizedTest
+    @ValueSource(strings = {"CONCURRENT", "CONCURRENT_VIRTUAL_THREAD"})
+    void parallelOperationTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
         final Random random = getRandomPrintSeed();
@@ -94,7 +97,7 @@ class ConcurrentTaskSchedulerTests {
         };
 
         final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
-                .withType(TaskSchedulerType.CONCURRENT)
+                .withType(TaskSchedulerType.valueOf(typeString))
                 .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
                 .build();
         final BindableInputWire<Operation, Void> channel = taskScheduler.buildInputWire("channel");
@@ -136,9 +139,10 @@ class ConcurrentTaskSchedulerTests {
         assertEquals(-1, taskScheduler.getUnprocessedTaskCount());
     }
 
-    @Test
+    @ParameterizedTest
+    @ValueSource(strings = {"CONCURRENT", "CONCURRENT_VIRTUAL_THREAD"})
     @DisplayName("Test squelching")
-    void squelching() {
+    void squelching(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
         final AtomicInteger handleCount = new AtomicInteger();
@@ -147,7 +151,7 @@ class ConcurrentTaskSchedulerTests {
         };
 
         final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
-                .withType(TaskSchedulerType.CONCURRENT)
+                .withType(TaskSchedulerType.valueOf(typeString))
                 .withUnhandledTaskCapacity(100)
                 .withFlushingEnabled(true)
                 .withSquelchingEnabled(true)
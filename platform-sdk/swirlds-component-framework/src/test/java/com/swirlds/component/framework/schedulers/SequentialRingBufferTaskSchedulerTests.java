@@ -0,0 +1,204 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.model.WiringModelBuilder;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.builders.WaitStrategy;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SequentialRingBufferTaskSchedulerTests implements SequentialTaskSchedulerAliveThreadCleanup {
+
+    private static final Duration AWAIT_MAX_DURATION = Duration.ofSeconds(10);
+
+    private static WiringModel buildModel(final boolean hardBackpressureEnabled) {
+        return WiringModelBuilder.create(new NoOpMetrics(), Time.getCurrent())
+                .withHardBackpressureEnabled(hardBackpressureEnabled)
+                .build();
+    }
+
+    /**
+     * Tasks inserted by several threads through a small ring buffer are all handled, and the tasks of each thread are
+     * handled in the order they were inserted.
+     */
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void multipleProducersTest(final WaitStrategy waitStrategy) throws InterruptedException {
+        final WiringModel model = buildModel(true);
+        final int producerCount = 4;
+        final int tasksPerProducer = 10_000;
+
+        // only accessed on the handler thread
+        final long[] lastValues = new long[producerCount];
+        final List<String> errors = new ArrayList<>();
+        final CountDownLatch allHandled = new CountDownLatch(producerCount * tasksPerProducer);
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_RING_BUFFER)
+                .withUnhandledTaskCapacity(16)
+                .withWaitStrategy(waitStrategy)
+                .build();
+        final BindableInputWire<long[], Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(task -> {
+            final int producer = (int) task[0];
+            if (task[1] != lastValues[producer] + 1) {
+                errors.add("producer " + producer + " task " + task[1] + " after " + lastValues[producer]);
+            }
+            lastValues[producer] = task[1];
+            allHandled.countDown();
+        });
+
+        model.start();
+
+        final List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < producerCount; i++) {
+            final int producer = i;
+            final Thread thread = new Thread(() -> {
+                for (int value = 1; value <= tasksPerProducer; value++) {
+                    channel.put(new long[] {producer, value});
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        for (final Thread producer : producers) {
+            producer.join(AWAIT_MAX_DURATION.toMillis());
+        }
+
+        assertTrue(allHandled.await(AWAIT_MAX_DURATION.toMillis(), TimeUnit.MILLISECONDS), "not all tasks handled");
+        assertTrue(errors.isEmpty(), "tasks handled out of order: " + errors);
+        model.stop();
+    }
+
+    /**
+     * With backpressure, put() blocks and offer() fails when the ring buffer is full, inject() never blocks, and all
+     * tasks are handled in the order they were inserted.
+     */
+    @Test
+    void backpressureTest() throws InterruptedException {
+        final WiringModel model = buildModel(true);
+        final int capacity = 4;
+
+        final CountDownLatch handlerBlocked = new CountDownLatch(1);
+        final CountDownLatch unblockHandler = new CountDownLatch(1);
+        final List<Integer> handled = new ArrayList<>();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_RING_BUFFER)
+                .withUnhandledTaskCapacity(capacity)
+                .withUnhandledTaskMetricEnabled(true)
+                .withSleepDuration(Duration.ofMillis(1))
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(x -> {
+            if (x == 0) {
+                handlerBlocked.countDown();
+                try {
+                    unblockHandler.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (handled) {
+                handled.add(x);
+            }
+        });
+
+        model.start();
+
+        // task 0 blocks the handler, its slot is freed before it is handled
+        channel.put(0);
+        assertTrue(handlerBlocked.await(AWAIT_MAX_DURATION.toMillis(), TimeUnit.MILLISECONDS));
+        for (int i = 1; i <= capacity; i++) {
+            channel.put(i);
+        }
+
+        // the ring buffer is full
+        assertFalse(channel.offer(-1));
+
+        final AtomicBoolean blockedPutFinished = new AtomicBoolean(false);
+        final Thread blockedProducer = new Thread(() -> {
+            channel.put(capacity + 2);
+            blockedPutFinished.set(true);
+        });
+        blockedProducer.start();
+
+        // inject() doesn't block, and is handled before tasks inserted after it
+        channel.inject(capacity + 1);
+        assertFalse(blockedPutFinished.get());
+
+        unblockHandler.countDown();
+        blockedProducer.join(AWAIT_MAX_DURATION.toMillis());
+        assertTrue(blockedPutFinished.get());
+
+        assertEventuallyEquals(0L, taskScheduler::getUnprocessedTaskCount, AWAIT_MAX_DURATION, "tasks not handled");
+        synchronized (handled) {
+            assertEquals(capacity + 3, handled.size());
+            for (int i = 0; i <= capacity + 2; i++) {
+                assertEquals(i, handled.get(i));
+            }
+        }
+        model.stop();
+    }
+
+    /**
+     * Without hard backpressure, a full ring buffer never blocks, tasks overflow and are still handled in order.
+     */
+    @Test
+    void overflowWithoutBackpressureTest() throws InterruptedException {
+        final WiringModel model = buildModel(false);
+        final int taskCount = 1_000;
+
+        final CountDownLatch unblockHandler = new CountDownLatch(1);
+        final List<Integer> handled = new ArrayList<>();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_RING_BUFFER)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(x -> {
+            try {
+                unblockHandler.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.add(x);
+        });
+
+        model.start();
+
+        // more tasks than the ring buffer has slots, none of these calls block
+        for (int i = 0; i < taskCount; i++) {
+            channel.put(i);
+        }
+        assertTrue(channel.offer(taskCount));
+
+        unblockHandler.countDown();
+        taskScheduler.flush();
+
+        assertEquals(taskCount + 1, handled.size());
+        for (int i = 0; i <= taskCount; i++) {
+            assertEquals(i, handled.get(i));
+        }
+        model.stop();
+    }
+}
@@ -81,7 +81,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Add values to the task scheduler, ensure that each value was processed in the correct order.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void orderOfOperationsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
 
@@ -118,7 +118,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * sequentially regardless of the number of threads adding work.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void multipleChannelsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -162,7 +162,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Ensure that the work happening on the task scheduler is not happening on the caller's thread.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void wireDoesNotBlockCallingThreadTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -210,7 +210,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Sanity checks on the unprocessed event count.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void unprocessedEventCountTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -269,7 +269,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Make sure backpressure works.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void backpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -354,7 +354,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * interrupting the caller thread does not produce the caller thread to do anything.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void uninterruptableTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -429,7 +429,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Offering tasks is equivalent to calling put() if there is no backpressure.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void offerNoBackpressureTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -476,7 +476,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * </pre>
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void circularDataFlowTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -599,7 +599,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Validate the behavior when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void multipleChannelTypesTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -656,7 +656,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Make sure backpressure works when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void multipleChannelBackpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -745,7 +745,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Make sure backpressure works when a single counter spans multiple wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void backpressureOverMultipleWiresTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -853,7 +853,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Validate the behavior of the flush() method.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void flushTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -949,7 +949,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void flushDisabledTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -967,7 +967,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void exceptionHandlingTest(String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1025,7 +1025,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * than the number of blocking wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void deadlockTestOneThread(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1089,7 +1089,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void deadlockTestThreeThreads(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1155,7 +1155,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Solder together a simple sequence of wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void simpleSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1232,7 +1232,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Test soldering to a lambda function.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void lambdaSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1314,7 +1314,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Solder the output of a wire to the inputs of multiple other wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void multiWireSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1435,7 +1435,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * Validate that a wire soldered to another using injection ignores backpressure constraints.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void injectionSolderingTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -1551,7 +1551,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * When a handler returns null, the wire should not forward the null value to the next wire.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void discardNullValuesInWiresTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1660,7 +1660,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      * now the metrics framework makes it complex to do so.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void metricsEnabledTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1746,7 +1746,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void multipleOutputChannelsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1820,7 +1820,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void externalBackPressureTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1932,7 +1932,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void multipleCountersInternalBackpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -2045,7 +2045,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void offerSolderingTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -2135,7 +2135,7 @@ class SequentialTaskSchedulerTests implements SequentialTaskSchedulerAliveThread
      *  This test asserts that a task scheduler being squelched does not accept new tasks.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL_THREAD"})
     void squelching(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -388,6 +388,38 @@ public final class MerkleDb {
         return getDataSource(configuration, tableId, label, makeCopyPrimary, offlineUse);
     }
 
+    /**
+     * Imports a data source from a database snapshot in the specified folder, for example, a
+     * snapshot received from a reconnect teacher. The imported data source has the same metadata
+     * and label (table name) as in the snapshot, and a new table ID in this database.
+     *
+     * <p>The imported data source is marked as active. If this database already has an active data
+     * source with the same label, it's marked as secondary. This is similar to what happens when a
+     * learner creates a copy of a virtual root during reconnects, see {@link #copyDataSource}.
+     *
+     * @param snapshotDir Database snapshot folder
+     * @param tableName Table name of the data source to import
+     * @return The imported data source
+     * @throws IOException If an I/O error occurs
+     */
+    public MerkleDbDataSource importDataSource(final Path snapshotDir, final String tableName) throws IOException {
+        final MerkleDb snapshotDb = getInstance(snapshotDir, configuration);
+        final MerkleDbDataSource snapshotDataSource = snapshotDb.getDataSource(tableName, false);
+        try {
+            final TableMetadata currentMetadata = getTableMetadata(tableName);
+            final int tableId = getNextTableId();
+            // The snapshot data source belongs to a different database, its status is not changed
+            importDataSource(snapshotDataSource, tableId, true, true);
+            if (currentMetadata != null) {
+                primaryTables.remove(currentMetadata.getTableId());
+                storeMetadata();
+            }
+            return getDataSource(configuration, tableId, tableName, true, false);
+        } finally {
+            snapshotDataSource.close(true);
+        }
+    }
+
     private void importDataSource(
             final MerkleDbDataSource dataSource,
             final int tableId,
@@ -9,6 +9,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.CompactionThrottle;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
@@ -30,6 +31,8 @@ import org.apache.logging.log4j.Logger;
  * and keep them disabled until they are explicitly enabled again.
  * The compaction tasks are executed in a background thread pool.
  * The number of threads in the pool is defined by {@link MerkleDbConfig#compactionThreads()} property.
+ * All compactions in the process share a single {@link CompactionThrottle}, which limits compaction
+ * I/O and pauses compactions while data sources are flushing.
  *
  */
 class MerkleDbCompactionCoordinator {
@@ -72,6 +75,25 @@ class MerkleDbCompactionCoordinator {
         return compactionExecutor;
     }
 
+    /**
+     * A throttle shared by all compactions. Accessed using {@link #getCompactionThrottle(MerkleDbConfig)}.
+     */
+    private static CompactionThrottle compactionThrottle = null;
+
+    /**
+     * Returns the compaction throttle shared by all compactions in the process. Similar to
+     * {@link #getCompactionExecutor(MerkleDbConfig)}, the throttle is created using the
+     * configuration provided by the first call to this method.
+     */
+    static synchronized CompactionThrottle getCompactionThrottle(final @NonNull MerkleDbConfig merkleDbConfig) {
+        requireNonNull(merkleDbConfig);
+
+        if (compactionThrottle == null) {
+            compactionThrottle = new CompactionThrottle(merkleDbConfig);
+        }
+        return compactionThrottle;
+    }
+
     // Synchronized on this
     private boolean compactionEnabled = false;
 
@@ -188,6 +210,29 @@ class MerkleDbCompactionCoordinator {
         return compactionEnabled;
     }
 
+    /**
+     * Returns the throttle to use for compactions started by this coordinator.
+     */
+    @NonNull
+    CompactionThrottle getCompactionThrottle() {
+        return getCompactionThrottle(merkleDbConfig);
+    }
+
+    /**
+     * Notifies compactions that a data source flush is started. Depending on MerkleDb config,
+     * compactions may be paused until {@link #flushFinished()} is called.
+     */
+    void flushStarted() {
+        getCompactionThrottle().flushStarted();
+    }
+
+    /**
+     * Notifies compactions that a data source flush is finished.
+     */
+    void flushFinished() {
+        getCompactionThrottle().flushFinished();
+    }
+
     /**
      * A helper class representing a task to run compaction for a specific storage type.
      */
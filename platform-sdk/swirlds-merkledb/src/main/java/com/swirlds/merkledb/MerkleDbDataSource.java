@@ -21,17 +21,20 @@ import com.swirlds.base.units.UnitConstants;
 import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.merkledb.cache.LeafRecordCache;
 import com.swirlds.merkledb.collections.HashList;
 import com.swirlds.merkledb.collections.HashListByteBuffer;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListDisk;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCollection;
 import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.files.DataFileReader;
 import com.swirlds.merkledb.files.MemoryIndexDiskKeyValueStore;
 import com.swirlds.merkledb.files.hashmap.HalfDiskHashMap;
+import com.swirlds.merkledb.utilities.SnapshotManifest;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
 import com.swirlds.virtualmap.datasource.VirtualHashRecord;
@@ -44,20 +47,28 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
 
@@ -68,6 +79,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     /** Count of open database instances */
     private static final LongAdder COUNT_OF_OPEN_DATABASES = new LongAdder();
 
+    /** Thread pool to read data items in batched warmup requests, shared by all data sources */
+    private static volatile ForkJoinPool warmupPool = null;
+
+    /** Thread pool to update key to path indices during flushes, shared by all data sources */
+    private static volatile ForkJoinPool keyToPathUpdatePool = null;
+
     /** Data source metadata fields */
     private static final FieldDefinition FIELD_DSMETADATA_MINVALIDKEY =
             new FieldDefinition("minValidKey", FieldType.UINT64, false, true, false, 1);
@@ -129,18 +146,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     private final MemoryIndexDiskKeyValueStore pathToKeyValue;
 
     /**
-     * Cache size for reading virtual leaf records. Initialized in data source creation time from
-     * MerkleDb settings. If the value is zero, leaf records cache isn't used.
+     * Virtual leaf records cache. Cache size is initialized in data source creation time from table
+     * config or MerkleDb settings. If the size is zero, leaf records cache isn't used, and this field
+     * is null.
      */
-    private final int leafRecordCacheSize;
-
-    /**
-     * Virtual leaf records cache. It's a simple array indexed by leaf keys % cache size. Cache
-     * eviction is not needed, as array size is fixed and can be configured in MerkleDb settings.
-     * Index conflicts are resolved in a very straightforward way: whatever entry is read last, it's
-     * put to the cache.
-     */
-    private final VirtualLeafBytes[] leafRecordCache;
+    @Nullable
+    private final LeafRecordCache leafRecordCache;
 
     /** Thread pool storing internal records */
     private final ExecutorService storeHashesExecutor;
@@ -216,6 +227,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         // check if we are loading an existing database or creating a new one
         if (Files.exists(storageDir)) {
+            // verify data source files, if loaded from a snapshot with checksums
+            verifySnapshotChecksums(merkleDbConfig);
             // read metadata
             if (!loadMetadata(dbPaths)) {
                 logger.info(
@@ -358,8 +371,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
 
         // Leaf records cache
-        leafRecordCacheSize = merkleDbConfig.leafRecordCacheSize();
-        leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafBytes[leafRecordCacheSize] : null;
+        final int leafRecordCacheSize = (tableConfig.getLeafRecordCacheSize() != 0)
+                ? tableConfig.getLeafRecordCacheSize()
+                : merkleDbConfig.leafRecordCacheSize();
+        leafRecordCache = (leafRecordCacheSize > 0)
+                ? merkleDbConfig.leafRecordCacheType().createCache(leafRecordCacheSize)
+                : null;
 
         // Stats
         statisticsUpdater = new MerkleDbStatisticsUpdater(merkleDbConfig, tableName);
@@ -461,6 +478,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             @NonNull final Stream<VirtualLeafBytes> leafRecordsToDelete,
             final boolean isReconnectContext)
             throws IOException {
+        // Compactions may be paused while flushing to reduce I/O contention
+        compactionCoordinator.flushStarted();
         try {
             validLeafPathRange = new KeyRange(firstLeafPath, lastLeafPath);
             final CountDownLatch countDownLatch = new CountDownLatch(lastLeafPath > 0 ? 2 : 1);
@@ -515,6 +534,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 Thread.currentThread().interrupt();
             }
         } finally {
+            compactionCoordinator.flushFinished();
             // Report total size on disk as sum of all store files. All metadata and other helper files
             // are considered small enough to be ignored. If/when we decide to use on-disk long lists
             // for indices, they should be added here
@@ -535,21 +555,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     @Override
     public VirtualLeafBytes<?> loadLeafRecord(final Bytes keyBytes) throws IOException {
         requireNonNull(keyBytes);
-        final int keyHashCode = keyBytes.hashCode();
 
         final long path;
         VirtualLeafBytes<?> cached = null;
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
-            // are atomic, so we will never get corrupted objects from the array. The object may
-            // be overwritten in the cache in a different thread in parallel, but it isn't a
-            // problem as cached entry key is checked below anyway
-            cached = leafRecordCache[cacheIndex];
+            cached = leafRecordCache.get(keyBytes);
         }
-        // If an entry is found in the cache, and entry key is the one requested
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+        // If an entry is found in the cache
+        if (cached != null) {
+            statisticsUpdater.countLeafCacheHits();
             // Some cache entries contain just key and path, but no value. If the value is there,
             // just return the cached entry. If not, at least make use of the path
             if (cached.valueBytes() != null) {
@@ -559,7 +573,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             path = cached.path();
         } else {
             // Cache miss
-            cached = null;
+            if (leafRecordCache != null) {
+                statisticsUpdater.countLeafCacheMisses();
+            }
             statisticsUpdater.countLeafKeyReads();
             path = keyToPath.get(keyBytes, INVALID_PATH);
         }
@@ -568,7 +584,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (path == INVALID_PATH) {
             // Cache the result if not already cached
             if (leafRecordCache != null && cached == null) {
-                leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, null);
+                cacheLeafRecord(new VirtualLeafBytes(path, keyBytes, null));
             }
             return null;
         }
@@ -586,8 +602,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes);
 
         if (leafRecordCache != null) {
-            // No synchronization is needed here, see the comment above
-            leafRecordCache[cacheIndex] = leafBytes;
+            cacheLeafRecord(leafBytes);
         }
 
         return leafBytes;
@@ -625,18 +640,16 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     @Override
     public long findKey(final Bytes keyBytes) throws IOException {
         requireNonNull(keyBytes);
-        final int keyHashCode = keyBytes.hashCode();
 
         // Check the cache first
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. See the comment in loadLeafRecord(key) above
-            final VirtualLeafBytes<?> cached = leafRecordCache[cacheIndex];
-            if (cached != null && keyBytes.equals(cached.keyBytes())) {
+            final VirtualLeafBytes<?> cached = leafRecordCache.get(keyBytes);
+            if (cached != null) {
+                statisticsUpdater.countLeafCacheHits();
                 // Cached path may be a valid path or INVALID_PATH, both are legal here
                 return cached.path();
             }
+            statisticsUpdater.countLeafCacheMisses();
         }
 
         statisticsUpdater.countLeafKeyReads();
@@ -644,12 +657,98 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         if (leafRecordCache != null) {
             // Path may be INVALID_PATH here. Still needs to be cached (negative result)
-            leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, null);
+            cacheLeafRecord(new VirtualLeafBytes(path, keyBytes, null));
         }
 
         return path;
     }
 
+    /**
+     * Loads leaf records for the given keys into the leaf record cache, if enabled, and the OS
+     * page cache. Key to path buckets are read first, each bucket at most once, then leaf records
+     * are read. In both cases, data items are read in data file and offset order in parallel,
+     * using a small thread pool shared by all data sources.
+     *
+     * @param keys the keys of leaves to warm
+     * @throws IOException If there was a problem reading from the database
+     */
+    @Override
+    public void warmAll(@NonNull final Collection<Bytes> keys) throws IOException {
+        requireNonNull(keys);
+        final ExecutorService executor = getWarmupPool(database.getConfiguration());
+
+        // Skip keys already in the cache. For cached keys without values, paths are known
+        final List<Bytes> keysToFind = new ArrayList<>(keys.size());
+        final LongArrayList paths = new LongArrayList(keys.size());
+        for (final Bytes keyBytes : keys) {
+            final VirtualLeafBytes<?> cached = (leafRecordCache != null) ? leafRecordCache.get(keyBytes) : null;
+            if (cached == null) {
+                statisticsUpdater.countLeafKeyReads();
+                keysToFind.add(keyBytes);
+            } else if (cached.valueBytes() == null) {
+                paths.add(cached.path());
+            }
+        }
+
+        if (!keysToFind.isEmpty()) {
+            final long[] foundPaths = keyToPath.getAll(keysToFind, INVALID_PATH, executor);
+            for (int i = 0; i < foundPaths.length; i++) {
+                if (foundPaths[i] == INVALID_PATH) {
+                    // Cache negative results, the same way as loadLeafRecord() does
+                    if (leafRecordCache != null) {
+                        cacheLeafRecord(new VirtualLeafBytes(INVALID_PATH, keysToFind.get(i), null));
+                    }
+                } else {
+                    paths.add(foundPaths[i]);
+                }
+            }
+        }
+
+        final KeyRange leafPathRange = validLeafPathRange;
+        final long[] pathsToLoad = paths.select(leafPathRange::withinRange).toArray();
+        if (pathsToLoad.length == 0) {
+            return;
+        }
+        pathToKeyValue.getAll(pathsToLoad, executor, (i, leafData) -> {
+            statisticsUpdater.countLeafReads();
+            if (leafRecordCache != null) {
+                cacheLeafRecord(VirtualLeafBytes.parseFrom(leafData));
+            }
+        });
+    }
+
+    private static ExecutorService getWarmupPool(final Configuration config) {
+        ForkJoinPool pool = warmupPool;
+        if (pool == null) {
+            synchronized (MerkleDbDataSource.class) {
+                pool = warmupPool;
+                if (pool == null) {
+                    final MerkleDbConfig merkleDbConfig = config.getConfigData(MerkleDbConfig.class);
+                    pool = new ForkJoinPool(merkleDbConfig.warmupThreads());
+                    warmupPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private static ForkJoinPool getKeyToPathUpdatePool(final Configuration config) {
+        ForkJoinPool pool = keyToPathUpdatePool;
+        if (pool == null) {
+            synchronized (MerkleDbDataSource.class) {
+                pool = keyToPathUpdatePool;
+                if (pool == null) {
+                    // Key to path updates are done before the index is flushed, so they don't compete
+                    // with flushing threads, and the same number of threads is used
+                    final MerkleDbConfig merkleDbConfig = config.getConfigData(MerkleDbConfig.class);
+                    pool = new ForkJoinPool(merkleDbConfig.getNumHalfDiskHashMapFlushThreads());
+                    keyToPathUpdatePool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -682,6 +781,47 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return hash;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Hashes stored in RAM are read directly. Hashes stored on disk are read in a single
+     * batch on the calling thread, in data file and offset order.
+     */
+    @Override
+    public void loadHashes(@NonNull final long[] paths, @NonNull final Hash[] hashes) throws IOException {
+        final long lastLeaf = validLeafPathRange.getMaxValidKey();
+        final long hashesRamToDiskThreshold = tableConfig.getHashesRamToDiskThreshold();
+        int diskCount = 0;
+        final int[] diskPositions = new int[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            final long path = paths[i];
+            if (path < 0) {
+                throw new IllegalArgumentException("Path (" + path + ") is not valid");
+            }
+            hashes[i] = null;
+            if (path > lastLeaf) {
+                continue;
+            }
+            if (path < hashesRamToDiskThreshold) {
+                hashes[i] = hashStoreRam.get(path);
+            } else {
+                diskPositions[diskCount++] = i;
+            }
+        }
+        if (diskCount == 0) {
+            return;
+        }
+        final long[] diskPaths = new long[diskCount];
+        for (int i = 0; i < diskCount; i++) {
+            diskPaths[i] = paths[diskPositions[i]];
+            statisticsUpdater.countHashReads();
+        }
+        hashStoreDisk.getAll(diskPaths, null, (i, data) -> {
+            final VirtualHashRecord rec = VirtualHashRecord.parseFrom(data);
+            hashes[diskPositions[i]] = (rec != null) ? rec.hash() : null;
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -828,6 +968,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 });
                 // wait for the others to finish
                 countDownLatch.await();
+                // write checksums of all snapshot files, if enabled
+                if (database.getConfiguration().getConfigData(MerkleDbConfig.class).snapshotChecksumsEnabled()) {
+                    writeSnapshotChecksums(snapshotDbPaths);
+                }
             } catch (final InterruptedException e) {
                 logger.error(
                         EXCEPTION.getMarker(),
@@ -1013,6 +1157,74 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
     }
 
+    /**
+     * Writes a checksum manifest for the snapshot in the given directory. Data files are hard linked
+     * to snapshots, so their checksums are taken from data file readers, where they are cached, if
+     * possible. Other files, e.g. indices and metadata, are read and checksummed in parallel.
+     *
+     * @param snapshotDbPaths snapshot paths
+     * @throws IOException if an I/O error occurred
+     */
+    private void writeSnapshotChecksums(final MerkleDbPaths snapshotDbPaths) throws IOException {
+        final long start = System.currentTimeMillis();
+        final Map<Path, DataFileReader> snapshotDataFiles = new HashMap<>();
+        if (hashStoreDisk != null) {
+            addSnapshotDataFiles(
+                    snapshotDataFiles, snapshotDbPaths.hashStoreDiskDirectory, hashStoreDisk.getFileCollection());
+        }
+        if (keyToPath != null) {
+            addSnapshotDataFiles(snapshotDataFiles, snapshotDbPaths.keyToPathDirectory, keyToPath.getFileCollection());
+        }
+        addSnapshotDataFiles(
+                snapshotDataFiles, snapshotDbPaths.pathToKeyValueDirectory, pathToKeyValue.getFileCollection());
+        SnapshotManifest.write(snapshotDbPaths.storageDir, snapshotDbPaths.checksumManifestFile, file -> {
+            final DataFileReader reader = snapshotDataFiles.get(file);
+            // A data file may be compacted and deleted since it was linked to the snapshot, it's
+            // still fine to use the reader, since it's the same file
+            return (reader != null) ? reader.getChecksum() : -1;
+        });
+        logger.info(
+                MERKLE_DB.getMarker(),
+                "[{}] Snapshot checksums written in {} ms",
+                tableName,
+                System.currentTimeMillis() - start);
+    }
+
+    private static void addSnapshotDataFiles(
+            final Map<Path, DataFileReader> snapshotDataFiles,
+            final Path snapshotStoreDir,
+            final DataFileCollection fileCollection) {
+        for (final DataFileReader reader : fileCollection.getAllCompletedFiles()) {
+            snapshotDataFiles.put(snapshotStoreDir.resolve(reader.getPath().getFileName()), reader);
+        }
+    }
+
+    /**
+     * Verifies data source files against the snapshot checksum manifest, if the manifest exists
+     * and verification is enabled. The manifest is deleted afterwards, since data source files
+     * are going to be changed once the data source is loaded.
+     *
+     * @param merkleDbConfig MerkleDb config
+     * @throws IOException if a file doesn't match the manifest, or an I/O error occurred
+     */
+    private void verifySnapshotChecksums(final MerkleDbConfig merkleDbConfig) throws IOException {
+        final Path manifestFile = dbPaths.checksumManifestFile;
+        if (!Files.exists(manifestFile)) {
+            return;
+        }
+        if (merkleDbConfig.snapshotChecksumsVerifiedOnLoad()) {
+            final long start = System.currentTimeMillis();
+            final int filesVerified = SnapshotManifest.verify(dbPaths.storageDir, manifestFile);
+            logger.info(
+                    MERKLE_DB.getMarker(),
+                    "[{}] Verified {} snapshot files in {} ms",
+                    tableName,
+                    filesVerified,
+                    System.currentTimeMillis() - start);
+        }
+        Files.delete(manifestFile);
+    }
+
     /**
      * Run a runnable on background thread using snapshot ExecutorService, counting down latch when
      * done.
@@ -1104,14 +1316,14 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             @NonNull final Stream<VirtualLeafBytes> deletedLeaves,
             boolean isReconnect)
             throws IOException {
-        // If both streams are empty, no new data files should be created. One simple way to
-        // check emptiness is to use iterators. The iterators are consumed on a single thread
-        // (the current thread), but it still makes sense to use parallel streams as supplying
-        // elements to the stream includes expensive operations like serialization to bytes
-        final Iterator<VirtualLeafBytes> dirtyIterator = dirtyLeaves
+        // If both streams are empty, no new data files should be created. Dirty leaves are
+        // collected using a parallel stream, as supplying elements to the stream includes
+        // expensive operations like serialization to bytes. Sorting requires all elements to
+        // be buffered anyway
+        final List<VirtualLeafBytes> dirtyList = dirtyLeaves
                 .parallel()
                 .sorted(Comparator.comparingLong(VirtualLeafBytes::path))
-                .iterator();
+                .toList();
         final Iterator<VirtualLeafBytes> deletedIterator = deletedLeaves.iterator();
 
         if (lastLeafPath < 0) {
@@ -1121,7 +1333,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             pathToKeyValue.updateValidKeyRange(firstLeafPath, lastLeafPath);
         }
 
-        if (!dirtyIterator.hasNext() && !deletedIterator.hasNext()) {
+        if (dirtyList.isEmpty() && !deletedIterator.hasNext()) {
             // Nothing to do
             return;
         }
@@ -1129,27 +1341,43 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         pathToKeyValue.startWriting();
         keyToPath.startWriting();
 
-        // Iterate over leaf records
-        while (dirtyIterator.hasNext()) {
-            final VirtualLeafBytes<?> leafBytes = dirtyIterator.next();
-            final long path = leafBytes.path();
-            // Update key to path index
-            keyToPath.put(leafBytes.keyBytes(), path);
-            statisticsUpdater.countFlushLeafKeysWritten();
+        // Update key to path index. Every key is present in the dirty leaves at most once, and
+        // HalfDiskHashMap accepts concurrent writers, so dirty leaves are partitioned between
+        // multiple threads. This runs in parallel with path to K/V updates below, which must be
+        // done on a single thread in path order
+        final ForkJoinTask<?> keyToPathTask = getKeyToPathUpdatePool(database.getConfiguration())
+                .submit(() -> dirtyList.parallelStream().forEach(leafBytes -> {
+                    keyToPath.put(leafBytes.keyBytes(), leafBytes.path());
+                    statisticsUpdater.countFlushLeafKeysWritten();
+                }));
 
-            // Update path to K/V store
-            try {
-                pathToKeyValue.put(leafBytes.path(), leafBytes::writeTo, leafBytes.getSizeInBytes());
-            } catch (final IOException e) {
-                logger.error(EXCEPTION.getMarker(), "[{}] IOException writing to pathToKeyValue", tableName, e);
-                throw new UncheckedIOException(e);
-            }
-            statisticsUpdater.countFlushLeavesWritten();
+        try {
+            // Iterate over leaf records
+            for (final VirtualLeafBytes<?> leafBytes : dirtyList) {
+                // Update path to K/V store
+                try {
+                    pathToKeyValue.put(leafBytes.path(), leafBytes::writeTo, leafBytes.getSizeInBytes());
+                } catch (final IOException e) {
+                    logger.error(EXCEPTION.getMarker(), "[{}] IOException writing to pathToKeyValue", tableName, e);
+                    throw new UncheckedIOException(e);
+                }
+                statisticsUpdater.countFlushLeavesWritten();
 
-            // cache the record
-            invalidateReadCache(leafBytes.keyBytes());
+                // cache the record
+                invalidateReadCache(leafBytes.keyBytes());
+            }
+        } finally {
+            // Even if path to K/V updates failed, key to path updates must not be running in
+            // background, when this method exits. Exceptions are not thrown here, so they don't
+            // hide the path to K/V failure
+            keyToPathTask.quietlyJoin();
         }
 
+        // Key to path updates for dirty leaves must be complete before deleted leaves are
+        // processed below, since the same key may be updated in both loops. This rethrows any
+        // exception thrown by key to path updates
+        keyToPathTask.join();
+
         // Iterate over leaf records to delete
         while (deletedIterator.hasNext()) {
             final VirtualLeafBytes<?> leafBytes = deletedIterator.next();
@@ -1205,7 +1433,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 () -> {
                     statisticsUpdater.updateStoreFileStats(this);
                     statisticsUpdater.updateOffHeapStats(this);
-                });
+                },
+                compactionCoordinator.getCompactionThrottle());
     }
 
     /**
@@ -1223,7 +1452,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 () -> {
                     statisticsUpdater.updateStoreFileStats(this);
                     statisticsUpdater.updateOffHeapStats(this);
-                });
+                },
+                compactionCoordinator.getCompactionThrottle());
     }
 
     /**
@@ -1241,18 +1471,23 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 () -> {
                     statisticsUpdater.updateStoreFileStats(this);
                     statisticsUpdater.updateOffHeapStats(this);
-                });
+                },
+                compactionCoordinator.getCompactionThrottle());
     }
 
     /**
      * Invalidates the given key in virtual leaf record cache, if the cache is enabled.
      * <p>
-     * If the key is deleted, it's still updated in the cache. It means no record with the given
-     * key exists in the data source, so further lookups for the key are skipped.
+     * The cached record for the key, if any, is removed, no matter if the key is updated or
+     * deleted. The next lookup for the key misses the cache, reads the record from disk and
+     * caches it again. Other cached records aren't affected.
      * <p>
-     * Cache index is calculated as the key's hash code % cache size. The cache is only updated,
-     * if the current record at this index has the given key. If the key is different, no update is
-     * performed.
+     * With the default TinyLFU cache, the key is only looked up in its set of slots, and only
+     * the slot that has the given key is cleared. Removing a record doesn't change the key's
+     * access frequency, so a hot key is readmitted to the cache on the next lookup, possibly
+     * evicting the least frequently accessed key in its set. Apart from invalidation, records are
+     * only evicted on puts, when the new key is accessed more frequently than the eviction
+     * candidate in its set.
      *
      * @param keyBytes virtual key
      */
@@ -1260,11 +1495,13 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (leafRecordCache == null) {
             return;
         }
-        final int keyHashCode = keyBytes.hashCode();
-        final int cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-        final VirtualLeafBytes<?> cached = leafRecordCache[cacheIndex];
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
-            leafRecordCache[cacheIndex] = null;
+        leafRecordCache.invalidate(keyBytes);
+    }
+
+    private void cacheLeafRecord(final VirtualLeafBytes<?> leafBytes) {
+        assert leafRecordCache != null;
+        if (leafRecordCache.put(leafBytes)) {
+            statisticsUpdater.countLeafCacheEvictions();
         }
     }
 
@@ -159,6 +159,22 @@ public class MerkleDbDataSourceBuilder implements VirtualDataSourceBuilder {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public VirtualDataSource importSnapshot(@NonNull final String label, @NonNull final Path source) {
+        try {
+            // Import to this builder's database dir or to the default MerkleDb instance, where
+            // data sources are created by build()
+            final MerkleDb database = MerkleDb.getInstance(databaseDir, configuration);
+            return database.importDataSource(source, label);
+        } catch (final IOException z) {
+            throw new UncheckedIOException(z);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,6 +16,7 @@ public class MerkleDbPaths {
     public final Path hashStoreDiskDirectory;
     public final Path keyToPathDirectory;
     public final Path pathToKeyValueDirectory;
+    public final Path checksumManifestFile;
 
     /**
      * Create a set of all the sub-paths for stored data in a MerkleDb data source.
@@ -32,5 +33,6 @@ public class MerkleDbPaths {
         hashStoreDiskDirectory = storageDir.resolve("internalHashStoreDisk");
         keyToPathDirectory = storageDir.resolve("objectKeyToPath");
         pathToKeyValueDirectory = storageDir.resolve("pathToHashKeyValue");
+        checksumManifestFile = storageDir.resolve("snapshot_checksums.txt");
     }
 }
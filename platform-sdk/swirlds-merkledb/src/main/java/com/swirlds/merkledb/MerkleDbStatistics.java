@@ -26,6 +26,8 @@ public class MerkleDbStatistics {
     private static final String READS_PREFIX = "reads_";
     /** Prefix for all metrics related to data flushing */
     private static final String FLUSHES_PREFIX = "flushes_";
+    /** Prefix for all leaf records cache related metrics */
+    private static final String CACHE_PREFIX = "cache_";
     /** Prefix for compaction related metrics */
     private static final String COMPACTIONS_PREFIX = "compactions_";
 
@@ -44,6 +46,13 @@ public class MerkleDbStatistics {
     /** Leaf keys - reads / s */
     private LongAccumulator leafKeyReads;
 
+    /** Leaf records cache - hits / s */
+    private LongAccumulator leafCacheHits;
+    /** Leaf records cache - misses / s */
+    private LongAccumulator leafCacheMisses;
+    /** Leaf records cache - evictions / s */
+    private LongAccumulator leafCacheEvictions;
+
     /** Hashes store - file count */
     private IntegerGauge hashesStoreFileCount;
     /** Hashes store - total file size in Mb */
@@ -161,6 +170,18 @@ public class MerkleDbStatistics {
         leafKeyReads = buildLongAccumulator(
                 metrics, DS_PREFIX + READS_PREFIX + "leafKeys_" + label, "Number of leaf key reads, " + label);
 
+        // Leaf records cache
+        leafCacheHits = buildLongAccumulator(
+                metrics, DS_PREFIX + CACHE_PREFIX + "leafHits_" + label, "Number of leaf records cache hits, " + label);
+        leafCacheMisses = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafMisses_" + label,
+                "Number of leaf records cache misses, " + label);
+        leafCacheEvictions = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafEvictions_" + label,
+                "Number of leaf records cache evictions, " + label);
+
         // File counts and sizes
         hashesStoreFileCount = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + FILES_PREFIX + "hashesStoreFileCount_" + label)
@@ -309,6 +330,33 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Increment {@link #leafCacheHits} stat by 1
+     */
+    public void countLeafCacheHits() {
+        if (leafCacheHits != null) {
+            leafCacheHits.update(1);
+        }
+    }
+
+    /**
+     * Increment {@link #leafCacheMisses} stat by 1
+     */
+    public void countLeafCacheMisses() {
+        if (leafCacheMisses != null) {
+            leafCacheMisses.update(1);
+        }
+    }
+
+    /**
+     * Increment {@link #leafCacheEvictions} stat by 1
+     */
+    public void countLeafCacheEvictions() {
+        if (leafCacheEvictions != null) {
+            leafCacheEvictions.update(1);
+        }
+    }
+
     /**
      * Set the current value for the {@link #hashesStoreFileCount} stat
      *
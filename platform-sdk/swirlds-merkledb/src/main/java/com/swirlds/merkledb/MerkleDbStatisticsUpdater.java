@@ -147,6 +147,21 @@ public class MerkleDbStatisticsUpdater {
         statistics.countLeafKeyReads();
     }
 
+    /** Updates statistics with number of leaf records cache hits. */
+    void countLeafCacheHits() {
+        statistics.countLeafCacheHits();
+    }
+
+    /** Updates statistics with number of leaf records cache misses. */
+    void countLeafCacheMisses() {
+        statistics.countLeafCacheMisses();
+    }
+
+    /** Updates statistics with number of leaf records cache evictions. */
+    void countLeafCacheEvictions() {
+        statistics.countLeafCacheEvictions();
+    }
+
     /** Updates statistics with number of hash reads. */
     void countHashReads() {
         statistics.countHashReads();
@@ -65,6 +65,9 @@ public final class MerkleDbTableConfig implements SelfSerializable {
     private static final FieldDefinition FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD =
             new FieldDefinition("hashesRamToDiskThreshold", FieldType.UINT64, false, true, false, 9);
 
+    private static final FieldDefinition FIELD_TABLECONFIG_LEAFRECORDCACHESIZE =
+            new FieldDefinition("leafRecordCacheSize", FieldType.INT32, false, true, false, 10);
+
     /**
      * Hash version.
      */
@@ -116,6 +119,12 @@ public final class MerkleDbTableConfig implements SelfSerializable {
      */
     private long hashesRamToDiskThreshold;
 
+    /**
+     * Leaf records cache size for this table, in entries. Value {@code 0} means the default cache size
+     * from MerkleDb config is used. A negative value disables the cache for this table.
+     */
+    private int leafRecordCacheSize;
+
     /**
      * Creates a new virtual table config with default values. This constructor should only be used
      * for deserialization.
@@ -141,6 +150,30 @@ public final class MerkleDbTableConfig implements SelfSerializable {
             final DigestType hashType,
             final long initialCapacity,
             final long hashesRamToDiskThreshold) {
+        this(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold, 0);
+    }
+
+    /**
+     * Creates a new virtual table config with the specified params.
+     *
+     * @param hashVersion
+     *      Hash version
+     * @param hashType
+     *      Hash type
+     * @param initialCapacity
+     *      Initial database capacity. May be used to calculate index sizes
+     * @param hashesRamToDiskThreshold
+     *      Threshold where we switch from storing internal hashes in ram to storing them on disk.
+     * @param leafRecordCacheSize
+     *      Leaf records cache size, in entries. Zero to use the default size from MerkleDb config,
+     *      a negative value to disable the cache
+     */
+    public MerkleDbTableConfig(
+            final short hashVersion,
+            final DigestType hashType,
+            final long initialCapacity,
+            final long hashesRamToDiskThreshold,
+            final int leafRecordCacheSize) {
         // Mandatory fields
         this.hashVersion = hashVersion;
         this.hashType = hashType;
@@ -155,6 +188,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
             throw new IllegalArgumentException("Hashes RAM/disk threshold must be greater or equal to 0");
         }
         this.hashesRamToDiskThreshold = hashesRamToDiskThreshold;
+        this.leafRecordCacheSize = leafRecordCacheSize;
     }
 
     public MerkleDbTableConfig(final ReadableSequentialData in) {
@@ -167,6 +201,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         hashType = DigestType.SHA_384;
         initialCapacity = 0;
         hashesRamToDiskThreshold = 0;
+        leafRecordCacheSize = 0;
 
         while (in.hasRemaining()) {
             final int tag = in.readVarInt(false);
@@ -195,6 +230,8 @@ public final class MerkleDbTableConfig implements SelfSerializable {
                 initialCapacity = in.readVarLong(false);
             } else if (fieldNum == FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD.number()) {
                 hashesRamToDiskThreshold = in.readVarLong(false);
+            } else if (fieldNum == FIELD_TABLECONFIG_LEAFRECORDCACHESIZE.number()) {
+                leafRecordCacheSize = in.readVarInt(false);
             } else {
                 throw new IllegalArgumentException("Unknown table config field: " + fieldNum);
             }
@@ -225,6 +262,11 @@ public final class MerkleDbTableConfig implements SelfSerializable {
                     FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
             size += ProtoWriterTools.sizeOfVarInt64(hashesRamToDiskThreshold);
         }
+        if (leafRecordCacheSize != 0) {
+            size += ProtoWriterTools.sizeOfTag(
+                    FIELD_TABLECONFIG_LEAFRECORDCACHESIZE, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
+            size += ProtoWriterTools.sizeOfVarInt32(leafRecordCacheSize);
+        }
         return size;
     }
 
@@ -242,6 +284,10 @@ public final class MerkleDbTableConfig implements SelfSerializable {
             ProtoWriterTools.writeTag(out, FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD);
             out.writeVarLong(hashesRamToDiskThreshold, false);
         }
+        if (leafRecordCacheSize != 0) {
+            ProtoWriterTools.writeTag(out, FIELD_TABLECONFIG_LEAFRECORDCACHESIZE);
+            out.writeVarInt(leafRecordCacheSize, false);
+        }
     }
 
     /**
@@ -307,6 +353,17 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         return hashesRamToDiskThreshold;
     }
 
+    /**
+     * Leaf records cache size for this table, in entries. Value {@code 0} means the default size
+     * from MerkleDb config is used. A negative value indicates the cache is disabled for this table.
+     *
+     * @return
+     *      Leaf records cache size
+     */
+    public int getLeafRecordCacheSize() {
+        return leafRecordCacheSize;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -361,7 +418,8 @@ public final class MerkleDbTableConfig implements SelfSerializable {
      * @return Table config copy
      */
     public MerkleDbTableConfig copy() {
-        return new MerkleDbTableConfig(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold);
+        return new MerkleDbTableConfig(
+                hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold, leafRecordCacheSize);
     }
 
     /**
@@ -369,7 +427,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold);
+        return Objects.hash(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold, leafRecordCacheSize);
     }
 
     /**
@@ -382,6 +440,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         }
         return (initialCapacity == other.initialCapacity)
                 && (hashesRamToDiskThreshold == other.hashesRamToDiskThreshold)
+                && (leafRecordCacheSize == other.leafRecordCacheSize)
                 && (hashVersion == other.hashVersion)
                 && Objects.equals(hashType, other.hashType);
     }
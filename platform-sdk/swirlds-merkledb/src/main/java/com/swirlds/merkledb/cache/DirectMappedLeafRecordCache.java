@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Virtual leaf records cache. It's a simple array indexed by leaf keys % cache size. Cache
+ * eviction is not needed, as array size is fixed and can be configured in MerkleDb settings.
+ * Index conflicts are resolved in a very straightforward way: whatever entry is put last, it's
+ * put to the cache.
+ */
+final class DirectMappedLeafRecordCache implements LeafRecordCache {
+
+    private final VirtualLeafBytes<?>[] entries;
+
+    DirectMappedLeafRecordCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        entries = new VirtualLeafBytes<?>[capacity];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int capacity() {
+        return entries.length;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public VirtualLeafBytes<?> get(@NonNull final Bytes keyBytes) {
+        // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
+        // are atomic, so we will never get corrupted objects from the array. The object may
+        // be overwritten in the cache in a different thread in parallel, but it isn't a
+        // problem as cached entry key is checked below anyway
+        final VirtualLeafBytes<?> cached = entries[indexOf(keyBytes)];
+        return (cached != null) && keyBytes.equals(cached.keyBytes()) ? cached : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean put(@NonNull final VirtualLeafBytes<?> leafBytes) {
+        final int index = indexOf(leafBytes.keyBytes());
+        final VirtualLeafBytes<?> old = entries[index];
+        // No synchronization is needed here, see the comment above
+        entries[index] = leafBytes;
+        return (old != null) && !old.keyBytes().equals(leafBytes.keyBytes());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate(@NonNull final Bytes keyBytes) {
+        final int index = indexOf(keyBytes);
+        final VirtualLeafBytes<?> cached = entries[index];
+        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+            entries[index] = null;
+        }
+    }
+
+    private int indexOf(final Bytes keyBytes) {
+        return Math.abs(keyBytes.hashCode() % entries.length);
+    }
+}
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A probabilistic estimate of how often keys are accessed, based on a count-min sketch with
+ * 4-bit counters. Each key is mapped to four counters, a key frequency is the min value of
+ * the counters. Counters are packed into longs, 16 counters per long.
+ *
+ * <p>To keep the estimates fresh, all counters are halved when the number of increments reaches
+ * a sample size, which is proportional to the cache capacity. This way keys that were popular
+ * long time ago, but aren't accessed anymore, eventually lose their frequency.
+ *
+ * <p>This class is thread safe, but not precise. Counters are updated without synchronization,
+ * so some increments may be lost when keys are accessed from multiple threads in parallel. It
+ * is fine, since the estimates are only used as hints for cache admission.
+ */
+final class FrequencySketch {
+
+    /** Max value of a single 4-bit counter */
+    private static final int MAX_FREQUENCY = 15;
+
+    /** Mask to halve all 16 counters in a long at once */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Seeds to compute four independent counter indices for a key */
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    /** Number of increments after which all counters are halved */
+    private final int sampleSize;
+
+    /** Number of increments since the last reset */
+    private final AtomicInteger size = new AtomicInteger(0);
+
+    /**
+     * Creates a new frequency sketch.
+     *
+     * @param capacity the max number of entries in the cache this sketch is used for
+     */
+    FrequencySketch(final int capacity) {
+        final int tableSize = Integer.highestOneBit(Math.max(2, Math.min(capacity, 1 << 30)) - 1) << 1;
+        table = new long[tableSize];
+        tableMask = tableSize - 1;
+        sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times the key was accessed since the last reset, up
+     * to {@link #MAX_FREQUENCY}.
+     *
+     * @param keyHash key hash code
+     * @return key frequency estimate
+     */
+    int frequency(final int keyHash) {
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final long h = mix(keyHash, i);
+            final int count = (int) ((table[indexOf(h)] >>> counterOffset(h)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the frequency of the key, if it's not already at its max value.
+     *
+     * @param keyHash key hash code
+     */
+    void increment(final int keyHash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final long h = mix(keyHash, i);
+            final int index = indexOf(h);
+            final int offset = counterOffset(h);
+            final long mask = 0xfL << offset;
+            final long value = table[index];
+            if ((value & mask) != mask) {
+                table[index] = value + (1L << offset);
+                added = true;
+            }
+        }
+        if (added && (size.incrementAndGet() == sampleSize)) {
+            reset();
+        }
+    }
+
+    /**
+     * Halves all counters. Called when the number of increments reaches the sample size.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size.set(sampleSize / 2);
+    }
+
+    private static long mix(final int keyHash, final int i) {
+        long h = (keyHash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return h;
+    }
+
+    private int indexOf(final long h) {
+        return (int) h & tableMask;
+    }
+
+    private static int counterOffset(final long h) {
+        return (int) ((h >>> 40) & 0xfL) << 2;
+    }
+}
@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A size-bounded cache of virtual leaf records, keyed by leaf keys. Cached records may contain
+ * just a key and a path, but no value. Such records are used to cache results of key to path
+ * lookups, including negative results, when the path is {@code INVALID_PATH}.
+ *
+ * <p>Implementations must be safe to use from multiple threads. Caches are best-effort: an entry
+ * put to the cache may be rejected or evicted at any moment.
+ */
+public interface LeafRecordCache {
+
+    /**
+     * Returns the max number of entries this cache may hold.
+     *
+     * @return cache capacity
+     */
+    int capacity();
+
+    /**
+     * Looks up a leaf record by its key.
+     *
+     * @param keyBytes the leaf key
+     * @return the cached leaf record, or null if there is no record for the key in the cache
+     */
+    @Nullable
+    VirtualLeafBytes<?> get(@NonNull Bytes keyBytes);
+
+    /**
+     * Puts a leaf record to the cache. If there is a cached record with the same key, it's
+     * replaced. Otherwise, the cache may decide not to admit the record.
+     *
+     * @param leafBytes the leaf record to cache
+     * @return true if a record with a different key was evicted from the cache to make room for
+     *      the new record, false otherwise
+     */
+    boolean put(@NonNull VirtualLeafBytes<?> leafBytes);
+
+    /**
+     * Removes a leaf record with the given key from the cache, if present.
+     *
+     * @param keyBytes the leaf key
+     */
+    void invalidate(@NonNull Bytes keyBytes);
+}
@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+/**
+ * Represents a type of leaf record caches used by MerkleDb data sources.
+ */
+public enum LeafRecordCacheType {
+    /**
+     * A fixed size array indexed by key hash codes. Whatever entry is put last wins its slot.
+     */
+    DIRECT_MAPPED,
+    /**
+     * A set-associative cache with frequency based admission and eviction.
+     */
+    TINY_LFU;
+
+    /**
+     * Creates the right instance of the leaf record cache for the type represented by this enum.
+     *
+     * @param capacity the max number of entries in the cache, must be positive
+     * @return the leaf record cache
+     */
+    public LeafRecordCache createCache(final int capacity) {
+        return switch (this) {
+            case DIRECT_MAPPED -> new DirectMappedLeafRecordCache(capacity);
+            case TINY_LFU -> new TinyLfuLeafRecordCache(capacity);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A leaf record cache with frequency based admission, similar to TinyLFU. Key access frequencies
+ * are estimated using a {@link FrequencySketch}. Both cache hits and misses are counted.
+ *
+ * <p>The cache is set-associative. Every key is mapped to a set of {@link #WAYS} slots. When a
+ * new record is put to the cache and there are no free slots in its set, the slot with the least
+ * frequently accessed key is selected as an eviction candidate. The new record is only admitted,
+ * if its key is accessed more frequently than the candidate's key. This way hot keys are not
+ * evicted by other keys that map to the same set, and a single scan over many keys, each
+ * accessed only once, doesn't wipe out the cache.
+ *
+ * <p>This class is thread safe. All slot updates are done using CAS operations. If a CAS fails
+ * because of a concurrent update, the put is just ignored, as the cache is best-effort.
+ */
+final class TinyLfuLeafRecordCache implements LeafRecordCache {
+
+    /** Number of slots in a single set */
+    static final int WAYS = 8;
+
+    private final AtomicReferenceArray<VirtualLeafBytes<?>> slots;
+
+    private final int ways;
+
+    private final int numSets;
+
+    private final FrequencySketch sketch;
+
+    TinyLfuLeafRecordCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        ways = Math.min(WAYS, capacity);
+        numSets = capacity / ways;
+        slots = new AtomicReferenceArray<>(numSets * ways);
+        sketch = new FrequencySketch(capacity);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int capacity() {
+        return slots.length();
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public VirtualLeafBytes<?> get(@NonNull final Bytes keyBytes) {
+        final int hash = spread(keyBytes.hashCode());
+        sketch.increment(hash);
+        final int first = firstSlot(hash);
+        for (int i = first; i < first + ways; i++) {
+            final VirtualLeafBytes<?> cached = slots.get(i);
+            if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean put(@NonNull final VirtualLeafBytes<?> leafBytes) {
+        final Bytes keyBytes = leafBytes.keyBytes();
+        final int hash = spread(keyBytes.hashCode());
+        final int first = firstSlot(hash);
+        int freeSlot = -1;
+        int victimSlot = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        VirtualLeafBytes<?> victim = null;
+        for (int i = first; i < first + ways; i++) {
+            final VirtualLeafBytes<?> cached = slots.get(i);
+            if (cached == null) {
+                if (freeSlot == -1) {
+                    freeSlot = i;
+                }
+            } else if (keyBytes.equals(cached.keyBytes())) {
+                // Same key, replace the record in place
+                slots.compareAndSet(i, cached, leafBytes);
+                return false;
+            } else if (freeSlot == -1) {
+                final int frequency = sketch.frequency(spread(cached.keyBytes().hashCode()));
+                if (frequency < victimFrequency) {
+                    victimSlot = i;
+                    victimFrequency = frequency;
+                    victim = cached;
+                }
+            }
+        }
+        if (freeSlot != -1) {
+            slots.compareAndSet(freeSlot, null, leafBytes);
+            return false;
+        }
+        // Admission: only evict the victim, if the new key is accessed more often
+        if (sketch.frequency(hash) <= victimFrequency) {
+            return false;
+        }
+        return slots.compareAndSet(victimSlot, victim, leafBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate(@NonNull final Bytes keyBytes) {
+        final int first = firstSlot(spread(keyBytes.hashCode()));
+        for (int i = first; i < first + ways; i++) {
+            final VirtualLeafBytes<?> cached = slots.get(i);
+            if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+                slots.compareAndSet(i, cached, null);
+            }
+        }
+    }
+
+    private int firstSlot(final int hash) {
+        return Math.floorMod(hash, numSets) * ways;
+    }
+
+    /**
+     * Applies a supplemental hash function to key hash codes, to protect against poor quality
+     * hash functions.
+     */
+    private static int spread(final int hashCode) {
+        final int h = hashCode * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,10 +1,13 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.merkledb.collections;
 
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.merkledb.MerkleDb.MERKLEDB_COMPONENT;
 import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNullElse;
 
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -13,6 +16,16 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,6 +50,34 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
 
     private static final Logger logger = LogManager.getLogger(LongListOffHeap.class);
 
+    /** Number of threads to write chunks to files in parallel */
+    private static final int WRITE_THREADS = 4;
+
+    /**
+     * An executor service to write chunks to files, shared by all off-heap lists. Accessed using
+     * {@link #getWriteExecutor()}.
+     */
+    private static ExecutorService writeExecutor = null;
+
+    private static synchronized ExecutorService getWriteExecutor() {
+        if (writeExecutor == null) {
+            writeExecutor = new ThreadPoolExecutor(
+                    WRITE_THREADS,
+                    WRITE_THREADS,
+                    50L,
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadConfiguration(getStaticThreadManager())
+                            .setThreadGroup(new ThreadGroup("LongListWriting"))
+                            .setComponent(MERKLEDB_COMPONENT)
+                            .setThreadName("Writing long list")
+                            .setExceptionHandler((t, ex) ->
+                                    logger.error(EXCEPTION.getMarker(), "Uncaught exception writing long list", ex))
+                            .buildFactory());
+        }
+        return writeExecutor;
+    }
+
     /**
      * Create a new off-heap long list with the specified capacity. Number of longs per chunk and
      * reserved buffer size are read from the provided configuration.
@@ -149,6 +190,9 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
     /**
      * Write the long data to file, This it is expected to be in one simple block of raw longs.
      *
+     * <p>Every chunk is written to its own position in the file, so chunks are written in
+     * parallel on a small thread pool shared by all off-heap lists.
+     *
      * @param fc The file channel to write to
      * @throws IOException if there was a problem writing longs
      */
@@ -157,36 +201,112 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
         final int totalNumOfChunks = calculateNumberOfChunks(size());
         final long currentMinValidIndex = minValidIndex.get();
         final int firstChunkWithDataIndex = toIntExact(currentMinValidIndex / longsPerChunk);
+        final long dataStartPosition = fc.position();
         // write data
         final ByteBuffer emptyBuffer = createChunk();
         try {
-            for (int i = firstChunkWithDataIndex; i < totalNumOfChunks; i++) {
-                final ByteBuffer byteBuffer = chunkList.get(i);
-                final ByteBuffer nonNullBuffer = requireNonNullElse(byteBuffer, emptyBuffer);
-                // Slice so we don't mess with the byte buffer pointers.
-                // Also, the slice size has to be equal to the size of the buffer
-                final ByteBuffer buf = nonNullBuffer.slice(0, nonNullBuffer.limit());
-                if (i == firstChunkWithDataIndex) {
-                    // writing starts from the first valid index in the first valid chunk
-                    final int firstValidIndexInChunk = toIntExact(currentMinValidIndex % longsPerChunk);
-                    buf.position(firstValidIndexInChunk * Long.BYTES);
-                } else {
-                    buf.position(0);
-                }
-                if (i == (totalNumOfChunks - 1)) {
-                    // last array, so set limit to only the data needed
-                    final long bytesWrittenSoFar = (long) memoryChunkSize * i;
-                    final long remainingBytes = size() * Long.BYTES - bytesWrittenSoFar;
-                    buf.limit(toIntExact(remainingBytes));
-                } else {
-                    buf.limit(buf.capacity());
+            final AtomicInteger nextChunkIndex = new AtomicInteger(firstChunkWithDataIndex);
+            final AtomicBoolean failed = new AtomicBoolean(false);
+            final int writers = Math.max(0, Math.min(WRITE_THREADS, totalNumOfChunks - firstChunkWithDataIndex));
+            final List<Future<Void>> futures = new ArrayList<>(writers);
+            for (int w = 0; w < writers; w++) {
+                futures.add(getWriteExecutor().submit(() -> {
+                    while (!failed.get()) {
+                        final int i = nextChunkIndex.getAndIncrement();
+                        if (i >= totalNumOfChunks) {
+                            break;
+                        }
+                        try {
+                            writeChunk(
+                                    fc,
+                                    i,
+                                    firstChunkWithDataIndex,
+                                    totalNumOfChunks,
+                                    currentMinValidIndex,
+                                    dataStartPosition,
+                                    emptyBuffer);
+                        } catch (final IOException | RuntimeException e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            // All writers must be done before the empty buffer is released, even if some of them failed
+            IOException exception = null;
+            for (final Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    if (exception == null) {
+                        exception = e.getCause() instanceof IOException ioe
+                                ? ioe
+                                : new IOException("Failed to write long list chunk", e.getCause());
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.set(true);
+                    if (exception == null) {
+                        exception = new IOException("Interrupted while writing long list", e);
+                    }
                 }
-                MerkleDbFileUtils.completelyWrite(fc, buf);
+            }
+            if (exception != null) {
+                throw exception;
             }
         } finally {
             // releasing memory allocated
             MemoryUtils.closeDirectByteBuffer(emptyBuffer);
         }
+        fc.position(dataStartPosition + (size() - currentMinValidIndex) * Long.BYTES);
+    }
+
+    /**
+     * Write a single chunk to its position in the file.
+     *
+     * @param fc The file channel to write to
+     * @param i The chunk index
+     * @param firstChunkWithDataIndex The index of the first chunk to write
+     * @param totalNumOfChunks The total number of chunks
+     * @param currentMinValidIndex The min valid index of this list
+     * @param dataStartPosition The file position where the first valid long is written
+     * @param emptyBuffer A chunk with no data, written in place of chunks that are not allocated
+     * @throws IOException if there was a problem writing the chunk
+     */
+    private void writeChunk(
+            final FileChannel fc,
+            final int i,
+            final int firstChunkWithDataIndex,
+            final int totalNumOfChunks,
+            final long currentMinValidIndex,
+            final long dataStartPosition,
+            final ByteBuffer emptyBuffer)
+            throws IOException {
+        final ByteBuffer byteBuffer = chunkList.get(i);
+        final ByteBuffer nonNullBuffer = requireNonNullElse(byteBuffer, emptyBuffer);
+        // Slice so we don't mess with the byte buffer pointers.
+        // Also, the slice size has to be equal to the size of the buffer
+        final ByteBuffer buf = nonNullBuffer.slice(0, nonNullBuffer.limit());
+        final long filePosition;
+        if (i == firstChunkWithDataIndex) {
+            // writing starts from the first valid index in the first valid chunk
+            final int firstValidIndexInChunk = toIntExact(currentMinValidIndex % longsPerChunk);
+            buf.position(firstValidIndexInChunk * Long.BYTES);
+            filePosition = dataStartPosition;
+        } else {
+            buf.position(0);
+            filePosition = dataStartPosition + ((long) i * longsPerChunk - currentMinValidIndex) * Long.BYTES;
+        }
+        if (i == (totalNumOfChunks - 1)) {
+            // last array, so set limit to only the data needed
+            final long bytesWrittenSoFar = (long) memoryChunkSize * i;
+            final long remainingBytes = size() * Long.BYTES - bytesWrittenSoFar;
+            buf.limit(toIntExact(remainingBytes));
+        } else {
+            buf.limit(buf.capacity());
+        }
+        MerkleDbFileUtils.completelyWrite(fc, buf, filePosition);
     }
 
     /**
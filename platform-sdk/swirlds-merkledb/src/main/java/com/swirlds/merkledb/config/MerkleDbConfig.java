@@ -8,9 +8,11 @@ import com.swirlds.config.api.ConfigProperty;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.validation.ConfigViolation;
 import com.swirlds.config.api.validation.annotation.ConstraintMethod;
+import com.swirlds.config.api.validation.annotation.Max;
 import com.swirlds.config.api.validation.annotation.Min;
 import com.swirlds.config.api.validation.annotation.Positive;
 import com.swirlds.config.extensions.validators.DefaultConfigViolation;
+import com.swirlds.merkledb.cache.LeafRecordCacheType;
 
 /**
  * Instance-wide config for {@code MerkleDbDataSource}.
@@ -35,6 +37,23 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  * @param minNumberOfFilesInCompaction
  * 	    The minimum number of files before we do a compaction. If there are less than this number then it is
  * 	    acceptable to not do a compaction.
+ * @param compactionDeadItemsPercentThreshold
+ *      Percentage, from 0 to 100, of garbage (no longer referenced) data items in a data file to include the file
+ *      into the next compaction, regardless of its compaction level. Files with more garbage are picked first. The
+ *      number of garbage items is only known for files written since the data source was loaded. If the value is
+ *      zero, files are only compacted based on their compaction levels.
+ * @param maxDeadItemFilesInCompaction
+ *      Max number of files selected for a compaction because of the garbage they contain, see
+ *      {@link #compactionDeadItemsPercentThreshold}.
+ * @param compactionMaxBytesPerSecond
+ *      I/O budget for all compactions in the process, in bytes per second of data items copied. If the value is
+ *      zero, compactions are not rate limited.
+ * @param compactionPausedDuringFlushes
+ *      Indicates whether compactions should be paused while any MerkleDb data source is flushing data to disk.
+ * @param compactionMaxFlushPauseMillis
+ *      Max total time a compaction run may be paused waiting for flushes to complete, in milliseconds. Once a
+ *      compaction has been paused for this long, it's no longer paused until it's finished. Limits compaction
+ *      starvation when flushes follow each other with no gaps.
  * @param iteratorInputBufferBytes
  *      Size of buffer used by data file iterators, in bytes.
  * @param reconnectKeyLeakMitigationEnabled
@@ -60,13 +79,37 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  * @param numHalfDiskHashMapFlushThreads
  *      Number of threads to use for half disk hash map background flushing. If set to a negative value, the number of
  *      threads to use is calculated based on {@link #percentHalfDiskHashMapFlushThreads}
+ * @param halfDiskHashMapFilterBitsPerKey
+ *      Number of bits per key, on average, to use for in-memory bucket filters in HalfDiskHashMap. Bucket filters
+ *      allow most lookups of missing keys to be answered without reading buckets from disk. Every bucket filter
+ *      takes this number of bits times {@link #goodAverageBucketEntryCount}, rounded up to 64. If the value is zero,
+ *      bucket filters aren't used.
  * @param leafRecordCacheSize
  *      Cache size in bytes for reading virtual leaf records. Initialized in data source creation time from MerkleDb config.
- *      If the value is zero, leaf records cache isn't used.
+ *      If the value is zero, leaf records cache isn't used. May be overridden for individual tables in
+ *      {@code MerkleDbTableConfig}.
+ * @param leafRecordCacheType
+ *      Leaf records cache implementation: {@code DIRECT_MAPPED} for a simple array indexed by key hash codes, or
+ *      {@code TINY_LFU} for a set-associative cache with frequency based admission.
  * @param maxFileChannelsPerFileReader
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param memoryMappedReadsEnabled
+ *    Indicates whether completed (fully written, immutable) data files should be read using memory mapped segments
+ *    rather than file channels. Files that are still being written are always read using file channels.
+ * @param memoryMappedReadSegmentSize
+ *    Size of a single memory mapped segment, in bytes, used when memory mapped reads are enabled. Data items that
+ *    cross segment boundaries are read using file channels.
+ * @param snapshotChecksumsEnabled
+ *    Indicates whether a checksum manifest should be written for every data source snapshot. Checksums of immutable
+ *    data files are computed once and cached, so only new files are read when a manifest is written.
+ * @param snapshotChecksumsVerifiedOnLoad
+ *    Indicates whether data source files should be verified against the snapshot checksum manifest, if present, when
+ *    a data source is loaded.
+ * @param warmupThreads
+ *    Number of threads to read data items from disk in batched warmup (prefetch) requests, see
+ *    {@link com.swirlds.virtualmap.datasource.VirtualDataSource#warmAll}. The threads are shared by all data sources.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -80,6 +123,11 @@ public record MerkleDbConfig(
         @ConstraintMethod("minNumberOfFilesInCompactionValidation") @ConfigProperty(defaultValue = "8")
                 int minNumberOfFilesInCompaction,
         @Min(3) @ConfigProperty(defaultValue = "5") int maxCompactionLevel,
+        @Min(0) @Max(100) @ConfigProperty(defaultValue = "0") int compactionDeadItemsPercentThreshold,
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxDeadItemFilesInCompaction,
+        @Min(0) @ConfigProperty(defaultValue = "0") long compactionMaxBytesPerSecond,
+        @ConfigProperty(defaultValue = "false") boolean compactionPausedDuringFlushes,
+        @Min(0) @ConfigProperty(defaultValue = "1000") long compactionMaxFlushPauseMillis,
         /* FUTURE WORK - https://github.com/hashgraph/hedera-services/issues/5178 */
         @Positive @ConfigProperty(defaultValue = "16777216") int iteratorInputBufferBytes,
         @ConfigProperty(defaultValue = "false") boolean reconnectKeyLeakMitigationEnabled,
@@ -88,9 +136,16 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "") String tablesToRepairHdhm,
         @ConfigProperty(defaultValue = "75.0") double percentHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "-1") int numHalfDiskHashMapFlushThreads,
+        @Min(0) @Max(64) @ConfigProperty(defaultValue = "0") int halfDiskHashMapFilterBitsPerKey,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
+        @ConfigProperty(defaultValue = "TINY_LFU") LeafRecordCacheType leafRecordCacheType,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @ConfigProperty(defaultValue = "false") boolean memoryMappedReadsEnabled,
+        @Positive @ConfigProperty(defaultValue = "1073741824") int memoryMappedReadSegmentSize,
+        @ConfigProperty(defaultValue = "false") boolean snapshotChecksumsEnabled,
+        @ConfigProperty(defaultValue = "true") boolean snapshotChecksumsVerifiedOnLoad,
+        @Min(1) @ConfigProperty(defaultValue = "4") int warmupThreads) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
@@ -0,0 +1,199 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits disk I/O generated by data file compactions. Compaction threads call {@link
+ * #acquire(long, FlushPauseBudget, BooleanSupplier)} after every data item is copied to a new file.
+ * This call may block for two reasons:
+ *
+ * <ul>
+ *     <li>A data source flush is in progress. Flushes are on the critical path of handling
+ *     rounds, so compactions are paused until all flushes are complete, see {@link #flushStarted()}
+ *     and {@link #flushFinished()}. The total pause time of a compaction run is limited by its
+ *     {@link FlushPauseBudget}, once the budget is used up the compaction is no longer paused</li>
+ *     <li>Compactions have written more bytes than allowed by the I/O budget, see {@link
+ *     MerkleDbConfig#compactionMaxBytesPerSecond()}</li>
+ * </ul>
+ *
+ * <p>A single throttle instance is supposed to be shared between all compactions in the process,
+ * as they all compete for the same disk bandwidth.
+ *
+ * <p>This class is thread safe.
+ */
+public final class CompactionThrottle {
+
+    /** Compaction threads check if a flush is complete at least this often, in milliseconds */
+    private static final long FLUSH_WAIT_INTERVAL_MILLIS = 10;
+
+    /** Sleeps shorter than this are accumulated rather than performed immediately, in nanoseconds */
+    private static final long MIN_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** Max number of compaction bytes per second, or zero if not limited */
+    private final long maxBytesPerSecond;
+
+    /** Whether compactions should be paused while flushes are in progress */
+    private final boolean pauseDuringFlushes;
+
+    /** Max total time to pause a compaction run waiting for flushes to complete, in milliseconds */
+    private final long maxFlushPauseMillis;
+
+    /** Number of flushes currently in progress. Synchronized on this */
+    private int flushesInProgress = 0;
+
+    /**
+     * The earliest time, in {@link System#nanoTime()} terms, when the next compaction bytes can be
+     * written without exceeding the I/O budget. Synchronized on this
+     */
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * Creates a new compaction throttle.
+     *
+     * @param merkleDbConfig MerkleDb config
+     */
+    public CompactionThrottle(@NonNull final MerkleDbConfig merkleDbConfig) {
+        this(
+                merkleDbConfig.compactionMaxBytesPerSecond(),
+                merkleDbConfig.compactionPausedDuringFlushes(),
+                merkleDbConfig.compactionMaxFlushPauseMillis());
+    }
+
+    /**
+     * Creates a new compaction throttle.
+     *
+     * @param maxBytesPerSecond max number of compaction bytes per second, or zero if not limited
+     * @param pauseDuringFlushes whether to pause compactions while flushes are in progress
+     * @param maxFlushPauseMillis max total time to pause a compaction run because of flushes, in milliseconds
+     */
+    public CompactionThrottle(
+            final long maxBytesPerSecond, final boolean pauseDuringFlushes, final long maxFlushPauseMillis) {
+        if (maxBytesPerSecond < 0) {
+            throw new IllegalArgumentException("Max bytes per second must not be negative: " + maxBytesPerSecond);
+        }
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.pauseDuringFlushes = pauseDuringFlushes;
+        this.maxFlushPauseMillis = maxFlushPauseMillis;
+    }
+
+    /**
+     * Notifies this throttle that a data source flush is started. Must be balanced with a call
+     * to {@link #flushFinished()}.
+     */
+    public synchronized void flushStarted() {
+        flushesInProgress++;
+    }
+
+    /**
+     * Notifies this throttle that a data source flush is finished. Compactions paused because
+     * of flushes are resumed, if there are no other flushes in progress.
+     */
+    public synchronized void flushFinished() {
+        assert flushesInProgress > 0;
+        flushesInProgress--;
+        if (flushesInProgress == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Checks if any flushes are currently in progress.
+     *
+     * @return true if at least one flush is in progress, false otherwise
+     */
+    public synchronized boolean isFlushInProgress() {
+        return flushesInProgress > 0;
+    }
+
+    /**
+     * Creates a new flush pause budget for a compaction run. The budget is {@link
+     * MerkleDbConfig#compactionMaxFlushPauseMillis()}, it's shared by all data items copied in the
+     * run.
+     *
+     * @return the flush pause budget
+     */
+    @NonNull
+    public FlushPauseBudget newFlushPauseBudget() {
+        return new FlushPauseBudget(maxFlushPauseMillis);
+    }
+
+    /**
+     * Called by compaction threads after the given number of bytes is copied. Blocks, if
+     * compaction should be paused because of flushes, or if the I/O budget is exceeded.
+     *
+     * <p>This method must not be called while holding any locks that may block snapshots or
+     * flushes.
+     *
+     * @param bytes number of bytes copied
+     * @param flushPauseBudget the flush pause budget of the current compaction run. Time spent
+     *                         waiting for flushes is deducted from it
+     * @param whileCondition the method returns immediately, if this condition becomes false,
+     *                       e.g. when the compaction is interrupted
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void acquire(
+            final long bytes,
+            @NonNull final FlushPauseBudget flushPauseBudget,
+            @NonNull final BooleanSupplier whileCondition)
+            throws InterruptedException {
+        final long sleepNanos;
+        synchronized (this) {
+            if (pauseDuringFlushes && (flushesInProgress > 0) && (flushPauseBudget.remainingMillis > 0)) {
+                final long start = System.currentTimeMillis();
+                final long deadline = start + flushPauseBudget.remainingMillis;
+                long now = start;
+                try {
+                    while ((flushesInProgress > 0) && (now < deadline) && whileCondition.getAsBoolean()) {
+                        wait(Math.min(FLUSH_WAIT_INTERVAL_MILLIS, deadline - now));
+                        now = System.currentTimeMillis();
+                    }
+                } finally {
+                    flushPauseBudget.remainingMillis -= System.currentTimeMillis() - start;
+                }
+            }
+            if (maxBytesPerSecond == 0) {
+                return;
+            }
+            // Reserve a time slot for the bytes. If compactions are idle for a while, the budget
+            // isn't accumulated, so there are no bursts after idle periods
+            final long now = System.nanoTime();
+            nextFreeNanos = Math.max(nextFreeNanos, now) + bytes * TimeUnit.SECONDS.toNanos(1) / maxBytesPerSecond;
+            sleepNanos = nextFreeNanos - now - MIN_SLEEP_NANOS;
+        }
+        if ((sleepNanos > 0) && whileCondition.getAsBoolean()) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        }
+    }
+
+    /**
+     * Time a single compaction run may still be paused waiting for flushes to complete. Every
+     * compaction run gets its own budget, see {@link #newFlushPauseBudget()}, so a run is never
+     * paused for longer than {@link MerkleDbConfig#compactionMaxFlushPauseMillis()} in total,
+     * regardless of how many data items it copies.
+     *
+     * <p>This class is not thread safe. A budget must only be used by the compaction thread that
+     * created it.
+     */
+    public static final class FlushPauseBudget {
+
+        /** Remaining pause time, in milliseconds. Zero or negative once the budget is used up */
+        private long remainingMillis;
+
+        private FlushPauseBudget(final long remainingMillis) {
+            this.remainingMillis = remainingMillis;
+        }
+
+        /**
+         * Checks if this budget is used up.
+         *
+         * @return true if compactions using this budget are no longer paused because of flushes
+         */
+        public boolean isUsedUp() {
+            return remainingMillis <= 0;
+        }
+    }
+}
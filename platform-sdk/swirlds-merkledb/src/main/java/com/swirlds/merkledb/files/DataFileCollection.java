@@ -28,24 +28,32 @@ import com.swirlds.merkledb.collections.ImmutableIndexedObjectListUsingArray;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -89,6 +97,9 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     /** The number of times to retry index based reads */
     private static final int NUM_OF_READ_RETRIES = 5;
 
+    /** Max number of data items read by a single task in batched reads */
+    private static final int MAX_ITEMS_IN_READ_BATCH = 64;
+
     /** File collection metadata fields */
     private static final FieldDefinition FIELD_FILECOLLECTION_MINVALIDKEY =
             new FieldDefinition("minValidKey", FieldType.UINT64, false, true, false, 1);
@@ -402,6 +413,7 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
             final DataFileMetadata metadata = dataReader.getMetadata();
             setOfNewFileIndexes.remove(metadata.getIndex());
         }
+        dataReader.setItemsCount(dataWriter.getItemsCount());
         dataReader.setFileCompleted();
         return dataReader;
     }
@@ -560,6 +572,95 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         throw new IOException("Read failed after 5 retries");
     }
 
+    /**
+     * Read multiple data items using a LongList that maps key-&gt;dataLocation. Unlike reading
+     * items one by one, this method sorts the keys by data file and offset, so every file is
+     * read in a single forward pass rather than randomly, and the OS can coalesce adjacent reads.
+     * Consecutive items in the same file are read in batches, batches are read in parallel
+     * using the provided executor. If the executor is null, all batches are read on the
+     * calling thread, one by one.
+     *
+     * <p>Every item is read using {@link #readDataItemUsingIndex(LongList, long)}, so the
+     * retry semantics are the same. The handler may be called concurrently from multiple
+     * threads, but never for the same key index.
+     *
+     * @param index key-&gt;dataLocation index
+     * @param keysIntoIndex The keys to lookup in index
+     * @param executor The executor to read batches of data items, may be null
+     * @param handler The handler to call for every key found in the index
+     * @throws IOException If there was a problem reading data items
+     */
+    public void readDataItemsUsingIndex(
+            @NonNull final LongList index,
+            @NonNull final long[] keysIntoIndex,
+            @Nullable final ExecutorService executor,
+            @NonNull final DataItemHandler handler)
+            throws IOException {
+        final int count = keysIntoIndex.length;
+        final long[] dataLocations = new long[count];
+        for (int i = 0; i < count; i++) {
+            dataLocations[i] = index.get(keysIntoIndex[i], LongList.IMPERMISSIBLE_VALUE);
+        }
+        // Data location has file index in upper bits and byte offset in lower bits, so sorting
+        // by location sorts by file index first, then by offset
+        final int[] order = IntStream.range(0, count)
+                .filter(i -> dataLocations[i] != LongList.IMPERMISSIBLE_VALUE)
+                .boxed()
+                .sorted(Comparator.comparingLong(i -> dataLocations[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        final List<Callable<Void>> batches = new ArrayList<>();
+        int batchStart = 0;
+        for (int i = 1; i <= order.length; i++) {
+            if ((i == order.length)
+                    || (i - batchStart == MAX_ITEMS_IN_READ_BATCH)
+                    || (fileIndexFromDataLocation(dataLocations[order[i]])
+                            != fileIndexFromDataLocation(dataLocations[order[batchStart]]))) {
+                final int from = batchStart;
+                final int to = i;
+                batches.add(() -> {
+                    for (int j = from; j < to; j++) {
+                        final int keyIndex = order[j];
+                        final BufferedData data = readDataItemUsingIndex(index, keysIntoIndex[keyIndex]);
+                        if (data != null) {
+                            handler.handle(keyIndex, data);
+                        }
+                    }
+                    return null;
+                });
+                batchStart = i;
+            }
+        }
+        if (batches.isEmpty()) {
+            return;
+        }
+        if (executor == null) {
+            try {
+                for (final Callable<Void> batch : batches) {
+                    batch.call();
+                }
+            } catch (final IOException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IOException("Failed to read data items", e);
+            }
+            return;
+        }
+        try {
+            for (final Future<Void> future : executor.invokeAll(batches)) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading data items", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to read data items", e.getCause());
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void snapshot(final Path snapshotDirectory) throws IOException {
@@ -597,6 +698,16 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         void newIndexEntry(long dataLocation, @NonNull BufferedData dataValue);
     }
 
+    /**
+     * Callback for data items read using {@link #readDataItemsUsingIndex(LongList, long[],
+     * ExecutorService, DataItemHandler)}.
+     */
+    @FunctionalInterface
+    public interface DataItemHandler {
+        /** Handle a data item read for the key at the given position in the keys array */
+        void handle(int keyIndex, @NonNull BufferedData dataItem) throws IOException;
+    }
+
     // =================================================================================================================
     // Private API
 
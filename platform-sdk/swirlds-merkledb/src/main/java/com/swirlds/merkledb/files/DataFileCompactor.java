@@ -19,8 +19,12 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -84,6 +88,12 @@ public class DataFileCompactor {
     @Nullable
     private final Runnable updateTotalStatsFunction;
 
+    /**
+     * Optional throttle to limit compaction I/O and to pause compaction during flushes.
+     */
+    @Nullable
+    private final CompactionThrottle compactionThrottle;
+
     /**
      * A lock used for synchronization between snapshots and compactions. While a compaction is in
      * progress, it runs on its own without any synchronization. However, a few critical sections
@@ -158,6 +168,39 @@ public class DataFileCompactor {
             @Nullable final BiConsumer<Integer, Double> reportSavedSpaceMetricFunction,
             @Nullable final BiConsumer<Integer, Double> reportFileSizeByLevelMetricFunction,
             @Nullable Runnable updateTotalStatsFunction) {
+        this(
+                dbConfig,
+                storeName,
+                dataFileCollection,
+                index,
+                reportDurationMetricFunction,
+                reportSavedSpaceMetricFunction,
+                reportFileSizeByLevelMetricFunction,
+                updateTotalStatsFunction,
+                null);
+    }
+
+    /**
+     * @param dbConfig                       MerkleDb config
+     * @param storeName                      name of the store to compact
+     * @param dataFileCollection             data file collection to compact
+     * @param index                          index to update during compaction
+     * @param reportDurationMetricFunction   function to report how long compaction took, in ms
+     * @param reportSavedSpaceMetricFunction function to report how much space was compacted, in Mb
+     * @param reportFileSizeByLevelMetricFunction function to report how much space is used by the store by compaction level, in Mb
+     * @param updateTotalStatsFunction       A function that updates statistics of total usage of disk space and off-heap space
+     * @param compactionThrottle             throttle to limit compaction I/O, or null if compaction isn't throttled
+     */
+    public DataFileCompactor(
+            final MerkleDbConfig dbConfig,
+            final String storeName,
+            final DataFileCollection dataFileCollection,
+            CASableLongIndex index,
+            @Nullable final BiConsumer<Integer, Long> reportDurationMetricFunction,
+            @Nullable final BiConsumer<Integer, Double> reportSavedSpaceMetricFunction,
+            @Nullable final BiConsumer<Integer, Double> reportFileSizeByLevelMetricFunction,
+            @Nullable Runnable updateTotalStatsFunction,
+            @Nullable final CompactionThrottle compactionThrottle) {
         this.dbConfig = dbConfig;
         this.storeName = storeName;
         this.dataFileCollection = dataFileCollection;
@@ -166,6 +209,7 @@ public class DataFileCompactor {
         this.reportSavedSpaceMetricFunction = reportSavedSpaceMetricFunction;
         this.reportFileSizeByLevelMetricFunction = reportFileSizeByLevelMetricFunction;
         this.updateTotalStatsFunction = updateTotalStatsFunction;
+        this.compactionThrottle = compactionThrottle;
     }
 
     /**
@@ -190,7 +234,18 @@ public class DataFileCompactor {
             logger.debug(MERKLE_DB.getMarker(), "No files were available for merging [{}]", storeName);
             return Collections.emptyList();
         }
+        return copyLiveItems(index, filesToCompact, targetCompactionLevel);
+    }
 
+    /**
+     * Copies all data items from the given files, which are still referenced from the index,
+     * to new files, updates the index, and then deletes the given files.
+     */
+    private List<Path> copyLiveItems(
+            final CASableLongIndex index,
+            final List<? extends DataFileReader> filesToCompact,
+            final int targetCompactionLevel)
+            throws IOException, InterruptedException {
         interruptFlag = false;
 
         // create a merge time stamp, this timestamp is the newest time of the set of files we are
@@ -225,6 +280,9 @@ public class DataFileCompactor {
             readers[r.getIndex() - firstIndexInc] = r;
         }
 
+        // Compactions are paused because of flushes for a limited time per compaction run, not per data item
+        final CompactionThrottle.FlushPauseBudget flushPauseBudget =
+                compactionThrottle != null ? compactionThrottle.newFlushPauseBudget() : null;
         boolean allDataItemsProcessed = false;
         try {
             final KeyRange keyRange = dataFileCollection.getValidKeyRange();
@@ -242,6 +300,7 @@ public class DataFileCompactor {
                             return;
                         }
                         final long fileOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+                        final long itemSize;
                         // Take the lock. If a snapshot is started in a different thread, this call
                         // will block until the snapshot is done. The current file will be flushed,
                         // and current data file writer and reader will point to a new file
@@ -250,6 +309,7 @@ public class DataFileCompactor {
                             final DataFileWriter newFileWriter = currentWriter.get();
                             final BufferedData itemBytes = reader.readDataItem(fileOffset);
                             assert itemBytes != null;
+                            itemSize = itemBytes.remaining();
                             long newLocation = newFileWriter.storeDataItem(itemBytes);
                             // update the index
                             index.putIfEqual(path, dataLocation, newLocation);
@@ -265,6 +325,10 @@ public class DataFileCompactor {
                         } finally {
                             snapshotCompactionLock.unlock();
                         }
+                        // Throttle outside the lock, so snapshots are never blocked by throttling
+                        if (compactionThrottle != null) {
+                            compactionThrottle.acquire(itemSize, flushPauseBudget, this::notInterrupted);
+                        }
                     },
                     this::notInterrupted);
         } finally {
@@ -332,9 +396,11 @@ public class DataFileCompactor {
      * @throws IOException If an I/O error occurs
      */
     private void finishCurrentCompactionFile() throws IOException {
-        currentWriter.get().close();
+        final DataFileWriter writer = currentWriter.get();
+        writer.close();
         currentWriter.set(null);
         // Now include the file in future compactions
+        currentReader.get().setItemsCount(writer.getItemsCount());
         currentReader.get().setFileCompleted();
         logger.info(
                 MERKLE_DB.getMarker(),
@@ -440,8 +506,22 @@ public class DataFileCompactor {
     public boolean compact() throws IOException, InterruptedException {
         final List<DataFileReader> completedFiles = dataFileCollection.getAllCompletedFiles();
         reportFileSizeByLevel(completedFiles);
-        final List<DataFileReader> filesToCompact =
+        List<DataFileReader> filesToCompact =
                 compactionPlan(completedFiles, getMinNumberOfFilesToCompact(), dbConfig.maxCompactionLevel());
+        final int deadItemsPercentThreshold = dbConfig.compactionDeadItemsPercentThreshold();
+        if (deadItemsPercentThreshold > 0) {
+            final Map<Integer, Long> liveItems = countLiveItems(completedFiles);
+            if (liveItems == null) {
+                logger.info(MERKLE_DB.getMarker(), "[{}] Interrupted while counting live data items", storeName);
+                return false;
+            }
+            filesToCompact = addFilesWithGarbage(
+                    completedFiles,
+                    filesToCompact,
+                    liveItems,
+                    deadItemsPercentThreshold,
+                    dbConfig.maxDeadItemFilesInCompaction());
+        }
         if (filesToCompact.isEmpty()) {
             logger.debug(MERKLE_DB.getMarker(), "[{}] No need to compact, as the compaction plan is empty", storeName);
             return false;
@@ -462,7 +542,7 @@ public class DataFileCompactor {
                 filesCount,
                 formatSizeBytes(filesToCompactSize));
 
-        final List<Path> newFilesCreated = compactFiles(index, filesToCompact, targetCompactionLevel);
+        final List<Path> newFilesCreated = copyLiveItems(index, filesToCompact, targetCompactionLevel);
 
         final long end = System.currentTimeMillis();
         final long tookMillis = end - start;
@@ -563,6 +643,94 @@ public class DataFileCompactor {
         return readersToCompact;
     }
 
+    /**
+     * Counts the number of data items in each of the given files that are still referenced from
+     * the index. Every index entry is visited once.
+     *
+     * @return a map from file index to the number of live items in the file, or null if
+     *      compaction is interrupted before all index entries are visited
+     */
+    @Nullable
+    private Map<Integer, Long> countLiveItems(final List<DataFileReader> dataFileReaders)
+            throws InterruptedException {
+        if (dataFileReaders.isEmpty()) {
+            return Map.of();
+        }
+        int minFileIndex = Integer.MAX_VALUE;
+        int maxFileIndex = 0;
+        for (final DataFileReader r : dataFileReaders) {
+            minFileIndex = Math.min(minFileIndex, r.getIndex());
+            maxFileIndex = Math.max(maxFileIndex, r.getIndex());
+        }
+        final int firstIndexInc = minFileIndex;
+        final long[] counts = new long[maxFileIndex - minFileIndex + 1];
+        final KeyRange keyRange = dataFileCollection.getValidKeyRange();
+        final boolean allEntriesVisited = index.forEach(
+                (path, dataLocation) -> {
+                    if (!keyRange.withinRange(path)) {
+                        return;
+                    }
+                    final int fileIndex = DataFileCommon.fileIndexFromDataLocation(dataLocation);
+                    if ((fileIndex >= firstIndexInc) && (fileIndex < firstIndexInc + counts.length)) {
+                        counts[fileIndex - firstIndexInc]++;
+                    }
+                },
+                this::notInterrupted);
+        if (!allEntriesVisited) {
+            return null;
+        }
+        final Map<Integer, Long> liveItems = new HashMap<>();
+        for (final DataFileReader r : dataFileReaders) {
+            liveItems.put(r.getIndex(), counts[r.getIndex() - firstIndexInc]);
+        }
+        return liveItems;
+    }
+
+    /**
+     * Adds files with lots of garbage to the given compaction plan. A file is a candidate, if the
+     * percentage of its data items that are no longer referenced from the index is at least the
+     * given threshold. Candidates are scored by the percentage of garbage, and files with the
+     * highest scores are added first. Files with unknown number of data items are never added.
+     *
+     * @param dataFileReaders all completed files
+     * @param compactionPlan compaction plan built by {@link #compactionPlan(List, int, int)}
+     * @param liveItemsByFileIndex number of live items in each file, by file index
+     * @param deadItemsPercentThreshold min percentage of garbage items to add a file to the plan
+     * @param maxFilesToAdd max number of files to add
+     * @return the new compaction plan, sorted by compaction level
+     */
+    static List<DataFileReader> addFilesWithGarbage(
+            final List<DataFileReader> dataFileReaders,
+            final List<DataFileReader> compactionPlan,
+            final Map<Integer, Long> liveItemsByFileIndex,
+            final int deadItemsPercentThreshold,
+            final int maxFilesToAdd) {
+        final Set<DataFileReader> alreadyPlanned = new HashSet<>(compactionPlan);
+        final List<DataFileReader> candidates = new ArrayList<>();
+        final Map<DataFileReader, Double> deadRatios = new HashMap<>();
+        for (final DataFileReader reader : dataFileReaders) {
+            final long itemsCount = reader.getItemsCount();
+            if ((itemsCount <= 0) || alreadyPlanned.contains(reader)) {
+                continue;
+            }
+            final long liveItems = liveItemsByFileIndex.getOrDefault(reader.getIndex(), 0L);
+            final double deadRatio = (double) Math.max(0, itemsCount - liveItems) / itemsCount;
+            if (deadRatio * 100 >= deadItemsPercentThreshold) {
+                candidates.add(reader);
+                deadRatios.put(reader, deadRatio);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return compactionPlan;
+        }
+        candidates.sort(Comparator.comparingDouble((DataFileReader r) -> deadRatios.get(r)).reversed());
+        final List<DataFileReader> result = new ArrayList<>(compactionPlan);
+        result.addAll(candidates.subList(0, Math.min(maxFilesToAdd, candidates.size())));
+        // Target compaction level is calculated based on the last file in the plan
+        result.sort(Comparator.comparingInt(r -> r.getMetadata().getCompactionLevel()));
+        return result;
+    }
+
     private static Map<Integer, List<DataFileReader>> getReadersByLevel(final List<DataFileReader> dataFileReaders) {
         return dataFileReaders.stream()
                 .collect(Collectors.groupingBy(r -> r.getMetadata().getCompactionLevel()));
@@ -10,6 +10,7 @@ import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.merkledb.collections.IndexedObject;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
+import com.swirlds.merkledb.utilities.SnapshotManifest;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -17,6 +18,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -24,6 +26,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -60,6 +63,9 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
     private static final ThreadLocal<ByteBuffer> BUFFER_CACHE = new ThreadLocal<>();
     private static final ThreadLocal<BufferedData> BUFFEREDDATA_CACHE = new ThreadLocal<>();
 
+    /** Max size of a data item header: a varint tag and a varint size, up to 5 bytes each */
+    private static final int MAX_ITEM_HEADER_SIZE = 10;
+
     private final MerkleDbConfig dbConfig;
 
     /** Max number of file channels to use for reading */
@@ -104,6 +110,37 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     private final AtomicLong fileSizeBytes = new AtomicLong(0);
 
+    /**
+     * The number of data items in this file, including items that are no longer referenced from
+     * the index. Only known for files written by this process, it's set right before the file is
+     * marked as completed. For existing files loaded from disk, it's -1.
+     */
+    private final AtomicLong itemsCount = new AtomicLong(-1);
+
+    /**
+     * CRC32C checksum of this file, or -1 if not computed yet. Only computed for completed files,
+     * which are immutable, see {@link #getChecksum()}.
+     */
+    private final AtomicLong checksum = new AtomicLong(-1);
+
+    /** Indicates whether completed files should be read using memory mapped segments */
+    private final boolean memoryMappedReads;
+
+    /** Size of a single memory mapped segment, in bytes */
+    private final int mappedSegmentSize;
+
+    /**
+     * Memory mapped read-only segments of this file. Segments are mapped in {@link #setFileCompleted()},
+     * when the file is fully written and immutable, and only if memory mapped reads are enabled in
+     * MerkleDb config. Until then, or after the reader is closed, this reference is null, and data
+     * items are read using file channels.
+     *
+     * <p>Mapped segments are never unmapped explicitly, as slices of them may still be in use by
+     * other threads when this reader is closed. The mappings are released when the buffers are
+     * garbage collected.
+     */
+    private final AtomicReference<BufferedData[]> mappedSegments = new AtomicReference<>();
+
     /**
      * Open an existing data file, reading the metadata from the file
      *
@@ -126,6 +163,8 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         maxFileChannels = dbConfig.maxFileChannelsPerFileReader();
         threadsPerFileChannel = dbConfig.maxThreadsPerFileChannel();
         fileChannels = new AtomicReferenceArray<>(maxFileChannels);
+        memoryMappedReads = dbConfig.memoryMappedReadsEnabled();
+        mappedSegmentSize = dbConfig.memoryMappedReadSegmentSize();
         if (!Files.exists(path)) {
             throw new IllegalArgumentException(
                     "Tried to open a non existent data file [" + path.toAbsolutePath() + "].");
@@ -149,10 +188,16 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * is created for an existing file, it's usually marked as completed immediately. If the reader
      * is created for a new file, which is still being written in a different thread, it's marked as
      * completed right after the file is fully written and the writer is closed.
+     *
+     * <p>If memory mapped reads are enabled, the file is mapped into memory in this method.
      */
     void setFileCompleted() {
         try {
-            fileSizeBytes.set(fileChannels.get(0).size());
+            final FileChannel fileChannel = fileChannels.get(0);
+            fileSizeBytes.set(fileChannel.size());
+            if (memoryMappedReads) {
+                mapSegments(fileChannel);
+            }
         } catch (final IOException e) {
             throw new UncheckedIOException("Failed to update data file reader size", e);
         } finally {
@@ -160,6 +205,44 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         }
     }
 
+    /**
+     * Get the number of data items in this file, both live and garbage.
+     *
+     * @return number of data items, or -1 if unknown
+     */
+    public long getItemsCount() {
+        return itemsCount.get();
+    }
+
+    /**
+     * Sets the number of data items in this file. Called when the file is fully written.
+     *
+     * @param count number of data items in the file
+     */
+    void setItemsCount(final long count) {
+        itemsCount.set(count);
+    }
+
+    /**
+     * Get CRC32C checksum of this file. Checksums of completed files are computed once and then
+     * cached, since completed files are never changed.
+     *
+     * @return file checksum
+     * @throws IOException if an I/O error occurred while reading the file
+     */
+    public long getChecksum() throws IOException {
+        final long cached = checksum.get();
+        if (cached >= 0) {
+            return cached;
+        }
+        final boolean completed = isFileCompleted();
+        final long value = SnapshotManifest.checksum(path);
+        if (completed) {
+            checksum.set(value);
+        }
+        return value;
+    }
+
     /**
      * Get file index, the index is an ordered integer identifying the file in a set of files.
      *
@@ -202,6 +285,10 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
     /**
      * Read data item from file at dataLocation.
      *
+     * <p>If this file is memory mapped, the returned buffer is a slice of the mapped segment, which
+     * is not shared with other callers. Otherwise, it's a reused per thread buffer, which can be
+     * used till the current thread calls this method again.
+     *
      * @param dataLocation data item location, which combines data file index and offset in the file
      * @return deserialized data item
      * @throws IOException If there was a problem reading from data file
@@ -209,9 +296,25 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     public BufferedData readDataItem(final long dataLocation) throws IOException {
         final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+        final BufferedData[] segments = mappedSegments.get();
+        if (segments != null) {
+            final BufferedData mapped = readMapped(segments, byteOffset);
+            if (mapped != null) {
+                return mapped;
+            }
+        }
         return read(byteOffset);
     }
 
+    /**
+     * Checks if this file is read using memory mapped segments.
+     *
+     * @return true if the file is memory mapped, false otherwise
+     */
+    public boolean isMemoryMapped() {
+        return mappedSegments.get() != null;
+    }
+
     /**
      * Get the size of this file in bytes. This method should only be called for files available to
      * merging (compaction), i.e. after they are fully written.
@@ -283,6 +386,7 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         if (!open.compareAndSet(true, false)) {
             return;
         }
+        mappedSegments.set(null);
 
         for (int i = 0; i < maxFileChannels; i++) {
             final FileChannel fileChannel = fileChannels.getAndSet(i, null);
@@ -372,6 +476,76 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         fileChannelsInUse.decrementAndGet();
     }
 
+    /**
+     * Maps the whole file into memory as a number of read-only segments of {@link #mappedSegmentSize}
+     * bytes each. The last segment may be smaller. This method must only be called when the file is
+     * fully written.
+     *
+     * @param fileChannel File channel to map the file with
+     * @throws IOException
+     *      If an I/O error occurs
+     */
+    private void mapSegments(final FileChannel fileChannel) throws IOException {
+        final long size = fileSizeBytes.get();
+        final int segmentCount = Math.toIntExact((size + mappedSegmentSize - 1) / mappedSegmentSize);
+        final BufferedData[] segments = new BufferedData[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            final long segmentStart = (long) i * mappedSegmentSize;
+            final long segmentLength = Math.min(mappedSegmentSize, size - segmentStart);
+            segments[i] = BufferedData.wrap(fileChannel.map(MapMode.READ_ONLY, segmentStart, segmentLength));
+        }
+        // The reader may have been closed in parallel, don't publish the segments in this case
+        if (isOpen()) {
+            mappedSegments.set(segments);
+        }
+    }
+
+    /**
+     * Reads a data item from memory mapped segments. No data is copied, the returned buffer is a
+     * slice of a mapped segment.
+     *
+     * @param segments Memory mapped file segments
+     * @param byteOffsetInFile Offset of the data item in the file
+     * @return Data item bytes, or null if the data item crosses a segment boundary and must be
+     *      read using a file channel
+     * @throws IOException if the data item at the given offset is malformed
+     */
+    private BufferedData readMapped(final BufferedData[] segments, final long byteOffsetInFile) throws IOException {
+        final int segmentIndex = Math.toIntExact(byteOffsetInFile / mappedSegmentSize);
+        if (segmentIndex >= segments.length) {
+            throw new IOException("Data item offset is out of file bounds: file=" + getIndex() + " off="
+                    + byteOffsetInFile + " size=" + getSize());
+        }
+        final BufferedData segment = segments[segmentIndex];
+        final boolean lastSegment = segmentIndex == segments.length - 1;
+        final long segmentLength = segment.length();
+        final long offsetInSegment = byteOffsetInFile - (long) segmentIndex * mappedSegmentSize;
+        // Data item tag and size are varints, up to 5 bytes each. If they may cross segment boundary,
+        // fall back to file channels
+        if (!lastSegment && (offsetInSegment + MAX_ITEM_HEADER_SIZE > segmentLength)) {
+            return null;
+        }
+        final int tag = segment.getVarInt(offsetInSegment, false);
+        if (tag
+                != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
+                        | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+            throw new IOException(
+                    "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+        final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+        final int size = segment.getVarInt(offsetInSegment + sizeOfTag, false);
+        final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+        final long dataOffsetInSegment = offsetInSegment + sizeOfTag + sizeOfSize;
+        if (dataOffsetInSegment + size > segmentLength) {
+            if (lastSegment) {
+                throw new IOException("Failed to read all bytes: toread=" + size + " file=" + getIndex() + " off="
+                        + byteOffsetInFile + " size=" + getSize());
+            }
+            return null;
+        }
+        return segment.slice(dataOffsetInSegment, size);
+    }
+
     /**
      * Read bytesToRead bytes of data from the file starting at byteOffsetInFile unless we reach the
      * end of file. If we reach the end of file then returned buffer's limit will be set to the
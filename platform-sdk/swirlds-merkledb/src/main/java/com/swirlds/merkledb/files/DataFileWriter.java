@@ -69,6 +69,9 @@ public final class DataFileWriter implements AutoCloseable {
 
     private boolean closed = false;
 
+    /** Number of data items written to this file */
+    private long itemsCount = 0;
+
     /**
      * Create a new data file with moving mapped byte buffer of 256Mb size.
      */
@@ -207,10 +210,21 @@ public final class DataFileWriter implements AutoCloseable {
                     + (getCurrentFilePosition() - fileOffset));
         }
 
+        itemsCount++;
+
         // return the offset where we wrote the data
         return DataFileCommon.dataLocation(metadata.getIndex(), fileOffset);
     }
 
+    /**
+     * Get the number of data items written to this file so far.
+     *
+     * @return number of data items written
+     */
+    public synchronized long getItemsCount() {
+        return itemsCount;
+    }
+
     /**
      * Release all the resources like mapped buffer and file channel.
      */
@@ -9,13 +9,16 @@ import com.swirlds.merkledb.KeyRange;
 import com.swirlds.merkledb.Snapshotable;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCollection.DataItemHandler;
 import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LongSummaryStatistics;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -165,6 +168,28 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
         return fileCollection.readDataItemUsingIndex(index, key);
     }
 
+    /**
+     * Get multiple values by reading them from disk. Values are read in file and offset order,
+     * see {@link DataFileCollection#readDataItemsUsingIndex(LongList, long[], ExecutorService,
+     * DataItemHandler)} for details. Keys out of the valid range are ignored.
+     *
+     * @param keys The keys to find and read values for
+     * @param executor The executor to read values, or null to read values on the calling thread
+     * @param handler The handler to call for every value read
+     * @throws IOException If there was a problem reading the values from files
+     */
+    public void getAll(final long[] keys, @Nullable final ExecutorService executor, final DataItemHandler handler)
+            throws IOException {
+        final int[] positionsInRange =
+                IntStream.range(0, keys.length).filter(i -> checkKeyInRange(keys[i])).toArray();
+        final long[] keysInRange = new long[positionsInRange.length];
+        for (int i = 0; i < positionsInRange.length; i++) {
+            keysInRange[i] = keys[positionsInRange[i]];
+        }
+        fileCollection.readDataItemsUsingIndex(
+                index, keysInRange, executor, (i, data) -> handler.handle(positionsInRange[i], data));
+    }
+
     /**
      * Close all files being used
      *
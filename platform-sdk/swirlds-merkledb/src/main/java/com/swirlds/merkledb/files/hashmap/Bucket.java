@@ -393,6 +393,54 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
         bucketData.limit(dstIndex);
     }
 
+    /**
+     * Calls the given consumer for every entry in this bucket. Entry keys are passed to the
+     * consumer as offsets and lengths in the bucket data buffer. The consumer must not modify
+     * the buffer or retain a reference to it.
+     *
+     * @param consumer the consumer to call for every entry key
+     */
+    public void forEachKey(final KeyConsumer consumer) {
+        bucketData.resetPosition();
+        while (bucketData.hasRemaining()) {
+            final int tag = bucketData.readVarInt(false);
+            final int fieldNum = tag >> TAG_FIELD_OFFSET;
+            if (fieldNum == FIELD_BUCKET_INDEX.number()) {
+                bucketData.skip(Integer.BYTES);
+            } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
+                final int entrySize = bucketData.readVarInt(false);
+                final long nextEntryOffset = bucketData.position() + entrySize;
+                while (bucketData.position() < nextEntryOffset) {
+                    final int entryTag = bucketData.readVarInt(false);
+                    final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
+                    if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
+                        bucketData.skip(Integer.BYTES);
+                    } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
+                        bucketData.skip(Long.BYTES);
+                    } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
+                        final int keySize = bucketData.readVarInt(false);
+                        consumer.accept(bucketData, bucketData.position(), keySize);
+                        bucketData.skip(keySize);
+                    } else {
+                        throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
+                    }
+                }
+                bucketData.position(nextEntryOffset);
+            } else {
+                throw new IllegalArgumentException("Unknown bucket field: " + fieldNum);
+            }
+        }
+        bucketData.resetPosition();
+    }
+
+    /**
+     * A callback for {@link #forEachKey(KeyConsumer)}.
+     */
+    @FunctionalInterface
+    public interface KeyConsumer {
+        void accept(BufferedData data, long keyOffset, int keySize);
+    }
+
     /**
      * Copies len {@link #bucketData} bytes from src offset to dst offset.
      *
@@ -0,0 +1,247 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files.hashmap;
+
+import com.hedera.pbj.runtime.io.buffer.RandomAccessData;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.hiero.base.utility.NonCryptographicHashing;
+
+/**
+ * In-memory Bloom filters for {@link HalfDiskHashMap} buckets, one filter per bucket. A filter
+ * is used to check if a key may be in a bucket before the bucket is read from disk. If a filter
+ * reports that a key isn't in the bucket, the key is definitely not in the map.
+ *
+ * <p>Filters are not updated incrementally. Every time a bucket is written to disk, its filter
+ * is rebuilt from the bucket entries, so removed keys are removed from the filter, too. Filter
+ * words are updated one by one, without clearing them first. This guarantees that concurrent
+ * readers never get false negatives for keys that are in the bucket both before and after the
+ * update.
+ *
+ * <p>When the number of buckets is doubled, filters for the new buckets are copied from the
+ * corresponding old buckets. This is consistent with how {@link HalfDiskHashMap} resize works:
+ * no bucket data is moved, new buckets initially share data with old buckets.
+ *
+ * <p>This class is thread safe.
+ */
+final class BucketFilter {
+
+    /** Filter file format version */
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    /** Number of 64-bit words in a single bucket filter */
+    private final int wordsPerBucket;
+
+    /** Number of bits in a single bucket filter */
+    private final int bitsPerBucket;
+
+    /** Number of hash functions, i.e. bits set in a filter for a single key */
+    private final int hashCount;
+
+    /** Filter words for all buckets. Replaced with a larger array on resize */
+    private volatile AtomicLongArray words;
+
+    /**
+     * Creates new empty bucket filters.
+     *
+     * @param bitsPerKey average number of filter bits per key
+     * @param averageBucketEntryCount average number of entries in a bucket
+     * @param numOfBuckets current number of buckets
+     */
+    BucketFilter(final int bitsPerKey, final int averageBucketEntryCount, final int numOfBuckets) {
+        if (bitsPerKey <= 0) {
+            throw new IllegalArgumentException("Bits per key must be positive: " + bitsPerKey);
+        }
+        this.wordsPerBucket = Math.max(1, (bitsPerKey * averageBucketEntryCount + Long.SIZE - 1) / Long.SIZE);
+        this.bitsPerBucket = wordsPerBucket * Long.SIZE;
+        // Optimal number of hash functions is bits per key * ln(2)
+        this.hashCount = Math.clamp(Math.round(bitsPerKey * 0.69f), 1, 8);
+        this.words = new AtomicLongArray(arraySize(numOfBuckets));
+    }
+
+    private int arraySize(final int numOfBuckets) {
+        return Math.toIntExact((long) numOfBuckets * wordsPerBucket);
+    }
+
+    /**
+     * Computes a 64-bit key hash used by the filters. Key hash codes can't be used for that,
+     * since their lower bits are the same for all keys in a bucket.
+     *
+     * @param data the buffer that contains key bytes
+     * @param offset key bytes offset in the buffer
+     * @param length key bytes length
+     * @return the key hash
+     */
+    static long keyHash(final RandomAccessData data, final long offset, final long length) {
+        long hash = length;
+        long i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            hash = NonCryptographicHashing.hash64(hash, data.getLong(offset + i));
+        }
+        long tail = 0;
+        for (; i < length; i++) {
+            tail = (tail << 8) | (data.getByte(offset + i) & 0xFF);
+        }
+        return NonCryptographicHashing.hash64(hash, tail);
+    }
+
+    /**
+     * Checks if a key with the given hash may be in the given bucket.
+     *
+     * @param bucketIndex the bucket index
+     * @param keyHash the key hash, see {@link #keyHash(RandomAccessData, long, long)}
+     * @return false if the key is definitely not in the bucket, true otherwise
+     */
+    boolean mightContain(final int bucketIndex, final long keyHash) {
+        final AtomicLongArray w = words;
+        final long base = (long) bucketIndex * wordsPerBucket;
+        if (base + wordsPerBucket > w.length()) {
+            // The bucket was created by a resize that isn't reflected in this array yet
+            return true;
+        }
+        final int h1 = (int) keyHash;
+        final int h2 = (int) (keyHash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            final int bit = Integer.remainderUnsigned(h1 + i * h2, bitsPerBucket);
+            if ((w.get((int) base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the filter for the given bucket from bucket entries. Must not be called
+     * concurrently for the same bucket.
+     *
+     * @param bucketIndex the bucket index
+     * @param bucket the bucket to take keys from, may be null for empty buckets
+     */
+    void update(final int bucketIndex, final Bucket bucket) {
+        final long[] bucketWords = new long[wordsPerBucket];
+        if (bucket != null) {
+            bucket.forEachKey((data, keyOffset, keySize) -> addKey(bucketWords, keyHash(data, keyOffset, keySize)));
+        }
+        final AtomicLongArray w = words;
+        final long base = (long) bucketIndex * wordsPerBucket;
+        if (base + wordsPerBucket > w.length()) {
+            return;
+        }
+        for (int i = 0; i < wordsPerBucket; i++) {
+            w.set((int) base + i, bucketWords[i]);
+        }
+    }
+
+    /**
+     * Adds all keys from the given bucket to the bucket filter, without removing existing
+     * keys from it. Used when a map index is rebuilt from data files, and multiple versions
+     * of the same bucket may be loaded.
+     *
+     * @param bucketIndex the bucket index
+     * @param bucket the bucket to take keys from
+     */
+    void merge(final int bucketIndex, final Bucket bucket) {
+        final long[] bucketWords = new long[wordsPerBucket];
+        bucket.forEachKey((data, keyOffset, keySize) -> addKey(bucketWords, keyHash(data, keyOffset, keySize)));
+        final AtomicLongArray w = words;
+        final long base = (long) bucketIndex * wordsPerBucket;
+        if (base + wordsPerBucket > w.length()) {
+            return;
+        }
+        for (int i = 0; i < wordsPerBucket; i++) {
+            final int index = (int) base + i;
+            final long bits = bucketWords[i];
+            w.getAndAccumulate(index, bits, (a, b) -> a | b);
+        }
+    }
+
+    private void addKey(final long[] bucketWords, final long keyHash) {
+        final int h1 = (int) keyHash;
+        final int h2 = (int) (keyHash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            final int bit = Integer.remainderUnsigned(h1 + i * h2, bitsPerBucket);
+            bucketWords[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Marks all buckets as potentially containing any key. Used when filters can't be
+     * loaded from disk.
+     */
+    void fill() {
+        final AtomicLongArray w = words;
+        for (int i = 0; i < w.length(); i++) {
+            w.set(i, -1L);
+        }
+    }
+
+    /**
+     * Updates filters after the number of buckets is doubled. Filters for new buckets are
+     * copied from the corresponding old buckets. Must be called before the new number of
+     * buckets is used to compute bucket indices.
+     *
+     * @param oldNumOfBuckets the old number of buckets
+     * @param newNumOfBuckets the new number of buckets, must be twice the old number
+     */
+    void resize(final int oldNumOfBuckets, final int newNumOfBuckets) {
+        assert newNumOfBuckets == oldNumOfBuckets * 2;
+        final AtomicLongArray oldWords = words;
+        final AtomicLongArray newWords = new AtomicLongArray(arraySize(newNumOfBuckets));
+        final int oldSize = arraySize(oldNumOfBuckets);
+        for (int i = 0; i < oldSize; i++) {
+            final long value = oldWords.get(i);
+            newWords.set(i, value);
+            newWords.set(i + oldSize, value);
+        }
+        words = newWords;
+    }
+
+    /**
+     * Writes all bucket filters to the given file.
+     *
+     * @param file the file to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void writeToFile(final Path file) throws IOException {
+        final AtomicLongArray w = words;
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(FILE_FORMAT_VERSION);
+            out.writeInt(wordsPerBucket);
+            out.writeInt(hashCount);
+            out.writeInt(w.length());
+            for (int i = 0; i < w.length(); i++) {
+                out.writeLong(w.get(i));
+            }
+        }
+    }
+
+    /**
+     * Loads bucket filters from the given file. Filters are only loaded, if the file was written
+     * with the same filter parameters and the same number of buckets.
+     *
+     * @param file the file to read from
+     * @return true if the filters were loaded, false otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    boolean readFromFile(final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        final AtomicLongArray w = words;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if ((in.readInt() != FILE_FORMAT_VERSION)
+                    || (in.readInt() != wordsPerBucket)
+                    || (in.readInt() != hashCount)
+                    || (in.readInt() != w.length())) {
+                return false;
+            }
+            for (int i = 0; i < w.length(); i++) {
+                w.set(i, in.readLong());
+            }
+        }
+        return true;
+    }
+}
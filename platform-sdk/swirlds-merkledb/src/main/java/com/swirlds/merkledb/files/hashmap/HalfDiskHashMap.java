@@ -29,16 +29,21 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.LongSummaryStatistics;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.StreamSupport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.collections.api.tuple.primitive.IntObjectPair;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
 import org.hiero.base.concurrent.AbstractTask;
 
@@ -51,8 +56,10 @@ import org.hiero.base.concurrent.AbstractTask;
  * <p>This implementation depends on good hashCode() implementation on the keys, if there are too
  * many hash collisions the performance can get bad.
  *
- * <p><b>IMPORTANT: This implementation assumes a single writing thread. There can be multiple
- * readers while writing is happening.</b>
+ * <p>Writing sessions are started with {@link #startWriting()} and ended with {@link #endWriting()},
+ * both must be called on the same thread. Within a session, {@code put} and {@code delete} methods
+ * may be called concurrently from multiple threads, as long as all updates to any particular key
+ * are made from a single thread. There can be multiple readers while writing is happening.
  */
 public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatisticAware, OffHeapUser {
 
@@ -64,6 +71,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     private static final String METADATA_FILENAME_SUFFIX = "_metadata.hdhm";
     /** Bucket index file name suffix with extension */
     private static final String BUCKET_INDEX_FILENAME_SUFFIX = "_bucket_index.ll";
+    /** Bucket filters file name suffix with extension */
+    private static final String BUCKET_FILTER_FILENAME_SUFFIX = "_bucket_filter.bf";
     /**
      * A marker to indicate that a value should be deleted from the map, or that there is
      * no old value to compare against in putIfEqual/deleteIfEqual
@@ -80,6 +89,12 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     /** The limit on the number of concurrent read tasks in {@code endWriting()} */
     private static final int MAX_IN_FLIGHT = 1024;
 
+    /**
+     * The number of stripes bucket mutations are split into during a writing session. Every stripe
+     * is guarded by its own lock, so concurrent writers rarely contend. Must be a power of two
+     */
+    private static final int MUTATION_STRIPES = 64;
+
     /** Platform configuration */
     @NonNull
     private final Configuration config;
@@ -103,18 +118,28 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     /** The name to use for the files prefix on disk */
     private final String storeName;
 
+    /**
+     * Optional in-memory bucket filters. If not null, they are checked in {@link #get(Bytes, int, long)}
+     * before a bucket is read from disk, so lookups of missing keys usually don't need any disk reads
+     */
+    @Nullable
+    private final BucketFilter bucketFilter;
+
     /** Bucket pool used by this HDHM */
     private final ReusableBucketPool bucketPool;
-    /** Store for session data during a writing transaction */
-    private IntObjectHashMap<BucketMutation> oneTransactionsData = null;
+    /**
+     * Store for session data during a writing transaction. Bucket mutations are split into
+     * stripes by bucket index, see {@link #MUTATION_STRIPES}
+     */
+    private volatile IntObjectHashMap<BucketMutation>[] oneTransactionsData = null;
 
     // Fields related to flushes
 
     /**
-     * The thread that called startWriting. We use it to check that other writing calls are done on
+     * The thread that called startWriting. We use it to check that endWriting is called on the
      * same thread
      */
-    private Thread writingThread;
+    private volatile Thread writingThread;
 
     private final AtomicReference<SubmitTask> currentSubmitTask = new AtomicReference<>();
 
@@ -219,7 +244,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         this.bucketPool = new ReusableBucketPool(Bucket::new);
         // load or create new
         LoadedDataCallback loadedDataCallback;
-        if (Files.exists(storeDir)) {
+        final boolean loadingExisting = Files.exists(storeDir);
+        if (loadingExisting) {
             // load metadata
             Path metaDataFile = storeDir.resolve(storeName + METADATA_FILENAME_SUFFIX);
             boolean loadedLegacyMetadata = false;
@@ -269,6 +295,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                     final Bucket bucket = bucketPool.getBucket();
                     bucket.readFrom(bucketData);
                     bucketIndexToBucketLocation.put(bucket.getBucketIndex(), dataLocation);
+                    mergeIntoBucketFilter(bucket);
                 };
             }
         } else {
@@ -294,6 +321,25 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                     numOfBuckets);
         }
         bucketIndexToBucketLocation.updateValidRange(0, numOfBuckets.get() - 1);
+        // create bucket filters, if enabled
+        final int filterBitsPerKey = merkleDbConfig.halfDiskHashMapFilterBitsPerKey();
+        if (filterBitsPerKey > 0) {
+            bucketFilter = new BucketFilter(filterBitsPerKey, goodAverageBucketEntryCount, numOfBuckets.get());
+            // If the index is rebuilt, filters are rebuilt, too, in loadedDataCallback
+            if (loadingExisting && (loadedDataCallback == null)) {
+                final Path filterFile = storeDir.resolve(storeName + BUCKET_FILTER_FILENAME_SUFFIX);
+                if (!bucketFilter.readFromFile(filterFile)) {
+                    logger.info(
+                            MERKLE_DB.getMarker(),
+                            "HalfDiskHashMap [{}] bucket filters not loaded, all lookups will read buckets from disk"
+                                    + " until buckets are updated",
+                            storeName);
+                    bucketFilter.fill();
+                }
+            }
+        } else {
+            bucketFilter = null;
+        }
         // create file collection
         fileCollection = new DataFileCollection(
                 // Need: propagate MerkleDb merkleDbConfig from the database
@@ -425,6 +471,10 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         Files.createDirectories(snapshotDirectory);
         // write index to file
         bucketIndexToBucketLocation.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX));
+        // write bucket filters to file
+        if (bucketFilter != null) {
+            bucketFilter.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_FILTER_FILENAME_SUFFIX));
+        }
         // snapshot files
         fileCollection.snapshot(snapshotDirectory);
         // write metadata
@@ -466,33 +516,32 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     }
 
     // =================================================================================================================
-    // Writing API - Single thead safe
+    // Writing API - Multi thread safe within a session, see class javadoc
 
     /**
      * Start a writing session to the map. Each new writing session results in a new data file on
      * disk, so you should ideally batch up map writes.
      */
+    @SuppressWarnings("unchecked")
     public void startWriting() {
-        oneTransactionsData = new IntObjectHashMap<>();
+        final IntObjectHashMap<BucketMutation>[] stripes = new IntObjectHashMap[MUTATION_STRIPES];
+        for (int i = 0; i < MUTATION_STRIPES; i++) {
+            stripes[i] = new IntObjectHashMap<>();
+        }
         writingThread = Thread.currentThread();
+        oneTransactionsData = stripes;
     }
 
-    private BucketMutation findBucketForUpdate(
-            final Bytes keyBytes, final int keyHashCode, final long oldValue, final long value) {
+    private IntObjectHashMap<BucketMutation>[] getTransactionsData(final Bytes keyBytes) {
         if (keyBytes == null) {
             throw new IllegalArgumentException("Can not write a null key");
         }
-        if (oneTransactionsData == null) {
+        final IntObjectHashMap<BucketMutation>[] stripes = oneTransactionsData;
+        if (stripes == null) {
             throw new IllegalStateException(
                     "Trying to write to a HalfDiskHashMap when you have not called startWriting().");
         }
-        if (Thread.currentThread() != writingThread) {
-            throw new IllegalStateException("Tried to write with different thread to startWriting()");
-        }
-        // store key and value in transaction cache
-        final int bucketIndex = computeBucketIndex(keyHashCode);
-        return oneTransactionsData.getIfAbsentPut(
-                bucketIndex, () -> new BucketMutation(keyBytes, keyHashCode, oldValue, value));
+        return stripes;
     }
 
     /**
@@ -511,8 +560,17 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     }
 
     void put(final Bytes keyBytes, final int keyHashCode, final long value) {
-        final BucketMutation bucketMap = findBucketForUpdate(keyBytes, keyHashCode, INVALID_VALUE, value);
-        bucketMap.put(keyBytes, keyHashCode, value);
+        final IntObjectHashMap<BucketMutation>[] stripes = getTransactionsData(keyBytes);
+        final int bucketIndex = computeBucketIndex(keyHashCode);
+        final IntObjectHashMap<BucketMutation> stripe = stripes[bucketIndex & (MUTATION_STRIPES - 1)];
+        synchronized (stripe) {
+            final BucketMutation bucketMap = stripe.get(bucketIndex);
+            if (bucketMap == null) {
+                stripe.put(bucketIndex, new BucketMutation(keyBytes, keyHashCode, value));
+            } else {
+                bucketMap.put(keyBytes, keyHashCode, value);
+            }
+        }
     }
 
     /**
@@ -538,8 +596,17 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     }
 
     void putIfEqual(final Bytes keyBytes, final int keyHashCode, final long oldValue, final long value) {
-        final BucketMutation bucketMap = findBucketForUpdate(keyBytes, keyHashCode, oldValue, value);
-        bucketMap.putIfEqual(keyBytes, keyHashCode, oldValue, value);
+        final IntObjectHashMap<BucketMutation>[] stripes = getTransactionsData(keyBytes);
+        final int bucketIndex = computeBucketIndex(keyHashCode);
+        final IntObjectHashMap<BucketMutation> stripe = stripes[bucketIndex & (MUTATION_STRIPES - 1)];
+        synchronized (stripe) {
+            final BucketMutation bucketMap = stripe.get(bucketIndex);
+            if (bucketMap == null) {
+                stripe.put(bucketIndex, new BucketMutation(keyBytes, keyHashCode, oldValue, value));
+            } else {
+                bucketMap.putIfEqual(keyBytes, keyHashCode, oldValue, value);
+            }
+        }
     }
 
     /**
@@ -577,7 +644,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     }
 
     /**
-     * End current writing session, committing all puts to data store.
+     * End current writing session, committing all puts to data store. All concurrent writers
+     * must have completed their updates before this method is called.
      *
      * @return Data file reader for the file written
      * @throws IOException If there was a problem committing data to store
@@ -587,18 +655,28 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         if (Thread.currentThread() != writingThread) {
             throw new IllegalStateException("Tried calling endWriting with different thread to startWriting()");
         }
-        final int size = oneTransactionsData.size();
+        final IntObjectHashMap<BucketMutation>[] stripes = oneTransactionsData;
+        int size = 0;
+        long keysCount = 0;
+        for (final IntObjectHashMap<BucketMutation> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+                keysCount += stripe.sumOfInt(BucketMutation::size);
+            }
+        }
         logger.info(
                 MERKLE_DB.getMarker(),
                 "Finishing writing to {}, num of changed bins = {}, num of changed keys = {}",
                 storeName,
                 size,
-                oneTransactionsData.stream().mapToLong(BucketMutation::size).sum());
+                keysCount);
         final DataFileReader dataFileReader;
         try {
             if (size > 0) {
-                final Iterator<IntObjectPair<BucketMutation>> it =
-                        oneTransactionsData.keyValuesView().iterator();
+                final Iterator<IntObjectPair<BucketMutation>> it = Arrays.stream(stripes)
+                        .flatMap(stripe -> StreamSupport.stream(
+                                stripe.keyValuesView().spliterator(), false))
+                        .iterator();
                 fileCollection.startWriting();
                 final ForkJoinPool pool = getFlushingPool(config);
                 resetEndWriting(pool, size);
@@ -806,6 +884,10 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         protected boolean onExecute() throws IOException {
             try (bucket) {
                 final int bucketIndex = bucket.getBucketIndex();
+                // update bucket filter before the index, so readers never miss keys added to the bucket
+                if (bucketFilter != null) {
+                    bucketFilter.update(bucketIndex, bucket.isEmpty() ? null : bucket);
+                }
                 if (bucket.isEmpty()) {
                     // bucket is missing or empty, remove it from the index
                     bucketIndexToBucketLocation.remove(bucketIndex);
@@ -879,6 +961,13 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             throw new IllegalArgumentException("Can not get a null key");
         }
         final int bucketIndex = computeBucketIndex(keyHashCode);
+        if (bucketFilter != null) {
+            final long filterKeyHash = BucketFilter.keyHash(keyBytes, 0, keyBytes.length());
+            if (!bucketFilter.mightContain(bucketIndex, filterKeyHash)) {
+                // The key is definitely not in the bucket, no need to read it from disk
+                return notFoundValue;
+            }
+        }
         try (Bucket bucket = readBucket(bucketIndex)) {
             if (bucket != null) {
                 return bucket.findValue(keyHashCode, keyBytes, notFoundValue);
@@ -887,6 +976,55 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         return notFoundValue;
     }
 
+    /**
+     * Get values for multiple keys from this map. Keys are grouped by buckets, so every bucket is
+     * read from disk at most once, even if it contains multiple requested keys. Buckets are read
+     * in file and offset order in parallel using the provided executor, see {@link
+     * DataFileCollection#readDataItemsUsingIndex(LongList, long[], ExecutorService,
+     * DataFileCollection.DataItemHandler)}.
+     *
+     * @param keys the keys to get values for
+     * @param notFoundValue the value to use for keys not found in the map
+     * @param executor the executor to read buckets
+     * @return the array of values, in the same order as the keys
+     * @throws IOException If there was a problem reading from the map
+     */
+    public long[] getAll(
+            @NonNull final List<Bytes> keys, final long notFoundValue, @NonNull final ExecutorService executor)
+            throws IOException {
+        final long[] values = new long[keys.size()];
+        Arrays.fill(values, notFoundValue);
+        final IntObjectHashMap<IntArrayList> keysByBucket = new IntObjectHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            final Bytes keyBytes = keys.get(i);
+            final int bucketIndex = computeBucketIndex(keyBytes.hashCode());
+            if (bucketFilter != null) {
+                final long filterKeyHash = BucketFilter.keyHash(keyBytes, 0, keyBytes.length());
+                if (!bucketFilter.mightContain(bucketIndex, filterKeyHash)) {
+                    continue;
+                }
+            }
+            keysByBucket.getIfAbsentPut(bucketIndex, IntArrayList::new).add(i);
+        }
+        if (keysByBucket.isEmpty()) {
+            return values;
+        }
+        final int[] bucketIndices = keysByBucket.keySet().toArray();
+        final long[] bucketKeys = Arrays.stream(bucketIndices).asLongStream().toArray();
+        fileCollection.readDataItemsUsingIndex(bucketIndexToBucketLocation, bucketKeys, executor, (i, bucketData) -> {
+            try (Bucket bucket = bucketPool.getBucket()) {
+                bucket.readFrom(bucketData);
+                final IntArrayList keyPositions = keysByBucket.get(bucketIndices[i]);
+                for (int j = 0; j < keyPositions.size(); j++) {
+                    final int keyPosition = keyPositions.get(j);
+                    final Bytes keyBytes = keys.get(keyPosition);
+                    values[keyPosition] = bucket.findValue(keyBytes.hashCode(), keyBytes, notFoundValue);
+                }
+            }
+        });
+        return values;
+    }
+
     private Bucket readBucket(final int bucketIndex) throws IOException {
         final BufferedData bucketData = fileCollection.readDataItemUsingIndex(bucketIndexToBucketLocation, bucketIndex);
         if (bucketData == null) {
@@ -928,6 +1066,9 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             }
         }
         fileCollection.updateValidKeyRange(0, newSize - 1);
+        if (bucketFilter != null) {
+            bucketFilter.resize(oldSize, newSize);
+        }
 
         setNumberOfBuckets(newSize);
         logger.info(MERKLE_DB.getMarker(), "Resize HDHM {} to {} buckets done", storeName, newSize);
@@ -960,6 +1101,16 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     // =================================================================================================================
     // Private API
 
+    /**
+     * Adds keys from the given bucket to bucket filters, if enabled. Used to rebuild filters
+     * when the bucket index is rebuilt from data files.
+     */
+    private void mergeIntoBucketFilter(final Bucket bucket) {
+        if (bucketFilter != null) {
+            bucketFilter.merge(bucket.getBucketIndex(), bucket);
+        }
+    }
+
     /**
      * Updates the number of buckets and bucket mask bits. The new value must be a power of 2.
      */
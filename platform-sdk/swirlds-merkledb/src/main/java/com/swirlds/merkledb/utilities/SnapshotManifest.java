@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.utilities;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * A checksum manifest of a MerkleDb data source snapshot. The manifest is a text file in the
+ * snapshot directory with one line per snapshot file:
+ *
+ * <pre>
+ * &lt;CRC32C, hex&gt; &lt;file size, bytes&gt; &lt;file path relative to the snapshot directory&gt;
+ * </pre>
+ *
+ * <p>Lines are sorted by file path. The manifest file itself is not included.
+ *
+ * <p>Snapshots can be verified against the manifest without loading them, see {@link #verify(Path, Path)}.
+ * Files are verified one by one, each file is streamed through a small buffer, so the memory
+ * needed to verify a snapshot doesn't depend on snapshot size.
+ */
+public final class SnapshotManifest {
+
+    /** Buffer size to read files when computing checksums */
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /** Buffers to read files, one per thread */
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+    private SnapshotManifest() {}
+
+    /**
+     * Provides checksums of snapshot files that are already known, e.g. cached for immutable
+     * data files. Used to avoid reading such files again when a manifest is written.
+     */
+    @FunctionalInterface
+    public interface ChecksumLookup {
+
+        /**
+         * Returns a known checksum for a snapshot file, or -1 if the checksum is not known.
+         *
+         * @param file the snapshot file
+         * @return the checksum, or -1 if unknown
+         * @throws IOException if an I/O error occurred
+         */
+        long getChecksum(@NonNull Path file) throws IOException;
+    }
+
+    /**
+     * Computes CRC32C checksum of the given file.
+     *
+     * @param file the file
+     * @return file checksum
+     * @throws IOException if an I/O error occurred
+     */
+    public static long checksum(@NonNull final Path file) throws IOException {
+        final CRC32C crc = new CRC32C();
+        final ByteBuffer buffer = BUFFERS.get();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Writes a checksum manifest for all files in the given snapshot directory and its
+     * subdirectories. Checksums are computed in parallel.
+     *
+     * @param snapshotDir the snapshot directory
+     * @param manifestFile the manifest file to write, it must be in the snapshot directory
+     * @param lookup optional lookup for checksums that are already known
+     * @throws IOException if an I/O error occurred
+     */
+    public static void write(
+            @NonNull final Path snapshotDir, @NonNull final Path manifestFile, @Nullable final ChecksumLookup lookup)
+            throws IOException {
+        final List<Path> files = listFiles(snapshotDir, manifestFile);
+        final List<String> lines;
+        try {
+            lines = files.parallelStream()
+                    .map(file -> {
+                        try {
+                            final long knownChecksum = (lookup != null) ? lookup.getChecksum(file) : -1;
+                            final long checksum = (knownChecksum >= 0) ? knownChecksum : checksum(file);
+                            return Long.toHexString(checksum) + " " + Files.size(file) + " "
+                                    + relativeName(snapshotDir, file);
+                        } catch (final IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .toList();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // Write to a temp file first, so a partially written manifest is never used
+        final Path tmpFile = manifestFile.resolveSibling(manifestFile.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+            for (final String line : lines) {
+                out.write(line);
+                out.newLine();
+            }
+        }
+        Files.move(tmpFile, manifestFile);
+    }
+
+    /**
+     * Verifies all files listed in the given manifest. Files are read and verified one by one.
+     * Files in the snapshot directory that are not listed in the manifest are ignored.
+     *
+     * @param snapshotDir the snapshot directory
+     * @param manifestFile the manifest file
+     * @return the number of files verified
+     * @throws IOException if a file is missing, or its size or checksum doesn't match the manifest,
+     *      or if an I/O error occurred
+     */
+    public static int verify(@NonNull final Path snapshotDir, @NonNull final Path manifestFile) throws IOException {
+        int count = 0;
+        try (BufferedReader in = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                final String[] parts = line.split(" ", 3);
+                if (parts.length != 3) {
+                    throw new IOException("Malformed snapshot manifest line: " + line);
+                }
+                final long expectedChecksum = Long.parseUnsignedLong(parts[0], 16);
+                final long expectedSize = Long.parseLong(parts[1]);
+                final Path file = snapshotDir.resolve(parts[2]);
+                if (!Files.exists(file)) {
+                    throw new IOException("Snapshot file is missing: " + file);
+                }
+                final long size = Files.size(file);
+                if (size != expectedSize) {
+                    throw new IOException(
+                            "Snapshot file size mismatch: " + file + ", expected=" + expectedSize + ", actual=" + size);
+                }
+                final long checksum = checksum(file);
+                if (checksum != expectedChecksum) {
+                    throw new IOException("Snapshot file checksum mismatch: " + file);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<Path> listFiles(final Path snapshotDir, final Path manifestFile) throws IOException {
+        try (Stream<Path> paths = Files.walk(snapshotDir)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(p -> !p.equals(manifestFile))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String relativeName(final Path snapshotDir, final Path file) {
+        // Always use '/' as a separator, so manifests are portable
+        return snapshotDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+}
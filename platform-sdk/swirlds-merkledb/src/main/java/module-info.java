@@ -5,6 +5,7 @@
  */
 open module com.swirlds.merkledb {
     exports com.swirlds.merkledb;
+    exports com.swirlds.merkledb.cache;
     exports com.swirlds.merkledb.collections;
     exports com.swirlds.merkledb.config;
     exports com.swirlds.merkledb.files;
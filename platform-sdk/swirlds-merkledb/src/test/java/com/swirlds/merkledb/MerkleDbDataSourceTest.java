@@ -143,6 +143,38 @@ class MerkleDbDataSourceTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("provideParameters")
+    void loadHashesInBatches(final TestType testType, final int hashesRamToDiskThreshold) throws IOException {
+        final int count = 10_000;
+        createAndApplyDataSource(
+                testDirectory, "loadHashesInBatches", testType, count, hashesRamToDiskThreshold, dataSource -> {
+                    dataSource.saveRecords(
+                            count - 1,
+                            count * 2 - 2,
+                            IntStream.range(0, count * 2 - 1)
+                                    .mapToObj(MerkleDbDataSourceTest::createVirtualInternalRecord),
+                            Stream.empty(),
+                            Stream.empty());
+                    // Random paths in random order, including some paths out of range
+                    final long[] paths = RANDOM.longs(1000, 0, count * 2 + 100).toArray();
+                    final Hash[] hashes = new Hash[paths.length];
+                    dataSource.loadHashes(paths, hashes);
+                    for (int i = 0; i < paths.length; i++) {
+                        assertEquals(dataSource.loadHash(paths[i]), hashes[i], "Wrong hash for path " + paths[i]);
+                        if (paths[i] < count * 2 - 1) {
+                            assertEquals(hash((int) paths[i]), hashes[i], "Wrong hash for path " + paths[i]);
+                        } else {
+                            assertNull(hashes[i], "No hash expected for path " + paths[i]);
+                        }
+                    }
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> dataSource.loadHashes(new long[] {1, -1}, new Hash[2]),
+                            "Loading a negative path should fail");
+                });
+    }
+
     private static Stream<Arguments> provideParameters() {
         final ArrayList<Arguments> arguments = new ArrayList<>(TestType.values().length * 3);
         final int[] ramDiskSplitOptions = new int[] {0, COUNT / 2, Integer.MAX_VALUE};
@@ -226,6 +258,34 @@ class MerkleDbDataSourceTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(TestType.class)
+    void warmLeaves(final TestType testType) throws IOException {
+        final int count = 10_000;
+        createAndApplyDataSource(testDirectory, "testWarm", testType, count, dataSource -> {
+            dataSource.saveRecords(
+                    count - 1,
+                    count * 2 - 2,
+                    IntStream.range(count - 1, count * 2 - 1)
+                            .mapToObj(MerkleDbDataSourceTest::createVirtualInternalRecord),
+                    IntStream.range(count - 1, count * 2 - 1)
+                            .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i)),
+                    Stream.empty());
+            // existing and missing keys, some of them twice
+            final List<Bytes> keys = IntStream.range(0, count * 3)
+                    .filter(i -> i % 7 != 0)
+                    .mapToObj(i -> testType.dataType().createVirtualLongKey(i % (count * 2 + 100)))
+                    .toList();
+            dataSource.warmAll(keys);
+            // warming again must be a no-op for cached keys
+            dataSource.warmAll(keys);
+            IntStream.range(count - 1, count * 2 - 1).forEach(i -> assertLeaf(testType, dataSource, i, i));
+            for (int i = count * 2; i < count * 2 + 100; i++) {
+                assertNull(dataSource.loadLeafRecord(testType.dataType().createVirtualLongKey(i)));
+            }
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(TestType.class)
     void updateLeaves(final TestType testType) throws IOException, InterruptedException {
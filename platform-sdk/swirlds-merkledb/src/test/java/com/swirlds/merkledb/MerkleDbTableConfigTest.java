@@ -65,4 +65,24 @@ class MerkleDbTableConfigTest {
         // default MerkleDbConfig values
         Assertions.assertEquals(0, restored.getHashesRamToDiskThreshold());
     }
+
+    @Test
+    void leafRecordCacheSizeTest() throws IOException {
+        final MerkleDbTableConfig tableConfig = new MerkleDbTableConfig((short) 1, DigestType.SHA_384, 1_000, 0, 4096);
+        Assertions.assertEquals(4096, tableConfig.getLeafRecordCacheSize());
+        Assertions.assertEquals(tableConfig, tableConfig.copy());
+
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (final WritableStreamingData out = new WritableStreamingData(bout)) {
+            tableConfig.writeTo(out);
+        }
+        final byte[] arr = bout.toByteArray();
+        Assertions.assertEquals(tableConfig.pbjSizeInBytes(), arr.length);
+        final MerkleDbTableConfig restored;
+        try (final ReadableStreamingData in = new ReadableStreamingData(arr)) {
+            restored = new MerkleDbTableConfig(in);
+        }
+        Assertions.assertEquals(4096, restored.getLeafRecordCacheSize());
+        Assertions.assertEquals(tableConfig, restored);
+    }
 }
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class LeafRecordCacheTest {
+
+    private static Bytes key(final long i) {
+        return Bytes.wrap(Long.toString(i));
+    }
+
+    private static VirtualLeafBytes<?> leaf(final long i) {
+        return new VirtualLeafBytes<>(i, key(i), Bytes.wrap("value" + i));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LeafRecordCacheType.class)
+    void testIllegalCapacity(final LeafRecordCacheType type) {
+        assertThrows(IllegalArgumentException.class, () -> type.createCache(0));
+        assertThrows(IllegalArgumentException.class, () -> type.createCache(-1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LeafRecordCacheType.class)
+    void testPutGetInvalidate(final LeafRecordCacheType type) {
+        final LeafRecordCache cache = type.createCache(1024);
+        assertEquals(1024, cache.capacity());
+        assertNull(cache.get(key(1)));
+        final VirtualLeafBytes<?> leaf = leaf(1);
+        assertFalse(cache.put(leaf));
+        assertSame(leaf, cache.get(key(1)));
+        // Replace with the same key, no eviction
+        final VirtualLeafBytes<?> keyOnly = new VirtualLeafBytes<>(1, key(1), null);
+        assertFalse(cache.put(keyOnly));
+        assertSame(keyOnly, cache.get(key(1)));
+        cache.invalidate(key(1));
+        assertNull(cache.get(key(1)));
+        // Invalidating a missing key is a no-op
+        cache.invalidate(key(2));
+    }
+
+    @Test
+    void testDirectMappedConflictingKeysEvictEachOther() {
+        final LeafRecordCache cache = LeafRecordCacheType.DIRECT_MAPPED.createCache(1);
+        assertFalse(cache.put(leaf(1)));
+        assertTrue(cache.put(leaf(2)));
+        assertNull(cache.get(key(1)));
+        assertNotNull(cache.get(key(2)));
+    }
+
+    @Test
+    void testTinyLfuHotKeysSurviveScan() {
+        final int capacity = 64;
+        final LeafRecordCache cache = LeafRecordCacheType.TINY_LFU.createCache(capacity);
+        // Make a set of hot keys, each accessed many times
+        for (int i = 0; i < capacity; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (cache.get(key(i)) == null) {
+                    cache.put(leaf(i));
+                }
+            }
+        }
+        int hotCached = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (cache.get(key(i)) != null) {
+                hotCached++;
+            }
+        }
+        // Now scan over many other keys, each accessed only once
+        for (int i = 1000; i < 1000 + capacity * 4; i++) {
+            if (cache.get(key(i)) == null) {
+                cache.put(leaf(i));
+            }
+        }
+        int hotCachedAfterScan = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (cache.get(key(i)) != null) {
+                hotCachedAfterScan++;
+            }
+        }
+        assertTrue(hotCached > 0, "Some hot keys must be cached");
+        // Frequencies are estimates, a few scanned keys may collide with hot keys in the sketch
+        assertTrue(hotCachedAfterScan >= hotCached * 9 / 10, "Scan must not evict hot keys");
+    }
+
+    @Test
+    void testTinyLfuAdmitsFrequentKeys() {
+        final LeafRecordCache cache = LeafRecordCacheType.TINY_LFU.createCache(1);
+        assertNull(cache.get(key(1)));
+        assertFalse(cache.put(leaf(1)));
+        assertNotNull(cache.get(key(1)));
+        // Key 2 is accessed less often than key 1, so it isn't admitted
+        assertNull(cache.get(key(2)));
+        assertFalse(cache.put(leaf(2)));
+        assertNull(cache.get(key(2)));
+        // Key 2 is now accessed more often than key 1 and evicts it
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.get(key(2)));
+        }
+        assertTrue(cache.put(leaf(2)));
+        assertNotNull(cache.get(key(2)));
+        assertNull(cache.get(key(1)));
+    }
+}
@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CompactionThrottleTest {
+
+    @Test
+    void negativeBudgetRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactionThrottle(-1, false, 0));
+    }
+
+    @Test
+    void unlimitedDoesNotBlock() throws InterruptedException {
+        final CompactionThrottle throttle = new CompactionThrottle(0, false, 0);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            throttle.acquire(1024 * 1024, throttle.newFlushPauseBudget(), () -> true);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void rateLimited() throws InterruptedException {
+        // 1Mb per second
+        final CompactionThrottle throttle = new CompactionThrottle(1024 * 1024, false, 0);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 64; i++) {
+            throttle.acquire(8 * 1024, throttle.newFlushPauseBudget(), () -> true);
+        }
+        // 512Kb must take at least ~0.5 sec
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    void interruptedCompactionNotRateLimited() throws InterruptedException {
+        final CompactionThrottle throttle = new CompactionThrottle(1024, false, 0);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            throttle.acquire(1024 * 1024, throttle.newFlushPauseBudget(), () -> false);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void pausedDuringFlushes() throws Exception {
+        final CompactionThrottle throttle = new CompactionThrottle(0, true, 60_000);
+        throttle.flushStarted();
+        assertTrue(throttle.isFlushInProgress());
+        final CompletableFuture<Void> compaction = CompletableFuture.runAsync(() -> {
+            try {
+                throttle.acquire(1, throttle.newFlushPauseBudget(), () -> true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(compaction.isDone(), "Compaction must be paused while flushing");
+        throttle.flushFinished();
+        assertFalse(throttle.isFlushInProgress());
+        compaction.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void flushPauseIsLimited() throws Exception {
+        final CompactionThrottle throttle = new CompactionThrottle(0, true, 100);
+        throttle.flushStarted();
+        final long start = System.nanoTime();
+        throttle.acquire(1, throttle.newFlushPauseBudget(), () -> true);
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(90));
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(10));
+        throttle.flushFinished();
+    }
+
+    @Test
+    void flushPauseBudgetIsPerCompaction() throws Exception {
+        final CompactionThrottle throttle = new CompactionThrottle(0, true, 100);
+        throttle.flushStarted();
+        final CompactionThrottle.FlushPauseBudget budget = throttle.newFlushPauseBudget();
+        assertFalse(budget.isUsedUp());
+        final long start = System.nanoTime();
+        // Only the first items are paused, until the budget is used up
+        for (int i = 0; i < 100; i++) {
+            throttle.acquire(1, budget, () -> true);
+        }
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(budget.isUsedUp());
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(90));
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(5));
+        throttle.flushFinished();
+    }
+}
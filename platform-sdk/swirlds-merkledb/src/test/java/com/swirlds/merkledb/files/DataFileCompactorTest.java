@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.merkledb.files;
 
+import static com.swirlds.merkledb.files.DataFileCompactor.addFilesWithGarbage;
 import static com.swirlds.merkledb.files.DataFileCompactor.compactionPlan;
 import static java.util.Collections.emptyList;
 import static org.hiero.base.utility.test.fixtures.RandomUtils.nextInt;
@@ -12,6 +13,7 @@ import static org.mockito.MockitoAnnotations.openMocks;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -142,4 +144,34 @@ class DataFileCompactorTest {
                 compactionPlan(Arrays.asList(firstLevel1, secondLevel1, secondLevel2), 3, 5);
         assertEquals(0, result.size());
     }
+
+    @Test
+    void testAddFilesWithGarbage() {
+        initReaderItems(firstLevel1, 11, 100); // 90% garbage
+        initReaderItems(firstLevel2, 12, 100); // 40% garbage
+        initReaderItems(secondLevel1, 21, 100); // 70% garbage
+        initReaderItems(secondLevel2, 22, -1); // unknown number of items
+        final Map<Integer, Long> liveItems = Map.of(11, 10L, 12, 60L, 21, 30L, 22, 0L);
+        final List<DataFileReader> allFiles = Arrays.asList(
+                initialLevel1, initialLevel2, initialLevel3, firstLevel1, firstLevel2, secondLevel1, secondLevel2);
+        final List<DataFileReader> plan = compactionPlan(allFiles, 3, 5);
+        assertEquals(3, plan.size());
+
+        final List<DataFileReader> result = addFilesWithGarbage(allFiles, plan, liveItems, 50, 8);
+        assertEquals(List.of(initialLevel1, initialLevel2, initialLevel3, firstLevel1, secondLevel1), result);
+
+        // Files with the most garbage are picked first
+        assertEquals(
+                List.of(initialLevel1, initialLevel2, initialLevel3, firstLevel1),
+                addFilesWithGarbage(allFiles, plan, liveItems, 50, 1));
+        assertEquals(
+                List.of(firstLevel1, firstLevel2, secondLevel1),
+                addFilesWithGarbage(allFiles, emptyList(), liveItems, 30, 8));
+        assertEquals(plan, addFilesWithGarbage(allFiles, plan, liveItems, 95, 8));
+    }
+
+    private void initReaderItems(DataFileReader reader, int index, long itemsCount) {
+        when(reader.getIndex()).thenReturn(index);
+        when(reader.getItemsCount()).thenReturn(itemsCount);
+    }
 }
@@ -2,15 +2,20 @@
 package com.swirlds.merkledb.files;
 
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
+import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.configBuilderWith;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class DataFileReaderTest {
 
@@ -123,4 +128,31 @@ class DataFileReaderTest {
         assertEquals(1, dataFileReader.leaseFileChannel());
         assertEquals(2, dataFileReader.leaseFileChannel());
     }
+
+    @Test
+    void testMemoryMappedReads(@TempDir final Path tempDir) throws IOException {
+        // Small segments, so some data items cross segment boundaries and are read using file channels
+        final Configuration config = configBuilderWith("merkleDb.memoryMappedReadsEnabled", true)
+                .withValue("merkleDb.memoryMappedReadSegmentSize", 1000)
+                .getOrCreateConfig();
+        final MerkleDbConfig mmapConfig = config.getConfigData(MerkleDbConfig.class);
+        final DataFileCollection collection = new DataFileCollection(mmapConfig, tempDir, "mmapReads", null);
+        final int count = 1000;
+        final long[] locations = new long[count];
+        collection.startWriting();
+        for (int i = 0; i < count; i++) {
+            final long value = i;
+            locations[i] = collection.storeDataItem(o -> o.writeLong(value), Long.BYTES);
+        }
+        final DataFileReader reader = collection.endWriting();
+        assertTrue(reader.isMemoryMapped(), "Completed file should be memory mapped");
+        for (int i = 0; i < count; i++) {
+            final BufferedData data = collection.readDataItem(locations[i]);
+            assertEquals(Long.BYTES, data.remaining());
+            assertEquals(i, data.readLong());
+        }
+        reader.close();
+        assertFalse(reader.isMemoryMapped(), "Closed file should not be memory mapped");
+        collection.close();
+    }
 }
@@ -2,12 +2,14 @@
 package com.swirlds.merkledb.files.hashmap;
 
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
+import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.configBuilderWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
@@ -20,6 +22,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -166,6 +171,115 @@ class HalfDiskHashMapTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void concurrentWriters(FilesTestType testType) throws Exception {
+        final int count = 20_000;
+        final int threads = 8;
+        try (HalfDiskHashMap map = createNewTempMap("concurrentWriters", count)) {
+            map.startWriting();
+            // Every thread updates its own set of keys
+            IntStream.range(0, threads).parallel().forEach(t -> {
+                for (int i = t; i < count; i += threads) {
+                    map.put(testType.createVirtualLongKey(i), i);
+                }
+            });
+            map.endWriting();
+            checkData(testType, map, 0, count, 1);
+
+            map.startWriting();
+            IntStream.range(0, threads).parallel().forEach(t -> {
+                for (int i = t; i < count; i += threads) {
+                    if (i % 2 == 0) {
+                        map.delete(testType.createVirtualLongKey(i));
+                    } else {
+                        map.putIfEqual(testType.createVirtualLongKey(i), i, i * 3L);
+                    }
+                }
+            });
+            map.endWriting();
+            for (int i = 0; i < count; i++) {
+                final long expected = (i % 2 == 0) ? -1 : i * 3L;
+                assertEquals(expected, map.get(testType.createVirtualLongKey(i), -1), "Wrong value for key " + i);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void bucketFilters(FilesTestType testType) throws Exception {
+        final Configuration config =
+                configBuilderWith("merkleDb.halfDiskHashMapFilterBitsPerKey", 10).getOrCreateConfig();
+        final Path snapshotDir = tempDirPath.resolve("bucketFiltersSnapshot");
+        final int count = 10_000;
+        try (HalfDiskHashMap map =
+                new HalfDiskHashMap(config, count, tempDirPath.resolve("bucketFilters"), "bucketFilters", null, false)) {
+            createSomeData(testType, map, 0, count, 1);
+            checkData(testType, map, 0, count, 1);
+            // missing keys
+            for (int i = count; i < count * 2; i++) {
+                assertEquals(-1, map.get(testType.createVirtualLongKey(i), -1));
+            }
+            // deleted keys must not be found, other keys in the same buckets must still be found
+            map.startWriting();
+            for (int i = 0; i < count; i += 2) {
+                map.delete(testType.createVirtualLongKey(i));
+            }
+            map.endWriting();
+            for (int i = 0; i < count; i++) {
+                final long expected = (i % 2 == 0) ? -1 : i;
+                assertEquals(expected, map.get(testType.createVirtualLongKey(i), -1), "Wrong value for key " + i);
+            }
+            // filters must be split correctly on resize
+            final int numOfBuckets = map.getNumOfBuckets();
+            map.resizeIfNeeded(count * 4L, count * 8L);
+            assertEquals(numOfBuckets * 2, map.getNumOfBuckets());
+            createSomeData(testType, map, count, count, 1);
+            checkData(testType, map, count, count, 1);
+            for (int i = 1; i < count; i += 2) {
+                assertEquals(i, map.get(testType.createVirtualLongKey(i), -1), "Wrong value for key " + i);
+            }
+            // filters must be restored from a snapshot
+            map.snapshot(snapshotDir);
+            try (HalfDiskHashMap mapFromSnapshot =
+                    new HalfDiskHashMap(config, count, snapshotDir, "bucketFilters", null, false)) {
+                checkData(testType, mapFromSnapshot, count, count, 1);
+                for (int i = 0; i < count; i++) {
+                    final long expected = (i % 2 == 0) ? -1 : i;
+                    assertEquals(expected, mapFromSnapshot.get(testType.createVirtualLongKey(i), -1));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void getAll(FilesTestType testType) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (HalfDiskHashMap map = createNewTempMap("getAll", 10_000)) {
+            // two flushes, so buckets are in different files
+            createSomeData(testType, map, 0, 5_000, 1);
+            createSomeData(testType, map, 5_000, 5_000, 1);
+            final List<Bytes> keys = new ArrayList<>();
+            // some keys are requested twice, some keys are missing
+            for (int i = 0; i < 12_000; i += 3) {
+                keys.add(testType.createVirtualLongKey(i));
+            }
+            for (int i = 0; i < 1_000; i++) {
+                keys.add(testType.createVirtualLongKey(i));
+            }
+            final long[] values = map.getAll(keys, -1, executor);
+            assertEquals(keys.size(), values.length);
+            for (int i = 0; i < keys.size(); i++) {
+                assertEquals(map.get(keys.get(i), -1), values[i], "Wrong value for key " + keys.get(i));
+            }
+            assertEquals(-1, values[11_000 / 3 + 1]);
+            assertEquals(0, map.getAll(List.of(), -1, executor).length);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(FilesTestType.class)
     void updateData(FilesTestType testType) throws Exception {
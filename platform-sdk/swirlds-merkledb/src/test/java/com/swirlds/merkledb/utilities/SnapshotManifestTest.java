@@ -0,0 +1,89 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotManifestTest {
+
+    @TempDir
+    Path snapshotDir;
+
+    private Path manifestFile;
+
+    private void createSnapshotFiles() throws IOException {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            final Path dir = snapshotDir.resolve("store" + (i % 3));
+            Files.createDirectories(dir);
+            final byte[] data = new byte[random.nextInt(3 * 1024 * 1024)];
+            random.nextBytes(data);
+            Files.write(dir.resolve("file" + i + ".pbj"), data);
+        }
+        Files.write(snapshotDir.resolve("metadata.pbj"), new byte[0]);
+        manifestFile = snapshotDir.resolve("checksums.txt");
+    }
+
+    @Test
+    void writeAndVerify() throws IOException {
+        createSnapshotFiles();
+        SnapshotManifest.write(snapshotDir, manifestFile, null);
+        assertTrue(Files.exists(manifestFile));
+        final List<String> lines = Files.readAllLines(manifestFile);
+        assertEquals(11, lines.size());
+        assertEquals(11, SnapshotManifest.verify(snapshotDir, manifestFile));
+    }
+
+    @Test
+    void knownChecksumsUsed() throws IOException {
+        createSnapshotFiles();
+        SnapshotManifest.write(snapshotDir, manifestFile, null);
+        final Path manifestFile2 = snapshotDir.resolve("checksums2.txt");
+        // All known checksums must match the checksums computed from file contents
+        SnapshotManifest.write(snapshotDir, manifestFile2, SnapshotManifest::checksum);
+        final List<String> lines = Files.readAllLines(manifestFile);
+        final List<String> lines2 = Files.readAllLines(manifestFile2);
+        // The second manifest includes the first one
+        assertEquals(lines.size() + 1, lines2.size());
+        assertTrue(lines2.containsAll(lines));
+    }
+
+    @Test
+    void corruptedFileDetected() throws IOException {
+        createSnapshotFiles();
+        SnapshotManifest.write(snapshotDir, manifestFile, null);
+        final Path file = snapshotDir.resolve("store1").resolve("file1.pbj");
+        final byte[] data = Files.readAllBytes(file);
+        data[data.length / 2] ^= 1;
+        Files.write(file, data);
+        assertThrows(IOException.class, () -> SnapshotManifest.verify(snapshotDir, manifestFile));
+    }
+
+    @Test
+    void truncatedFileDetected() throws IOException {
+        createSnapshotFiles();
+        SnapshotManifest.write(snapshotDir, manifestFile, null);
+        final Path file = snapshotDir.resolve("store2").resolve("file2.pbj");
+        final byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, data.length - 1));
+        assertThrows(IOException.class, () -> SnapshotManifest.verify(snapshotDir, manifestFile));
+    }
+
+    @Test
+    void missingFileDetected() throws IOException {
+        createSnapshotFiles();
+        SnapshotManifest.write(snapshotDir, manifestFile, null);
+        Files.delete(snapshotDir.resolve("store0").resolve("file0.pbj"));
+        assertThrows(IOException.class, () -> SnapshotManifest.verify(snapshotDir, manifestFile));
+    }
+}
@@ -72,6 +72,21 @@ public class MerkleDbTestUtils {
             .withConfigDataType(FileSystemManagerConfig.class)
             .build();
 
+    /**
+     * Create a config builder for the same config data types as {@link #CONFIGURATION}, with the
+     * given property overridden. More properties can be overridden using the returned builder.
+     *
+     * @param propertyName the name of the property to override
+     * @param value the property value
+     * @return the config builder
+     */
+    @NonNull
+    public static TestConfigBuilder configBuilderWith(@NonNull final String propertyName, @NonNull final Object value) {
+        final TestConfigBuilder builder = new TestConfigBuilder(false);
+        CONFIGURATION.getConfigDataTypes().forEach(type -> builder.withConfigDataType(type));
+        return builder.withValue(propertyName, value);
+    }
+
     /**
      * Run a callable test in the background and then make sure no direct memory is leaked and not
      * databases are left open. Running test in a thread helps by allowing the thread to be killed
@@ -24,6 +24,7 @@ jmhModuleInfo {
     requires("com.swirlds.platform.core")
     requires("com.swirlds.common.test.fixtures")
     requires("com.swirlds.platform.core.test.fixtures")
+    requires("com.swirlds.config.extensions.test.fixtures")
     requires("com.hedera.node.hapi")
     requires("org.hiero.consensus.model.test.fixtures")
     requires("jmh.core")
@@ -5,7 +5,9 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.WeightGenerators;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.platform.Consensus;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.consensus.ConsensusConfig_;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.metrics.NoOpConsensusMetrics;
 import com.swirlds.platform.test.fixtures.event.emitter.EventEmitterBuilder;
@@ -40,13 +42,20 @@ public class ConsensusBenchmark {
     @Param({"0"})
     public long seed;
 
+    /** Whether consensus metadata is stored in dense slot tables, see {@code ConsensusConfig.denseMetadata()} */
+    @Param({"false", "true"})
+    public boolean denseMetadata;
+
     private List<EventImpl> events;
     private Consensus consensus;
 
     @Setup(Level.Iteration)
     public void setup() {
-        final PlatformContext platformContext =
-                TestPlatformContextBuilder.create().build();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(ConsensusConfig_.DENSE_METADATA, denseMetadata)
+                        .getOrCreateConfig())
+                .build();
         final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
                 .setRandomSeed(seed)
                 .setNumNodes(numNodes)
@@ -3,8 +3,10 @@ package com.swirlds.platform.core.jmh;
 
 import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.platform.event.preconsensus.PcesFile;
 import com.swirlds.platform.event.preconsensus.PcesFileWriterType;
+import com.swirlds.platform.event.preconsensus.PcesGroupCommitter;
 import com.swirlds.platform.event.preconsensus.PcesMutableFile;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -32,12 +34,17 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 3, time = 10)
 public class PcesWriterBenchmark {
 
-    @Param({"OUTPUT_STREAM", "FILE_CHANNEL", "FILE_CHANNEL_SYNC"})
+    /** The size the files are preallocated to, if the writer preallocates, same as the default preferred file size */
+    private static final long EXPECTED_FILE_SIZE = 10L * 1024 * 1024;
+
+    @Param({"OUTPUT_STREAM", "FILE_CHANNEL", "FILE_CHANNEL_SYNC", "MAPPED_BUFFER"})
     public PcesFileWriterType pcesFileWriterType;
 
     private PlatformEvent event;
     private Path directory;
     private PcesMutableFile mutableFile;
+    private PcesGroupCommitter groupCommitter;
+    private long sequenceNumber;
 
     @Setup(Level.Iteration)
     public void setup() throws IOException {
@@ -52,11 +59,14 @@ public class PcesWriterBenchmark {
         directory = Files.createTempDirectory("PcesWriterBenchmark");
         final PcesFile file = PcesFile.of(r.nextInstant(), 1, 0, 100, 0, directory);
 
-        mutableFile = file.getMutableFile(pcesFileWriterType);
+        mutableFile = file.getMutableFile(pcesFileWriterType, false, EXPECTED_FILE_SIZE);
+        groupCommitter = new PcesGroupCommitter(TestPlatformContextBuilder.create().build());
+        sequenceNumber = 0;
     }
 
     @TearDown(Level.Iteration)
     public void cleanup() throws IOException {
+        groupCommitter.close();
         mutableFile.close();
         FileUtils.deleteDirectory(directory);
     }
@@ -91,4 +101,18 @@ public class PcesWriterBenchmark {
         mutableFile.writeEvent(event);
         mutableFile.sync();
     }
+
+    /**
+     * Writes events while a background thread syncs them, as with
+     * {@link com.swirlds.platform.event.preconsensus.FileSyncOption#GROUP_COMMIT}. Each sync covers all events written
+     * while the previous sync was in progress.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void writeEventAndGroupCommit() throws IOException {
+        mutableFile.writeEvent(event);
+        mutableFile.flush();
+        groupCommitter.requestSync(mutableFile, ++sequenceNumber);
+    }
 }
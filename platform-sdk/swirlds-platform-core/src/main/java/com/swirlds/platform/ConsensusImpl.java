@@ -24,6 +24,7 @@ import com.swirlds.platform.consensus.ConsensusSorter;
 import com.swirlds.platform.consensus.ConsensusUtils;
 import com.swirlds.platform.consensus.CountingVote;
 import com.swirlds.platform.consensus.DeGen;
+import com.swirlds.platform.consensus.DenseConsensusMetadata;
 import com.swirlds.platform.consensus.InitJudges;
 import com.swirlds.platform.consensus.RoundElections;
 import com.swirlds.platform.event.EventUtils;
@@ -167,6 +168,11 @@ public class ConsensusImpl implements Consensus {
      * list.
      */
     private final List<EventImpl> recentEvents = new LinkedList<>();
+    /**
+     * stores lastSee and stronglySeeP metadata of all events in {@link #recentEvents}, or null if every event stores
+     * its own metadata
+     */
+    private final DenseConsensusMetadata denseMetadata;
     /** stores all round information */
     private final ConsensusRounds rounds;
     /**
@@ -224,6 +230,8 @@ public class ConsensusImpl implements Consensus {
         this.rosterIndicesMap = RosterUtils.toIndicesMap(roster);
 
         this.rounds = new ConsensusRounds(config, roster);
+        this.denseMetadata =
+                config.denseMetadata() ? new DenseConsensusMetadata(roster.rosterEntries().size()) : null;
 
         this.noSuperMajorityLogger = new RateLimitedLogger(logger, platformContext.getTime(), Duration.ofMinutes(1));
         this.noJudgeLogger = new RateLimitedLogger(logger, platformContext.getTime(), Duration.ofMinutes(1));
@@ -249,6 +257,9 @@ public class ConsensusImpl implements Consensus {
 
     /** Reset this instance to a state of a newly created instance */
     private void reset() {
+        if (denseMetadata != null) {
+            recentEvents.forEach(denseMetadata::releaseSlot);
+        }
         recentEvents.clear();
         rounds.reset();
         numConsensus = 0;
@@ -287,6 +298,9 @@ public class ConsensusImpl implements Consensus {
     public List<ConsensusRound> addEvent(@NonNull final EventImpl event) {
         try {
             recentEvents.add(event);
+            if (denseMetadata != null) {
+                denseMetadata.assignSlot(event);
+            }
             // set its round to undefined so that it gets calculated
             event.setRoundCreated(ConsensusConstants.ROUND_UNDEFINED);
             ConsensusRound consensusRound;
@@ -358,11 +372,17 @@ public class ConsensusImpl implements Consensus {
                 // all events that are consensus or ancient have a round of -infinity
                 insertedEvent.setRoundCreated(ConsensusConstants.ROUND_NEGATIVE_INFINITY);
                 iterator.remove();
+                if (denseMetadata != null) {
+                    denseMetadata.releaseSlot(insertedEvent);
+                }
                 continue;
             }
 
             // for all other events, we need to recalculate its round and metadata
             insertedEvent.clearMetadata();
+            if (denseMetadata != null) {
+                denseMetadata.clear(insertedEvent);
+            }
             insertedEvent.setRoundCreated(ConsensusConstants.ROUND_UNDEFINED);
 
             final ConsensusRound consensusRound = calculateAndVote(insertedEvent);
@@ -974,21 +994,21 @@ public class ConsensusImpl implements Consensus {
         if (notRelevantForConsensus(x)) {
             return null;
         }
-        if (x.sizeLastSee() != 0) { // return memoized answer, if available
-            return x.getLastSee((int) m);
+        if (isLastSeeMemoized(x)) { // return memoized answer, if available
+            return getLastSee(x, (int) m);
         }
         // memoize answers for all choices of m, then return answer for just this m
         numMembers = roster.rosterEntries().size();
-        x.initLastSee(numMembers);
+        initLastSee(x, numMembers);
 
         op = otherParent(x);
         sp = selfParent(x);
 
         for (int mm = 0; mm < numMembers; mm++) {
             if (creatorIndexEquals(x, mm)) {
-                x.setLastSee(mm, x);
+                setLastSee(x, mm, x);
             } else if (sp == null && op == null) {
-                x.setLastSee(mm, null);
+                setLastSee(x, mm, null);
             } else {
                 final EventImpl lsop = lastSee(op, mm);
                 final EventImpl lssp = lastSee(sp, mm);
@@ -997,13 +1017,13 @@ public class ConsensusImpl implements Consensus {
                 final long lsopGen = lsop == null ? DeGen.GENERATION_UNDEFINED : lsop.getDeGen();
                 final long lsspGen = lssp == null ? DeGen.GENERATION_UNDEFINED : lssp.getDeGen();
                 if ((round(lsop) > round(lssp)) || ((lsopGen > lsspGen) && (firstSee(op, mm) == firstSee(sp, mm)))) {
-                    x.setLastSee(mm, lsop);
+                    setLastSee(x, mm, lsop);
                 } else {
-                    x.setLastSee(mm, lssp);
+                    setLastSee(x, mm, lssp);
                 }
             }
         }
-        return x.getLastSee((int) m);
+        return getLastSee(x, (int) m);
     }
 
     /**
@@ -1048,8 +1068,8 @@ public class ConsensusImpl implements Consensus {
         if (notRelevantForConsensus(x)) {
             return null;
         }
-        if (x.sizeStronglySeeP() != 0) { // return memoized answer, if available
-            return x.getStronglySeeP((int) m);
+        if (isStronglySeePMemoized(x)) { // return memoized answer, if available
+            return getStronglySeeP(x, (int) m);
         }
         // calculate the answer, and remember it for next time
         // find and memoize answers for all choices of m, then return answer for just this m
@@ -1060,17 +1080,17 @@ public class ConsensusImpl implements Consensus {
         final long prsp = parentRound(sp); // parent round of self parent of x
         final long prop = parentRound(op); // parent round of other parent of x
 
-        x.initStronglySeeP(numMembers);
+        initStronglySeeP(x, numMembers);
         for (int mm = 0; mm < numMembers; mm++) {
             if (stronglySeeP(sp, mm) != null && prx == prsp) {
-                x.setStronglySeeP(mm, stronglySeeP(sp, mm));
+                setStronglySeeP(x, mm, stronglySeeP(sp, mm));
             } else if (stronglySeeP(op, mm) != null && prx == prop) {
-                x.setStronglySeeP(mm, stronglySeeP(op, mm));
+                setStronglySeeP(x, mm, stronglySeeP(op, mm));
             } else {
                 // the canonical witness by mm that is seen by x thru someone else
                 final EventImpl st = seeThru(x, mm, mm);
                 if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
-                    x.setStronglySeeP(mm, null);
+                    setStronglySeeP(x, mm, null);
                 } else {
                     long weight = 0;
                     for (int m3 = 0; m3 < numMembers; m3++) {
@@ -1081,14 +1101,14 @@ public class ConsensusImpl implements Consensus {
                     if (Threshold.SUPER_MAJORITY.isSatisfiedBy(
                             weight, rosterTotalWeight)) { // strongly see supermajority of
                         // intermediates
-                        x.setStronglySeeP(mm, st);
+                        setStronglySeeP(x, mm, st);
                     } else {
-                        x.setStronglySeeP(mm, null);
+                        setStronglySeeP(x, mm, null);
                     }
                 }
             }
         }
-        return x.getStronglySeeP((int) m);
+        return getStronglySeeP(x, (int) m);
     }
 
     /**
@@ -1272,6 +1292,58 @@ public class ConsensusImpl implements Consensus {
         return firstSelfWitnessS(lastSee(x, m));
     }
 
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Metadata storage, either in the events or in dense tables, see ConsensusConfig.denseMetadata()
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private boolean isLastSeeMemoized(@NonNull final EventImpl x) {
+        return denseMetadata != null ? denseMetadata.isLastSeeMemoized(x) : x.sizeLastSee() != 0;
+    }
+
+    private void initLastSee(@NonNull final EventImpl x, final int numMembers) {
+        if (denseMetadata != null) {
+            denseMetadata.markLastSeeMemoized(x);
+        } else {
+            x.initLastSee(numMembers);
+        }
+    }
+
+    private @Nullable EventImpl getLastSee(@NonNull final EventImpl x, final int m) {
+        return denseMetadata != null ? denseMetadata.getLastSee(x, m) : x.getLastSee(m);
+    }
+
+    private void setLastSee(@NonNull final EventImpl x, final int m, @Nullable final EventImpl seen) {
+        if (denseMetadata != null) {
+            denseMetadata.setLastSee(x, m, seen);
+        } else {
+            x.setLastSee(m, seen);
+        }
+    }
+
+    private boolean isStronglySeePMemoized(@NonNull final EventImpl x) {
+        return denseMetadata != null ? denseMetadata.isStronglySeePMemoized(x) : x.sizeStronglySeeP() != 0;
+    }
+
+    private void initStronglySeeP(@NonNull final EventImpl x, final int numMembers) {
+        if (denseMetadata != null) {
+            denseMetadata.markStronglySeePMemoized(x);
+        } else {
+            x.initStronglySeeP(numMembers);
+        }
+    }
+
+    private @Nullable EventImpl getStronglySeeP(@NonNull final EventImpl x, final int m) {
+        return denseMetadata != null ? denseMetadata.getStronglySeeP(x, m) : x.getStronglySeeP(m);
+    }
+
+    private void setStronglySeeP(@NonNull final EventImpl x, final int m, @Nullable final EventImpl seen) {
+        if (denseMetadata != null) {
+            denseMetadata.setStronglySeeP(x, m, seen);
+        } else {
+            x.setStronglySeeP(m, seen);
+        }
+    }
+
     /**
      * Get the weigh of a node by its ID
      * @param nodeId the ID of the node
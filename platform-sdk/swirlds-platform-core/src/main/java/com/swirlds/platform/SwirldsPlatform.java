@@ -31,7 +31,9 @@ import com.swirlds.platform.event.EventCounter;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
 import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesFileTracker;
+import com.swirlds.platform.event.preconsensus.PcesHashChainVerifier;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
+import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.metrics.RuntimeMetrics;
 import com.swirlds.platform.publisher.DefaultPlatformPublisher;
 import com.swirlds.platform.publisher.PlatformPublisher;
@@ -145,6 +147,16 @@ public class SwirldsPlatform implements Platform {
      */
     private final PlatformWiring platformWiring;
 
+    /**
+     * Writes preconsensus events, closed when the platform is destroyed.
+     */
+    private final InlinePcesWriter pcesWriter;
+
+    /**
+     * Validates event signatures, closed when the platform is destroyed.
+     */
+    private final EventSignatureValidator eventSignatureValidator;
+
     private final long pcesReplayLowerBound;
 
     /**
@@ -238,6 +250,8 @@ public class SwirldsPlatform implements Platform {
                 savedStateController,
                 appNotifier,
                 publisher);
+        pcesWriter = inlinePcesWriter != null ? inlinePcesWriter : builder.buildInlinePcesWriter();
+        eventSignatureValidator = builder.buildEventSignatureValidator();
 
         final Hash legacyRunningEventHash =
                 platformStateFacade.legacyRunningEventHashOf(initialState.getState()) == null
@@ -350,6 +364,8 @@ public class SwirldsPlatform implements Platform {
         notificationEngine.shutdown();
         platformContext.getRecycleBin().stop();
         platformWiring.stop();
+        pcesWriter.close();
+        eventSignatureValidator.close();
         getMetricsProvider().removePlatformMetrics(selfId);
     }
 
@@ -392,12 +408,24 @@ public class SwirldsPlatform implements Platform {
     private void replayPreconsensusEvents() {
         platformWiring.getStatusActionSubmitter().submitStatusAction(new StartedReplayingEventsAction());
 
-        final IOIterator<PlatformEvent> iterator =
-                initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
-
-        logger.info(STARTUP.getMarker(), "replaying preconsensus event stream starting at {}", pcesReplayLowerBound);
-
-        platformWiring.getPcesReplayerIteratorInput().inject(iterator);
+        final boolean trustedReplay =
+                platformContext.getConfiguration().getConfigData(PcesConfig.class).trustedReplay();
+        final PcesHashChainVerifier hashChainVerifier =
+                trustedReplay ? new PcesHashChainVerifier(platformContext) : null;
+        try {
+            final IOIterator<PlatformEvent> iterator =
+                    initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound, hashChainVerifier);
+
+            logger.info(
+                    STARTUP.getMarker(), "replaying preconsensus event stream starting at {}", pcesReplayLowerBound);
+
+            // the replayer is a direct component, all files have been read when this returns
+            platformWiring.getPcesReplayerIteratorInput().inject(iterator);
+        } finally {
+            if (hashChainVerifier != null) {
+                hashChainVerifier.close();
+            }
+        }
 
         // We have to wait for all the PCES transactions to reach the ISS detector before telling it that PCES replay is
         // done. The PCES replay will flush the intake pipeline, but we have to flush the hasher
@@ -472,6 +472,9 @@ public final class PlatformBuilder {
                     .withHealthLogThreshold(wiringConfig.healthLogThreshold())
                     .withHealthLogPeriod(wiringConfig.healthLogPeriod())
                     .withHealthyReportThreshold(wiringConfig.healthyReportThreshold())
+                    .withLatencyProfilingEnabled(wiringConfig.latencyProfilingEnabled())
+                    .withLatencyProfilingPeriod(wiringConfig.latencyProfilingPeriod())
+                    .withCriticalPath(wiringConfig.criticalPathSource(), wiringConfig.criticalPathSink())
                     .build();
         }
 
@@ -34,8 +34,10 @@ import com.swirlds.platform.event.resubmitter.DefaultTransactionResubmitter;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
 import com.swirlds.platform.event.stream.DefaultConsensusEventStream;
+import com.swirlds.platform.event.validation.DefaultEventSignatureBatcher;
 import com.swirlds.platform.event.validation.DefaultEventSignatureValidator;
 import com.swirlds.platform.event.validation.DefaultInternalEventValidator;
+import com.swirlds.platform.event.validation.EventSignatureBatcher;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.DefaultTransactionHandler;
@@ -66,6 +68,7 @@ import com.swirlds.platform.system.SystemExitUtils;
 import com.swirlds.platform.system.status.DefaultStatusStateMachine;
 import com.swirlds.platform.system.status.StatusStateMachine;
 import com.swirlds.platform.util.MetricsDocUtils;
+import com.swirlds.platform.wiring.PlatformSchedulersConfig;
 import com.swirlds.platform.wiring.components.Gossip;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
@@ -112,6 +115,7 @@ public class PlatformComponentBuilder {
     private EventHasher eventHasher;
     private InternalEventValidator internalEventValidator;
     private EventDeduplicator eventDeduplicator;
+    private EventSignatureBatcher eventSignatureBatcher;
     private EventSignatureValidator eventSignatureValidator;
     private SelfEventSigner selfEventSigner;
     private StateGarbageCollector stateGarbageCollector;
@@ -316,6 +320,43 @@ public class PlatformComponentBuilder {
         return eventDeduplicator;
     }
 
+    /**
+     * Provide an event signature batcher in place of the platform's default event signature batcher.
+     *
+     * @param eventSignatureBatcher the event signature batcher to use
+     * @return this builder
+     */
+    @NonNull
+    public PlatformComponentBuilder withEventSignatureBatcher(
+            @NonNull final EventSignatureBatcher eventSignatureBatcher) {
+        throwIfAlreadyUsed();
+        if (this.eventSignatureBatcher != null) {
+            throw new IllegalStateException("Event signature batcher has already been set");
+        }
+        this.eventSignatureBatcher = Objects.requireNonNull(eventSignatureBatcher);
+
+        return this;
+    }
+
+    /**
+     * Build the event signature batcher if it has not yet been built. If one has been provided via
+     * {@link #withEventSignatureBatcher(EventSignatureBatcher)}, that batcher will be used. If this method is called
+     * more than once, only the first call will build the event signature batcher. Otherwise, the default batcher will
+     * be created and returned.
+     *
+     * @return the event signature batcher
+     */
+    @NonNull
+    public EventSignatureBatcher buildEventSignatureBatcher() {
+        if (eventSignatureBatcher == null) {
+            eventSignatureBatcher = new DefaultEventSignatureBatcher(blocks.platformContext()
+                    .getConfiguration()
+                    .getConfigData(PlatformSchedulersConfig.class)
+                    .eventSignatureBatchSize());
+        }
+        return eventSignatureBatcher;
+    }
+
     /**
      * Provide an event signature validator in place of the platform's default event signature validator.
      *
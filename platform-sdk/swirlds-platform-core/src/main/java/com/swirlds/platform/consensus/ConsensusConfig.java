@@ -15,9 +15,13 @@ import com.swirlds.config.api.ConfigProperty;
  *                         and never have their transactions handled.
  * @param roundsExpired    Events this many rounds old are expired, and can be deleted from memory
  * @param coinFreq         a coin round happens every coinFreq rounds during an election (every other one is all true)
+ * @param denseMetadata    if true, the lastSee and stronglySeeP metadata of non-ancient events is stored in flat tables
+ *                         indexed by a dense event slot, see {@link DenseConsensusMetadata}. If false, every event
+ *                         stores its own metadata arrays
  */
 @ConfigData("consensus")
 public record ConsensusConfig(
         @ConfigProperty(defaultValue = "26") int roundsNonAncient,
         @ConfigProperty(defaultValue = "1000") int roundsExpired,
-        @ConfigProperty(defaultValue = "12") int coinFreq) {}
+        @ConfigProperty(defaultValue = "12") int coinFreq,
+        @ConfigProperty(defaultValue = "false") boolean denseMetadata) {}
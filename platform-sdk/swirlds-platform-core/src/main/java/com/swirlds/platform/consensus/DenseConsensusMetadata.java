@@ -0,0 +1,363 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+
+/**
+ * Stores the per-creator consensus metadata (lastSee and stronglySeeP, see SWIRLDS-TR-2020-01) of all non-ancient
+ * events in flat tables, instead of in arrays owned by every {@link EventImpl}. Every event added to consensus is
+ * assigned a dense integer slot, and the metadata of an event by creator {@code m} is stored at
+ * {@code slot * numMembers + m}. The tables store slot numbers rather than event references, and slot numbers are
+ * resolved to events through a single slot to event array.
+ *
+ * <p>The metadata of all events is recalculated every time a round is decided. With per-event arrays, this allocates
+ * two new arrays per event and round. With this class, clearing the metadata of an event only resets its flags, and
+ * the tables are only reallocated when the number of non-ancient events grows.
+ *
+ * <p>Slots of events that reach consensus or become ancient are released, but a released slot is not reused right
+ * away. The metadata of other events may still reference it, for example the metadata of the judges of the last
+ * decided round, which is kept intact. Released slots are reclaimed in batches, once no memoized metadata references
+ * them. Events that are referenced by metadata, but have never been added to consensus, are given a released slot, so
+ * they can be referenced the same way.
+ *
+ * <p>This class is not thread safe. It is expected to be used by the consensus thread only.
+ */
+public class DenseConsensusMetadata {
+    /** The slot value of an event that has no slot assigned */
+    public static final int NO_SLOT = -1;
+    /** The default number of slots */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /** the number of members in the roster */
+    private final int numMembers;
+    /** the number of slots the tables can hold */
+    private int capacity;
+    /** the event in every assigned or released slot, null for free slots */
+    private EventImpl[] slotEvents;
+    /** lastSee[slot * numMembers + m] is the slot of the last ancestor created by m, or {@link #NO_SLOT} */
+    private int[] lastSee;
+    /** stronglySeeP[slot * numMembers + m] is the slot of the strongly-seen witness in parent round by m */
+    private int[] stronglySeeP;
+    /** whether lastSee is memoized for an event in a slot */
+    private boolean[] lastSeeMemoized;
+    /** whether stronglySeeP is memoized for an event in a slot */
+    private boolean[] stronglySeePMemoized;
+    /** whether a slot is released, i.e. may only be referenced by other slots until it's reclaimed */
+    private boolean[] released;
+    /** free slots, which may be assigned to new events */
+    private int[] freeSlots;
+    /** the number of free slots in {@link #freeSlots} */
+    private int numFreeSlots = 0;
+    /** the number of released slots that are not reclaimed yet */
+    private int numReleasedSlots = 0;
+    /** the number of slots released since released slots were last reclaimed */
+    private int numReleasedSinceReclaim = 0;
+    /** the lowest slot that has never been assigned */
+    private int nextSlot = 0;
+
+    /**
+     * @param numMembers the number of members in the roster
+     */
+    public DenseConsensusMetadata(final int numMembers) {
+        this(numMembers, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param numMembers      the number of members in the roster
+     * @param initialCapacity the initial number of slots, will be automatically increased if exceeded
+     */
+    public DenseConsensusMetadata(final int numMembers, final int initialCapacity) {
+        if (numMembers < 0) {
+            throw new IllegalArgumentException("Number of members must not be negative: " + numMembers);
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        this.numMembers = numMembers;
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Assign a slot to an event, if it doesn't have one already. The event has no metadata memoized after this call.
+     *
+     * @param event the event to assign a slot to
+     */
+    public void assignSlot(@NonNull final EventImpl event) {
+        final int existingSlot = event.getConsensusSlot();
+        if (existingSlot != NO_SLOT) {
+            if (released[existingSlot]) {
+                // the event is added back, or it was only referenced by other events so far
+                released[existingSlot] = false;
+                numReleasedSlots--;
+                resetSlot(existingSlot);
+            }
+            return;
+        }
+        if (numFreeSlots == 0 && numReleasedSinceReclaim > 0 && numReleasedSinceReclaim >= nextSlot / 4) {
+            // reclaim only after enough slots are released, so the cost of reclaiming is amortized over releases
+            reclaimReleasedSlots();
+        }
+        final int slot = newSlot(event);
+        resetSlot(slot);
+    }
+
+    /**
+     * Release the slot of an event. Must be called once the event is no longer relevant for consensus, i.e. its
+     * metadata will never be read again. The slot is reused by another event once it's no longer referenced by the
+     * metadata of other events.
+     *
+     * @param event the event to release the slot of
+     */
+    public void releaseSlot(@NonNull final EventImpl event) {
+        final int slot = event.getConsensusSlot();
+        if (slot == NO_SLOT || released[slot]) {
+            return;
+        }
+        lastSeeMemoized[slot] = false;
+        stronglySeePMemoized[slot] = false;
+        released[slot] = true;
+        numReleasedSlots++;
+        numReleasedSinceReclaim++;
+    }
+
+    /**
+     * Clear all memoized metadata of an event.
+     *
+     * @param event the event to clear the metadata of
+     */
+    public void clear(@NonNull final EventImpl event) {
+        final int slot = slot(event);
+        lastSeeMemoized[slot] = false;
+        stronglySeePMemoized[slot] = false;
+    }
+
+    /**
+     * @param event the event to check
+     * @return true if lastSee is memoized for the event
+     */
+    public boolean isLastSeeMemoized(@NonNull final EventImpl event) {
+        return numMembers > 0 && lastSeeMemoized[slot(event)];
+    }
+
+    /**
+     * Mark lastSee as memoized for the event. The caller is expected to set the values for all members.
+     *
+     * @param event the event to mark
+     */
+    public void markLastSeeMemoized(@NonNull final EventImpl event) {
+        lastSeeMemoized[slot(event)] = true;
+    }
+
+    /**
+     * @param event the event being queried
+     * @param m     the member index
+     * @return last ancestor of the event created by m
+     */
+    public @Nullable EventImpl getLastSee(@NonNull final EventImpl event, final int m) {
+        return resolve(lastSee[slot(event) * numMembers + m]);
+    }
+
+    /**
+     * @param event the event being queried
+     * @param m     the member index
+     * @param seen  the last ancestor of the event created by m
+     */
+    public void setLastSee(@NonNull final EventImpl event, final int m, @Nullable final EventImpl seen) {
+        lastSee[slot(event) * numMembers + m] = reference(seen);
+    }
+
+    /**
+     * @param event the event to check
+     * @return true if stronglySeeP is memoized for the event
+     */
+    public boolean isStronglySeePMemoized(@NonNull final EventImpl event) {
+        return numMembers > 0 && stronglySeePMemoized[slot(event)];
+    }
+
+    /**
+     * Mark stronglySeeP as memoized for the event. The caller is expected to set the values for all members.
+     *
+     * @param event the event to mark
+     */
+    public void markStronglySeePMemoized(@NonNull final EventImpl event) {
+        stronglySeePMemoized[slot(event)] = true;
+    }
+
+    /**
+     * @param event the event being queried
+     * @param m     the member index
+     * @return strongly-seen witness in parent round of the event by m
+     */
+    public @Nullable EventImpl getStronglySeeP(@NonNull final EventImpl event, final int m) {
+        return resolve(stronglySeeP[slot(event) * numMembers + m]);
+    }
+
+    /**
+     * @param event the event being queried
+     * @param m     the member index
+     * @param seen  the strongly-seen witness in parent round of the event by m
+     */
+    public void setStronglySeeP(@NonNull final EventImpl event, final int m, @Nullable final EventImpl seen) {
+        stronglySeeP[slot(event) * numMembers + m] = reference(seen);
+    }
+
+    /**
+     * @return the number of slots currently assigned to events, not including released slots
+     */
+    public int getAssignedSlotCount() {
+        return nextSlot - numFreeSlots - numReleasedSlots;
+    }
+
+    /**
+     * @return the number of released slots that are not reclaimed yet
+     */
+    public int getReleasedSlotCount() {
+        return numReleasedSlots;
+    }
+
+    /**
+     * Reclaim all released slots that are not referenced by the memoized metadata of any assigned slot. Reclaimed
+     * slots may be assigned to new events. Called automatically when slots are assigned.
+     */
+    public void reclaimReleasedSlots() {
+        numReleasedSinceReclaim = 0;
+        if (numReleasedSlots == 0) {
+            return;
+        }
+        final boolean[] referenced = new boolean[nextSlot];
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (slotEvents[slot] == null || released[slot]) {
+                continue;
+            }
+            if (lastSeeMemoized[slot]) {
+                markReferenced(lastSee, slot, referenced);
+            }
+            if (stronglySeePMemoized[slot]) {
+                markReferenced(stronglySeeP, slot, referenced);
+            }
+        }
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (released[slot] && !referenced[slot]) {
+                slotEvents[slot].setConsensusSlot(NO_SLOT);
+                // drop the reference, so that old events can be garbage collected
+                slotEvents[slot] = null;
+                released[slot] = false;
+                numReleasedSlots--;
+                freeSlots[numFreeSlots++] = slot;
+            }
+        }
+    }
+
+    private void markReferenced(@NonNull final int[] table, final int slot, @NonNull final boolean[] referenced) {
+        final int start = slot * numMembers;
+        for (int i = start; i < start + numMembers; i++) {
+            if (table[i] != NO_SLOT) {
+                referenced[table[i]] = true;
+            }
+        }
+    }
+
+    /**
+     * Get a new slot for an event, either a free one or a never assigned one.
+     *
+     * @param event the event to get a slot for
+     * @return the slot
+     */
+    private int newSlot(@NonNull final EventImpl event) {
+        final int slot;
+        if (numFreeSlots > 0) {
+            slot = freeSlots[--numFreeSlots];
+        } else {
+            if (nextSlot == capacity) {
+                allocate(Math.multiplyExact(capacity, 2));
+            }
+            slot = nextSlot++;
+        }
+        slotEvents[slot] = event;
+        event.setConsensusSlot(slot);
+        return slot;
+    }
+
+    /**
+     * Reset the memoization flags and the metadata of a slot.
+     *
+     * @param slot the slot to reset
+     */
+    private void resetSlot(final int slot) {
+        lastSeeMemoized[slot] = false;
+        stronglySeePMemoized[slot] = false;
+        Arrays.fill(lastSee, slot * numMembers, (slot + 1) * numMembers, NO_SLOT);
+        Arrays.fill(stronglySeeP, slot * numMembers, (slot + 1) * numMembers, NO_SLOT);
+    }
+
+    /**
+     * Get the slot to store in the tables for an event referenced by metadata. An event that has no slot is given a
+     * released slot, it's reclaimed once no metadata references the event. Released slots are never reclaimed here, as
+     * the metadata of the current event may only be partially set.
+     *
+     * @param seen the referenced event, may be null
+     * @return the slot of the event, or {@link #NO_SLOT} if the event is null
+     */
+    private int reference(@Nullable final EventImpl seen) {
+        if (seen == null) {
+            return NO_SLOT;
+        }
+        final int slot = seen.getConsensusSlot();
+        if (slot != NO_SLOT) {
+            return slot;
+        }
+        final int newSlot = newSlot(seen);
+        lastSeeMemoized[newSlot] = false;
+        stronglySeePMemoized[newSlot] = false;
+        released[newSlot] = true;
+        numReleasedSlots++;
+        numReleasedSinceReclaim++;
+        return newSlot;
+    }
+
+    /**
+     * @param slot a slot stored in the tables
+     * @return the event in the slot, or null if the slot is {@link #NO_SLOT}
+     */
+    private @Nullable EventImpl resolve(final int slot) {
+        return slot == NO_SLOT ? null : slotEvents[slot];
+    }
+
+    private int slot(@NonNull final EventImpl event) {
+        final int slot = event.getConsensusSlot();
+        if (slot == NO_SLOT || released[slot]) {
+            throw new IllegalStateException("Event has no consensus slot assigned: " + event.shortString());
+        }
+        return slot;
+    }
+
+    /**
+     * Allocate the tables to hold the given number of slots, keeping all data of currently assigned slots.
+     *
+     * @param newCapacity the new number of slots
+     */
+    private void allocate(final int newCapacity) {
+        final int tableSize = Math.multiplyExact(newCapacity, numMembers);
+        if (lastSee == null) {
+            slotEvents = new EventImpl[newCapacity];
+            lastSee = new int[tableSize];
+            stronglySeeP = new int[tableSize];
+            lastSeeMemoized = new boolean[newCapacity];
+            stronglySeePMemoized = new boolean[newCapacity];
+            released = new boolean[newCapacity];
+            freeSlots = new int[newCapacity];
+        } else {
+            slotEvents = Arrays.copyOf(slotEvents, newCapacity);
+            lastSee = Arrays.copyOf(lastSee, tableSize);
+            stronglySeeP = Arrays.copyOf(stronglySeeP, tableSize);
+            lastSeeMemoized = Arrays.copyOf(lastSeeMemoized, newCapacity);
+            stronglySeePMemoized = Arrays.copyOf(stronglySeePMemoized, newCapacity);
+            released = Arrays.copyOf(released, newCapacity);
+            freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+        }
+        capacity = newCapacity;
+    }
+}
@@ -46,6 +46,11 @@ public class CommonPcesWriter {
      */
     private final int preferredFileSizeMegabytes;
 
+    /**
+     * The preferred file size in bytes, writers that preallocate files use it as the initial file size.
+     */
+    private final long preferredFileSizeBytes;
+
     /**
      * When creating a new file, make sure that it has at least this much capacity between the upper bound and lower
      * bound for events after the first event written to the file.
@@ -104,6 +109,11 @@ public class CommonPcesWriter {
      */
     private final PcesFileWriterType pcesFileWriterType;
 
+    /**
+     * If true then every file ends with a hash chain of its events, which allows trusted replay of the file
+     */
+    private final boolean writeHashChain;
+
     /**
      * Constructor
      *
@@ -122,6 +132,7 @@ public class CommonPcesWriter {
         spanOverlapFactor = pcesConfig.spanOverlapFactor();
         minimumSpan = pcesConfig.minimumSpan();
         preferredFileSizeMegabytes = pcesConfig.preferredFileSizeMegabytes();
+        preferredFileSizeBytes = (long) UNIT_MEGABYTES.convertTo(preferredFileSizeMegabytes, UNIT_BYTES);
 
         // performance of FILE_CHANNEL is 150x slower on MacOS, but marginally better on Linux; it is so bad on Mac
         // that basic tests cannot pass in some cases, so we need to make it system dependent, at same time allowing
@@ -132,6 +143,7 @@ public class CommonPcesWriter {
             pcesFileWriterType = pcesConfig.pcesFileWriterType();
         }
 
+        writeHashChain = pcesConfig.trustedReplay();
         averageSpanUtilization = new LongRunningAverage(pcesConfig.spanUtilizationRunningAverageLength());
     }
 
@@ -266,7 +278,7 @@ public class CommonPcesWriter {
 
             currentMutableFile = fileManager
                     .getNextFileDescriptor(nonAncientBoundary, upperBound)
-                    .getMutableFile(pcesFileWriterType);
+                    .getMutableFile(pcesFileWriterType, writeHashChain, preferredFileSizeBytes);
         }
 
         return fileClosed;
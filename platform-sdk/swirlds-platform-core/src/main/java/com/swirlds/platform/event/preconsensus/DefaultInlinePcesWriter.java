@@ -5,6 +5,11 @@ import com.swirlds.common.context.PlatformContext;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
@@ -17,6 +22,31 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     private final FileSyncOption fileSyncOption;
     private final PcesWriterPerEventMetrics pcesWriterPerEventMetrics;
 
+    /**
+     * Syncs files in the background if syncing with {@link FileSyncOption#GROUP_COMMIT}, otherwise null.
+     */
+    private final PcesGroupCommitter groupCommitter;
+    /**
+     * Events that were written but not yet released, in the order they were written. Only used when syncing with
+     * {@link FileSyncOption#GROUP_COMMIT}.
+     */
+    private final Deque<PendingEvent> pendingEvents = new ArrayDeque<>();
+    /**
+     * The sequence number of the last event written to a file. Only used when syncing with
+     * {@link FileSyncOption#GROUP_COMMIT}.
+     */
+    private long sequenceNumber = 0;
+
+    /**
+     * An event waiting to be released.
+     *
+     * @param event          the event
+     * @param sequenceNumber the sequence number of the last event written when this event was handled
+     * @param awaitsSync     true if the event may only be released once all events up to its sequence number are
+     *                       durable
+     */
+    private record PendingEvent(@NonNull PlatformEvent event, long sequenceNumber, boolean awaitsSync) {}
+
     /**
      * Constructor
      *
@@ -38,6 +68,8 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
 
         this.pcesWriterPerEventMetrics =
                 new PcesWriterPerEventMetrics(platformContext.getMetrics(), platformContext.getTime());
+        this.groupCommitter =
+                fileSyncOption == FileSyncOption.GROUP_COMMIT ? new PcesGroupCommitter(platformContext) : null;
     }
 
     @Override
@@ -50,34 +82,42 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
      */
     @NonNull
     @Override
-    public PlatformEvent writeEvent(@NonNull final PlatformEvent event) {
+    public List<PlatformEvent> writeEvent(@NonNull final PlatformEvent event) {
         pcesWriterPerEventMetrics.startWriteEvent();
 
         // if we aren't streaming new events yet, assume that the given event is already durable
         if (!commonPcesWriter.isStreamingNewEvents()) {
-            return event;
+            return release(event, false);
         }
 
         if (event.getBirthRound() < commonPcesWriter.getNonAncientBoundary()) {
             // don't do anything with ancient events
-            return event;
+            return release(event, false);
         }
 
         try {
-            commonPcesWriter.prepareOutputStream(event);
+            final boolean fileClosed = commonPcesWriter.prepareOutputStream(event);
+            if (fileClosed && groupCommitter != null) {
+                // closing a file syncs it
+                groupCommitter.markDurable(sequenceNumber);
+            }
             pcesWriterPerEventMetrics.startFileWrite();
             final long size = commonPcesWriter.getCurrentMutableFile().writeEvent(event);
             pcesWriterPerEventMetrics.endFileWrite(size);
+            sequenceNumber++;
 
+            final boolean selfEvent = event.getCreatorId().equals(selfId);
             if (fileSyncOption == FileSyncOption.EVERY_EVENT
-                    || (fileSyncOption == FileSyncOption.EVERY_SELF_EVENT
-                            && event.getCreatorId().equals(selfId))) {
+                    || (fileSyncOption == FileSyncOption.EVERY_SELF_EVENT && selfEvent)) {
 
                 pcesWriterPerEventMetrics.startFileSync();
                 commonPcesWriter.getCurrentMutableFile().sync();
                 pcesWriterPerEventMetrics.endFileSync();
+            } else if (fileSyncOption == FileSyncOption.GROUP_COMMIT && selfEvent) {
+                commonPcesWriter.getCurrentMutableFile().flush();
+                groupCommitter.requestSync(commonPcesWriter.getCurrentMutableFile(), sequenceNumber);
             }
-            return event;
+            return release(event, selfEvent);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
@@ -86,12 +126,63 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
         }
     }
 
+    /**
+     * Release an event that has been handled, and all events before it that became durable.
+     *
+     * @param event      the event that has been handled
+     * @param awaitsSync true if the event may only be released once it is durable
+     * @return the events to release, in the order they were handled
+     */
+    @NonNull
+    private List<PlatformEvent> release(@NonNull final PlatformEvent event, final boolean awaitsSync) {
+        if (groupCommitter == null) {
+            return List.of(event);
+        }
+        pendingEvents.add(new PendingEvent(event, sequenceNumber, awaitsSync));
+        return releaseDurableEvents();
+    }
+
+    /**
+     * Release pending events from the head of the queue, up to the first event that is not durable yet.
+     *
+     * @return the events to release, in the order they were handled
+     */
+    @NonNull
+    private List<PlatformEvent> releaseDurableEvents() {
+        final long durableSequenceNumber = groupCommitter.getDurableSequenceNumber();
+        final List<PlatformEvent> released = new ArrayList<>();
+        while (!pendingEvents.isEmpty()) {
+            final PendingEvent head = pendingEvents.peekFirst();
+            if (head.awaitsSync() && head.sequenceNumber() > durableSequenceNumber) {
+                break;
+            }
+            released.add(pendingEvents.removeFirst().event());
+        }
+        return released;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> releaseDurableEvents(@NonNull final Instant now) {
+        if (groupCommitter == null || pendingEvents.isEmpty()) {
+            return List.of();
+        }
+        return releaseDurableEvents();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void registerDiscontinuity(@NonNull Long newOriginRound) {
-        commonPcesWriter.registerDiscontinuity(newOriginRound);
+        final boolean fileClosed = commonPcesWriter.registerDiscontinuity(newOriginRound);
+        if (fileClosed && groupCommitter != null) {
+            // closing a file syncs it, pending events are released on the next heartbeat
+            groupCommitter.markDurable(sequenceNumber);
+        }
     }
 
     /**
@@ -106,4 +197,22 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {
         commonPcesWriter.setMinimumAncientIdentifierToStore(minimumAncientIdentifierToStore);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        pendingEvents.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (groupCommitter != null) {
+            groupCommitter.close();
+        }
+    }
 }
@@ -16,5 +16,11 @@ public enum FileSyncOption {
     /**
      * Never sync the file. The data will be guaranteed to be written to disk when the file is closed.
      */
-    DONT_SYNC
+    DONT_SYNC,
+    /**
+     * Sync the file on a background thread. A single sync covers all events written while the previous sync was in
+     * progress, and self events are held back until a sync covering them has completed. Other events are released
+     * behind them in order, so the output order is unchanged.
+     */
+    GROUP_COMMIT
 }
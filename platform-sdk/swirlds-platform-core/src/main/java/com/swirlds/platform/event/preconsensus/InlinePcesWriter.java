@@ -3,6 +3,8 @@ package com.swirlds.platform.event.preconsensus;
 
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
@@ -24,11 +26,23 @@ public interface InlinePcesWriter {
      * Write an event to the stream.
      *
      * @param event the event to be written
-     * @return the event written
+     * @return the events that are now durable, in the order they were written. Unless syncing with
+     * {@link FileSyncOption#GROUP_COMMIT}, this is always the event written.
      */
     @InputWireLabel("events to write")
     @NonNull
-    PlatformEvent writeEvent(@NonNull PlatformEvent event);
+    List<PlatformEvent> writeEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Release events that became durable since they were written. Only returns events when syncing with
+     * {@link FileSyncOption#GROUP_COMMIT}.
+     *
+     * @param now the current time
+     * @return the events that are now durable, in the order they were written
+     */
+    @InputWireLabel("heartbeat")
+    @NonNull
+    List<PlatformEvent> releaseDurableEvents(@NonNull Instant now);
 
     /**
      * Inform the preconsensus event writer that a discontinuity has occurred in the preconsensus event stream.
@@ -54,4 +68,15 @@ public interface InlinePcesWriter {
      */
     @InputWireLabel("minimum identifier to store")
     void setMinimumAncientIdentifierToStore(@NonNull Long minimumAncientIdentifierToStore);
+
+    /**
+     * Clear the internal state of this writer. Events that were written but not yet released are dropped.
+     */
+    void clear();
+
+    /**
+     * Release the resources held by this writer, waiting for pending syncs to complete. Called once the platform is
+     * shutting down, after no more events are written.
+     */
+    void close();
 }
@@ -2,6 +2,8 @@
 package com.swirlds.platform.event.preconsensus;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
@@ -14,8 +16,14 @@ public class NoOpInlinePcesWriter implements InlinePcesWriter {
 
     @NonNull
     @Override
-    public PlatformEvent writeEvent(@NonNull final PlatformEvent event) {
-        return event;
+    public List<PlatformEvent> writeEvent(@NonNull final PlatformEvent event) {
+        return List.of(event);
+    }
+
+    @NonNull
+    @Override
+    public List<PlatformEvent> releaseDurableEvents(@NonNull final Instant now) {
+        return List.of();
     }
 
     @Override
@@ -26,4 +34,10 @@ public class NoOpInlinePcesWriter implements InlinePcesWriter {
 
     @Override
     public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {}
+
+    @Override
+    public void clear() {}
+
+    @Override
+    public void close() {}
 }
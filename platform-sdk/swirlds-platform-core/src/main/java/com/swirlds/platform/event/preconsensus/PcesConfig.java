@@ -76,6 +76,15 @@ import java.time.Duration;
  *                                             PCES)
  * @param pcesFileWriterType                   type of pces writer to be used in default environment (Linux for now, Mac has its override at {@link #macPcesFileWriterType}
  * @param macPcesFileWriterType                override for pcesFileWriterType to be used on Mac, as FileChannel is 150x slower there
+ * @param trustedReplay                        if true, then every preconsensus event file ends with a hash chain of its
+ *                                             events when closed, and at replay time the events of files with a matching
+ *                                             chain are hashed on {@code replayHashPoolSize} threads and skip
+ *                                             signature verification, as they were verified before they were written.
+ *                                             Files without a chain, such as the last file after a crash, are verified
+ *                                             as usual.
+ * @param groupCommitHeartbeatPeriod           the period of the heartbeats sent to the inline PCES writer when
+ *                                             {@code inlinePcesSyncOption} is {@link FileSyncOption#GROUP_COMMIT}, on
+ *                                             which the writer releases events that became durable in the background
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -101,4 +110,6 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
         @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption,
         @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType pcesFileWriterType,
-        @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType macPcesFileWriterType) {}
+        @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType macPcesFileWriterType,
+        @ConfigProperty(defaultValue = "false") boolean trustedReplay,
+        @ConfigProperty(defaultValue = "1ms") Duration groupCommitHeartbeatPeriod) {}
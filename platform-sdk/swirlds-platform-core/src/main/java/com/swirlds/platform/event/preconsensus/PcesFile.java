@@ -311,7 +311,39 @@ public final class PcesFile implements Comparable<PcesFile> {
      */
     @NonNull
     public PcesMutableFile getMutableFile(@NonNull final PcesFileWriterType pcesFileWriterType) throws IOException {
-        return new PcesMutableFile(this, pcesFileWriterType);
+        return getMutableFile(pcesFileWriterType, false);
+    }
+
+    /**
+     * Get an object that can be used to write events to this file. Throws if there already exists a file on disk with
+     * the same path.
+     *
+     * @param pcesFileWriterType the type of writer to use
+     * @param writeHashChain     if true, then the file ends with a {@link PcesHashChain} of all events when closed
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(
+            @NonNull final PcesFileWriterType pcesFileWriterType, final boolean writeHashChain) throws IOException {
+        return getMutableFile(pcesFileWriterType, writeHashChain, 0);
+    }
+
+    /**
+     * Get an object that can be used to write events to this file. Throws if there already exists a file on disk with
+     * the same path.
+     *
+     * @param pcesFileWriterType the type of writer to use
+     * @param writeHashChain     if true, then the file ends with a {@link PcesHashChain} of all events when closed
+     * @param expectedFileSize   the expected size of the file in bytes, used by writers that preallocate files
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(
+            @NonNull final PcesFileWriterType pcesFileWriterType,
+            final boolean writeHashChain,
+            final long expectedFileSize)
+            throws IOException {
+        return new PcesMutableFile(this, pcesFileWriterType, writeHashChain, expectedFileSize);
     }
 
     /**
@@ -77,6 +77,14 @@ public class PcesFileChannelWriter implements PcesFileWriter {
         return size;
     }
 
+    @Override
+    public void writeHashChain(@NonNull final PcesHashChain hashChain) throws IOException {
+        buffer.putInt(PcesHashChain.MARKER);
+        buffer.putLong(hashChain.getEventCount());
+        buffer.put(hashChain.getHash().copyToByteArray());
+        flipWriteClear();
+    }
+
     /**
      * Writes the data in the buffer to the file. This method expects that the buffer will have data that is written to
      * it. The buffer will be flipped so that it can be read from, the data will be written to the file, and the buffer
@@ -105,6 +113,11 @@ public class PcesFileChannelWriter implements PcesFileWriter {
         channel.force(false);
     }
 
+    @Override
+    public void syncFlushed() throws IOException {
+        channel.force(false);
+    }
+
     @Override
     public void close() throws IOException {
         channel.close();
@@ -4,11 +4,17 @@ package com.swirlds.platform.event.preconsensus;
 import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.common.io.IOIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Queue;
+import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataInputStream;
 import org.hiero.consensus.model.event.PlatformEvent;
 
@@ -17,13 +23,26 @@ import org.hiero.consensus.model.event.PlatformEvent;
  */
 public class PcesFileIterator implements IOIterator<PlatformEvent> {
 
+    private final PcesFile fileDescriptor;
     private final long lowerBound;
+    private final BufferedInputStream bufferedStream;
     private final SerializableDataInputStream stream;
     private boolean hasPartialEvent = false;
     private PlatformEvent next;
     private boolean streamClosed = false;
     private PcesFileVersion fileVersion;
 
+    /**
+     * Verifies the hash chain at the end of the file before any event is returned, or null if the chain is ignored
+     */
+    private final PcesHashChainVerifier hashChainVerifier;
+    /** All events of the file, if they were read ahead to verify the hash chain */
+    private Queue<PlatformEvent> readAheadEvents;
+    /** The number of events in the hash chain at the end of the file, if the file has one */
+    private long hashChainEventCount;
+    /** The hash chain at the end of the file, or null if the file doesn't have one */
+    private Hash hashChain;
+
     /**
      * Create a new iterator that walks over events in a preconsensus event file.
      *
@@ -32,10 +51,29 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
      *                       round depending on the {@link PcesFile} type
      */
     public PcesFileIterator(@NonNull final PcesFile fileDescriptor, final long lowerBound) throws IOException {
+        this(fileDescriptor, lowerBound, null);
+    }
+
+    /**
+     * Create a new iterator that walks over events in a preconsensus event file.
+     *
+     * @param fileDescriptor    describes a preconsensus event file
+     * @param lowerBound        the lower bound for all events to be returned, corresponds to either generation or
+     *                          birth round depending on the {@link PcesFile} type
+     * @param hashChainVerifier if not null, then all events of a file that ends with a hash chain are read ahead, and
+     *                          are marked as previously verified if the chain matches
+     */
+    public PcesFileIterator(
+            @NonNull final PcesFile fileDescriptor,
+            final long lowerBound,
+            @Nullable final PcesHashChainVerifier hashChainVerifier)
+            throws IOException {
 
+        this.fileDescriptor = fileDescriptor;
         this.lowerBound = lowerBound;
-        stream = new SerializableDataInputStream(new BufferedInputStream(
-                new FileInputStream(fileDescriptor.getPath().toFile())));
+        this.hashChainVerifier = hashChainVerifier;
+        bufferedStream = new BufferedInputStream(new FileInputStream(fileDescriptor.getPath().toFile()));
+        stream = new SerializableDataInputStream(bufferedStream);
 
         try {
             final int fileVersionNumber = stream.readInt();
@@ -53,34 +91,93 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
      * Find the next event that should be returned.
      */
     private void findNext() throws IOException {
-        while (next == null && !streamClosed) {
-            if (stream.available() == 0) {
-                closeFile();
+        if (readAheadEvents == null
+                && hashChainVerifier != null
+                && fileVersion == PcesFileVersion.PROTOBUF_EVENTS_WITH_HASH_CHAIN) {
+            readAhead();
+        }
+
+        while (next == null) {
+            final PlatformEvent candidate = readAheadEvents == null ? readEvent() : readAheadEvents.poll();
+            if (candidate == null) {
                 return;
             }
+            if (candidate.getBirthRound() >= lowerBound) {
+                next = candidate;
+            }
+        }
+    }
 
-            try {
-                final PlatformEvent candidate =
-                        switch (fileVersion) {
-                            case PROTOBUF_EVENTS -> new PlatformEvent(stream.readPbjRecord(GossipEvent.PROTOBUF));
-                        };
-                if (candidate.getBirthRound() >= lowerBound) {
-                    next = candidate;
-                }
-            } catch (final IOException e) {
-                // We started parsing an event but couldn't find enough bytes to finish it.
-                // This is possible (if not likely) when a node is shut down abruptly.
-                hasPartialEvent = true;
-                closeFile();
-            } catch (final NullPointerException e) {
-                // The PlatformEvent constructor can throw this if the event is malformed.
-                hasPartialEvent = true;
+    /**
+     * Read all events of the file, and verify the hash chain at the end of the file if there is one.
+     */
+    private void readAhead() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (PlatformEvent event = readEvent(); event != null; event = readEvent()) {
+            events.add(event);
+        }
+        if (hashChain != null) {
+            hashChainVerifier.verify(fileDescriptor, events, hashChainEventCount, hashChain);
+        }
+        readAheadEvents = new ArrayDeque<>(events);
+    }
+
+    /**
+     * Read the next event from the file.
+     *
+     * @return the next event, or null if there are no more events
+     */
+    @Nullable
+    private PlatformEvent readEvent() throws IOException {
+        if (streamClosed) {
+            return null;
+        }
+        if (stream.available() == 0) {
+            closeFile();
+            return null;
+        }
+
+        try {
+            bufferedStream.mark(Integer.BYTES);
+            final int length = stream.readInt();
+            if (length == 0) {
+                // No event is empty. This is space preallocated by a writer, after the last event written before
+                // the node was shut down.
                 closeFile();
-                throw new IOException("GossipEvent read from the file is malformed", e);
+                return null;
+            }
+            if (length == PcesHashChain.MARKER && fileVersion == PcesFileVersion.PROTOBUF_EVENTS_WITH_HASH_CHAIN) {
+                readHashChain();
+                return null;
             }
+            bufferedStream.reset();
+            return new PlatformEvent(stream.readPbjRecord(GossipEvent.PROTOBUF));
+        } catch (final IOException e) {
+            // We started parsing an event but couldn't find enough bytes to finish it.
+            // This is possible (if not likely) when a node is shut down abruptly.
+            hasPartialEvent = true;
+            closeFile();
+            return null;
+        } catch (final NullPointerException e) {
+            // The PlatformEvent constructor can throw this if the event is malformed.
+            hasPartialEvent = true;
+            closeFile();
+            throw new IOException("GossipEvent read from the file is malformed", e);
         }
     }
 
+    /**
+     * Read the hash chain at the end of the file, after its marker, and close the file.
+     */
+    private void readHashChain() throws IOException {
+        final long eventCount = stream.readLong();
+        final byte[] hashBytes = new byte[PcesHashChain.DIGEST_TYPE.digestLength()];
+        stream.readFully(hashBytes);
+        hashChainEventCount = eventCount;
+        hashChain = new Hash(hashBytes, PcesHashChain.DIGEST_TYPE);
+        closeFile();
+    }
+
     private void closeFile() throws IOException {
         stream.close();
         streamClosed = true;
@@ -7,6 +7,7 @@ import static com.swirlds.platform.event.preconsensus.PcesFileManager.NO_LOWER_B
 import com.swirlds.common.utility.RandomAccessDeque;
 import com.swirlds.common.utility.UnmodifiableIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Collections;
@@ -146,7 +147,24 @@ public class PcesFileTracker {
      */
     @NonNull
     public PcesMultiFileIterator getEventIterator(final long lowerBound, final long startingRound) {
-        return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound));
+        return getEventIterator(lowerBound, startingRound, null);
+    }
+
+    /**
+     * Same as {@link #getEventIterator(long, long)}, but events of files with a matching hash chain are marked as
+     * previously verified.
+     *
+     * @param lowerBound        the desired lower bound, see {@link #getEventIterator(long, long)}
+     * @param startingRound     the round to start iterating from
+     * @param hashChainVerifier verifies the hash chains of the files, or null to not verify them
+     * @return an iterator that walks over events
+     */
+    @NonNull
+    public PcesMultiFileIterator getEventIterator(
+            final long lowerBound,
+            final long startingRound,
+            @Nullable final PcesHashChainVerifier hashChainVerifier) {
+        return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound), hashChainVerifier);
     }
 
     /**
@@ -8,7 +8,12 @@ import java.util.Arrays;
  */
 public enum PcesFileVersion {
     /** The version of the file format that serializes events as protobuf. */
-    PROTOBUF_EVENTS(2);
+    PROTOBUF_EVENTS(2),
+    /**
+     * The same as {@link #PROTOBUF_EVENTS}, but a file that was closed normally ends with a {@link PcesHashChain} of all
+     * events in the file. Written only if {@link PcesConfig#trustedReplay()} is enabled.
+     */
+    PROTOBUF_EVENTS_WITH_HASH_CHAIN(3);
 
     private final int versionNumber;
 
@@ -25,6 +25,13 @@ public interface PcesFileWriter {
      */
     long writeEvent(@NonNull final GossipEvent event) throws IOException;
 
+    /**
+     * Write the hash chain of all events in the file, see {@link PcesHashChain}. Must be the last write to the file.
+     *
+     * @param hashChain the hash chain of all events written to the file
+     */
+    void writeHashChain(@NonNull final PcesHashChain hashChain) throws IOException;
+
     /**
      * Flush the file.
      */
@@ -35,6 +42,13 @@ public interface PcesFileWriter {
      */
     void sync() throws IOException;
 
+    /**
+     * Sync the data that was written and flushed with the file system. Unlike {@link #sync()}, this may be called from
+     * another thread while events are being written, which allows a single sync to cover all events written while the
+     * previous sync was in progress.
+     */
+    void syncFlushed() throws IOException;
+
     /**
      * Close the file.
      */
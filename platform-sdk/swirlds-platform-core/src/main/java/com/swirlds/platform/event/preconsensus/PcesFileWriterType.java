@@ -13,7 +13,8 @@ import java.util.List;
 public enum PcesFileWriterType {
     OUTPUT_STREAM,
     FILE_CHANNEL,
-    FILE_CHANNEL_SYNC;
+    FILE_CHANNEL_SYNC,
+    MAPPED_BUFFER;
 
     /**
      * Creates the right instance of the PcesFileWriter for the type represented by this enum
@@ -23,10 +24,23 @@ public enum PcesFileWriterType {
      * @throws IOException in case of error when creating the writer
      */
     public PcesFileWriter createWriter(@NonNull final Path path) throws IOException {
+        return createWriter(path, 0);
+    }
+
+    /**
+     * Creates the right instance of the PcesFileWriter for the type represented by this enum
+     *
+     * @param path             the path to the file to write to
+     * @param expectedFileSize the expected size of the file in bytes, used by writers that preallocate files
+     * @return the writer for writing PCES files
+     * @throws IOException in case of error when creating the writer
+     */
+    public PcesFileWriter createWriter(@NonNull final Path path, final long expectedFileSize) throws IOException {
         return switch (this) {
             case OUTPUT_STREAM -> new PcesOutputStreamFileWriter(path);
             case FILE_CHANNEL -> new PcesFileChannelWriter(path);
             case FILE_CHANNEL_SYNC -> new PcesFileChannelWriter(path, List.of(StandardOpenOption.DSYNC));
+            case MAPPED_BUFFER -> new PcesMappedFileWriter(path, expectedFileSize);
         };
     }
 }
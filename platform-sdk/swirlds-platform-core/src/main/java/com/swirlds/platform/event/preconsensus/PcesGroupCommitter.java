@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+
+import com.swirlds.common.context.PlatformContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Syncs preconsensus event files on a dedicated thread, so that events can be written while a sync is in progress.
+ * Every event written gets a sequence number. When a sync is requested, the next sync covers all events written up to
+ * that point, so a single sync covers all events that arrived during the previous one. The highest sequence number
+ * known to be durable is published by {@link #getDurableSequenceNumber()}.
+ */
+public class PcesGroupCommitter implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(PcesGroupCommitter.class);
+
+    /** How long to wait before retrying a sync that failed, in milliseconds */
+    private static final long RETRY_PERIOD_MILLIS = 100;
+    /** How long to wait for pending syncs when closing, in seconds */
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /** Runs the thread that syncs files */
+    private final ExecutorService executor;
+
+    /** The file to sync, guarded by this object's monitor */
+    private PcesMutableFile file;
+    /** The highest sequence number that has been requested to be durable, guarded by this object's monitor */
+    private long requestedSequenceNumber = 0;
+    /** The highest sequence number that is durable */
+    private volatile long durableSequenceNumber = 0;
+    /** True once this committer is closed, guarded by this object's monitor */
+    private boolean closed = false;
+
+    /**
+     * Constructor
+     *
+     * @param platformContext the platform context
+     */
+    public PcesGroupCommitter(@NonNull final PlatformContext platformContext) {
+        executor = platformContext.getExecutorFactory().createExecutorService(1);
+        executor.execute(this::run);
+    }
+
+    /**
+     * Request that all events written so far become durable. The events must have been flushed to the file.
+     *
+     * @param file           the file the events were written to
+     * @param sequenceNumber the sequence number of the last event written
+     */
+    public synchronized void requestSync(@NonNull final PcesMutableFile file, final long sequenceNumber) {
+        this.file = Objects.requireNonNull(file);
+        if (sequenceNumber > requestedSequenceNumber) {
+            requestedSequenceNumber = sequenceNumber;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Report that all events up to a sequence number are durable without a sync by this committer, because the file
+     * they were written to has been closed.
+     *
+     * @param sequenceNumber the sequence number of the last event in the closed file
+     */
+    public synchronized void markDurable(final long sequenceNumber) {
+        if (sequenceNumber > durableSequenceNumber) {
+            durableSequenceNumber = sequenceNumber;
+        }
+    }
+
+    /**
+     * @return the highest sequence number known to be durable, all events with a lower or equal sequence number are
+     * durable
+     */
+    public long getDurableSequenceNumber() {
+        return durableSequenceNumber;
+    }
+
+    /**
+     * Sync files until closed. Once closed, a last sync covers all events requested to be durable before that.
+     */
+    private void run() {
+        while (true) {
+            final PcesMutableFile fileToSync;
+            final long sequenceNumber;
+            final boolean lastSync;
+            synchronized (this) {
+                while (!closed && requestedSequenceNumber <= durableSequenceNumber) {
+                    try {
+                        wait();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (requestedSequenceNumber <= durableSequenceNumber) {
+                    // closed, and nothing left to sync
+                    return;
+                }
+                fileToSync = file;
+                sequenceNumber = requestedSequenceNumber;
+                lastSync = closed;
+            }
+
+            try {
+                // if the file was closed in the meantime, closing it synced it
+                fileToSync.syncFlushed();
+                markDurable(sequenceNumber);
+            } catch (final IOException e) {
+                logger.error(EXCEPTION.getMarker(), "Failed to sync preconsensus event file {}", fileToSync, e);
+                if (lastSync) {
+                    return;
+                }
+                synchronized (this) {
+                    try {
+                        wait(RETRY_PERIOD_MILLIS);
+                    } catch (final InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop the sync thread, after it has synced all events requested to be durable so far.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.error(EXCEPTION.getMarker(), "Timed out waiting for pending preconsensus event file syncs");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.crypto.HashBuilder;
+
+/**
+ * A running hash over all events written to a PCES file, in order. The chain starts with an all zero hash, and every
+ * event extends it with {@code hash(chain || eventHash || signatureLength || signature)}. The event hash does not cover
+ * the signature, so the signature is chained as well: a file whose chain matches has the same signatures as the events
+ * this node validated.
+ * <p>
+ * A file with version {@link PcesFileVersion#PROTOBUF_EVENTS_WITH_HASH_CHAIN} ends with the chain when it is closed
+ * normally: {@link #MARKER} in place of an event length, the number of events as a long, and the chain hash bytes.
+ */
+public class PcesHashChain {
+    /** Written in place of an event length to mark the end of the events and the start of the chain */
+    public static final int MARKER = -1;
+    /** The digest type of the chain */
+    public static final DigestType DIGEST_TYPE = DigestType.SHA_384;
+
+    private final HashBuilder hashBuilder = new HashBuilder(DIGEST_TYPE);
+    private Hash hash = new Hash(DIGEST_TYPE);
+    private long eventCount = 0;
+
+    /**
+     * Extend the chain with the next event.
+     *
+     * @param eventHash the hash of the event
+     * @param signature the signature of the event
+     */
+    public void append(@NonNull final Hash eventHash, @NonNull final Bytes signature) {
+        Objects.requireNonNull(eventHash);
+        Objects.requireNonNull(signature);
+        hash = hashBuilder.update(hash).update(eventHash).update(signature).build();
+        eventCount++;
+    }
+
+    /**
+     * @return the current hash of the chain
+     */
+    @NonNull
+    public Hash getHash() {
+        return hash;
+    }
+
+    /**
+     * @return the number of events in the chain
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+}
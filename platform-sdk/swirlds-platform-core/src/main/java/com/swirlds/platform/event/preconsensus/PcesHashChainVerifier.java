@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+
+import com.swirlds.common.context.PlatformContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.crypto.PbjStreamHasher;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Verifies the {@link PcesHashChain} at the end of a preconsensus event file when the file is replayed. The events of
+ * a file are hashed in parallel, and if the chain of their hashes and signatures matches the chain written when the
+ * file was closed, every event and its signature are exactly as this node wrote them. Such events were verified before
+ * they were written, so they are marked as previously verified, and neither the hasher nor the signature validator
+ * process them again.
+ * <p>
+ * The chain is not a secret, it protects against corrupt or truncated files, not against someone able to modify the
+ * files on disk, who could equally modify the saved state.
+ */
+public class PcesHashChainVerifier implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(PcesHashChainVerifier.class);
+
+    /** The pool to hash events on */
+    private final ForkJoinPool hashPool;
+
+    /**
+     * Constructor
+     *
+     * @param platformContext the platform context
+     */
+    public PcesHashChainVerifier(@NonNull final PlatformContext platformContext) {
+        final int threadCount = platformContext
+                .getConfiguration()
+                .getConfigData(PcesConfig.class)
+                .replayHashPoolSize();
+        hashPool = platformContext.getExecutorFactory().createForkJoinPool(threadCount);
+    }
+
+    /**
+     * Hash all events of a file, and mark them as previously verified if the chain of their hashes matches the chain
+     * at the end of the file.
+     *
+     * @param file       the file the events were read from
+     * @param events     all events of the file, in order
+     * @param eventCount the number of events in the chain at the end of the file
+     * @param hashChain  the chain at the end of the file
+     * @return true if the chain matches and the events were marked, false otherwise
+     */
+    public boolean verify(
+            @NonNull final PcesFile file,
+            @NonNull final List<PlatformEvent> events,
+            final long eventCount,
+            @NonNull final Hash hashChain) {
+        if (events.size() != eventCount) {
+            logger.warn(
+                    STARTUP.getMarker(),
+                    "PCES file {} has {} events, but its hash chain has {}, the file will be fully verified",
+                    file.getPath(),
+                    events.size(),
+                    eventCount);
+            return false;
+        }
+
+        hashPool.submit(() -> events.parallelStream().forEach(event -> new PbjStreamHasher().hashEvent(event)))
+                .join();
+
+        final PcesHashChain chain = new PcesHashChain();
+        for (final PlatformEvent event : events) {
+            chain.append(event.getHash(), event.getSignature());
+        }
+        if (!chain.getHash().equals(hashChain)) {
+            logger.warn(
+                    STARTUP.getMarker(),
+                    "PCES file {} does not match its hash chain, the file will be fully verified",
+                    file.getPath());
+            return false;
+        }
+
+        events.forEach(PlatformEvent::markPreviouslyVerified);
+        return true;
+    }
+
+    /**
+     * Shut down the hashing threads.
+     */
+    @Override
+    public void close() {
+        hashPool.shutdown();
+    }
+}
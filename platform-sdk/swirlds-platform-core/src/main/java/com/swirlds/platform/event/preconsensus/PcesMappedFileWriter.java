@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hiero.base.utility.MemoryUtils;
+
+/**
+ * Writes preconsensus events to a file through a memory mapped buffer. The file is mapped with its expected size up
+ * front, so writing an event is a memory copy, and the mapping only grows if the file exceeds the expected size. When
+ * the file is closed, it is truncated to the size of the written data.
+ * <p>
+ * If the node crashes, the file keeps its mapped size, and the data is followed by zeros, which
+ * {@link PcesFileIterator} reads as the end of the file.
+ */
+public class PcesMappedFileWriter implements PcesFileWriter {
+    /** The size the mapping grows by when an event doesn't fit, and the headroom above the expected file size */
+    private static final int GROWTH_SIZE = 1024 * 1024;
+
+    /** The file channel the buffer maps */
+    private final FileChannel channel;
+    /**
+     * The mapped region of the file. Replaced by a larger mapping if the file grows, the old mapping is released by the
+     * garbage collector, as a concurrent {@link #syncFlushed()} may still be using it.
+     */
+    private volatile MappedByteBuffer buffer;
+    /** Wraps the buffer so that the protobuf codec can write to it */
+    private WritableSequentialData writableSequentialData;
+
+    /**
+     * Create a new writer that writes events to a file through a memory mapped buffer.
+     *
+     * @param filePath         the path to the file to write to
+     * @param expectedFileSize the expected size of the file in bytes, the size of the initial mapping
+     * @throws IOException if an error occurs while opening or mapping the file
+     */
+    public PcesMappedFileWriter(@NonNull final Path filePath, final long expectedFileSize) throws IOException {
+        this.channel = FileChannel.open(
+                filePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map(Math.max(expectedFileSize, 0) + GROWTH_SIZE, 0);
+    }
+
+    /**
+     * Map a region of the file, starting at the beginning of the file.
+     *
+     * @param size     the size of the region
+     * @param position the position to continue writing at
+     */
+    private void map(final long size, final int position) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("PCES file cannot be mapped, size " + size + " is too large");
+        }
+        final MappedByteBuffer newBuffer = channel.map(MapMode.READ_WRITE, 0, size);
+        newBuffer.position(position);
+        writableSequentialData = BufferedData.wrap(newBuffer);
+        buffer = newBuffer;
+    }
+
+    /**
+     * Make sure the mapping has room for the given number of bytes, growing it if needed.
+     *
+     * @param length the number of bytes about to be written
+     */
+    private void ensureCapacity(final int length) throws IOException {
+        if (buffer.remaining() < length) {
+            final int position = buffer.position();
+            map((long) position + length + GROWTH_SIZE, position);
+        }
+    }
+
+    @Override
+    public void writeVersion(final int version) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(version);
+    }
+
+    @Override
+    public long writeEvent(@NonNull final GossipEvent event) throws IOException {
+        final int size = GossipEvent.PROTOBUF.measureRecord(event);
+        ensureCapacity(Integer.BYTES + size);
+        buffer.putInt(size);
+        GossipEvent.PROTOBUF.write(event, writableSequentialData);
+        return size;
+    }
+
+    @Override
+    public void writeHashChain(@NonNull final PcesHashChain hashChain) throws IOException {
+        final byte[] hash = hashChain.getHash().copyToByteArray();
+        ensureCapacity(Integer.BYTES + Long.BYTES + hash.length);
+        buffer.putInt(PcesHashChain.MARKER);
+        buffer.putLong(hashChain.getEventCount());
+        buffer.put(hash);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // nothing to do here, written data is in the page cache already
+    }
+
+    @Override
+    public void sync() throws IOException {
+        buffer.force();
+    }
+
+    @Override
+    public void syncFlushed() throws IOException {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        final MappedByteBuffer mappedBuffer = buffer;
+        mappedBuffer.force();
+        final int size = mappedBuffer.position();
+        MemoryUtils.closeDirectByteBuffer(mappedBuffer);
+        channel.truncate(size);
+        channel.close();
+    }
+
+    @Override
+    public long fileSize() {
+        return buffer.position();
+    }
+}
@@ -3,6 +3,7 @@ package com.swirlds.platform.event.preconsensus;
 
 import com.swirlds.common.io.IOIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -17,6 +18,7 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
     private final Iterator<PcesFile> fileIterator;
     private PcesFileIterator currentIterator;
     private final long lowerBound;
+    private final PcesHashChainVerifier hashChainVerifier;
     private PlatformEvent next;
     private int truncatedFileCount = 0;
 
@@ -28,9 +30,26 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
      * @param fileIterator an iterator that walks over event files
      */
     public PcesMultiFileIterator(final long lowerBound, @NonNull final Iterator<PcesFile> fileIterator) {
+        this(lowerBound, fileIterator, null);
+    }
+
+    /**
+     * Create an iterator that walks over events in a series of event files.
+     *
+     * @param lowerBound        the minimum ancient indicator of events to return, events with lower ancient
+     *                          indicators are not returned
+     * @param fileIterator      an iterator that walks over event files
+     * @param hashChainVerifier if not null, then events of files with a matching hash chain are marked as previously
+     *                          verified, see {@link PcesHashChainVerifier}
+     */
+    public PcesMultiFileIterator(
+            final long lowerBound,
+            @NonNull final Iterator<PcesFile> fileIterator,
+            @Nullable final PcesHashChainVerifier hashChainVerifier) {
 
         this.fileIterator = Objects.requireNonNull(fileIterator);
         this.lowerBound = lowerBound;
+        this.hashChainVerifier = hashChainVerifier;
     }
 
     /**
@@ -39,7 +58,7 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
     private void findNext() throws IOException {
         if (currentIterator == null) { // on first call
             if (fileIterator.hasNext()) {
-                currentIterator = new PcesFileIterator(fileIterator.next(), lowerBound);
+                currentIterator = new PcesFileIterator(fileIterator.next(), lowerBound, hashChainVerifier);
             } else {
                 return;
             }
@@ -67,7 +86,7 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
                 return;
             }
 
-            currentIterator = new PcesFileIterator(fileIterator.next(), lowerBound);
+            currentIterator = new PcesFileIterator(fileIterator.next(), lowerBound, hashChainVerifier);
         }
     }
 
@@ -19,6 +19,18 @@ public class PcesMutableFile {
 
     private final PcesFileWriter writer;
 
+    /**
+     * The hash chain of all events written to the file, or null if the file doesn't end with a hash chain, or the chain
+     * has already been written.
+     */
+    private PcesHashChain hashChain;
+
+    /**
+     * True once the file has been closed. Guarded by this object's monitor, as {@link #syncFlushed()} may be called by
+     * another thread.
+     */
+    private boolean closed = false;
+
     /**
      * The highest ancient indicator of all events written to the file.
      */
@@ -29,8 +41,14 @@ public class PcesMutableFile {
      *
      * @param descriptor a description of the file
      * @param pcesFileWriterType the type of writer
+     * @param writeHashChain     if true, then the file ends with a {@link PcesHashChain} of all events when closed
+     * @param expectedFileSize   the expected size of the file in bytes, used by writers that preallocate files
      */
-    PcesMutableFile(@NonNull final PcesFile descriptor, final @NonNull PcesFileWriterType pcesFileWriterType)
+    PcesMutableFile(
+            @NonNull final PcesFile descriptor,
+            final @NonNull PcesFileWriterType pcesFileWriterType,
+            final boolean writeHashChain,
+            final long expectedFileSize)
             throws IOException {
         if (Files.exists(descriptor.getPath())) {
             throw new IOException("File " + descriptor.getPath() + " already exists");
@@ -39,8 +57,13 @@ public class PcesMutableFile {
         Files.createDirectories(descriptor.getPath().getParent());
 
         this.descriptor = descriptor;
-        this.writer = pcesFileWriterType.createWriter(descriptor.getPath());
-        writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        this.writer = pcesFileWriterType.createWriter(descriptor.getPath(), expectedFileSize);
+        if (writeHashChain) {
+            hashChain = new PcesHashChain();
+            writer.writeVersion(PcesFileVersion.PROTOBUF_EVENTS_WITH_HASH_CHAIN.getVersionNumber());
+        } else {
+            writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        }
         highestAncientIdentifierInFile = descriptor.getLowerBound();
     }
 
@@ -65,6 +88,9 @@ public class PcesMutableFile {
                     + event.getBirthRound() + " to file " + descriptor);
         }
         long size = writer.writeEvent(event.getGossipEvent());
+        if (hashChain != null) {
+            hashChain.append(event.getHash(), event.getSignature());
+        }
         highestAncientIdentifierInFile = Math.max(highestAncientIdentifierInFile, event.getBirthRound());
         return size;
     }
@@ -110,10 +136,30 @@ public class PcesMutableFile {
     }
 
     /**
-     * Close the file.
+     * Sync the data that was flushed with the file system. Unlike all other methods, this may be called from another
+     * thread while events are being written. Does nothing if the file is closed, as closing a file syncs it.
      */
-    public void close() throws IOException {
+    public synchronized void syncFlushed() throws IOException {
+        if (!closed) {
+            writer.syncFlushed();
+        }
+    }
+
+    /**
+     * Close the file. If enabled, the hash chain is written before the file is closed. All data is synced with the file
+     * system before the file is closed.
+     */
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (hashChain != null) {
+            writer.writeHashChain(hashChain);
+            hashChain = null;
+        }
+        writer.sync();
         writer.close();
+        closed = true;
     }
 
     /**
@@ -48,6 +48,13 @@ public class PcesOutputStreamFileWriter implements PcesFileWriter {
         return out.writePbjRecord(event, GossipEvent.PROTOBUF);
     }
 
+    @Override
+    public void writeHashChain(@NonNull final PcesHashChain hashChain) throws IOException {
+        out.writeInt(PcesHashChain.MARKER);
+        out.writeLong(hashChain.getEventCount());
+        out.write(hashChain.getHash().copyToByteArray());
+    }
+
     @Override
     public void flush() throws IOException {
         out.flush();
@@ -63,6 +70,15 @@ public class PcesOutputStreamFileWriter implements PcesFileWriter {
         }
     }
 
+    @Override
+    public void syncFlushed() throws IOException {
+        try {
+            fileDescriptor.sync();
+        } catch (final SyncFailedException e) {
+            throw new IOException("Failed to sync file", e);
+        }
+    }
+
     @Override
     public void close() throws IOException {
         out.close();
@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Default implementation of the {@link EventSignatureBatcher}.
+ */
+public class DefaultEventSignatureBatcher implements EventSignatureBatcher {
+
+    /**
+     * The max number of events in a batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The events received since the last batch was emitted, in the order they were received.
+     */
+    private List<PlatformEvent> batch;
+
+    /**
+     * Constructor
+     *
+     * @param maxBatchSize the max number of events in a batch
+     */
+    public DefaultEventSignatureBatcher(final int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.batch = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public List<PlatformEvent> addEvent(@NonNull final PlatformEvent event) {
+        batch.add(Objects.requireNonNull(event));
+        return batch.size() >= maxBatchSize ? takeBatch() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public List<PlatformEvent> flush(@NonNull final Instant now) {
+        return batch.isEmpty() ? null : takeBatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        batch = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * Take the current batch and start a new one.
+     *
+     * @return the current batch
+     */
+    @NonNull
+    private List<PlatformEvent> takeBatch() {
+        final List<PlatformEvent> fullBatch = batch;
+        batch = new ArrayList<>(maxBatchSize);
+        return fullBatch;
+    }
+}
@@ -16,13 +16,21 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hiero.base.concurrent.ExecutorFactory;
+import org.hiero.base.crypto.config.CryptoConfig;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 import org.hiero.consensus.model.node.NodeId;
-import org.hiero.consensus.roster.RosterEntryNotFoundException;
 import org.hiero.consensus.roster.RosterHistory;
 import org.hiero.consensus.roster.RosterUtils;
 
@@ -47,6 +55,11 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
      */
     private RosterHistory rosterHistory;
 
+    /**
+     * The public keys of all nodes in the rosters used so far, cleared when the roster history is updated.
+     */
+    private volatile List<RosterKeys> rosterKeys = List.of();
+
     /**
      * The current event window.
      */
@@ -68,6 +81,30 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
             .withUnit("events");
     private final LongAccumulator validationFailedAccumulator;
 
+    /**
+     * Creates the pool to verify batches of signatures on.
+     */
+    private final ExecutorFactory executorFactory;
+
+    /**
+     * The number of threads to verify batches of signatures with.
+     */
+    private final int verifierThreadCount;
+
+    /**
+     * The pool to verify batches of signatures on, created when the first batch is validated and shut down when this
+     * validator is closed.
+     */
+    private ForkJoinPool verificationPool;
+
+    /**
+     * The public keys of the nodes in a roster.
+     *
+     * @param roster the roster
+     * @param keys   the public keys by node ID, with null values for nodes without a valid certificate
+     */
+    private record RosterKeys(@NonNull Roster roster, @NonNull Map<Long, PublicKey> keys) {}
+
     /**
      * Constructor
      *
@@ -90,46 +127,94 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
 
         this.validationFailedAccumulator = platformContext.getMetrics().getOrCreate(VALIDATION_FAILED_CONFIG);
 
+        this.executorFactory = platformContext.getExecutorFactory();
+        this.verifierThreadCount =
+                platformContext.getConfiguration().getConfigData(CryptoConfig.class).computeCpuVerifierThreadCount();
+
         eventWindow = EventWindow.getGenesisEventWindow();
     }
 
     /**
-     * Determine whether a given event has a valid signature.
+     * Get the public key of the creator of an event, from the roster applicable to the event. Certificates are decoded
+     * once per roster and creator, not once per event.
      *
-     * @param event the event to be validated
-     * @return true if the event has a valid signature, otherwise false
+     * @param event the event to get the creator's key for
+     * @return the public key, or null if there is no applicable key
      */
-    private boolean isSignatureValid(@NonNull final PlatformEvent event) {
+    @Nullable
+    private PublicKey getPublicKey(@NonNull final PlatformEvent event) {
         final Roster applicableRoster = rosterHistory.getRosterForRound(event.getBirthRound());
         if (applicableRoster == null) {
             rateLimitedLogger.error(
                     EXCEPTION.getMarker(),
                     "Cannot validate events for birth round {} without a roster",
                     event.getBirthRound());
-            return false;
+            return null;
         }
+        final Map<Long, PublicKey> rosterKeys = getRosterKeys(applicableRoster);
         final NodeId eventCreatorId = event.getCreatorId();
-        final RosterEntry rosterEntry;
-        try {
-            rosterEntry = RosterUtils.getRosterEntry(applicableRoster, eventCreatorId.id());
-        } catch (RosterEntryNotFoundException e) {
+        if (!rosterKeys.containsKey(eventCreatorId.id())) {
             rateLimitedLogger.error(
                     EXCEPTION.getMarker(),
                     "Node {} doesn't exist in applicable roster. Event: {}",
                     eventCreatorId,
                     event);
-            return false;
+            return null;
         }
 
-        final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(rosterEntry);
-
-        final PublicKey publicKey = cert == null ? null : cert.getPublicKey();
+        final PublicKey publicKey = rosterKeys.get(eventCreatorId.id());
         if (publicKey == null) {
             rateLimitedLogger.error(
                     EXCEPTION.getMarker(), "Cannot find publicKey for creator with ID: {}", eventCreatorId);
-            return false;
         }
+        return publicKey;
+    }
+
+    /**
+     * Get the public keys of all nodes in a roster, decoding them if this roster hasn't been seen before.
+     *
+     * @param roster the roster
+     * @return the public keys by node ID, with null values for nodes without a valid certificate
+     */
+    @NonNull
+    private Map<Long, PublicKey> getRosterKeys(@NonNull final Roster roster) {
+        final List<RosterKeys> currentKeys = this.rosterKeys;
+        for (final RosterKeys keys : currentKeys) {
+            // rosters are looked up in the same roster history, so the same roster is always the same instance
+            if (keys.roster() == roster) {
+                return keys.keys();
+            }
+        }
+
+        final Map<Long, PublicKey> keys = new HashMap<>();
+        for (final RosterEntry rosterEntry : roster.rosterEntries()) {
+            // the first entry for a node is used, the same as RosterUtils.getRosterEntry() does
+            if (!keys.containsKey(rosterEntry.nodeId())) {
+                final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(rosterEntry);
+                keys.put(rosterEntry.nodeId(), cert == null ? null : cert.getPublicKey());
+            }
+        }
+        final Map<Long, PublicKey> unmodifiableKeys = Collections.unmodifiableMap(keys);
+
+        // if several threads decode the same roster concurrently, one of the results is kept, they are all equal
+        final List<RosterKeys> newKeys = new ArrayList<>(currentKeys);
+        newKeys.add(new RosterKeys(roster, unmodifiableKeys));
+        this.rosterKeys = Collections.unmodifiableList(newKeys);
+        return unmodifiableKeys;
+    }
 
+    /**
+     * Verify the signature of an event with the given public key.
+     *
+     * @param event     the event to verify
+     * @param publicKey the public key of the event creator
+     * @return true if the event has a valid signature, otherwise false
+     */
+    private boolean verify(@NonNull final PlatformEvent event, @NonNull final PublicKey publicKey) {
+        if (event.isPreviouslyVerified()) {
+            // verified by this node before it was written to a PCES file, see PcesHashChainVerifier
+            return true;
+        }
         final boolean isSignatureValid =
                 signatureVerifier.verifySignature(event.getHash().getBytes(), event.getSignature(), publicKey);
 
@@ -145,6 +230,19 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
         return isSignatureValid;
     }
 
+    /**
+     * Discard an event that is not passed on.
+     *
+     * @param event           the event to discard
+     * @param failedSignature true if the event is discarded because of its signature, false if it is ancient
+     */
+    private void discard(@NonNull final PlatformEvent event, final boolean failedSignature) {
+        intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+        if (failedSignature) {
+            validationFailedAccumulator.update(1);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -153,20 +251,78 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
     public PlatformEvent validateSignature(@NonNull final PlatformEvent event) {
         if (eventWindow.isAncient(event)) {
             // ancient events can be safely ignored
-            intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+            discard(event, false);
             return null;
         }
 
-        if (isSignatureValid(event)) {
+        final PublicKey publicKey = getPublicKey(event);
+        if (publicKey != null && verify(event, publicKey)) {
             return event;
         } else {
-            intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
-            validationFailedAccumulator.update(1);
-
+            discard(event, true);
             return null;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Public keys are looked up once per creator for the whole batch, and signatures are verified in parallel on a
+     * dedicated pool, sized by {@link CryptoConfig#computeCpuVerifierThreadCount()}.
+     */
+    @Override
+    @NonNull
+    public List<PlatformEvent> validateSignatures(@NonNull final List<PlatformEvent> events) {
+        if (events.size() == 1) {
+            // nothing to parallelize
+            final PlatformEvent validEvent = validateSignature(events.getFirst());
+            return validEvent == null ? List.of() : List.of(validEvent);
+        }
+
+        final EventWindow window = eventWindow;
+        final PublicKey[] publicKeys = new PublicKey[events.size()];
+        final boolean[] ancient = new boolean[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            final PlatformEvent event = events.get(i);
+            ancient[i] = window.isAncient(event);
+            if (!ancient[i]) {
+                publicKeys[i] = getPublicKey(event);
+            }
+        }
+
+        final boolean[] valid = new boolean[events.size()];
+        getVerificationPool()
+                .submit(() -> IntStream.range(0, events.size())
+                        .parallel()
+                        .filter(i -> publicKeys[i] != null)
+                        .forEach(i -> valid[i] = verify(events.get(i), publicKeys[i])))
+                .join();
+
+        final List<PlatformEvent> validEvents = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            final PlatformEvent event = events.get(i);
+            if (valid[i]) {
+                validEvents.add(event);
+            } else {
+                discard(event, !ancient[i]);
+            }
+        }
+        return validEvents;
+    }
+
+    /**
+     * Get the pool to verify batches of signatures on, creating it on first use.
+     *
+     * @return the verification pool
+     */
+    @NonNull
+    private synchronized ForkJoinPool getVerificationPool() {
+        if (verificationPool == null) {
+            verificationPool = executorFactory.createForkJoinPool(verifierThreadCount);
+        }
+        return verificationPool;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -181,5 +337,17 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
     @Override
     public void updateRosterHistory(@NonNull final RosterHistory rosterHistory) {
         this.rosterHistory = Objects.requireNonNull(rosterHistory);
+        this.rosterKeys = List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() {
+        if (verificationPool != null) {
+            verificationPool.shutdown();
+            verificationPool = null;
+        }
     }
 }
@@ -0,0 +1,43 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import com.swirlds.component.framework.component.InputWireLabel;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Groups events into batches for the {@link EventSignatureValidator}, so their signatures can be verified in parallel.
+ * Events are emitted in the same order as they are received.
+ */
+public interface EventSignatureBatcher {
+
+    /**
+     * Add an event to the current batch.
+     *
+     * @param event the event to add
+     * @return the current batch if it is full after the event is added, otherwise null
+     */
+    @InputWireLabel("PlatformEvent")
+    @Nullable
+    List<PlatformEvent> addEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Emit the current batch, even if it is not full, so events don't wait for a batch to fill up when the intake rate
+     * is low.
+     *
+     * @param now the current time
+     * @return the current batch, or null if there are no events in it
+     */
+    @InputWireLabel("heartbeat")
+    @Nullable
+    List<PlatformEvent> flush(@NonNull Instant now);
+
+    /**
+     * Clear the internal state of this batcher. Events in the current batch are discarded.
+     */
+    @InputWireLabel("clear")
+    void clear();
+}
@@ -4,6 +4,8 @@ package com.swirlds.platform.event.validation;
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 import org.hiero.consensus.roster.RosterHistory;
@@ -19,10 +21,29 @@ public interface EventSignatureValidator {
      * @param event the event to verify the signature of
      * @return the event if the signature is valid, otherwise null
      */
-    @InputWireLabel("PlatformEvent")
     @Nullable
     PlatformEvent validateSignature(@NonNull final PlatformEvent event);
 
+    /**
+     * Validate the signatures of a batch of events. Events are validated exactly as by
+     * {@link #validateSignature(PlatformEvent)}, but implementations may share work between the events of a batch.
+     *
+     * @param events the events to verify the signatures of
+     * @return the events with valid signatures, in the same order as they were provided
+     */
+    @InputWireLabel("PlatformEvent batches")
+    @NonNull
+    default List<PlatformEvent> validateSignatures(@NonNull final List<PlatformEvent> events) {
+        final List<PlatformEvent> validEvents = new ArrayList<>(events.size());
+        for (final PlatformEvent event : events) {
+            final PlatformEvent validEvent = validateSignature(event);
+            if (validEvent != null) {
+                validEvents.add(validEvent);
+            }
+        }
+        return validEvents;
+    }
+
     /**
      * Set the event window that defines the minimum threshold required for an event to be non-ancient
      *
@@ -38,4 +59,12 @@ public interface EventSignatureValidator {
      */
     @InputWireLabel("roster history")
     void updateRosterHistory(@NonNull final RosterHistory rosterHistory);
+
+    /**
+     * Release the resources held by this validator, such as signature verification threads. Called when the platform
+     * is shut down.
+     */
+    default void close() {
+        // no resources to release by default
+    }
 }
@@ -54,8 +54,11 @@ import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -375,4 +378,27 @@ public class SyncGossipModular implements Gossip {
 
         this.receivedEventHandler = eventOutput::forward;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindPeerLatencies(
+            @NonNull final BindableInputWire<Instant, Void> peerLatencyInput,
+            @NonNull final StandardOutputWire<Map<NodeId, Duration>> peerLatencyOutput) {
+        peerLatencyInput.bindConsumer(ignored -> peerLatencyOutput.forward(getPeerLatencies()));
+    }
+
+    /**
+     * Get the average round-trip time to every peer, as measured by pings.
+     *
+     * @return the average round-trip time per peer
+     */
+    @NonNull
+    private Map<NodeId, Duration> getPeerLatencies() {
+        final Map<NodeId, Double> pingMillis = network.getNetworkMetrics().getAvgPingMilliseconds();
+        final Map<NodeId, Duration> latencies = new HashMap<>(pingMillis.size());
+        pingMillis.forEach((nodeId, millis) -> latencies.put(nodeId, Duration.ofNanos((long) (millis * 1_000_000))));
+        return latencies;
+    }
 }
@@ -15,14 +15,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -36,6 +36,16 @@ import org.hiero.consensus.model.hashgraph.EventWindow;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ *
+ * <p>The shadowgraph is read by many concurrent syncs, and modified by a single intake thread. Only methods that
+ * modify the shadowgraph ({@link #addEvent(PlatformEvent)}, {@link #updateEventWindow(EventWindow)} and
+ * {@link #clear()}) are synchronized. Readers never block on them:</p>
+ * <ul>
+ *     <li>events are looked up in concurrent hash maps</li>
+ *     <li>tips are published as an immutable snapshot every time they change</li>
+ *     <li>reservations are made without locking, the thread expiring events retires a reservation before it expires
+ *     any events the reservation could protect, see {@link ShadowgraphReservation}</li>
+ * </ul>
  */
 public class Shadowgraph implements Clearable {
 
@@ -49,7 +59,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The shadowgraph represented in a map from has to shadow event.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private final Map<Hash, ShadowEvent> hashToShadowEvent;
 
     /**
      * Map from ancient indicator to all shadow events with that ancient indicator.
@@ -57,19 +67,25 @@ public class Shadowgraph implements Clearable {
     private final Map<Long /* ancient indicator */, Set<ShadowEvent>> indicatorToShadowEvent;
 
     /**
-     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children)
+     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children). Only
+     * accessed by threads that modify the shadowgraph.
      */
-    private final HashSet<ShadowEvent> tips;
+    private final Set<ShadowEvent> tips;
+
+    /**
+     * An immutable copy of {@link #tips}, replaced every time the tips change. Read by sync threads.
+     */
+    private volatile List<ShadowEvent> tipsSnapshot = Collections.emptyList();
 
     /**
      * The oldest ancient indicator that has not yet been expired
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
 
     /**
-     * The list of all currently reserved indicators and their number of reservations.
+     * The list of all currently reserved indicators and their number of reservations, in ascending indicator order.
      */
-    private final LinkedList<ShadowgraphReservation> reservationList;
+    private final Deque<ShadowgraphReservation> reservationList;
 
     /**
      * Encapsulates metrics for the shadowgraph.
@@ -84,7 +100,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The most recent event window we know about.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
 
     /**
      * For each peer, track the number of events in the intake pipeline prior to the shadowgraph.
@@ -106,9 +122,9 @@ public class Shadowgraph implements Clearable {
         this.numberOfNodes = numberOfNodes;
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
         tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
-        indicatorToShadowEvent = new HashMap<>();
-        reservationList = new LinkedList<>();
+        hashToShadowEvent = new ConcurrentHashMap<>();
+        indicatorToShadowEvent = new ConcurrentHashMap<>();
+        reservationList = new ConcurrentLinkedDeque<>();
     }
 
     /**
@@ -133,6 +149,7 @@ public class Shadowgraph implements Clearable {
         oldestUnexpiredIndicator = ROUND_FIRST;
         disconnectShadowEvents();
         tips.clear();
+        tipsSnapshot = Collections.emptyList();
         hashToShadowEvent.clear();
         indicatorToShadowEvent.clear();
         reservationList.clear();
@@ -151,44 +168,54 @@ public class Shadowgraph implements Clearable {
      * Increase the reservation count for the ancient indicator currently held by {@code expireBelow}. A reservation
      * prevents events that have an ancient indicator not less than the threshold from being unlinked.
      *
+     * <p>This method doesn't block on threads that modify the shadowgraph. If the event window is updated while a
+     * reservation is made, the reservation is released, and a new one is made against the updated window, since the
+     * thread expiring events might have missed it.</p>
+     *
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
-        if (reservationList.isEmpty()) {
-            // If we are not currently holding any reservations, we need to create a new one.
-            return new ReservedEventWindow(eventWindow, newReservation());
+    public ReservedEventWindow reserve() {
+        while (true) {
+            final EventWindow window = eventWindow;
+            final ShadowgraphReservation reservation = reserve(window.expiredThreshold());
+            if (window == eventWindow) {
+                return new ReservedEventWindow(window, reservation);
+            }
+            reservation.close();
         }
+    }
 
-        // Check to see if an existing reservation is good enough.
-
-        final ShadowgraphReservation lastReservation = reservationList.getLast();
-
-        final long previouslyReservedThreshold = lastReservation.getReservedThreshold();
-        final long thresholdWeWantToReserve = eventWindow.expiredThreshold();
-
-        if (previouslyReservedThreshold == thresholdWeWantToReserve) {
-
+    /**
+     * Reserve the given expired threshold. If the latest reservation is against the same threshold and isn't retired
+     * yet, it is reused. Otherwise, a new reservation is created.
+     *
+     * @param thresholdWeWantToReserve the expired threshold to reserve
+     * @return the reservation
+     */
+    @NonNull
+    private ShadowgraphReservation reserve(final long thresholdWeWantToReserve) {
+        final ShadowgraphReservation lastReservation = reservationList.peekLast();
+        if (lastReservation != null
+                && lastReservation.getReservedThreshold() == thresholdWeWantToReserve
+                && lastReservation.tryIncrementReservations()) {
             // The latest reservation is against the same expired threshold that we currently want to reserve.
-            // We can reuse that reservation instead of creating a new one. We still need to package that
-            // reservation with the most recent eventWindow we know about.
-
-            lastReservation.incrementReservations();
-            return new ReservedEventWindow(eventWindow, lastReservation);
-        } else {
-
-            // We want a reservation on an expired threshold that isn't currently reserved.
-            // Create a new reservation.
-
-            return new ReservedEventWindow(eventWindow, newReservation());
+            // We can reuse that reservation instead of creating a new one.
+            return lastReservation;
         }
+
+        // We want a reservation on an expired threshold that isn't currently reserved.
+        // Create a new reservation.
+        final ShadowgraphReservation reservation = new ShadowgraphReservation(thresholdWeWantToReserve);
+        reservationList.addLast(reservation);
+        return reservation;
     }
 
     /**
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
+    public EventWindow getEventWindow() {
         return eventWindow;
     }
 
@@ -200,8 +227,8 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
-        return hashToShadowEvent.containsKey(hash);
+    public boolean isHashInGraph(final Hash hash) {
+        return hash != null && hashToShadowEvent.containsKey(hash);
     }
 
     /**
@@ -215,9 +242,9 @@ public class Shadowgraph implements Clearable {
      *     <li>adding events to the the graph does not affect ancestors</li>
      *     <li>checks for expired parent events are atomic</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Note: This method is always accessed after a call to a {@link Shadowgraph} method, like {@link #getTips()},
+     * that reads a volatile field or a concurrent map. It acts as a memory gate and causes the calling thread to read
+     * the latest values for all variables from memory, including {@link ShadowEvent} links.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -298,7 +325,7 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
         final List<PlatformEvent> result = new ArrayList<>();
         if (lowerBound >= upperBound) {
@@ -363,6 +390,7 @@ public class Shadowgraph implements Clearable {
 
         final long minimumIndicatorToKeep = Math.min(eventWindow.expiredThreshold(), oldestReservedIndicator);
 
+        final int tipsBefore = tips.size();
         while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
             final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
             if (shadowsToExpire != null) {
@@ -370,10 +398,14 @@ public class Shadowgraph implements Clearable {
             }
             oldestUnexpiredIndicator++;
         }
+        if (tips.size() != tipsBefore) {
+            tipsSnapshot = Collections.unmodifiableList(new ArrayList<>(tips));
+        }
     }
 
     /**
      * Removes reservations that can and should be expired, starting with the oldest ancient indicator reservation.
+     * A reservation is retired before it is removed, so it can't be reused by {@link #reserve()} concurrently.
      *
      * @return the oldest ancient indicator with at least one reservation, or {@code -1} if there are no reservations
      */
@@ -394,6 +426,11 @@ public class Shadowgraph implements Clearable {
             } else if (reservedIndicator < eventWindow.expiredThreshold()) {
                 // If the number of reservations is 0 and the
                 // indicator should be expired, remove the reservation
+                if (!reservation.tryRetire()) {
+                    // The reservation was reused by a gossip thread in the meantime
+                    oldestReservedIndicator = reservation.getReservedThreshold();
+                    break;
+                }
                 iterator.remove();
             } else {
                 // If the expireBelow indicator is reached, stop
@@ -425,7 +462,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -444,7 +481,7 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
@@ -458,7 +495,7 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
@@ -474,7 +511,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -490,8 +527,8 @@ public class Shadowgraph implements Clearable {
      * @return an unmodifiable copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
-        return new ArrayList<>(tips);
+    public List<ShadowEvent> getTips() {
+        return tipsSnapshot;
     }
 
     /**
@@ -514,6 +551,7 @@ public class Shadowgraph implements Clearable {
                 final ShadowEvent s = insert(event);
                 tips.add(s);
                 tips.remove(s.getSelfParent());
+                tipsSnapshot = Collections.unmodifiableList(new ArrayList<>(tips));
 
                 if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
                     // It is possible that we have more tips than nodes even if there is no fork.
@@ -560,14 +598,8 @@ public class Shadowgraph implements Clearable {
         }
     }
 
-    private ShadowgraphReservation newReservation() {
-        final ShadowgraphReservation reservation = new ShadowgraphReservation(eventWindow.expiredThreshold());
-        reservationList.addLast(reservation);
-        return reservation;
-    }
-
     private ShadowEvent shadow(final Hash h) {
-        return hashToShadowEvent.get(h);
+        return h == null ? null : hashToShadowEvent.get(h);
     }
 
     /**
@@ -575,8 +607,8 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
-        final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
+        final ShadowEvent shadowEvent = shadow(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
 
@@ -597,10 +629,9 @@ public class Shadowgraph implements Clearable {
         hashToShadowEvent.put(se.getEventBaseHash(), se);
 
         final long ancientIndicator = event.getBirthRound();
-        if (!indicatorToShadowEvent.containsKey(ancientIndicator)) {
-            indicatorToShadowEvent.put(ancientIndicator, new HashSet<>());
-        }
-        indicatorToShadowEvent.get(ancientIndicator).add(se);
+        indicatorToShadowEvent
+                .computeIfAbsent(ancientIndicator, i -> ConcurrentHashMap.newKeySet())
+                .add(se);
 
         return se;
     }
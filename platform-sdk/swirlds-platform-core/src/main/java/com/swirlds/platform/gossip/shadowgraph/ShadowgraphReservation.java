@@ -7,6 +7,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Represents zero or more reservations for an ancient indicator (i.e. the birth round). It is used to determine when it
  * is safe to expire events in a given ancient indicator. Reservations are made by gossip threads inside
  * {@link Shadowgraph}. Ancient indicators that have at least one reservation may not have any of its events expired.
+ *
+ * <p>Once a reservation has no holders and its ancient indicator is eligible for expiry, the shadowgraph retires it.
+ * A retired reservation can never be reserved again, so gossip threads may reuse existing reservations without holding
+ * any lock that is shared with the thread expiring events.</p>
  */
 public final class ShadowgraphReservation implements AutoCloseable {
 
@@ -17,7 +21,12 @@ public final class ShadowgraphReservation implements AutoCloseable {
     private final long reservedThreshold;
 
     /**
-     * The number of reservations on this ancient indicator.
+     * Reservation count value that marks the reservation as retired.
+     */
+    private static final int RETIRED = Integer.MIN_VALUE;
+
+    /**
+     * The number of reservations on this ancient indicator, or {@link #RETIRED} if this reservation is retired.
      */
     private final AtomicInteger reservationCount;
 
@@ -33,10 +42,30 @@ public final class ShadowgraphReservation implements AutoCloseable {
     }
 
     /**
-     * Increments the number of reservations on this ancient indicator.
+     * Increments the number of reservations on this ancient indicator, unless this reservation is already retired.
+     *
+     * @return {@code true} if the number of reservations was incremented, {@code false} if this reservation is retired
+     */
+    public boolean tryIncrementReservations() {
+        while (true) {
+            final int count = reservationCount.get();
+            if (count == RETIRED) {
+                return false;
+            }
+            if (reservationCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Retires this reservation, if it has no reservations left. Once retired, this reservation can't be reserved
+     * again, see {@link #tryIncrementReservations()}.
+     *
+     * @return {@code true} if this reservation is retired, {@code false} if it still has reservations
      */
-    public void incrementReservations() {
-        reservationCount.incrementAndGet();
+    boolean tryRetire() {
+        return reservationCount.compareAndSet(0, RETIRED) || (reservationCount.get() == RETIRED);
     }
 
     /**
@@ -45,7 +74,7 @@ public final class ShadowgraphReservation implements AutoCloseable {
      * @return number of reservations
      */
     public int getReservationCount() {
-        return reservationCount.get();
+        return Math.max(0, reservationCount.get());
     }
 
     /**
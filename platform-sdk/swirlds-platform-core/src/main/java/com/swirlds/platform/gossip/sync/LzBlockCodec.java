@@ -0,0 +1,249 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A fast LZ77 block compressor in the LZ4 family, used by {@link LzFrameOutputStream} and {@link LzFrameInputStream}.
+ * It trades compression ratio for speed: there is a single hash table lookup per input position, and no entropy
+ * coding.
+ *
+ * <p>A compressed block is a sequence of (literals, match) pairs. Every pair starts with a token byte. The high 4 bits
+ * of the token are the number of literals, the low 4 bits are the match length minus {@link #MIN_MATCH}. A value of 15
+ * in either half means that the length continues in the following bytes, 255 at a time. The token is followed by the
+ * literal length continuation bytes, the literals, the 2-byte little-endian match offset and the match length
+ * continuation bytes. The last pair has literals only.
+ *
+ * <p>Every block is compressed independently, but matches may reference a dictionary that both sides know in advance,
+ * see {@link SyncStreamDictionary}. This way, even small blocks, which are common in gossip since the stream is flushed
+ * frequently, can be compressed.
+ *
+ * <p>Instances are not thread safe, every stream has its own instance.
+ */
+public class LzBlockCodec {
+
+    /** The minimum match length */
+    private static final int MIN_MATCH = 4;
+    /** The maximum match offset */
+    private static final int MAX_OFFSET = 0xFFFF;
+    /** The number of bits in a hash table index */
+    private static final int HASH_BITS = 14;
+    /** Length value in a token half that means the length continues in the following bytes */
+    private static final int RUN_MASK = 0x0F;
+
+    /** The dictionary, followed by the current block */
+    private final byte[] window;
+    /** The dictionary length, the current block starts at this position in {@link #window} */
+    private final int dictionaryLength;
+    /** The maximum block length */
+    private final int maxBlockLength;
+    /** Positions in {@link #window} by the hash of the 4 bytes at the position, or -1 */
+    private final int[] hashTable = new int[1 << HASH_BITS];
+    /** The hash table with dictionary positions only, copied to {@link #hashTable} before every block */
+    private final int[] dictionaryHashTable = new int[1 << HASH_BITS];
+
+    /**
+     * @param dictionary     the dictionary, must be the same for the compressing and the decompressing side
+     * @param maxBlockLength the maximum length of an uncompressed block
+     */
+    public LzBlockCodec(@NonNull final byte[] dictionary, final int maxBlockLength) {
+        if (maxBlockLength <= 0) {
+            throw new IllegalArgumentException("Max block length must be positive: " + maxBlockLength);
+        }
+        this.maxBlockLength = maxBlockLength;
+        // only the last MAX_OFFSET bytes of the dictionary can ever be referenced
+        this.dictionaryLength = Math.min(dictionary.length, MAX_OFFSET);
+        this.window = new byte[dictionaryLength + maxBlockLength];
+        System.arraycopy(dictionary, dictionary.length - dictionaryLength, window, 0, dictionaryLength);
+        Arrays.fill(dictionaryHashTable, -1);
+        for (int i = 0; i + MIN_MATCH <= dictionaryLength; i++) {
+            dictionaryHashTable[hash(readInt(window, i))] = i;
+        }
+    }
+
+    /**
+     * @param length the uncompressed length
+     * @return the maximum compressed length of a block with the given uncompressed length
+     */
+    public static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * @return the maximum length of an uncompressed block
+     */
+    public int getMaxBlockLength() {
+        return maxBlockLength;
+    }
+
+    /**
+     * Compress a block.
+     *
+     * @param src    the source buffer
+     * @param srcOff the offset of the block in the source buffer
+     * @param srcLen the block length, must not exceed {@link #getMaxBlockLength()}
+     * @param dst    the destination buffer, must have at least {@link #maxCompressedLength(int)} bytes available
+     * @param dstOff the offset in the destination buffer
+     * @return the compressed length
+     */
+    public int compress(
+            @NonNull final byte[] src, final int srcOff, final int srcLen, @NonNull final byte[] dst, final int dstOff) {
+        if (srcLen > maxBlockLength) {
+            throw new IllegalArgumentException("Block length " + srcLen + " exceeds max length " + maxBlockLength);
+        }
+        System.arraycopy(src, srcOff, window, dictionaryLength, srcLen);
+        System.arraycopy(dictionaryHashTable, 0, hashTable, 0, hashTable.length);
+
+        final int end = dictionaryLength + srcLen;
+        int ip = dictionaryLength;
+        int anchor = ip;
+        int op = dstOff;
+        while (ip + MIN_MATCH <= end) {
+            final int sequence = readInt(window, ip);
+            final int h = hash(sequence);
+            final int ref = hashTable[h];
+            hashTable[h] = ip;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(window, ref) != sequence) {
+                ip++;
+                continue;
+            }
+            int matchLength = MIN_MATCH;
+            while (ip + matchLength < end && window[ref + matchLength] == window[ip + matchLength]) {
+                matchLength++;
+            }
+            op = writeSequence(dst, op, ip - anchor, ip - ref, matchLength, anchor);
+            ip += matchLength;
+            anchor = ip;
+        }
+        // the last sequence has literals only
+        return writeLastLiterals(dst, op, end - anchor, anchor) - dstOff;
+    }
+
+    /**
+     * Decompress a block.
+     *
+     * @param src       the source buffer
+     * @param srcOff    the offset of the compressed block in the source buffer
+     * @param srcLen    the compressed block length
+     * @param dst       the destination buffer
+     * @param dstOff    the offset in the destination buffer
+     * @param rawLength the uncompressed block length, must not exceed {@link #getMaxBlockLength()}
+     * @throws IOException if the compressed block is malformed
+     */
+    public void decompress(
+            @NonNull final byte[] src,
+            final int srcOff,
+            final int srcLen,
+            @NonNull final byte[] dst,
+            final int dstOff,
+            final int rawLength)
+            throws IOException {
+        if (rawLength < 0 || rawLength > maxBlockLength) {
+            throw new IOException("Invalid block length " + rawLength);
+        }
+        final int srcEnd = srcOff + srcLen;
+        final int end = dictionaryLength + rawLength;
+        int ip = srcOff;
+        int op = dictionaryLength;
+        try {
+            while (true) {
+                final int token = src[ip++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                if (literalLength > end - op || literalLength > srcEnd - ip) {
+                    throw new IOException("Malformed compressed block, literals out of bounds");
+                }
+                System.arraycopy(src, ip, window, op, literalLength);
+                ip += literalLength;
+                op += literalLength;
+                if (op == end) {
+                    break;
+                }
+
+                final int offset = (src[ip++] & 0xFF) | ((src[ip++] & 0xFF) << 8);
+                int matchLength = (token & RUN_MASK) + MIN_MATCH;
+                if ((token & RUN_MASK) == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                if (offset == 0 || offset > op || matchLength > end - op) {
+                    throw new IOException("Malformed compressed block, match out of bounds");
+                }
+                // byte by byte, since a match may overlap with itself
+                for (int i = 0; i < matchLength; i++) {
+                    window[op + i] = window[op - offset + i];
+                }
+                op += matchLength;
+            }
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Malformed compressed block, unexpected end", e);
+        }
+        if (ip != srcEnd) {
+            throw new IOException("Malformed compressed block, " + (srcEnd - ip) + " trailing bytes");
+        }
+        System.arraycopy(window, dictionaryLength, dst, dstOff, rawLength);
+    }
+
+    private int writeSequence(
+            final byte[] dst,
+            int op,
+            final int literalLength,
+            final int offset,
+            final int matchLength,
+            final int literalsStart) {
+        final int matchCode = matchLength - MIN_MATCH;
+        final int tokenPos = op++;
+        dst[tokenPos] = (byte) ((Math.min(literalLength, RUN_MASK) << 4) | Math.min(matchCode, RUN_MASK));
+        op = writeLength(dst, op, literalLength);
+        System.arraycopy(window, literalsStart, dst, op, literalLength);
+        op += literalLength;
+        dst[op++] = (byte) offset;
+        dst[op++] = (byte) (offset >>> 8);
+        return writeLength(dst, op, matchCode);
+    }
+
+    private int writeLastLiterals(final byte[] dst, int op, final int literalLength, final int literalsStart) {
+        dst[op++] = (byte) (Math.min(literalLength, RUN_MASK) << 4);
+        op = writeLength(dst, op, literalLength);
+        System.arraycopy(window, literalsStart, dst, op, literalLength);
+        return op + literalLength;
+    }
+
+    /**
+     * Write the continuation bytes of a length, if the length doesn't fit in a token half.
+     */
+    private static int writeLength(final byte[] dst, int op, final int length) {
+        if (length < RUN_MASK) {
+            return op;
+        }
+        int remaining = length - RUN_MASK;
+        while (remaining >= 255) {
+            dst[op++] = (byte) 255;
+            remaining -= 255;
+        }
+        dst[op++] = (byte) remaining;
+        return op;
+    }
+
+    private static int readInt(final byte[] buf, final int pos) {
+        return (buf[pos] & 0xFF)
+                | ((buf[pos + 1] & 0xFF) << 8)
+                | ((buf[pos + 2] & 0xFF) << 16)
+                | ((buf[pos + 3] & 0xFF) << 24);
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_BITS);
+    }
+}
@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * An input stream that reads frames written by {@link LzFrameOutputStream}. The buffer size must be the same as used
+ * by the writing side, otherwise frames may be rejected as too long.
+ */
+public class LzFrameInputStream extends FilterInputStream {
+
+    private final LzBlockCodec codec;
+    private final DataInputStream dataIn;
+    /** The uncompressed data of the current frame */
+    private final byte[] buffer;
+    /** The compressed data of the current frame */
+    private final byte[] compressed;
+    /** The position of the next byte to read in {@link #buffer} */
+    private int pos = 0;
+    /** The number of bytes in {@link #buffer} */
+    private int count = 0;
+
+    /**
+     * @param in         the stream to read frames from
+     * @param bufferSize the buffer size, which is also the maximum uncompressed frame length
+     */
+    public LzFrameInputStream(@NonNull final InputStream in, final int bufferSize) {
+        super(Objects.requireNonNull(in));
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        final int frameLength = Math.min(bufferSize, LzFrameOutputStream.MAX_FRAME_LENGTH);
+        this.codec = new LzBlockCodec(SyncStreamDictionary.getDictionary(), frameLength);
+        this.dataIn = new DataInputStream(in);
+        this.buffer = new byte[frameLength];
+        this.compressed = new byte[LzBlockCodec.maxCompressedLength(frameLength)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (pos == count && !readFrame()) {
+            return -1;
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (pos == count && !readFrame()) {
+            return -1;
+        }
+        final int n = Math.min(len, count - pos);
+        System.arraycopy(buffer, pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        return count - pos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0 || (pos == count && !readFrame())) {
+            return 0;
+        }
+        final int skipped = (int) Math.min(n, count - pos);
+        pos += skipped;
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Read the next non-empty frame into the buffer.
+     *
+     * @return false if the stream ended before the frame, true otherwise
+     * @throws IOException if the frame is malformed, or the stream ended in the middle of the frame
+     */
+    private boolean readFrame() throws IOException {
+        do {
+            final int kind = in.read();
+            if (kind == -1) {
+                return false;
+            }
+            final int rawLength = dataIn.readInt();
+            if (rawLength < 0 || rawLength > buffer.length) {
+                throw new IOException("Invalid frame length " + rawLength + ", max length is " + buffer.length);
+            }
+            switch (kind) {
+                case LzFrameOutputStream.STORED -> dataIn.readFully(buffer, 0, rawLength);
+                case LzFrameOutputStream.COMPRESSED -> {
+                    final int compressedLength = dataIn.readInt();
+                    if (compressedLength < 0 || compressedLength > compressed.length) {
+                        throw new IOException("Invalid compressed frame length " + compressedLength);
+                    }
+                    dataIn.readFully(compressed, 0, compressedLength);
+                    codec.decompress(compressed, 0, compressedLength, buffer, 0, rawLength);
+                }
+                default -> throw new IOException("Unknown frame kind " + kind);
+            }
+            pos = 0;
+            count = rawLength;
+        } while (count == 0);
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * An output stream that compresses data with {@link LzBlockCodec}. Data is buffered until the buffer is full or the
+ * stream is flushed, then written as a single frame. Every frame is:
+ * <ul>
+ *     <li>a kind byte, {@link #STORED} or {@link #COMPRESSED}</li>
+ *     <li>the uncompressed length, an int</li>
+ *     <li>for compressed frames only, the compressed length, an int</li>
+ *     <li>the data</li>
+ * </ul>
+ * Frames that don't get smaller when compressed are stored as is. Frames are read by {@link LzFrameInputStream}.
+ */
+public class LzFrameOutputStream extends FilterOutputStream {
+    /** A frame with uncompressed data */
+    static final int STORED = 0;
+    /** A frame with compressed data */
+    static final int COMPRESSED = 1;
+    /** The maximum frame length, frames are also limited by the buffer size */
+    static final int MAX_FRAME_LENGTH = 1 << 20;
+
+    private final LzBlockCodec codec;
+    /** Data not written to the underlying stream yet */
+    private final byte[] buffer;
+    /** The frame header followed by the compressed data */
+    private final byte[] frame;
+    /** The number of bytes in {@link #buffer} */
+    private int count = 0;
+
+    /**
+     * @param out        the stream to write frames to
+     * @param bufferSize the buffer size, which is also the maximum uncompressed frame length
+     */
+    public LzFrameOutputStream(@NonNull final OutputStream out, final int bufferSize) {
+        super(Objects.requireNonNull(out));
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        final int frameLength = Math.min(bufferSize, MAX_FRAME_LENGTH);
+        this.codec = new LzBlockCodec(SyncStreamDictionary.getDictionary(), frameLength);
+        this.buffer = new byte[frameLength];
+        this.frame = new byte[Integer.BYTES * 2 + 1 + LzBlockCodec.maxCompressedLength(frameLength)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        if (count == buffer.length) {
+            writeFrame();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            if (count == buffer.length) {
+                writeFrame();
+            }
+            final int n = Math.min(len, buffer.length - count);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Write all buffered data as a frame, and flush the underlying stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        writeFrame();
+        out.flush();
+    }
+
+    private void writeFrame() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        final int header = Integer.BYTES * 2 + 1;
+        final int compressedLength = codec.compress(buffer, 0, count, frame, header);
+        if (compressedLength < count) {
+            frame[0] = COMPRESSED;
+            writeInt(frame, 1, count);
+            writeInt(frame, 1 + Integer.BYTES, compressedLength);
+            out.write(frame, 0, header + compressedLength);
+        } else {
+            frame[0] = STORED;
+            writeInt(frame, 1, count);
+            out.write(frame, 0, 1 + Integer.BYTES);
+            out.write(buffer, 0, count);
+        }
+        count = 0;
+    }
+
+    private static void writeInt(final byte[] buf, final int pos, final int value) {
+        buf[pos] = (byte) (value >>> 24);
+        buf[pos + 1] = (byte) (value >>> 16);
+        buf[pos + 2] = (byte) (value >>> 8);
+        buf[pos + 3] = (byte) value;
+    }
+}
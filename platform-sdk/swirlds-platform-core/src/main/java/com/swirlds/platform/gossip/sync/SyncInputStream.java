@@ -7,12 +7,9 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataInputStream;
 
@@ -30,24 +27,25 @@ public class SyncInputStream extends SerializableDataInputStream {
 
     public static SyncInputStream createSyncInputStream(
             @NonNull final PlatformContext platformContext, @NonNull final InputStream in, final int bufferSize) {
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        return createSyncInputStream(in, bufferSize, SyncStreamCodec.fromConfig(socketConfig));
+    }
 
+    /**
+     * Create a sync input stream that decompresses data with the given codec.
+     *
+     * @param in         the stream to read from
+     * @param bufferSize the buffer size
+     * @param codec      the codec, must be the same as used by the peer
+     * @return the sync input stream
+     */
+    public static SyncInputStream createSyncInputStream(
+            @NonNull final InputStream in, final int bufferSize, @NonNull final SyncStreamCodec codec) {
         final CountingStreamExtension syncCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
-
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
-        final InputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new InflaterInputStream(meteredStream, new Inflater(true), bufferSize);
-        } else {
-            wrappedStream = new BufferedInputStream(meteredStream, bufferSize);
-        }
-
-        return new SyncInputStream(wrappedStream, syncCounter);
+        return new SyncInputStream(codec.wrapInput(meteredStream, bufferSize), syncCounter);
     }
 
     public CountingStreamExtension getSyncByteCounter() {
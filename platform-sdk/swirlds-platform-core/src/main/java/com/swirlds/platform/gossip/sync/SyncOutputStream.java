@@ -7,14 +7,11 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
 
@@ -33,26 +30,28 @@ public class SyncOutputStream extends SerializableDataOutputStream {
 
     public static SyncOutputStream createSyncOutputStream(
             @NonNull final PlatformContext platformContext, @NonNull final OutputStream out, final int bufferSize) {
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        return createSyncOutputStream(out, bufferSize, SyncStreamCodec.fromConfig(socketConfig));
+    }
+
+    /**
+     * Create a sync output stream that compresses data with the given codec.
+     *
+     * @param out        the stream to write to
+     * @param bufferSize the buffer size
+     * @param codec      the codec, must be the same as used by the peer
+     * @return the sync output stream
+     */
+    public static SyncOutputStream createSyncOutputStream(
+            @NonNull final OutputStream out, final int bufferSize, @NonNull final SyncStreamCodec codec) {
         CountingStreamExtension syncByteCounter = new CountingStreamExtension();
         CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
-
         final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
-        final OutputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new DeflaterOutputStream(
-                    meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
-        } else {
-            wrappedStream = new BufferedOutputStream(meteredStream, bufferSize);
-        }
-
         // we write the data to the buffer first, for efficiency
-        return new SyncOutputStream(wrappedStream, syncByteCounter, connectionByteCounter);
+        return new SyncOutputStream(
+                codec.wrapOutput(meteredStream, bufferSize), syncByteCounter, connectionByteCounter);
     }
 
     public CountingStreamExtension getSyncByteCounter() {
@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import com.swirlds.platform.network.SocketConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression codecs for gossip sync streams. Both sides of a connection must use the same codec, which is chosen by
+ * {@link #forConnection(SocketConfig, InputStream, OutputStream)} when the connection is established.
+ * <p>
+ * Without LZ compression, the codec comes from the configuration alone and nothing is exchanged with the peer, so the
+ * connection preamble is the same as in versions without LZ support. With LZ compression, the codec is negotiated with
+ * the peer, which changes the preamble: {@code socket.lzCompression} must be enabled on all nodes of a network, just
+ * like {@code socket.gzipCompression} must be the same on all nodes.
+ */
+public enum SyncStreamCodec {
+    /** No compression, data is buffered only */
+    NONE(0x01),
+    /** Deflate compression, best ratio but CPU heavy */
+    DEFLATE(0x02),
+    /** LZ compression with a gossip specific dictionary, see {@link LzBlockCodec} */
+    LZ(0x04);
+
+    /** Codecs in order of preference, most preferred first */
+    private static final SyncStreamCodec[] PREFERENCE_ORDER = {LZ, DEFLATE, NONE};
+
+    /** The bit of this codec in the negotiation bitmask */
+    private final int bit;
+
+    SyncStreamCodec(final int bit) {
+        this.bit = bit;
+    }
+
+    /**
+     * Get the most preferred codec enabled in the configuration, without negotiating with the peer.
+     *
+     * @param socketConfig the socket configuration
+     * @return the codec to use
+     */
+    public static @NonNull SyncStreamCodec fromConfig(@NonNull final SocketConfig socketConfig) {
+        return select(enabledCodecs(socketConfig));
+    }
+
+    /**
+     * Choose the codec for a new connection. If LZ compression is enabled, the codec is negotiated with the peer with
+     * {@link #negotiate(SocketConfig, InputStream, OutputStream)}. Otherwise, the codec is chosen from the
+     * configuration and no data is exchanged, keeping the connection compatible with peers that don't support
+     * negotiation.
+     *
+     * @param socketConfig the socket configuration
+     * @param in           the raw connection input stream
+     * @param out          the raw connection output stream
+     * @return the codec to use for this connection
+     * @throws IOException if the peer cannot be reached or closes the connection
+     */
+    public static @NonNull SyncStreamCodec forConnection(
+            @NonNull final SocketConfig socketConfig, @NonNull final InputStream in, @NonNull final OutputStream out)
+            throws IOException {
+        if (!socketConfig.lzCompression()) {
+            return fromConfig(socketConfig);
+        }
+        return negotiate(socketConfig, in, out);
+    }
+
+    /**
+     * Agree on a codec with the peer. Each side sends a single byte with a bitmask of the codecs it has enabled, and
+     * both pick the most preferred codec enabled on both sides. {@link #NONE} is always enabled, so there is always a
+     * common codec. Must be called on the raw connection streams, before any data is sent.
+     *
+     * @param socketConfig the socket configuration
+     * @param in           the raw connection input stream
+     * @param out          the raw connection output stream
+     * @return the codec to use for this connection
+     * @throws IOException if the peer cannot be reached or closes the connection
+     */
+    public static @NonNull SyncStreamCodec negotiate(
+            @NonNull final SocketConfig socketConfig, @NonNull final InputStream in, @NonNull final OutputStream out)
+            throws IOException {
+        final int enabled = enabledCodecs(socketConfig);
+        out.write(enabled);
+        out.flush();
+        final int peerEnabled = in.read();
+        if (peerEnabled == -1) {
+            throw new EOFException("Connection closed while negotiating the sync stream codec");
+        }
+        return select(enabled & peerEnabled);
+    }
+
+    /**
+     * Wrap a stream to write data with this codec.
+     *
+     * @param out        the stream to wrap
+     * @param bufferSize the buffer size
+     * @return the wrapped stream
+     */
+    public @NonNull OutputStream wrapOutput(@NonNull final OutputStream out, final int bufferSize) {
+        return switch (this) {
+            case NONE -> new BufferedOutputStream(out, bufferSize);
+            case DEFLATE -> new DeflaterOutputStream(
+                    out, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
+            case LZ -> new LzFrameOutputStream(out, bufferSize);
+        };
+    }
+
+    /**
+     * Wrap a stream to read data written with this codec.
+     *
+     * @param in         the stream to wrap
+     * @param bufferSize the buffer size
+     * @return the wrapped stream
+     */
+    public @NonNull InputStream wrapInput(@NonNull final InputStream in, final int bufferSize) {
+        return switch (this) {
+            case NONE -> new BufferedInputStream(in, bufferSize);
+            case DEFLATE -> new InflaterInputStream(in, new Inflater(true), bufferSize);
+            case LZ -> new LzFrameInputStream(in, bufferSize);
+        };
+    }
+
+    private static int enabledCodecs(@NonNull final SocketConfig socketConfig) {
+        int enabled = NONE.bit;
+        if (socketConfig.gzipCompression()) {
+            enabled |= DEFLATE.bit;
+        }
+        if (socketConfig.lzCompression()) {
+            enabled |= LZ.bit;
+        }
+        return enabled;
+    }
+
+    private static SyncStreamCodec select(final int enabled) {
+        for (final SyncStreamCodec codec : PREFERENCE_ORDER) {
+            if ((enabled & codec.bit) != 0) {
+                return codec;
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import com.swirlds.platform.network.ByteConstants;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * The dictionary used by {@link LzBlockCodec} for gossip sync streams. Gossip streams are flushed often, so a lot of
+ * blocks are just a few events long. Without a dictionary, such blocks would hardly compress at all, since the repeated
+ * parts of events would only be found from the second event on.
+ *
+ * <p>The dictionary is built from the fixed parts of the gossip event wire format: the event header written by the
+ * sync protocol and the protobuf field tags and length prefixes of {@code GossipEvent}, {@code EventCore} and
+ * {@code EventDescriptor}. Hashes and signatures are random and are not part of the dictionary. The dictionary must be
+ * identical on all nodes, so any change to it is a change to the wire format.
+ */
+public final class SyncStreamDictionary {
+
+    /** The SHA-384 hash length */
+    private static final int HASH_LENGTH = 48;
+    /** The event signature length */
+    private static final int SIGNATURE_LENGTH = 384;
+    /** The number of creator IDs to include fragments for */
+    private static final int NUM_CREATORS = 32;
+
+    private static final byte[] DICTIONARY = build();
+
+    private SyncStreamDictionary() {}
+
+    /**
+     * @return a copy of the dictionary bytes
+     */
+    public static @NonNull byte[] getDictionary() {
+        return DICTIONARY.clone();
+    }
+
+    private static byte[] build() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // parent descriptors: field 5, length, hash field 1 with 48 bytes, creator field 2, birth round field 3
+        for (int creator = 0; creator < NUM_CREATORS; creator++) {
+            out.write(0x10);
+            out.write(creator);
+            out.write(0x18);
+            out.write(0x2a);
+            out.write(HASH_LENGTH + 6);
+            out.write(0x0a);
+            out.write(HASH_LENGTH);
+        }
+        // event core: field 1, creator field 1, birth round field 2, time created field 3 with seconds and nanos
+        for (int creator = 0; creator < NUM_CREATORS; creator++) {
+            out.write(ByteConstants.COMM_EVENT_NEXT);
+            out.write(0);
+            out.write(0);
+            out.write(0x0a);
+            out.write(0x08);
+            out.write(creator);
+            out.write(0x10);
+        }
+        out.write(0x1a);
+        out.write(0x0c);
+        out.write(0x08);
+        // the signature: field 2, 384 bytes, followed by the first parent descriptor
+        out.write(0x12);
+        out.write((SIGNATURE_LENGTH & 0x7f) | 0x80);
+        out.write(SIGNATURE_LENGTH >>> 7);
+        out.write(0x2a);
+        out.write(HASH_LENGTH + 6);
+        out.write(0x0a);
+        out.write(HASH_LENGTH);
+        return out.toByteArray();
+    }
+}
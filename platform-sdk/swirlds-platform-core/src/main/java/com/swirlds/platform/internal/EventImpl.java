@@ -3,6 +3,7 @@ package com.swirlds.platform.internal;
 
 import com.swirlds.platform.consensus.CandidateWitness;
 import com.swirlds.platform.consensus.DeGen;
+import com.swirlds.platform.consensus.DenseConsensusMetadata;
 import com.swirlds.platform.consensus.LocalConsensusGeneration;
 import com.swirlds.platform.event.EventCounter;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -87,6 +88,9 @@ public class EventImpl implements Clearable {
     /** The deterministic generation, see {@link DeGen} */
     private int deGen = 0;
 
+    /** The slot of this event in {@link DenseConsensusMetadata}, if consensus metadata is stored there */
+    private int consensusSlot = DenseConsensusMetadata.NO_SLOT;
+
     public EventImpl(
             @NonNull final PlatformEvent platformEvent,
             @Nullable final EventImpl selfParent,
@@ -590,6 +594,24 @@ public class EventImpl implements Clearable {
         this.deGen = deGen;
     }
 
+    /**
+     * Returns the slot of this event in {@link DenseConsensusMetadata}.
+     *
+     * @return the slot, or {@link DenseConsensusMetadata#NO_SLOT} if no slot is assigned
+     */
+    public int getConsensusSlot() {
+        return consensusSlot;
+    }
+
+    /**
+     * Sets the slot of this event in {@link DenseConsensusMetadata}.
+     *
+     * @param consensusSlot the slot to set
+     */
+    public void setConsensusSlot(final int consensusSlot) {
+        this.consensusSlot = consensusSlot;
+    }
+
     //
     // Overrides
     //
@@ -12,6 +12,7 @@ import com.swirlds.platform.gossip.config.GossipConfig;
 import com.swirlds.platform.gossip.config.NetworkEndpoint;
 import com.swirlds.platform.gossip.sync.SyncInputStream;
 import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.gossip.sync.SyncStreamCodec;
 import com.swirlds.platform.network.connection.NotConnectedConnection;
 import com.swirlds.platform.network.connectivity.SocketFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -126,10 +127,12 @@ public class OutboundConnectionManager implements ConnectionManager {
             clientSocket = socketFactory.createClientSocket(
                     networkEndpoint.hostname().getHostAddress(), networkEndpoint.port());
 
+            final SyncStreamCodec codec = SyncStreamCodec.forConnection(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream());
             dos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), codec);
             dis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), codec);
 
             logger.debug(NETWORK.getMarker(), "`connect` : finished, {} connected to {}", selfId, otherPeer.nodeId());
 
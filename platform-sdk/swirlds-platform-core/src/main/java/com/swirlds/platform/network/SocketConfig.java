@@ -20,6 +20,9 @@ import com.swirlds.config.api.ConfigProperty;
  * @param tcpNoDelay                 if true, then Nagel's algorithm is disabled, which helps latency, hurts bandwidth
  *                                   usage
  * @param gzipCompression            whether to use gzip compression over the network
+ * @param lzCompression              whether to use LZ compression over the network, preferred over gzip compression.
+ *                                   Adds a codec negotiation to every new connection, so it must be enabled on all
+ *                                   nodes of the network
  * @param waitBetweenConnectionRetries      how many ms should we wait before trying to establish new connection after previous
  *                                   one is broken, to avoid spam on broken cert; zero or negative for no-sleep
  * @param maxSocketAcceptThreads     maximum amount of threads which will be spawned to handle incoming SSL socket
@@ -36,5 +39,6 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "false") boolean useLoopbackIp,
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
         @ConfigProperty(defaultValue = "false") boolean gzipCompression,
+        @ConfigProperty(defaultValue = "false") boolean lzCompression,
         @ConfigProperty(defaultValue = "10") int waitBetweenConnectionRetries,
         @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads) {}
@@ -9,6 +9,7 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.platform.gossip.sync.SyncInputStream;
 import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.gossip.sync.SyncStreamCodec;
 import com.swirlds.platform.network.Connection;
 import com.swirlds.platform.network.ConnectionTracker;
 import com.swirlds.platform.network.NetworkPeerIdentifier;
@@ -92,10 +93,12 @@ public class InboundConnectionHandler {
             }
             final NodeId otherId = connectedPeer.nodeId();
 
+            final SyncStreamCodec codec = SyncStreamCodec.forConnection(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream());
             final SyncInputStream sis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), codec);
             final SyncOutputStream sos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), codec);
 
             final SocketConnection sc = SocketConnection.create(
                     selfId,
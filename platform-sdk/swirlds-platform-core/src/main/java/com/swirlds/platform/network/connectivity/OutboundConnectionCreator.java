@@ -11,6 +11,7 @@ import com.swirlds.platform.gossip.config.GossipConfig;
 import com.swirlds.platform.gossip.config.NetworkEndpoint;
 import com.swirlds.platform.gossip.sync.SyncInputStream;
 import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.gossip.sync.SyncStreamCodec;
 import com.swirlds.platform.network.Connection;
 import com.swirlds.platform.network.ConnectionTracker;
 import com.swirlds.platform.network.NetworkUtils;
@@ -104,10 +105,12 @@ public class OutboundConnectionCreator {
             clientSocket = socketFactory.createClientSocket(
                     networkEndpoint.hostname().getHostAddress(), networkEndpoint.port());
 
+            final SyncStreamCodec codec = SyncStreamCodec.forConnection(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream());
             dos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), codec);
             dis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), codec);
 
             logger.debug(NETWORK.getMarker(), "`connect` : finished, {} connected to {}", selfId, otherId);
 
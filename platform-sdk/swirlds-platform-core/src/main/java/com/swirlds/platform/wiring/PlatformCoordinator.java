@@ -10,6 +10,7 @@ import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.validation.EventSignatureBatcher;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.TransactionHandler;
@@ -22,6 +23,7 @@ import com.swirlds.platform.system.status.StatusStateMachine;
 import com.swirlds.platform.wiring.components.GossipWiring;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
@@ -46,7 +48,8 @@ public class PlatformCoordinator {
 
     private final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring;
     private final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring;
-    private final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring;
+    private final ComponentWiring<EventSignatureBatcher, List<PlatformEvent>> eventSignatureBatcherWiring;
+    private final ComponentWiring<EventSignatureValidator, List<PlatformEvent>> eventSignatureValidatorWiring;
     private final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring;
     private final GossipWiring gossipWiring;
     private final ComponentWiring<ConsensusEngine, List<ConsensusRound>> consensusEngineWiring;
@@ -62,7 +65,7 @@ public class PlatformCoordinator {
     private final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring;
     private final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring;
     private final ComponentWiring<BranchReporter, Void> branchReporterWiring;
-    private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    private final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring;
 
     /**
      * Constructor
@@ -70,6 +73,7 @@ public class PlatformCoordinator {
      * @param flushTheEventHasher                    a lambda that flushes the event hasher
      * @param internalEventValidatorWiring           the internal event validator wiring
      * @param eventDeduplicatorWiring                the event deduplicator wiring
+     * @param eventSignatureBatcherWiring            the event signature batcher wiring
      * @param eventSignatureValidatorWiring          the event signature validator wiring
      * @param orphanBufferWiring                     the orphan buffer wiring
      * @param gossipWiring                           gossip wiring
@@ -90,7 +94,8 @@ public class PlatformCoordinator {
             @NonNull final Runnable flushTheEventHasher,
             @NonNull final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring,
             @NonNull final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring,
-            @NonNull final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring,
+            @NonNull final ComponentWiring<EventSignatureBatcher, List<PlatformEvent>> eventSignatureBatcherWiring,
+            @NonNull final ComponentWiring<EventSignatureValidator, List<PlatformEvent>> eventSignatureValidatorWiring,
             @NonNull final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring,
             @NonNull final GossipWiring gossipWiring,
             @NonNull final ComponentWiring<ConsensusEngine, List<ConsensusRound>> consensusEngineWiring,
@@ -111,11 +116,12 @@ public class PlatformCoordinator {
             @NonNull final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring,
             @NonNull final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring,
             @NonNull final ComponentWiring<BranchReporter, Void> branchReporterWiring,
-            @Nullable final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring) {
+            @Nullable final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring) {
 
         this.flushTheEventHasher = Objects.requireNonNull(flushTheEventHasher);
         this.internalEventValidatorWiring = Objects.requireNonNull(internalEventValidatorWiring);
         this.eventDeduplicatorWiring = Objects.requireNonNull(eventDeduplicatorWiring);
+        this.eventSignatureBatcherWiring = Objects.requireNonNull(eventSignatureBatcherWiring);
         this.eventSignatureValidatorWiring = Objects.requireNonNull(eventSignatureValidatorWiring);
         this.orphanBufferWiring = Objects.requireNonNull(orphanBufferWiring);
         this.gossipWiring = Objects.requireNonNull(gossipWiring);
@@ -147,6 +153,9 @@ public class PlatformCoordinator {
         flushTheEventHasher.run();
         internalEventValidatorWiring.flush();
         eventDeduplicatorWiring.flush();
+        // Release the events waiting for their batch to fill up
+        eventSignatureBatcherWiring.getInputWire(EventSignatureBatcher::flush).inject(Instant.now());
+        eventSignatureBatcherWiring.flush();
         eventSignatureValidatorWiring.flush();
         orphanBufferWiring.flush();
         if (pcesInlineWriterWiring != null) {
@@ -191,6 +200,12 @@ public class PlatformCoordinator {
         // Phase 2: flush
         // All cycles have been broken via squelching, so now it's time to flush everything out of the system.
         flushIntakePipeline();
+        if (pcesInlineWriterWiring != null) {
+            // Events held back by the PCES writer until they are durable would otherwise be released by a heartbeat
+            // once squelching stops, so drop them while consensus and event creation are still squelched.
+            pcesInlineWriterWiring.getInputWire(InlinePcesWriter::clear).inject(NoInput.getInstance());
+            pcesInlineWriterWiring.flush();
+        }
         stateHasherWiring.flush();
         stateSignatureCollectorWiring.flush();
         transactionHandlerWiring.flush();
@@ -208,6 +223,7 @@ public class PlatformCoordinator {
         // Phase 4: clear
         // Data is no longer moving through the system. Clear all the internal data structures in the wiring objects.
         eventDeduplicatorWiring.getInputWire(EventDeduplicator::clear).inject(NoInput.getInstance());
+        eventSignatureBatcherWiring.getInputWire(EventSignatureBatcher::clear).inject(NoInput.getInstance());
         orphanBufferWiring.getInputWire(OrphanBuffer::clear).inject(NoInput.getInstance());
         gossipWiring.getClearInput().inject(NoInput.getInstance());
         stateSignatureCollectorWiring
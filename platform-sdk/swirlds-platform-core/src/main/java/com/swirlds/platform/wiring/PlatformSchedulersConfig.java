@@ -11,7 +11,12 @@ import java.time.Duration;
  *
  * @param internalEventValidator               configuration for the internal event validator scheduler
  * @param eventDeduplicator                    configuration for the event deduplicator scheduler
- * @param eventSignatureValidator              configuration for the event signature validator scheduler
+ * @param eventSignatureBatcher                configuration for the event signature batcher scheduler
+ * @param eventSignatureBatcherHeartbeatPeriod the frequency that heartbeats should be sent to the event signature
+ *                                             batcher, the max time an event waits for its batch to fill up
+ * @param eventSignatureBatchSize              the max number of events in a batch sent to the event signature validator
+ * @param eventSignatureValidator              configuration for the event signature validator scheduler. Must be
+ *                                             sequential, so events are passed on in the order they are received
  * @param orphanBuffer                         configuration for the orphan buffer scheduler
  * @param consensusEngine                      configuration for the consensus engine scheduler
  * @param eventCreationManager                 configuration for the event creation manager scheduler
@@ -39,6 +44,8 @@ import java.time.Duration;
  * @param transactionResubmitter               configuration for the transaction resubmitter scheduler
  * @param transactionPool                      configuration for the transaction pool scheduler
  * @param gossip                               configuration for the gossip scheduler
+ * @param gossipPeerLatencyHeartbeatPeriod     the frequency that round-trip times to peers are sent from gossip to the
+ *                                             event creator
  * @param eventHasher                          configuration for the event hasher scheduler
  * @param branchDetector                       configuration for the branch detector scheduler
  * @param branchReporter                       configuration for the branch reporter scheduler
@@ -49,7 +56,11 @@ public record PlatformSchedulersConfig(
                 TaskSchedulerConfiguration internalEventValidator,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(5000) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration eventDeduplicator,
-        @ConfigProperty(defaultValue = "CONCURRENT CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
+        @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(5000) FLUSHABLE UNHANDLED_TASK_METRIC")
+                TaskSchedulerConfiguration eventSignatureBatcher,
+        @ConfigProperty(defaultValue = "5ms") Duration eventSignatureBatcherHeartbeatPeriod,
+        @ConfigProperty(defaultValue = "64") int eventSignatureBatchSize,
+        @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(100) FLUSHABLE UNHANDLED_TASK_METRIC BUSY_FRACTION_METRIC")
                 TaskSchedulerConfiguration eventSignatureValidator,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration orphanBuffer,
@@ -107,6 +118,7 @@ public record PlatformSchedulersConfig(
         @ConfigProperty(defaultValue = "DIRECT_THREADSAFE") TaskSchedulerConfiguration transactionPool,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration gossip,
+        @ConfigProperty(defaultValue = "1s") Duration gossipPeerLatencyHeartbeatPeriod,
         @ConfigProperty(defaultValue = "CONCURRENT CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration eventHasher,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
@@ -34,10 +34,13 @@ import com.swirlds.platform.event.branching.BranchDetector;
 import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.FileSyncOption;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
+import com.swirlds.platform.event.validation.EventSignatureBatcher;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.StateWithHashComplexity;
@@ -101,14 +104,15 @@ public class PlatformWiring {
     private final ComponentWiring<EventHasher, PlatformEvent> eventHasherWiring;
     private final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring;
     private final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring;
-    private final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring;
+    private final ComponentWiring<EventSignatureBatcher, List<PlatformEvent>> eventSignatureBatcherWiring;
+    private final ComponentWiring<EventSignatureValidator, List<PlatformEvent>> eventSignatureValidatorWiring;
     private final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring;
     private final ComponentWiring<ConsensusEngine, List<ConsensusRound>> consensusEngineWiring;
     private final ComponentWiring<EventCreationManager, PlatformEvent> eventCreationManagerWiring;
     private final ComponentWiring<StateSnapshotManager, StateSavingResult> stateSnapshotManagerWiring;
     private final ComponentWiring<StateSigner, StateSignatureTransaction> stateSignerWiring;
     private final PcesReplayerWiring pcesReplayerWiring;
-    private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    private final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring;
     private final ComponentWiring<TransactionPrehandler, Queue<ScopedSystemTransaction<StateSignatureTransaction>>>
             applicationTransactionPrehandlerWiring;
     private final ComponentWiring<StateSignatureCollector, List<ReservedSignedState>> stateSignatureCollectorWiring;
@@ -167,6 +171,8 @@ public class PlatformWiring {
         internalEventValidatorWiring =
                 new ComponentWiring<>(model, InternalEventValidator.class, config.internalEventValidator());
         eventDeduplicatorWiring = new ComponentWiring<>(model, EventDeduplicator.class, config.eventDeduplicator());
+        eventSignatureBatcherWiring =
+                new ComponentWiring<>(model, EventSignatureBatcher.class, config.eventSignatureBatcher());
         eventSignatureValidatorWiring =
                 new ComponentWiring<>(model, EventSignatureValidator.class, config.eventSignatureValidator());
         orphanBufferWiring = new ComponentWiring<>(model, OrphanBuffer.class, config.orphanBuffer());
@@ -254,6 +260,7 @@ public class PlatformWiring {
                 eventHasherWiring::flush,
                 internalEventValidatorWiring,
                 eventDeduplicatorWiring,
+                eventSignatureBatcherWiring,
                 eventSignatureValidatorWiring,
                 orphanBufferWiring,
                 gossipWiring,
@@ -341,33 +348,52 @@ public class PlatformWiring {
                 .solderTo(eventDeduplicatorWiring.getInputWire(EventDeduplicator::handleEvent));
         eventDeduplicatorWiring
                 .getOutputWire()
-                .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
-        eventSignatureValidatorWiring
+                .solderTo(eventSignatureBatcherWiring.getInputWire(EventSignatureBatcher::addEvent));
+        // Batches are emitted and validated in order, so events reach the orphan buffer in the order they arrived
+        eventSignatureBatcherWiring
                 .getOutputWire()
+                .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignatures));
+        model.buildHeartbeatWire(config.eventSignatureBatcherHeartbeatPeriod())
+                .solderTo(eventSignatureBatcherWiring.getInputWire(EventSignatureBatcher::flush), OFFER);
+        eventSignatureValidatorWiring
+                .getSplitOutput()
                 .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
         final OutputWire<PlatformEvent> splitOrphanBufferOutput = orphanBufferWiring.getSplitOutput();
 
         splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
+        final OutputWire<PlatformEvent> splitPcesInlineWriterOutput = pcesInlineWriterWiring.getSplitOutput();
 
         // Make sure that an event is persisted before being sent to consensus. This avoids the situation where we
         // reach consensus with events that might be lost due to a crash
-        pcesInlineWriterWiring.getOutputWire().solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
+        splitPcesInlineWriterOutput.solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
 
         // Make sure events are persisted before being gossipped. This prevents accidental branching in the case
         // where an event is created, gossipped, and then the node crashes before the event is persisted.
         // After restart, a node will not be aware of this event, so it can create a branch
-        pcesInlineWriterWiring.getOutputWire().solderTo(gossipWiring.getEventInput(), INJECT);
+        splitPcesInlineWriterOutput.solderTo(gossipWiring.getEventInput(), INJECT);
 
         // Avoid using events as parents before they are persisted
-        pcesInlineWriterWiring
-                .getOutputWire()
-                .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
+        splitPcesInlineWriterOutput.solderTo(
+                eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
+
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        if (pcesConfig.inlinePcesSyncOption() == FileSyncOption.GROUP_COMMIT) {
+            // Events that become durable in the background are released on heartbeats
+            model.buildHeartbeatWire(pcesConfig.groupCommitHeartbeatPeriod())
+                    .solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::releaseDurableEvents), OFFER);
+        }
 
         model.getHealthMonitorWire()
                 .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::reportUnhealthyDuration));
 
         model.getHealthMonitorWire().solderTo(gossipWiring.getSystemHealthInput());
 
+        model.buildHeartbeatWire(config.gossipPeerLatencyHeartbeatPeriod())
+                .solderTo(gossipWiring.getPeerLatencyInput(), OFFER);
+        gossipWiring
+                .getPeerLatencyOutput()
+                .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::reportPeerLatencies));
+
         model.getHealthMonitorWire()
                 .solderTo(transactionPoolWiring.getInputWire(TransactionPool::reportUnhealthyDuration));
 
@@ -610,6 +636,7 @@ public class PlatformWiring {
         notifierWiring.getInputWire(AppNotifier::sendReconnectCompleteNotification);
         notifierWiring.getInputWire(AppNotifier::sendPlatformStatusChangeNotification);
         eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::updateRosterHistory);
+        eventSignatureBatcherWiring.getInputWire(EventSignatureBatcher::clear);
         eventWindowManagerWiring.getInputWire(EventWindowManager::updateEventWindow);
         orphanBufferWiring.getInputWire(OrphanBuffer::clear);
         pcesInlineWriterWiring.getInputWire(InlinePcesWriter::registerDiscontinuity);
@@ -652,6 +679,7 @@ public class PlatformWiring {
         eventHasherWiring.bind(builder::buildEventHasher);
         internalEventValidatorWiring.bind(builder::buildInternalEventValidator);
         eventDeduplicatorWiring.bind(builder::buildEventDeduplicator);
+        eventSignatureBatcherWiring.bind(builder::buildEventSignatureBatcher);
         eventSignatureValidatorWiring.bind(builder::buildEventSignatureValidator);
         orphanBufferWiring.bind(builder::buildOrphanBuffer);
         consensusEngineWiring.bind(builder::buildConsensusEngine);
@@ -7,8 +7,11 @@ import com.swirlds.component.framework.wires.output.StandardOutputWire;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
 import org.hiero.consensus.model.status.PlatformStatus;
 
 /**
@@ -40,4 +43,17 @@ public interface Gossip {
             @NonNull BindableInputWire<NoInput, Void> clearInput,
             @NonNull BindableInputWire<Duration, Void> systemHealthInput,
             @NonNull BindableInputWire<PlatformStatus, Void> platformStatusInput);
+
+    /**
+     * Bind the wires used to report round-trip times to peers. Implementations that don't measure round-trip times
+     * never report them.
+     *
+     * @param peerLatencyInput  used to ask gossip for the current round-trip times, carries the heartbeat time
+     * @param peerLatencyOutput the output wire for the average round-trip time to every peer
+     */
+    default void bindPeerLatencies(
+            @NonNull final BindableInputWire<Instant, Void> peerLatencyInput,
+            @NonNull final StandardOutputWire<Map<NodeId, Duration>> peerLatencyOutput) {
+        peerLatencyInput.bindConsumer(ignored -> {});
+    }
 }
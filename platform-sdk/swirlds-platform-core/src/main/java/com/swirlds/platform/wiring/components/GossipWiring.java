@@ -12,8 +12,11 @@ import com.swirlds.platform.wiring.NoInput;
 import com.swirlds.platform.wiring.PlatformSchedulersConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
 import org.hiero.consensus.model.status.PlatformStatus;
 
 /**
@@ -72,6 +75,16 @@ public class GossipWiring {
      */
     private final BindableInputWire<PlatformStatus, Void> platformStatusInput;
 
+    /**
+     * This wire is used to ask gossip for the current round-trip times to peers.
+     */
+    private final BindableInputWire<Instant, Void> peerLatencyInput;
+
+    /**
+     * Round-trip times to peers are sent out over this wire.
+     */
+    private final StandardOutputWire<Map<NodeId, Duration>> peerLatencyOutput;
+
     public GossipWiring(@NonNull final PlatformContext platformContext, @NonNull final WiringModel model) {
         this.model = model;
 
@@ -91,6 +104,8 @@ public class GossipWiring {
         clearInput = scheduler.buildInputWire("clear");
         systemHealthInput = scheduler.buildInputWire("health info");
         platformStatusInput = scheduler.buildInputWire("PlatformStatus");
+        peerLatencyInput = scheduler.buildInputWire("peer latency heartbeat");
+        peerLatencyOutput = scheduler.buildSecondaryOutputWire();
     }
 
     /**
@@ -109,6 +124,7 @@ public class GossipWiring {
                 clearInput,
                 systemHealthInput,
                 platformStatusInput);
+        gossip.bindPeerLatencies(peerLatencyInput, peerLatencyOutput);
     }
 
     /**
@@ -191,6 +207,26 @@ public class GossipWiring {
         return platformStatusInput;
     }
 
+    /**
+     * Get the input wire to ask gossip for the current round-trip times to peers.
+     *
+     * @return the input wire for round-trip time requests
+     */
+    @NonNull
+    public InputWire<Instant> getPeerLatencyInput() {
+        return peerLatencyInput;
+    }
+
+    /**
+     * Get the output wire for the average round-trip time to every peer.
+     *
+     * @return the output wire for round-trip times
+     */
+    @NonNull
+    public OutputWire<Map<NodeId, Duration>> getPeerLatencyOutput() {
+        return peerLatencyOutput;
+    }
+
     /**
      * Flush the gossip scheduler.
      */
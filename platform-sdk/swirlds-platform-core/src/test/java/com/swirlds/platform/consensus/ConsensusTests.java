@@ -42,11 +42,14 @@ class ConsensusTests extends PlatformTest {
     }
 
     /**
-     * Create a list of platform contexts to use for testing.
+     * Create a list of platform contexts to use for testing. Consensus is tested with metadata stored in events and with
+     * dense metadata storage.
      * @return a list of platform contexts
      */
     private List<PlatformContext> contexts() {
-        return List.of(createPlatformContext(null, null));
+        return List.of(
+                createPlatformContext(null, null),
+                createPlatformContext(null, c -> c.withValue(ConsensusConfig_.DENSE_METADATA, true)));
     }
 
     @ParameterizedTest
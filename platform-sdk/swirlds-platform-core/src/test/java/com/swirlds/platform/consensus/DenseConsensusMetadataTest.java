@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.platform.internal.EventImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.Test;
+
+class DenseConsensusMetadataTest {
+    private static final int NUM_MEMBERS = 4;
+
+    private static EventImpl newEvent(final Random random) {
+        return new EventImpl(new TestingEventBuilder(random).build(), null, null);
+    }
+
+    @Test
+    void memoization() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final DenseConsensusMetadata metadata = new DenseConsensusMetadata(NUM_MEMBERS);
+        final EventImpl event = newEvent(random);
+        final EventImpl seen = newEvent(random);
+
+        assertThrows(IllegalStateException.class, () -> metadata.isLastSeeMemoized(event));
+        metadata.assignSlot(event);
+        assertNotEquals(DenseConsensusMetadata.NO_SLOT, event.getConsensusSlot());
+        assertFalse(metadata.isLastSeeMemoized(event));
+        assertFalse(metadata.isStronglySeePMemoized(event));
+
+        metadata.markLastSeeMemoized(event);
+        metadata.setLastSee(event, 1, seen);
+        metadata.markStronglySeePMemoized(event);
+        metadata.setStronglySeeP(event, 2, seen);
+        assertTrue(metadata.isLastSeeMemoized(event));
+        assertTrue(metadata.isStronglySeePMemoized(event));
+        assertSame(seen, metadata.getLastSee(event, 1));
+        assertNull(metadata.getLastSee(event, 2));
+        assertSame(seen, metadata.getStronglySeeP(event, 2));
+        assertNull(metadata.getStronglySeeP(event, 1));
+
+        metadata.clear(event);
+        assertFalse(metadata.isLastSeeMemoized(event), "clearing should reset memoization");
+        assertFalse(metadata.isStronglySeePMemoized(event), "clearing should reset memoization");
+    }
+
+    @Test
+    void slotReuse() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final DenseConsensusMetadata metadata = new DenseConsensusMetadata(NUM_MEMBERS, 2);
+        final EventImpl first = newEvent(random);
+        final EventImpl second = newEvent(random);
+        metadata.assignSlot(first);
+        metadata.assignSlot(second);
+        metadata.markLastSeeMemoized(first);
+        metadata.setLastSee(first, 0, first);
+        final int firstSlot = first.getConsensusSlot();
+
+        metadata.releaseSlot(first);
+        assertEquals(1, metadata.getAssignedSlotCount());
+        assertEquals(1, metadata.getReleasedSlotCount());
+        assertThrows(IllegalStateException.class, () -> metadata.isLastSeeMemoized(first));
+
+        final EventImpl third = newEvent(random);
+        metadata.assignSlot(third);
+        assertEquals(firstSlot, third.getConsensusSlot(), "a released slot should be reused");
+        assertEquals(DenseConsensusMetadata.NO_SLOT, first.getConsensusSlot());
+        assertEquals(0, metadata.getReleasedSlotCount());
+        assertFalse(metadata.isLastSeeMemoized(third), "a reused slot should not have any memoized metadata");
+        assertNull(metadata.getLastSee(third, 0), "a reused slot should not reference old events");
+    }
+
+    @Test
+    void growth() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final DenseConsensusMetadata metadata = new DenseConsensusMetadata(NUM_MEMBERS, 1);
+        final List<EventImpl> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final EventImpl event = newEvent(random);
+            metadata.assignSlot(event);
+            metadata.markLastSeeMemoized(event);
+            metadata.setLastSee(event, i % NUM_MEMBERS, event);
+            events.add(event);
+        }
+        assertEquals(events.size(), metadata.getAssignedSlotCount());
+        for (int i = 0; i < events.size(); i++) {
+            final EventImpl event = events.get(i);
+            assertEquals(i, event.getConsensusSlot(), "slots should be dense");
+            assertTrue(metadata.isLastSeeMemoized(event), "growing should keep memoization flags");
+            assertSame(event, metadata.getLastSee(event, i % NUM_MEMBERS), "growing should keep metadata");
+        }
+    }
+
+    @Test
+    void referencedSlotsAreNotReused() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final DenseConsensusMetadata metadata = new DenseConsensusMetadata(NUM_MEMBERS, 2);
+        final EventImpl judge = newEvent(random);
+        final EventImpl ancestor = newEvent(random);
+        metadata.assignSlot(judge);
+        metadata.assignSlot(ancestor);
+        metadata.markLastSeeMemoized(judge);
+        metadata.setLastSee(judge, 0, ancestor);
+        final int ancestorSlot = ancestor.getConsensusSlot();
+
+        // the ancestor reaches consensus, but the judge keeps its metadata
+        metadata.releaseSlot(ancestor);
+        final EventImpl next = newEvent(random);
+        metadata.assignSlot(next);
+        assertNotEquals(ancestorSlot, next.getConsensusSlot(), "a referenced slot should not be reused");
+        assertSame(ancestor, metadata.getLastSee(judge, 0), "a released event should still be resolved");
+
+        // once no metadata references the ancestor, its slot can be reused
+        metadata.clear(judge);
+        metadata.reclaimReleasedSlots();
+        assertEquals(DenseConsensusMetadata.NO_SLOT, ancestor.getConsensusSlot());
+        final EventImpl last = newEvent(random);
+        metadata.assignSlot(last);
+        assertEquals(ancestorSlot, last.getConsensusSlot(), "an unreferenced released slot should be reused");
+    }
+
+    @Test
+    void eventsWithoutSlotsCanBeReferenced() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final DenseConsensusMetadata metadata = new DenseConsensusMetadata(NUM_MEMBERS);
+        final EventImpl event = newEvent(random);
+        final EventImpl seen = newEvent(random);
+        metadata.assignSlot(event);
+        metadata.markStronglySeePMemoized(event);
+        metadata.setStronglySeeP(event, 3, seen);
+
+        assertSame(seen, metadata.getStronglySeeP(event, 3));
+        assertEquals(1, metadata.getAssignedSlotCount(), "a referenced event should not be assigned a slot");
+        assertThrows(IllegalStateException.class, () -> metadata.isStronglySeePMemoized(seen));
+
+        // the referenced event may be added to consensus later
+        metadata.assignSlot(seen);
+        assertEquals(2, metadata.getAssignedSlotCount());
+        assertFalse(metadata.isStronglySeePMemoized(seen));
+        assertSame(seen, metadata.getStronglySeeP(event, 3));
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -50,7 +51,7 @@ class CommonPcesWriterTest {
         final PcesFile pcesFile = mock(PcesFile.class);
         when(fileManager.getNextFileDescriptor(anyLong(), anyLong())).thenReturn(pcesFile);
         pcesMutableFile = mock(PcesMutableFile.class);
-        when(pcesFile.getMutableFile(any())).thenReturn(pcesMutableFile);
+        when(pcesFile.getMutableFile(any(), anyBoolean(), anyLong())).thenReturn(pcesMutableFile);
 
         // Initialize CommonPcesWriter with mocks
         commonPcesWriter = new CommonPcesWriter(platformContext, fileManager);
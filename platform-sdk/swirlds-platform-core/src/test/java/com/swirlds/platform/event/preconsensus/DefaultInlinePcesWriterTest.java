@@ -1,6 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
@@ -11,6 +14,8 @@ import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -71,6 +76,52 @@ class DefaultInlinePcesWriterTest {
 
         // forces the writer to close the current file so that we can verify the stream
         writer.registerDiscontinuity(1L);
+        writer.close();
+
+        PcesWriterTestUtils.verifyStream(tempDir, events, platformContext, 0);
+    }
+
+    @Test
+    void groupCommitTest() throws Exception {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT)
+                .withValue(PcesConfig_.PCES_FILE_WRITER_TYPE, PcesFileWriterType.MAPPED_BUFFER)
+                .getOrCreateConfig();
+        final PlatformContext platformContext = buildContext(configuration);
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+
+        final List<PlatformEvent> events = new LinkedList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker();
+
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, pcesFiles, tempDir, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(platformContext, fileManager, selfId);
+
+        final List<PlatformEvent> releasedEvents = new ArrayList<>();
+        writer.beginStreamingNewEvents();
+        for (final PlatformEvent event : events) {
+            releasedEvents.addAll(writer.writeEvent(event));
+        }
+
+        // self events are released once the background sync covering them completes
+        assertEventuallyTrue(
+                () -> {
+                    releasedEvents.addAll(writer.releaseDurableEvents(Instant.now()));
+                    return releasedEvents.size() == events.size();
+                },
+                Duration.ofSeconds(10),
+                "not all events were released");
+        assertEquals(events, releasedEvents, "events should be released in the order they were written");
+
+        // forces the writer to close the current file so that we can verify the stream
+        writer.registerDiscontinuity(1L);
+        writer.close();
 
         PcesWriterTestUtils.verifyStream(tempDir, events, platformContext, 0);
     }
@@ -132,6 +183,7 @@ class DefaultInlinePcesWriterTest {
 
         // forces the writer to close the current file so that we can verify the stream
         writer.registerDiscontinuity(1L);
+        writer.close();
 
         PcesWriterTestUtils.verifyStream(tempDir, events, platformContext, 0);
     }
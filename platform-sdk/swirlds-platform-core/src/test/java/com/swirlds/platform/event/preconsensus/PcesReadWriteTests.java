@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -588,4 +589,108 @@ class PcesReadWriteTests {
             assertThrows(NoSuchElementException.class, iterator::next);
         }
     }
+
+    /**
+     * @param pcesFileWriterType PCesFileWriterType.values()
+     */
+    @TestTemplate
+    @ExtendWith(ParameterCombinationExtension.class)
+    @UseParameterSources({
+        @ParamSource(
+                param = "pcesFileWriterType",
+                fullyQualifiedClass = "com.swirlds.platform.event.preconsensus.PcesFileWriterType",
+                method = "values")
+    })
+    @DisplayName("Hash Chain Test")
+    void hashChainTest(@ParamName("pcesFileWriterType") final PcesFileWriterType pcesFileWriterType)
+            throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 100;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                DEFAULT_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        long upperBound = Long.MIN_VALUE;
+        for (int i = 0; i < numEvents; i++) {
+            final PlatformEvent event = generator.generateEvent().getBaseEvent();
+            events.add(event);
+            upperBound = Math.max(upperBound, event.getBirthRound());
+        }
+
+        final PcesFile file =
+                PcesFile.of(RandomUtils.randomInstant(random), random.nextInt(0, 100), 0, upperBound, 0, testDirectory);
+
+        final PcesMutableFile mutableFile = file.getMutableFile(pcesFileWriterType, true);
+        for (final PlatformEvent event : events) {
+            mutableFile.writeEvent(event);
+        }
+        mutableFile.close();
+
+        try (final PcesHashChainVerifier verifier = new PcesHashChainVerifier(DEFAULT_PLATFORM_CONTEXT)) {
+            // without a verifier, the chain is ignored
+            final List<PlatformEvent> unverifiedEvents = readEvents(new PcesFileIterator(file, Long.MIN_VALUE));
+            assertEquals(events, unverifiedEvents);
+            assertTrue(unverifiedEvents.stream().noneMatch(PlatformEvent::isPreviouslyVerified));
+
+            final List<PlatformEvent> verifiedEvents =
+                    readEvents(new PcesFileIterator(file, Long.MIN_VALUE, verifier));
+            assertEquals(events, verifiedEvents);
+            for (int i = 0; i < numEvents; i++) {
+                assertTrue(verifiedEvents.get(i).isPreviouslyVerified());
+                assertEquals(events.get(i).getHash(), verifiedEvents.get(i).getHash());
+            }
+
+            // a modified signature does not match, even though the event hashes don't cover the signature
+            final byte[] original = Files.readAllBytes(file.getPath());
+            final int signatureOffset = indexOf(original, events.getFirst().getSignature().toByteArray());
+            assertTrue(signatureOffset >= 0, "the signature should be in the file");
+            final byte[] modifiedSignature = original.clone();
+            modifiedSignature[signatureOffset] ^= 1;
+            Files.write(file.getPath(), modifiedSignature);
+            final List<PlatformEvent> modifiedSignatureEvents =
+                    readEvents(new PcesFileIterator(file, Long.MIN_VALUE, verifier));
+            assertEquals(events.getFirst().getHash(), modifiedSignatureEvents.getFirst().getHash());
+            assertTrue(modifiedSignatureEvents.stream().noneMatch(PlatformEvent::isPreviouslyVerified));
+            Files.write(file.getPath(), original);
+
+            // a modified chain does not match
+            final byte[] bytes = Files.readAllBytes(file.getPath());
+            bytes[bytes.length - 1] ^= 1;
+            Files.write(file.getPath(), bytes);
+            final List<PlatformEvent> mismatchedEvents =
+                    readEvents(new PcesFileIterator(file, Long.MIN_VALUE, verifier));
+            assertEquals(events, mismatchedEvents);
+            assertTrue(mismatchedEvents.stream().noneMatch(PlatformEvent::isPreviouslyVerified));
+
+            // a file that was not closed has no chain
+            truncateFile(file.getPath(), bytes.length - 1);
+            final PcesFileIterator truncatedIterator = new PcesFileIterator(file, Long.MIN_VALUE, verifier);
+            final List<PlatformEvent> truncatedEvents = readEvents(truncatedIterator);
+            assertEquals(events, truncatedEvents);
+            assertTrue(truncatedIterator.hasPartialEvent());
+            assertTrue(truncatedEvents.stream().noneMatch(PlatformEvent::isPreviouslyVerified));
+        }
+    }
+
+    private static int indexOf(final byte[] data, final byte[] target) {
+        for (int i = 0; i <= data.length - target.length; i++) {
+            if (Arrays.equals(data, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<PlatformEvent> readEvents(final IOIterator<PlatformEvent> iterator) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+        return events;
+    }
 }
@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.swirlds.common.test.fixtures.Randotron;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventSignatureBatcherTests {
+
+    @Test
+    @DisplayName("Full batches are emitted in order")
+    void fullBatches() {
+        final Randotron random = Randotron.create();
+        final EventSignatureBatcher batcher = new DefaultEventSignatureBatcher(3);
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PlatformEvent> emitted = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random).build();
+            events.add(event);
+            final List<PlatformEvent> batch = batcher.addEvent(event);
+            if ((i + 1) % 3 == 0) {
+                assertEquals(3, batch.size());
+                emitted.addAll(batch);
+            } else {
+                assertNull(batch);
+            }
+        }
+        assertEquals(events.subList(0, 9), emitted);
+
+        // the last event is emitted on the next heartbeat
+        assertEquals(List.of(events.get(9)), batcher.flush(Instant.now()));
+        assertNull(batcher.flush(Instant.now()));
+    }
+
+    @Test
+    @DisplayName("Clearing discards the current batch")
+    void clear() {
+        final Randotron random = Randotron.create();
+        final EventSignatureBatcher batcher = new DefaultEventSignatureBatcher(3);
+
+        assertNull(batcher.addEvent(new TestingEventBuilder(random).build()));
+        batcher.clear();
+        assertNull(batcher.flush(Instant.now()));
+
+        final PlatformEvent event = new TestingEventBuilder(random).build();
+        assertNull(batcher.addEvent(event));
+        assertEquals(List.of(event), batcher.flush(Instant.now()));
+    }
+}
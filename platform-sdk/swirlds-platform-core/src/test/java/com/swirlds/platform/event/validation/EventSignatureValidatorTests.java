@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -255,6 +256,27 @@ class EventSignatureValidatorTests {
         assertEquals(1, exitedIntakePipelineCount.get());
     }
 
+    @Test
+    @DisplayName("Previously verified events are not verified again")
+    void previouslyVerified() {
+        final PlatformEvent event = new TestingEventBuilder(random)
+                .setCreatorId(CURRENT_ROSTER_NODE_ID)
+                .setBirthRound(CURRENT_ROSTER_ROUND)
+                .build();
+        event.markPreviouslyVerified();
+
+        assertNotNull(validatorWithFalseVerifier.validateSignature(event));
+        assertEquals(0, exitedIntakePipelineCount.get());
+
+        // previously verified events must still be known to the roster
+        final PlatformEvent unknownCreator = new TestingEventBuilder(random)
+                .setCreatorId(NodeId.of(99))
+                .setBirthRound(CURRENT_ROSTER_ROUND)
+                .build();
+        unknownCreator.markPreviouslyVerified();
+        assertNull(validatorWithFalseVerifier.validateSignature(unknownCreator));
+    }
+
     @Test
     @DisplayName("Ancient events are discarded")
     void ancientEvent() {
@@ -278,4 +300,71 @@ class EventSignatureValidatorTests {
         assertNull(validatorWithTrueVerifier.validateSignature(event));
         assertEquals(1, exitedIntakePipelineCount.get());
     }
+
+    @Test
+    @DisplayName("Public keys are looked up again when the roster history changes")
+    void rosterHistoryUpdate() {
+        final PlatformEvent event = new TestingEventBuilder(random)
+                .setCreatorId(CURRENT_ROSTER_NODE_ID)
+                .setBirthRound(CURRENT_ROSTER_ROUND)
+                .build();
+        assertNotNull(validatorWithTrueVerifier.validateSignature(event));
+
+        // the new roster history doesn't have a certificate for the creator anymore
+        validatorWithTrueVerifier.updateRosterHistory(buildRosterHistory(
+                PREVIOUS_ROSTER_ROUND, CURRENT_ROSTER_ROUND, id -> new RosterEntry(id.id(), 10, null, List.of())));
+        assertNull(validatorWithTrueVerifier.validateSignature(event));
+        assertEquals(1, exitedIntakePipelineCount.get());
+    }
+
+    @Test
+    @DisplayName("Batch validation keeps valid events in order and discards the rest")
+    void batchValidation() {
+        // only events with even signature bytes verify
+        final SignatureVerifier evenVerifier =
+                (data, signature, publicKey) -> (signature.getByte(0) & 1) == 0;
+        final EventSignatureValidator validator =
+                new DefaultEventSignatureValidator(platformContext, evenVerifier, rosterHistory, intakeEventCounter);
+        validator.setEventWindow(EventWindowBuilder.builder()
+                .setAncientThreshold(PREVIOUS_ROSTER_ROUND)
+                .build());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PlatformEvent> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final boolean current = random.nextBoolean();
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setCreatorId(current ? CURRENT_ROSTER_NODE_ID : PREVIOUS_ROSTER_NODE_ID)
+                    .setBirthRound(current ? CURRENT_ROSTER_ROUND : PREVIOUS_ROSTER_ROUND)
+                    .build();
+            events.add(event);
+            if ((event.getSignature().getByte(0) & 1) == 0) {
+                expected.add(event);
+            }
+        }
+        // an ancient event, and an event from a creator not in the roster
+        events.add(new TestingEventBuilder(random)
+                .setCreatorId(PREVIOUS_ROSTER_NODE_ID)
+                .setBirthRound(PREVIOUS_ROSTER_ROUND - 1)
+                .build());
+        events.add(new TestingEventBuilder(random)
+                .setCreatorId(NodeId.of(99))
+                .setBirthRound(CURRENT_ROSTER_ROUND)
+                .build());
+
+        final List<PlatformEvent> validEvents = validator.validateSignatures(events);
+        assertEquals(expected, validEvents, "valid events should be returned in their original order");
+        assertEquals(events.size() - expected.size(), exitedIntakePipelineCount.get());
+
+        // the batch and single event validation should agree
+        exitedIntakePipelineCount.set(0);
+        final List<PlatformEvent> singleValidEvents = events.stream()
+                .map(validator::validateSignature)
+                .filter(Objects::nonNull)
+                .toList();
+        assertEquals(validEvents, singleValidEvents);
+        assertEquals(events.size() - expected.size(), exitedIntakePipelineCount.get());
+
+        validator.close();
+    }
 }
@@ -0,0 +1,245 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.SocketConfig_;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SyncStreamCodecTest {
+    private static final int BUFFER_SIZE = 1024;
+
+    private static SocketConfig socketConfig(final boolean gzip, final boolean lz) {
+        return new TestConfigBuilder()
+                .withValue(SocketConfig_.GZIP_COMPRESSION, gzip)
+                .withValue(SocketConfig_.LZ_COMPRESSION, lz)
+                .getOrCreateConfig()
+                .getConfigData(SocketConfig.class);
+    }
+
+    /**
+     * Write the data in random chunks with random flushes, and read it back
+     */
+    private static byte[] roundTrip(final SyncStreamCodec codec, final Random random, final byte[] data)
+            throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final OutputStream out = codec.wrapOutput(bytes, BUFFER_SIZE)) {
+            int pos = 0;
+            while (pos < data.length) {
+                final int len = Math.min(data.length - pos, random.nextInt(BUFFER_SIZE * 2));
+                if (len == 1) {
+                    out.write(data[pos]);
+                } else {
+                    out.write(data, pos, len);
+                }
+                pos += len;
+                if (random.nextInt(4) == 0) {
+                    out.flush();
+                }
+            }
+        }
+        try (final InputStream in = codec.wrapInput(new ByteArrayInputStream(bytes.toByteArray()), BUFFER_SIZE)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Data resembling a stream of gossip events: repeated structure, random signatures, and parent hashes that are
+     * shared between events, as in a real hashgraph
+     */
+    private static byte[] eventLikeData(final Random random, final int numEvents) {
+        final byte[][] hashes = new byte[numEvents / 4 + 1][];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = randomBytes(random, 48);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < numEvents; i++) {
+            out.write(ByteConstants.COMM_EVENT_NEXT);
+            out.writeBytes(new byte[] {0, 0, 2, 0x10, 0x0a, 0x08, (byte) random.nextInt(4), 0x10, 0x05});
+            out.writeBytes(new byte[] {0x12, (byte) 0x80, 0x03});
+            out.writeBytes(randomBytes(random, 384));
+            for (int p = 0; p < 2; p++) {
+                out.writeBytes(new byte[] {0x2a, 0x36, 0x0a, 0x30});
+                out.writeBytes(hashes[random.nextInt(hashes.length)]);
+                out.writeBytes(new byte[] {0x10, (byte) random.nextInt(4), 0x18, 0x05});
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    @ParameterizedTest
+    @EnumSource(SyncStreamCodec.class)
+    void roundTripTest(final SyncStreamCodec codec) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final byte[] empty = new byte[0];
+        assertArrayEquals(empty, roundTrip(codec, random, empty), "empty data should round trip");
+
+        final byte[] randomData = randomBytes(random, BUFFER_SIZE * 10 + 7);
+        assertArrayEquals(randomData, roundTrip(codec, random, randomData), "random data should round trip");
+
+        final byte[] repetitive = new byte[BUFFER_SIZE * 10 + 13];
+        for (int i = 0; i < repetitive.length; i++) {
+            repetitive[i] = (byte) (i % 11);
+        }
+        assertArrayEquals(repetitive, roundTrip(codec, random, repetitive), "repetitive data should round trip");
+
+        final byte[] events = eventLikeData(random, 50);
+        assertArrayEquals(events, roundTrip(codec, random, events), "event data should round trip");
+    }
+
+    @Test
+    void lzCompressionTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final byte[] events = eventLikeData(random, 20);
+        assertTrue(lzLength(events) < events.length, "events with shared parents should be compressed");
+
+        final byte[] repetitive = new byte[BUFFER_SIZE];
+        assertTrue(lzLength(repetitive) < BUFFER_SIZE / 10, "repetitive data should be compressed well");
+
+        // incompressible data is stored as is, with a kind byte and a length only
+        final byte[] randomData = randomBytes(random, BUFFER_SIZE);
+        assertEquals(BUFFER_SIZE + 1 + Integer.BYTES, lzLength(randomData), "random data should not expand");
+    }
+
+    /**
+     * @return the length of LZ compressed data written in a single frame
+     */
+    private static int lzLength(final byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final OutputStream out = SyncStreamCodec.LZ.wrapOutput(bytes, Math.max(data.length, 1))) {
+            out.write(data);
+        }
+        return bytes.size();
+    }
+
+    @Test
+    void truncatedStreamTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final byte[] data = eventLikeData(random, 10);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final OutputStream out = SyncStreamCodec.LZ.wrapOutput(bytes, BUFFER_SIZE)) {
+            out.write(data);
+        }
+        final byte[] truncated = new byte[bytes.size() - 1];
+        System.arraycopy(bytes.toByteArray(), 0, truncated, 0, truncated.length);
+        try (final InputStream in = SyncStreamCodec.LZ.wrapInput(new ByteArrayInputStream(truncated), BUFFER_SIZE)) {
+            assertThrows(EOFException.class, in::readAllBytes, "a truncated frame should not be read");
+        }
+
+        final byte[] corrupted = bytes.toByteArray();
+        corrupted[0] = 7;
+        try (final InputStream in = SyncStreamCodec.LZ.wrapInput(new ByteArrayInputStream(corrupted), BUFFER_SIZE)) {
+            assertThrows(IOException.class, in::readAllBytes, "an unknown frame kind should be rejected");
+        }
+    }
+
+    @Test
+    void negotiationTest() throws IOException {
+        final SocketConfig none = socketConfig(false, false);
+        final SocketConfig gzip = socketConfig(true, false);
+        final SocketConfig lz = socketConfig(false, true);
+        final SocketConfig both = socketConfig(true, true);
+
+        assertEquals(SyncStreamCodec.LZ, negotiate(both, both));
+        assertEquals(SyncStreamCodec.LZ, negotiate(lz, both));
+        assertEquals(SyncStreamCodec.DEFLATE, negotiate(gzip, both));
+        assertEquals(SyncStreamCodec.NONE, negotiate(lz, gzip));
+        assertEquals(SyncStreamCodec.NONE, negotiate(none, both));
+        assertEquals(SyncStreamCodec.NONE, negotiate(none, none));
+
+        assertThrows(
+                EOFException.class,
+                () -> SyncStreamCodec.negotiate(
+                        lz, new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream()),
+                "negotiation should fail if the peer closes the connection");
+    }
+
+    /**
+     * Negotiate a codec with both sides, and check that both sides agree
+     */
+    private static SyncStreamCodec negotiate(final SocketConfig self, final SocketConfig peer) throws IOException {
+        final ByteArrayOutputStream selfOut = new ByteArrayOutputStream();
+        final ByteArrayOutputStream peerOut = new ByteArrayOutputStream();
+        // the offers don't depend on what the other side sent, so each side's offer can be captured up front
+        SyncStreamCodec.negotiate(self, new ByteArrayInputStream(new byte[] {0}), selfOut);
+        SyncStreamCodec.negotiate(peer, new ByteArrayInputStream(new byte[] {0}), peerOut);
+
+        final SyncStreamCodec selfCodec = SyncStreamCodec.negotiate(
+                self, new ByteArrayInputStream(peerOut.toByteArray()), new ByteArrayOutputStream());
+        final SyncStreamCodec peerCodec = SyncStreamCodec.negotiate(
+                peer, new ByteArrayInputStream(selfOut.toByteArray()), new ByteArrayOutputStream());
+        assertEquals(selfCodec, peerCodec, "both sides should agree on the codec");
+        return selfCodec;
+    }
+
+    /**
+     * A peer running a version without codec negotiation writes sync data with the configured codec right away. With LZ
+     * compression disabled, a new node must neither consume nor send a negotiation byte on such a connection.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void oldProtocolPeerTest(final boolean gzip) throws IOException {
+        final SocketConfig config = socketConfig(gzip, false);
+        final SyncStreamCodec oldCodec = gzip ? SyncStreamCodec.DEFLATE : SyncStreamCodec.NONE;
+
+        // the old peer sends some data before reading anything
+        final ByteArrayOutputStream oldPeerBytes = new ByteArrayOutputStream();
+        try (final SyncOutputStream oldPeerOut =
+                SyncOutputStream.createSyncOutputStream(oldPeerBytes, BUFFER_SIZE, oldCodec)) {
+            oldPeerOut.writeLong(0x0123456789ABCDEFL);
+            oldPeerOut.flush();
+        }
+
+        final InputStream rawIn = new ByteArrayInputStream(oldPeerBytes.toByteArray());
+        final ByteArrayOutputStream rawOut = new ByteArrayOutputStream();
+        final SyncStreamCodec codec = SyncStreamCodec.forConnection(config, rawIn, rawOut);
+        assertEquals(oldCodec, codec, "the codec should come from the configuration");
+        assertEquals(0, rawOut.size(), "nothing should be sent to negotiate");
+
+        try (final SyncInputStream in = SyncInputStream.createSyncInputStream(rawIn, BUFFER_SIZE, codec)) {
+            assertEquals(0x0123456789ABCDEFL, in.readLong(), "the old peer's data should be read intact");
+        }
+
+        // and the old peer can read what the new node sends
+        try (final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(rawOut, BUFFER_SIZE, codec)) {
+            out.writeLong(42);
+            out.flush();
+        }
+        try (final SyncInputStream oldPeerIn = SyncInputStream.createSyncInputStream(
+                new ByteArrayInputStream(rawOut.toByteArray()), BUFFER_SIZE, oldCodec)) {
+            assertEquals(42, oldPeerIn.readLong(), "the old peer should read the new node's data intact");
+        }
+    }
+
+    @Test
+    void fromConfigTest() {
+        assertEquals(SyncStreamCodec.NONE, SyncStreamCodec.fromConfig(socketConfig(false, false)));
+        assertEquals(SyncStreamCodec.DEFLATE, SyncStreamCodec.fromConfig(socketConfig(true, false)));
+        assertEquals(SyncStreamCodec.LZ, SyncStreamCodec.fromConfig(socketConfig(false, true)));
+    }
+}
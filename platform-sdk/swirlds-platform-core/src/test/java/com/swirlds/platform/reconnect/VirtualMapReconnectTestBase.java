@@ -13,6 +13,7 @@ import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
 import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils;
 import com.swirlds.metrics.api.Metrics;
@@ -56,6 +57,10 @@ public abstract class VirtualMapReconnectTestBase {
 
     protected abstract VirtualDataSourceBuilder createBuilder(String postfix) throws IOException;
 
+    protected Configuration createConfiguration() {
+        return CONFIGURATION;
+    }
+
     @BeforeEach
     void setupEach() throws Exception {
         // Some tests set custom default VirtualMap settings, e.g. StreamEventParserTest calls
@@ -65,8 +70,9 @@ public abstract class VirtualMapReconnectTestBase {
         teacherBuilder = new BrokenBuilder(teacherDataSourceBuilder);
         final VirtualDataSourceBuilder learnerDataSourceBuilder = createBuilder("Learner");
         learnerBuilder = new BrokenBuilder(learnerDataSourceBuilder);
-        teacherMap = new VirtualMap("Test", teacherBuilder, CONFIGURATION);
-        learnerMap = new VirtualMap("Test", learnerBuilder, CONFIGURATION);
+        final Configuration configuration = createConfiguration();
+        teacherMap = new VirtualMap("Test", teacherBuilder, configuration);
+        learnerMap = new VirtualMap("Test", learnerBuilder, configuration);
     }
 
     @BeforeAll
@@ -185,6 +191,11 @@ public abstract class VirtualMapReconnectTestBase {
             return new BreakableDataSource(this, delegate.restore(label, from));
         }
 
+        @Override
+        public BreakableDataSource importSnapshot(final String label, final Path from) {
+            return new BreakableDataSource(this, delegate.importSnapshot(label, from));
+        }
+
         public void setNumCallsBeforeThrow(int num) {
             this.numCallsBeforeThrow = num;
         }
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.reconnect;
+
+import static com.swirlds.platform.test.fixtures.config.ConfigUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.merkledb.MerkleDb;
+import com.swirlds.merkledb.MerkleDbDataSourceBuilder;
+import com.swirlds.merkledb.MerkleDbTableConfig;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.hiero.base.crypto.DigestType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("VirtualMap MerkleDb Snapshot Reconnect Tests")
+class VirtualMapSnapshotReconnectTests extends VirtualMapReconnectTestBase {
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder(final String postfix) throws IOException {
+        // Teacher and learner maps have identical names, so they need separate database locations
+        final Path defaultVirtualMapPath = LegacyTemporaryFileBuilder.buildTemporaryFile(postfix, CONFIGURATION);
+        MerkleDb.setDefaultPath(defaultVirtualMapPath);
+        final MerkleDbConfig merkleDbConfig = CONFIGURATION.getConfigData(MerkleDbConfig.class);
+        final MerkleDbTableConfig tableConfig = new MerkleDbTableConfig(
+                (short) 1,
+                DigestType.SHA_384,
+                merkleDbConfig.maxNumOfKeys(),
+                merkleDbConfig.hashesRamToDiskThreshold());
+        return new MerkleDbDataSourceBuilder(defaultVirtualMapPath, tableConfig, CONFIGURATION);
+    }
+
+    @Override
+    protected Configuration createConfiguration() {
+        return new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.RECONNECT_MODE, VirtualMapReconnectMode.SNAPSHOT)
+                .getOrCreateConfig();
+    }
+
+    @Test
+    @DisplayName("Empty teacher and empty learner")
+    void emptyTeacherAndLearner() {
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,100", "1,0", "1,100", "100,0", "1000,1000", "5000,300"})
+    @DisplayName("Teacher and learner with different data")
+    void differentTeacherAndLearner(final int teacherSize, final int learnerSize) {
+        for (int i = 0; i < teacherSize; i++) {
+            teacherMap.put(TestKey.longToKey(i), new TestValue("teacher" + i), TestValueCodec.INSTANCE);
+        }
+        for (int i = 0; i < learnerSize; i++) {
+            learnerMap.put(TestKey.longToKey(i * 2L), new TestValue("learner" + i), TestValueCodec.INSTANCE);
+        }
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+}
@@ -32,6 +32,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -696,4 +698,54 @@ class ShadowgraphByBirthRoundTests {
                 shadowGraph.getTips().size(),
                 "Shadow graph tips should be included in expiry.");
     }
+
+    /**
+     * Reservations are made without locking. This test verifies that events are never expired while a concurrent
+     * reservation that protects them is held.
+     */
+    @Test
+    void testConcurrentReservationsAndExpiry() throws InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowGraph(random, 1000, 4);
+
+        final int readerCount = 4;
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            final Thread reader = new Thread(() -> {
+                while (!done.get() && failure.get() == null) {
+                    try (final ReservedEventWindow reservation = shadowGraph.reserve()) {
+                        final long reservedThreshold = reservation.getEventWindow().expiredThreshold();
+                        for (final EventImpl event : generatedEvents) {
+                            if (event.getBirthRound() >= reservedThreshold
+                                    && !shadowGraph.isHashInGraph(event.getBaseHash())) {
+                                failure.compareAndSet(
+                                        null, "Event with birth round " + event.getBirthRound()
+                                                + " expired while birth round " + reservedThreshold + " is reserved");
+                            }
+                        }
+                    }
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+
+        for (long threshold = ROUND_FIRST + 1; threshold <= maxBirthRound + 1; threshold++) {
+            shadowGraph.updateEventWindow(
+                    EventWindowBuilder.builder().setExpiredThreshold(threshold).build());
+        }
+        done.set(true);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get(), failure.get());
+
+        // Once all reservations are released, all events can be expired
+        shadowGraph.updateEventWindow(
+                EventWindowBuilder.builder().setExpiredThreshold(maxBirthRound + 1).build());
+        assertEventsBelowBirthRoundAreExpired(maxBirthRound + 1);
+    }
 }
@@ -3,6 +3,7 @@ package com.swirlds.state.spi;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -79,4 +80,16 @@ public interface ReadableKVState<K, V> extends ReadableState {
      * @param key the key of the entity
      */
     default void warm(@NonNull final K key) {}
+
+    /**
+     * Warms the system by preloading multiple entities into memory at once. Implementations may
+     * load all entities in a single batch, which is usually faster than warming them one by one.
+     *
+     * <p>The default implementation warms the entities one by one.
+     *
+     * @param keys the keys of the entities
+     */
+    default void warmAll(@NonNull final Collection<K> keys) {
+        keys.forEach(this::warm);
+    }
 }
@@ -476,6 +476,25 @@ public final class StateUtils {
                 VirtualMapKey.KeyOneOfType.fromProtobufOrdinal(getValidatedStateId(serviceName, stateKey)), key)));
     }
 
+    /**
+     * Returns the Protocol Buffer tag bytes, which all serialized {@link VirtualMapKey}s of the k/v state
+     * with the given state ID start with. The tag is encoded as a varint, it's followed by the key length
+     * and the key bytes.
+     *
+     * @param stateId the state ID
+     * @return the varint encoded tag for the state ID
+     * @throws IllegalArgumentException if the state ID is not within the range [0..65535]
+     */
+    public static byte[] getVirtualMapKeyPrefix(final int stateId) {
+        if (stateId < 0 || stateId > 65535) {
+            throw new IllegalArgumentException("State ID " + stateId + " must fit in [0..65535]");
+        }
+        final int tag = (stateId << TAG_FIELD_OFFSET) | WIRE_TYPE_DELIMITED.ordinal();
+        final byte[] prefix = new byte[sizeOfVarInt32(tag)];
+        BufferedData.wrap(prefix).writeVarInt(tag, false);
+        return prefix;
+    }
+
     /**
      * Creates Protocol Buffer encoded byte array for a VirtualMapKey field.
      * Follows protobuf encoding format: tag (field number + wire type), length, and value.
@@ -12,6 +12,7 @@ import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableKVStateBase;
 import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -88,4 +89,9 @@ public final class BackedReadableKVState<K, V> extends ReadableKVStateBase<K, V>
         final var kb = keyCodec.toBytes(key);
         virtualMap.warm(kb);
     }
+
+    @Override
+    public void warmAll(@NonNull final Collection<K> keys) {
+        virtualMap.warmAll(keys.stream().map(keyCodec::toBytes).toList());
+    }
 }
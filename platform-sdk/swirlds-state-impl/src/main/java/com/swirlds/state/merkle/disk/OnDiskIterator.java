@@ -1,30 +1,56 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.state.merkle.disk;
 
-import static com.hedera.pbj.runtime.ProtoParserTools.readNextFieldNumber;
+import static com.swirlds.state.merkle.StateUtils.getVirtualMapKeyPrefix;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.platform.state.VirtualMapKey;
 import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
-import com.swirlds.common.merkle.MerkleNode;
-import com.swirlds.common.merkle.iterators.MerkleIterator;
 import com.swirlds.virtualmap.VirtualMap;
-import com.swirlds.virtualmap.internal.merkle.VirtualLeafNode;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import com.swirlds.virtualmap.internal.RecordAccessor;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapMetadata;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-public class OnDiskIterator<K, V> extends BackedOnDiskIterator<K, V> {
+/**
+ * An iterator over keys of a single k/v state in a virtual map, which may contain leaves of
+ * many other states, too.
+ *
+ * <p>There is no per-state index of leaves in the virtual map. Leaf paths are assigned in
+ * insertion order and are moved when other leaves are removed, so leaves of different states
+ * are interleaved across the whole leaf path range. Because of that, this iterator still reads
+ * every leaf record in the map, and iterating a single state is O(total number of leaves), no
+ * matter how small the state is.
+ *
+ * <p>What this iterator reduces is the cost per leaf. It walks the leaf path range directly,
+ * rather than the whole merkle tree, so internal nodes are never loaded and no virtual leaf
+ * nodes are created. For every leaf record, only the first key bytes are compared with the
+ * state ID tag. Keys are parsed only for the leaves that belong to the state.
+ *
+ * @param <K> The type of key for the state
+ * @param <V> The type of value for the state
+ */
+public class OnDiskIterator<K, V> implements Iterator<K> {
 
-    private final int stateId;
-    private final MerkleIterator<MerkleNode> itr;
+    private final RecordAccessor records;
+    private final byte[] keyPrefix;
+    private final long lastLeafPath;
+    private long nextPath;
     private K next = null;
 
     public OnDiskIterator(@NonNull final VirtualMap virtualMap, @NonNull final Codec<K> keyCodec, final int stateId) {
-        super(virtualMap, keyCodec);
-        this.stateId = stateId;
-        itr = requireNonNull(virtualMap).treeIterator();
+        requireNonNull(virtualMap);
+        requireNonNull(keyCodec);
+        this.records = virtualMap.getRecords();
+        this.keyPrefix = getVirtualMapKeyPrefix(stateId);
+        final VirtualMapMetadata metadata = virtualMap.getState();
+        // Both paths are INVALID_PATH (-1), if the map is empty
+        this.nextPath = Math.max(1, metadata.getFirstLeafPath());
+        this.lastLeafPath = metadata.getLastLeafPath();
     }
 
     @Override
@@ -32,21 +58,19 @@ public class OnDiskIterator<K, V> extends BackedOnDiskIterator<K, V> {
         if (next != null) {
             return true;
         }
-        while (itr.hasNext()) {
-            final MerkleNode merkleNode = itr.next();
-            if (merkleNode instanceof VirtualLeafNode leaf) {
-                final Bytes k = leaf.getKey();
-                // Here we rely on the fact that `VirtualMapKey` has a single `OneOf` field.
-                // So, the next field number is the key type
-                final int nextNextStateId = readNextFieldNumber(k.toReadableSequentialData());
-                if (stateId == nextNextStateId) {
-                    try {
-                        final VirtualMapKey parse = VirtualMapKey.PROTOBUF.parse(k);
-                        this.next = parse.key().as();
-                        return true;
-                    } catch (final ParseException e) {
-                        throw new RuntimeException("Failed to parse a key", e);
-                    }
+        while (nextPath <= lastLeafPath) {
+            final VirtualLeafBytes<?> leaf = records.findLeafRecord(nextPath++);
+            if (leaf == null) {
+                continue;
+            }
+            final Bytes k = leaf.keyBytes();
+            if (k.matchesPrefix(keyPrefix)) {
+                try {
+                    final VirtualMapKey parse = VirtualMapKey.PROTOBUF.parse(k);
+                    this.next = parse.key().as();
+                    return true;
+                } catch (final ParseException e) {
+                    throw new RuntimeException("Failed to parse a key", e);
                 }
             }
         }
@@ -14,6 +14,7 @@ import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableKVStateBase;
 import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -90,4 +91,11 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
     public void warm(@NonNull final K key) {
         virtualMap.warm(getVirtualMapKeyForKv(serviceName, stateKey, key));
     }
+
+    @Override
+    public void warmAll(@NonNull final Collection<K> keys) {
+        virtualMap.warmAll(keys.stream()
+                .map(key -> getVirtualMapKeyForKv(serviceName, stateKey, key))
+                .toList());
+    }
 }
@@ -11,6 +11,8 @@ import com.swirlds.state.merkle.StateUtils;
 import com.swirlds.state.test.fixtures.merkle.MerkleTestBase;
 import com.swirlds.virtualmap.VirtualMap;
 import java.io.IOException;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -102,6 +104,16 @@ class OnDiskReadableStateTest extends MerkleTestBase {
             assertThat(state.get(F_KEY)).isNull();
             assertThat(state.get(G_KEY)).isNull();
         }
+
+        @Test
+        @DisplayName("Iteration only includes keys of the state")
+        void iterateSkipsOtherStates() {
+            add(ANIMAL_SERVICE_NAME, ANIMAL_STATE_KEY, D_KEY, "Dog");
+            add(ANIMAL_SERVICE_NAME, ANIMAL_STATE_KEY, E_KEY, "Emu");
+            final var actual = StreamSupport.stream(Spliterators.spliterator(state.keys(), 3, 0), false)
+                    .toList();
+            assertThat(actual).containsExactlyInAnyOrder(A_KEY, B_KEY, C_KEY);
+        }
     }
 
     @Test
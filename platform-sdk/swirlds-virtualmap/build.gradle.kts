@@ -49,3 +49,11 @@ tasks.register<JMHTask>("jmhReconnect") {
 
     resultsFile.convention(layout.buildDirectory.file("results/jmh/results-reconnect.txt"))
 }
+
+tasks.register<JMHTask>("jmhVirtualNodeCache") {
+    includes.set(listOf("VirtualNodeCacheBench"))
+    jvmArgs.set(listOf("-Xmx8g"))
+    profilers.set(listOf("gc"))
+
+    resultsFile.convention(layout.buildDirectory.file("results/jmh/results-virtual-node-cache.txt"))
+}
@@ -0,0 +1,270 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache; // NOSONAR: Needed to benchmark internal classes
+
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.VIRTUAL_MAP_CONFIG;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link VirtualNodeCache} lifecycle: copies, leaf mutations, merges, sorting
+ * dirty leaves for flushes, and releases. Every benchmark runs against caches filled with
+ * a realistic per-round churn: {@link #mutationsPerRound} leaf updates to random keys out of
+ * {@link #numLeaves} existing leaves, with {@link #deletePercent} of them being deletes, plus
+ * hashes for all dirty paths.
+ *
+ * <p>Most of the allocation pressure in virtual maps comes from this class, so these benchmarks
+ * are supposed to be run with the GC profiler, see {@code jmhVirtualNodeCache} Gradle task.
+ *
+ * <p>Cache cleaning on release normally runs asynchronously on the cache cleaning pool. The
+ * benchmarks are forked with {@code -DsyncCleaningPool=true}, so the pool runs cleaning tasks
+ * on the calling thread, and {@link #release(ReleaseState)} measures the full cleanup cost.
+ */
+@Fork(value = 1, jvmArgsAppend = {"-DsyncCleaningPool=true"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class VirtualNodeCacheBench {
+
+    private static final int VALUE_SIZE = 128;
+
+    @State(Scope.Benchmark)
+    public static class Params {
+
+        /** Number of leaves in the virtual map */
+        @Param({"1000000"})
+        public int numLeaves;
+
+        /** Number of leaf mutations in a single cache copy */
+        @Param({"10000", "100000"})
+        public int mutationsPerRound;
+
+        /** Percentage of leaf mutations that are deletes */
+        @Param({"5"})
+        public int deletePercent;
+
+        /** Number of copies merged together before they are flushed */
+        @Param({"10"})
+        public int copiesPerFlush;
+
+        private final Random random = new Random(20250101);
+
+        private Bytes[] values;
+
+        @Setup(Level.Trial)
+        public void setupValues() {
+            // A small set of values is reused, so the benchmarks measure cache allocations
+            // rather than value allocations
+            values = new Bytes[256];
+            for (int i = 0; i < values.length; i++) {
+                final byte[] bytes = new byte[VALUE_SIZE];
+                random.nextBytes(bytes);
+                values[i] = Bytes.wrap(bytes);
+            }
+        }
+
+        long firstLeafPath() {
+            return numLeaves - 1L;
+        }
+
+        long lastLeafPath() {
+            return numLeaves * 2L - 2;
+        }
+
+        /**
+         * Applies a single round of leaf changes to the given (mutable) cache.
+         */
+        void applyLeafChanges(final VirtualNodeCache cache) {
+            for (int i = 0; i < mutationsPerRound; i++) {
+                final int keyIndex = random.nextInt(numLeaves);
+                final VirtualLeafBytes<?> leaf = new VirtualLeafBytes<>(
+                        firstLeafPath() + keyIndex, key(keyIndex), values[random.nextInt(values.length)]);
+                if (random.nextInt(100) < deletePercent) {
+                    cache.deleteLeaf(leaf);
+                } else {
+                    cache.putLeaf(leaf);
+                }
+            }
+        }
+
+        /**
+         * Applies a single round of hash changes to the given cache, which must be prepared
+         * for hashing. Hashes are updated for random leaf paths and all their parents.
+         */
+        void applyHashChanges(final VirtualNodeCache cache) {
+            for (int i = 0; i < mutationsPerRound; i++) {
+                long path = firstLeafPath() + random.nextInt(numLeaves);
+                // Only a few levels up, the upper levels are the same for all leaves anyway
+                for (int level = 0; (level < 4) && (path > 0); level++) {
+                    cache.putHash(path, hash(path));
+                    path = (path - 1) / 2;
+                }
+            }
+        }
+
+        /**
+         * Creates a new sealed cache with one round of leaf and hash changes. The cache has
+         * a newer mutable copy, which is returned.
+         */
+        VirtualNodeCache createRound(final VirtualNodeCache cache) {
+            applyLeafChanges(cache);
+            final VirtualNodeCache copy = cache.copy();
+            cache.prepareForHashing();
+            applyHashChanges(cache);
+            cache.seal();
+            return copy;
+        }
+
+        private static Bytes key(final long keyIndex) {
+            final byte[] bytes = new byte[Long.BYTES];
+            for (int i = 0; i < Long.BYTES; i++) {
+                bytes[i] = (byte) (keyIndex >>> (8 * i));
+            }
+            return Bytes.wrap(bytes);
+        }
+
+        private static Hash hash(final long path) {
+            final byte[] bytes = new byte[DigestType.SHA_384.digestLength()];
+            for (int i = 0; i < Long.BYTES; i++) {
+                bytes[i] = (byte) (path >>> (8 * i));
+            }
+            return new Hash(bytes, DigestType.SHA_384);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class MutableState {
+
+        VirtualNodeCache cache;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            cache = new VirtualNodeCache(VIRTUAL_MAP_CONFIG);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CopyState {
+
+        VirtualNodeCache cache;
+
+        @Setup(Level.Invocation)
+        public void setup(final Params params) {
+            cache = new VirtualNodeCache(VIRTUAL_MAP_CONFIG);
+            params.applyLeafChanges(cache);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class MergeState {
+
+        VirtualNodeCache older;
+
+        @Setup(Level.Invocation)
+        public void setup(final Params params) {
+            older = new VirtualNodeCache(VIRTUAL_MAP_CONFIG);
+            final VirtualNodeCache newer = params.createRound(older);
+            // Newer cache needs to be sealed, too, to be merged into
+            params.createRound(newer);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FlushState {
+
+        VirtualNodeCache cacheToFlush;
+
+        @Setup(Level.Invocation)
+        public void setup(final Params params) {
+            final VirtualNodeCache oldest = new VirtualNodeCache(VIRTUAL_MAP_CONFIG);
+            VirtualNodeCache cache = oldest;
+            VirtualNodeCache mergeTarget = oldest;
+            for (int i = 0; i < params.copiesPerFlush; i++) {
+                final VirtualNodeCache next = params.createRound(cache);
+                if (i > 0) {
+                    // Merge the previous copy into this one, the same way as the virtual pipeline does
+                    mergeTarget.merge();
+                }
+                mergeTarget = cache;
+                cache = next;
+            }
+            cacheToFlush = mergeTarget;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ReleaseState {
+
+        VirtualNodeCache oldest;
+
+        @Setup(Level.Invocation)
+        public void setup(final Params params) {
+            oldest = new VirtualNodeCache(VIRTUAL_MAP_CONFIG);
+            params.createRound(oldest);
+        }
+    }
+
+    /**
+     * Copies a cache with one round of leaf changes.
+     */
+    @Benchmark
+    public void copy(final CopyState state, final Blackhole blackhole) {
+        final VirtualNodeCache copy = state.cache.copy();
+        blackhole.consume(copy);
+    }
+
+    /**
+     * Puts and deletes one round of leaves to an empty mutable cache.
+     */
+    @Benchmark
+    public void putAndDeleteLeaves(final Params params, final MutableState state, final Blackhole blackhole) {
+        params.applyLeafChanges(state.cache);
+        blackhole.consume(state.cache);
+    }
+
+    /**
+     * Merges a sealed cache into the next (newer) sealed cache.
+     */
+    @Benchmark
+    public void merge(final MergeState state) {
+        state.older.merge();
+    }
+
+    /**
+     * Sorts and deduplicates dirty leaves and hashes of a cache with multiple merged copies, as
+     * done when the cache is flushed to disk.
+     */
+    @Benchmark
+    public void dirtyLeavesAndHashesForFlush(final Params params, final FlushState state, final Blackhole blackhole) {
+        final VirtualNodeCache cache = state.cacheToFlush;
+        cache.dirtyLeavesForFlush(params.firstLeafPath(), params.lastLeafPath()).forEach(blackhole::consume);
+        cache.deletedLeaves().forEach(blackhole::consume);
+        cache.dirtyHashesForFlush(params.lastLeafPath()).forEach(blackhole::consume);
+    }
+
+    /**
+     * Releases the oldest cache in a chain, including cleaning up its mutations from indices.
+     */
+    @Benchmark
+    public void release(final ReleaseState state, final Blackhole blackhole) {
+        blackhole.consume(state.oldest.release());
+    }
+}
@@ -67,12 +67,17 @@ import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
 import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
+import com.swirlds.virtualmap.internal.reconnect.LearnerSnapshotVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
+import com.swirlds.virtualmap.internal.reconnect.PartitionedReconnectHasher;
+import com.swirlds.virtualmap.internal.reconnect.PartitionedTraversalOrder;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashLeafFlusher;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashListener;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectNodeRemover;
+import com.swirlds.virtualmap.internal.reconnect.ReconnectPartitions;
 import com.swirlds.virtualmap.internal.reconnect.TeacherPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.TeacherPushVirtualTreeView;
+import com.swirlds.virtualmap.internal.reconnect.TeacherSnapshotVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.TopToBottomTraversalOrder;
 import com.swirlds.virtualmap.internal.reconnect.TwoPhasePessimisticTraversalOrder;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -85,6 +90,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -317,6 +325,13 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
      */
     private ConcurrentBlockingIterator<VirtualLeafBytes> reconnectIterator = null;
 
+    /**
+     * Created at the beginning of a parallel reconnect as a <strong>learner</strong>, when the
+     * virtual tree path range is known. If not null, leaf records are passed to this hasher
+     * rather than to {@link #reconnectIterator}.
+     */
+    private PartitionedReconnectHasher partitionedReconnectHasher = null;
+
     /**
      * A {@link java.util.concurrent.Future} that will contain the final hash result of the
      * reconnect hashing process.
@@ -419,6 +434,7 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
         reconnectHashingFuture = null;
         reconnectHashingStarted = null;
         reconnectIterator = null;
+        partitionedReconnectHasher = null;
         reconnectRecords = null;
         maxSizeReachedTriggeringWarning = source.maxSizeReachedTriggeringWarning;
         pipeline = source.pipeline;
@@ -1118,7 +1134,7 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
             }
         };
         Hash virtualHash = hasher.hash(
-                records::findHash,
+                records.getHashReader(),
                 cache.dirtyLeavesForHash(state.getFirstLeafPath(), state.getLastLeafPath())
                         .iterator(),
                 state.getFirstLeafPath(),
@@ -1226,6 +1242,16 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
                 new TeacherPullVirtualTreeView(getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             case VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC ->
                 new TeacherPullVirtualTreeView(getStaticThreadManager(), reconnectConfig, this, state, pipeline);
+            case VirtualMapReconnectMode.PULL_PARALLEL ->
+                new TeacherPullVirtualTreeView(
+                        getStaticThreadManager(),
+                        reconnectConfig,
+                        this,
+                        state,
+                        pipeline,
+                        virtualMapConfig.reconnectPartitionRank());
+            case VirtualMapReconnectMode.SNAPSHOT ->
+                new TeacherSnapshotVirtualTreeView(getStaticThreadManager(), configuration, this, state, pipeline);
             default ->
                 throw new UnsupportedOperationException("Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1350,6 +1376,21 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
                         twoPhasePessimistic,
                         mapStats);
             }
+            case VirtualMapReconnectMode.PULL_PARALLEL -> {
+                final NodeTraversalOrder partitioned =
+                        new PartitionedTraversalOrder(virtualMapConfig.reconnectPartitionRank());
+                yield new LearnerPullVirtualTreeView(
+                        reconnectConfig,
+                        this,
+                        originalMap.records,
+                        originalState,
+                        reconnectState,
+                        nodeRemover,
+                        partitioned,
+                        mapStats);
+            }
+            case VirtualMapReconnectMode.SNAPSHOT ->
+                new LearnerSnapshotVirtualTreeView(configuration, this, originalState, reconnectState, mapStats);
             default ->
                 throw new UnsupportedOperationException("Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1375,7 +1416,11 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
      */
     public void handleReconnectLeaf(@NonNull final VirtualLeafBytes<?> leafRecord) {
         try {
-            reconnectIterator.supply(leafRecord);
+            if (partitionedReconnectHasher != null) {
+                partitionedReconnectHasher.supply(leafRecord);
+            } else {
+                reconnectIterator.supply(leafRecord);
+            }
         } catch (final MerkleSynchronizationException e) {
             throw e;
         } catch (final InterruptedException e) {
@@ -1389,6 +1434,15 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
 
     public void prepareReconnectHashing(final long firstLeafPath, final long lastLeafPath) {
         assert reconnectFlusher != null : "Cannot prepare reconnect hashing, since reconnect is not started";
+        if (VirtualMapReconnectMode.PULL_PARALLEL.equals(virtualMapConfig.reconnectMode())) {
+            final ReconnectPartitions partitions =
+                    new ReconnectPartitions(virtualMapConfig.reconnectPartitionRank(), firstLeafPath, lastLeafPath);
+            if (partitions.getPartitionCount() > 1) {
+                prepareReconnectHashing(partitions);
+                return;
+            }
+        }
+
         // The hash listener will be responsible for flushing stuff to the reconnect data source
         final ReconnectHashListener hashListener = new ReconnectHashListener(reconnectFlusher);
 
@@ -1398,7 +1452,7 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
                 .setComponent("virtualmap")
                 .setThreadName("hasher")
                 .setRunnable(() -> reconnectHashingFuture.complete(hasher.hash(
-                        reconnectRecords::findHash,
+                        reconnectRecords.getHashReader(),
                         reconnectIterator,
                         firstLeafPath,
                         lastLeafPath,
@@ -1418,10 +1472,131 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
         reconnectHashingStarted.set(true);
     }
 
+    /**
+     * Starts reconnect hashing, every partition is hashed independently in its own thread.
+     *
+     * @param partitions virtual tree partitions
+     */
+    private void prepareReconnectHashing(final ReconnectPartitions partitions) {
+        partitionedReconnectHasher = new PartitionedReconnectHasher(
+                partitions,
+                reconnectRecords.getHashReader(),
+                reconnectFlusher,
+                virtualMapConfig,
+                MAX_RECONNECT_HASHING_BUFFER_SIZE);
+        partitionedReconnectHasher.start(getStaticThreadManager()).whenComplete((hash, exception) -> {
+            if (exception == null) {
+                reconnectHashingFuture.complete(hash);
+            } else {
+                final var message = "VirtualMap@" + getRoute() + " failed to hash during reconnect";
+                reconnectHashingFuture.completeExceptionally(new MerkleSynchronizationException(message, exception));
+            }
+        });
+        reconnectHashingStarted.set(true);
+    }
+
+    /**
+     * Replaces the data source of this map with a data source snapshot received from the teacher
+     * during a snapshot reconnect. The original learner data isn't used.
+     *
+     * <p>Leaves and hashes in the snapshot come from the teacher and aren't trusted. The tree is
+     * rehashed from the imported leaves, and the computed hashes replace the imported ones. The
+     * computed root hash becomes the hash of this map, so it's verified as a part of the signed
+     * state hash once reconnect is complete.
+     *
+     * @param snapshotDir
+     * 		the directory with the received data source snapshot
+     * @throws MerkleSynchronizationException if the imported leaves can't be read
+     */
+    public void importReconnectSnapshot(@NonNull final Path snapshotDir) {
+        requireNonNull(snapshotDir);
+        assert originalMap != null : "Cannot import a reconnect snapshot, since reconnect is not started";
+
+        // The imported data source becomes active, and the data source copied from the original map
+        // isn't needed any longer
+        final VirtualDataSource originalCopy = dataSource;
+        dataSource = dataSourceBuilder.importSnapshot(reconnectState.getLabel(), snapshotDir);
+        dataSource.copyStatisticsFrom(originalMap.dataSource);
+        try {
+            originalCopy.close();
+        } catch (final IOException e) {
+            logger.warn(RECONNECT.getMarker(), "Failed to close the replaced data source", e);
+        }
+
+        // Last leaf path is set first, since the first leaf path must not be greater than the last
+        final long firstLeafPath = dataSource.getFirstLeafPath();
+        final long lastLeafPath = dataSource.getLastLeafPath();
+        reconnectState.setLastLeafPath(lastLeafPath);
+        reconnectState.setFirstLeafPath(firstLeafPath);
+
+        final Hash hash;
+        if (reconnectState.getSize() == 0) {
+            hash = hasher.emptyRootHash();
+        } else {
+            // Every leaf is hashed, so every internal node in the tree is dirty. No clean hashes are
+            // needed, and none are read from the imported data source
+            final ReconnectHashLeafFlusher hashFlusher =
+                    new ReconnectHashLeafFlusher(dataSource, virtualMapConfig.reconnectFlushInterval(), statistics);
+            hash = hasher.hash(
+                    path -> null,
+                    new ImportedLeafIterator(dataSource, firstLeafPath, lastLeafPath),
+                    firstLeafPath,
+                    lastLeafPath,
+                    new ReconnectHashListener(hashFlusher, false),
+                    virtualMapConfig);
+        }
+        logger.info(RECONNECT.getMarker(), "Imported reconnect snapshot, size={}", reconnectState.getSize());
+        reconnectHashingFuture.complete(hash);
+        reconnectHashingStarted.set(true);
+    }
+
+    /**
+     * Iterates over all leaves in an imported data source in path order, to rehash them.
+     */
+    private static final class ImportedLeafIterator implements Iterator<VirtualLeafBytes> {
+
+        private final VirtualDataSource dataSource;
+        private final long lastLeafPath;
+        private long nextPath;
+
+        private ImportedLeafIterator(
+                final VirtualDataSource dataSource, final long firstLeafPath, final long lastLeafPath) {
+            this.dataSource = dataSource;
+            this.lastLeafPath = lastLeafPath;
+            this.nextPath = firstLeafPath;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextPath <= lastLeafPath;
+        }
+
+        @Override
+        public VirtualLeafBytes next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final long path = nextPath++;
+            final VirtualLeafBytes leaf;
+            try {
+                leaf = dataSource.loadLeafRecord(path);
+            } catch (final IOException e) {
+                throw new MerkleSynchronizationException("Failed to load an imported leaf, path=" + path, e);
+            }
+            if ((leaf == null) || (leaf.path() != path)) {
+                throw new MerkleSynchronizationException("Imported snapshot has no leaf at path " + path);
+            }
+            return leaf;
+        }
+    }
+
     public void endLearnerReconnect() {
         try {
             logger.info(RECONNECT.getMarker(), "call reconnectIterator.close()");
             reconnectIterator.close();
+            if (partitionedReconnectHasher != null) {
+                partitionedReconnectHasher.close();
+            }
             if (reconnectHashingStarted.get()) {
                 // Only block on future if the hashing thread is known to have been started.
                 logger.info(RECONNECT.getMarker(), "call setHashPrivate()");
@@ -1462,6 +1637,17 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
         records.findLeafRecord(key);
     }
 
+    /**
+     * Warms leaf records for multiple keys at once, see {@link #warm(Bytes)}. Unlike warming keys
+     * one by one, all keys missing in the cache are passed to the data source in a single batch,
+     * so it can read them in disk order and in parallel.
+     *
+     * @param keys The keys of the leaves to warm, must not be null
+     */
+    public void warmAll(@NonNull final Collection<Bytes> keys) {
+        records.warmLeafRecords(keys);
+    }
+
     ////////////////////////
 
     /**
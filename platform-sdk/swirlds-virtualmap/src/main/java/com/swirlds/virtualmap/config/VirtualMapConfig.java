@@ -74,6 +74,25 @@ import java.time.Duration;
  * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog.
  * @param validateMigrationEnabled
  *      Feature flag to enable validation during migration to the single Virtual Map (see {@code MerkleStateRoot}).
+ * @param primitivePathIndexEnabled
+ *      If true, virtual node caches index dirty leaves and hashes by path using open addressing hash tables
+ *      with primitive long keys rather than concurrent hash maps with boxed keys. This reduces the number of
+ *      objects allocated per dirty node.
+ * @param pipelinedFlushesEnabled
+ *      If true, virtual pipelines flush copies on the lifecycle thread, while merges and hashing of newer copies
+ *      run on a separate merge thread. It lets hashing of the next copy overlap with flushing of the previous
+ *      copy. If false, all flushes and merges are done on the lifecycle thread.
+ * @param reconnectPartitionRank
+ *      Used in {@link VirtualMapReconnectMode#PULL_PARALLEL} reconnect mode only. The virtual tree is split into
+ *      2^rank sub-trees, which are synchronized in parallel. If the tree is too small to have that many internal
+ *      nodes at this rank, fewer sub-trees are used. Teacher and learner must use the same value.
+ * @param reconnectSnapshotMaxFiles
+ *      Used in {@link VirtualMapReconnectMode#SNAPSHOT} reconnect mode only. The max number of data source snapshot
+ *      files a learner accepts from the teacher.
+ * @param reconnectSnapshotMaxBytes
+ *      Used in {@link VirtualMapReconnectMode#SNAPSHOT} reconnect mode only. The max total size, in bytes, of data
+ *      source snapshot files a learner accepts from the teacher. Files are never received beyond the usable disk
+ *      space either.
  */
 @ConfigData("virtualMap")
 public record VirtualMapConfig(
@@ -97,7 +116,12 @@ public record VirtualMapConfig(
         @ConfigProperty(defaultValue = "10000") int preferredFlushQueueSize,
         @ConfigProperty(defaultValue = "200ms") Duration flushThrottleStepSize,
         @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod,
-        @ConfigProperty(defaultValue = "false") boolean validateMigrationEnabled) {
+        @ConfigProperty(defaultValue = "false") boolean validateMigrationEnabled,
+        @ConfigProperty(defaultValue = "false") boolean primitivePathIndexEnabled,
+        @ConfigProperty(defaultValue = "false") boolean pipelinedFlushesEnabled,
+        @Min(0) @Max(10) @ConfigProperty(defaultValue = "3") int reconnectPartitionRank,
+        @Min(1) @ConfigProperty(defaultValue = "100000") int reconnectSnapshotMaxFiles,
+        @Min(1) @ConfigProperty(defaultValue = "1099511627776") long reconnectSnapshotMaxBytes) {
 
     private static final double UNIT_FRACTION_PERCENT = 100.0;
 
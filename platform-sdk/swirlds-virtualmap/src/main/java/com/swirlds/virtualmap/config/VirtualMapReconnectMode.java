@@ -24,5 +24,21 @@ public final class VirtualMapReconnectMode {
      */
     public static final String PULL_TWO_PHASE_PESSIMISTIC = "pullTwoPhasePessimistic";
 
+    /**
+     * "Pull / parallel" reconnect mode. The virtual tree is split into independent sub-trees at
+     * {@code virtualMap.reconnectPartitionRank}. Learner requests for every sub-tree are sent, served by
+     * the teacher, and hashed on the learner independently, in parallel. All sub-trees share a single
+     * reconnect connection. This mode must be used by both teacher and learner, with the same partition rank
+     */
+    public static final String PULL_PARALLEL = "pullParallel";
+
+    /**
+     * "Snapshot" reconnect mode, when teacher sends a complete data source snapshot to learner as a
+     * set of files, without comparing any virtual nodes. Learner data is not used at all. This mode is
+     * intended for learners with no usable state, e.g. fresh nodes or nodes after long outages. Data
+     * source builders must support {@link com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder#importSnapshot}
+     */
+    public static final String SNAPSHOT = "snapshot";
+
     private VirtualMapReconnectMode() {}
 }
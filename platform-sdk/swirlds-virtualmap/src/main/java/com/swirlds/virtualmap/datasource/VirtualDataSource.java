@@ -7,6 +7,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.stream.Stream;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
@@ -126,6 +127,22 @@ public interface VirtualDataSource {
     @Nullable
     VirtualLeafBytes loadLeafRecord(final Bytes keyBytes) throws IOException;
 
+    /**
+     * Warm the data source by preloading leaf records for the given keys. It's a hint to the data
+     * source that these leaves are going to be accessed soon. Implementations may batch the reads,
+     * e.g. read all the data in disk order rather than key by key.
+     *
+     * <p>The default implementation loads leaf records one by one.
+     *
+     * @param keys the key bytes of leaves to warm
+     * @throws IOException if there was a problem reading the leaf records
+     */
+    default void warmAll(@NonNull final Collection<Bytes> keys) throws IOException {
+        for (final Bytes keyBytes : keys) {
+            loadLeafRecord(keyBytes);
+        }
+    }
+
     /**
      * Load virtual record bytes for a leaf node by path. If the path is outside the current
      * data source's leaf path range, this method returns {@code null}.
@@ -159,6 +176,24 @@ public interface VirtualDataSource {
     @Nullable
     Hash loadHash(final long path) throws IOException;
 
+    /**
+     * Load virtual node hashes for multiple paths. After this method returns, {@code hashes[i]}
+     * contains the hash for {@code paths[i]}, or {@code null} if not stored. Data sources may
+     * override this method to load hashes more efficiently than one by one, e.g. by sorting
+     * reads by their location on disk. The default implementation calls {@link #loadHash(long)}
+     * for every path.
+     *
+     * @param paths virtual node paths
+     * @param hashes array to store loaded hashes to, must be at least as long as {@code paths}
+     * @throws IOException
+     * 		If there was a problem loading hashes from data source
+     */
+    default void loadHashes(@NonNull final long[] paths, @NonNull final Hash[] hashes) throws IOException {
+        for (int i = 0; i < paths.length; i++) {
+            hashes[i] = loadHash(paths[i]);
+        }
+    }
+
     /**
      * Load a virtual node hash by path and, if found, write it to the specified output stream. This
      * method helps avoid (de)serialization overhead during reconnects on the teacher side. Instead of
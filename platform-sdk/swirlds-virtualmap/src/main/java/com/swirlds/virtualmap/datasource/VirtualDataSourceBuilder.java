@@ -89,4 +89,28 @@ public interface VirtualDataSourceBuilder extends SelfSerializable {
      */
     @NonNull
     VirtualDataSource restore(String label, Path source);
+
+    /**
+     * Builds a new {@link VirtualDataSource} using the configuration of this builder and the given
+     * label by importing a data source snapshot from the given path. Unlike {@link #restore(String, Path)},
+     * this method may be used when a data source with the given label already exists. The imported
+     * data source becomes active, while the existing data source with the same label, if any, is no
+     * longer active.
+     *
+     * <p>This method is used on the learner side of snapshot reconnects, when a data source snapshot,
+     * as created by {@link #snapshot(Path, VirtualDataSource)}, is received from the teacher.
+     *
+     * @param label
+     * 		The label. Cannot be null
+     * @param source
+     * 		The base path of the data source snapshot to import. Cannot be null
+     * @return
+     * 		An opened {@link VirtualDataSource}
+     * @throws UnsupportedOperationException
+     * 		If this builder doesn't support snapshot imports
+     */
+    @NonNull
+    default VirtualDataSource importSnapshot(@NonNull String label, @NonNull Path source) {
+        throw new UnsupportedOperationException("Snapshot import is not supported by " + getClass().getName());
+    }
 }
@@ -8,10 +8,14 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
 import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
 import com.swirlds.virtualmap.internal.cache.VirtualNodeCache;
+import com.swirlds.virtualmap.internal.hash.VirtualHashReader;
 import com.swirlds.virtualmap.internal.merkle.VirtualMapMetadata;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
@@ -77,6 +81,72 @@ public final class RecordAccessor {
         }
     }
 
+    /**
+     * Gets {@link Hash}es at the given paths. Hashes are looked up in the cache first, all hashes
+     * not found in the cache are loaded from the data source in a single batch. After this
+     * method returns, {@code hashes[i]} contains the hash at {@code paths[i]}, or null if
+     * there is no record at the path.
+     *
+     * @param paths
+     * 		Virtual node paths
+     * @param hashes
+     * 		Array to store hashes to, must be at least as long as {@code paths}
+     * @throws UncheckedIOException
+     * 		If we fail to access the data store, then a catastrophic error occurred and
+     * 		an UncheckedIOException is thrown.
+     */
+    public void findHashes(@NonNull final long[] paths, @NonNull final Hash[] hashes) {
+        int missCount = 0;
+        final int[] misses = new int[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            assert paths[i] >= 0;
+            final Hash hash = cache.lookupHashByPath(paths[i]);
+            if (hash == VirtualNodeCache.DELETED_HASH) {
+                hashes[i] = null;
+            } else if (hash != null) {
+                hashes[i] = hash;
+            } else {
+                misses[missCount++] = i;
+            }
+        }
+        if (missCount == 0) {
+            return;
+        }
+        final long[] missedPaths = new long[missCount];
+        for (int i = 0; i < missCount; i++) {
+            missedPaths[i] = paths[misses[i]];
+        }
+        final Hash[] loaded = new Hash[missCount];
+        try {
+            dataSource.loadHashes(missedPaths, loaded);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read node hashes from data source by paths", e);
+        }
+        for (int i = 0; i < missCount; i++) {
+            hashes[misses[i]] = loaded[i];
+        }
+    }
+
+    /**
+     * Returns a hash reader to look up clean hashes during hashing. Hashes are looked up
+     * using {@link #findHash(long)} and {@link #findHashes(long[], Hash[])}.
+     *
+     * @return the hash reader
+     */
+    public VirtualHashReader getHashReader() {
+        return new VirtualHashReader() {
+            @Override
+            public Hash apply(final long path) {
+                return findHash(path);
+            }
+
+            @Override
+            public void readHashes(@NonNull final long[] paths, @NonNull final Hash[] hashes) {
+                findHashes(paths, hashes);
+            }
+        };
+    }
+
     /**
      * Looks up a virtual node hash for a given path. If the hash is found, writes it to a
      * specified output stream.
@@ -132,6 +202,33 @@ public final class RecordAccessor {
         return rec == VirtualNodeCache.DELETED_LEAF_RECORD ? null : rec;
     }
 
+    /**
+     * Preloads leaf records for the given keys from the data source. Keys found in the cache,
+     * including deleted leaves, are skipped. All other keys are passed to the data source in a
+     * single batch, see {@link VirtualDataSource#warmAll(Collection)}.
+     *
+     * @param keys The keys. Must not be null.
+     * @throws UncheckedIOException
+     * 		If we fail to access the data store, then a catastrophic error occurred and
+     * 		an UncheckedIOException is thrown.
+     */
+    public void warmLeafRecords(final @NonNull Collection<Bytes> keys) {
+        final List<Bytes> keysToLoad = new ArrayList<>(keys.size());
+        for (final Bytes key : keys) {
+            if (cache.lookupLeafByKey(key) == null) {
+                keysToLoad.add(key);
+            }
+        }
+        if (keysToLoad.isEmpty()) {
+            return;
+        }
+        try {
+            dataSource.warmAll(keysToLoad);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to warm leaf records in the data source", ex);
+        }
+    }
+
     /**
      * Locates and returns a leaf node based on the path. If the leaf
      * node already exists in memory, then the same instance is returned each time.
@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link PathIndex} backed by a {@link ConcurrentHashMap} with boxed path keys.
+ *
+ * @param <T> the type of values in the index
+ */
+final class ConcurrentMapPathIndex<T> implements PathIndex<T> {
+
+    private final Map<Long, T> map = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public T get(final long path) {
+        return map.get(path);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(final long path, @NonNull final T value) {
+        map.put(path, requireNonNull(value));
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public T compute(final long path, @NonNull final RemappingFunction<T> remappingFunction) {
+        return map.compute(path, (key, value) -> remappingFunction.apply(key, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <E extends Exception> void forEach(@NonNull final EntryConsumer<T, E> consumer) throws E {
+        for (final Map.Entry<Long, T> entry : map.entrySet()) {
+            consumer.accept(entry.getKey(), entry.getValue());
+        }
+    }
+}
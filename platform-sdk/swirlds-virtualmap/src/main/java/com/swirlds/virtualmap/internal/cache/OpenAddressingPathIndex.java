@@ -0,0 +1,312 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A {@link PathIndex} backed by open addressing hash tables with primitive {@code long} keys.
+ *
+ * <p>Compared to a {@link java.util.concurrent.ConcurrentHashMap}, this index doesn't allocate
+ * a boxed key and a map node per entry, which matters for virtual node caches with millions of
+ * dirty paths. To support concurrent updates, the index is split into a fixed number of stripes.
+ * Every stripe is a separate linear probing hash table guarded by its own {@link StampedLock}.
+ * Reads are optimistic and only fall back to a read lock, if a concurrent write to the same
+ * stripe is detected. Removals use backward shift deletion, so there are no tombstones.
+ *
+ * @param <T> the type of values in the index
+ */
+final class OpenAddressingPathIndex<T> implements PathIndex<T> {
+
+    /** Marker for empty key slots. Paths are never negative */
+    private static final long EMPTY = -1;
+
+    /** Number of stripes, must be a power of two */
+    private static final int STRIPE_COUNT = 64;
+
+    /** Initial capacity of a single stripe table, must be a power of two */
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    /** A stripe table is doubled in size when it's more than this fraction full */
+    private static final double MAX_LOAD_FACTOR = 0.6;
+
+    /** Multiplier used to scramble path bits, the golden ratio */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final Stripe<T>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    OpenAddressingPathIndex() {
+        stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    private static long hash(final long path) {
+        return path * HASH_MULTIPLIER;
+    }
+
+    private Stripe<T> stripe(final long hash) {
+        return stripes[(int) hash & (STRIPE_COUNT - 1)];
+    }
+
+    private static void checkPath(final long path) {
+        if (path < 0) {
+            throw new IllegalArgumentException("Path must not be negative: " + path);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public T get(final long path) {
+        checkPath(path);
+        final long hash = hash(path);
+        final Stripe<T> stripe = stripe(hash);
+        final StampedLock lock = stripe.lock;
+        final long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final T value = stripe.table.get(path, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+        final long readStamp = lock.readLock();
+        try {
+            return stripe.table.get(path, hash);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(final long path, @NonNull final T value) {
+        checkPath(path);
+        requireNonNull(value);
+        final long hash = hash(path);
+        final Stripe<T> stripe = stripe(hash);
+        final long stamp = stripe.lock.writeLock();
+        try {
+            stripe.put(path, hash, value);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public T compute(final long path, @NonNull final RemappingFunction<T> remappingFunction) {
+        checkPath(path);
+        final long hash = hash(path);
+        final Stripe<T> stripe = stripe(hash);
+        final long stamp = stripe.lock.writeLock();
+        try {
+            final Table<T> table = stripe.table;
+            final int index = table.indexOf(path, hash);
+            final T oldValue = index >= 0 ? table.valueAt(index) : null;
+            final T newValue = remappingFunction.apply(path, oldValue);
+            if (newValue != null) {
+                if (index >= 0) {
+                    table.values[index] = newValue;
+                } else {
+                    stripe.put(path, hash, newValue);
+                }
+            } else if (index >= 0) {
+                table.removeAt(index);
+                stripe.size--;
+            }
+            return newValue;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        int size = 0;
+        for (final Stripe<T> stripe : stripes) {
+            final long stamp = stripe.lock.readLock();
+            try {
+                size += stripe.size;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <E extends Exception> void forEach(@NonNull final EntryConsumer<T, E> consumer) throws E {
+        for (final Stripe<T> stripe : stripes) {
+            final long stamp = stripe.lock.readLock();
+            try {
+                final Table<T> table = stripe.table;
+                for (int i = 0; i < table.keys.length; i++) {
+                    final long key = table.keys[i];
+                    if (key != EMPTY) {
+                        consumer.accept(key, table.valueAt(i));
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * A single stripe of the index. All fields are only modified under the write lock.
+     */
+    private static final class Stripe<T> {
+
+        private final StampedLock lock = new StampedLock();
+
+        private volatile Table<T> table = new Table<>(INITIAL_STRIPE_CAPACITY);
+
+        private int size = 0;
+
+        /**
+         * Puts a value to this stripe, resizing the table when needed. Must be called under
+         * the write lock.
+         */
+        private void put(final long path, final long hash, final T value) {
+            Table<T> t = table;
+            final int index = t.indexOf(path, hash);
+            if (index >= 0) {
+                t.values[index] = value;
+                return;
+            }
+            if (size + 1 > t.keys.length * MAX_LOAD_FACTOR) {
+                t = t.resize();
+                table = t;
+            }
+            t.insert(path, hash, value);
+            size++;
+        }
+    }
+
+    /**
+     * A linear probing hash table. Slot index is taken from the high bits of the hash, while
+     * the stripe is selected using the low bits.
+     */
+    private static final class Table<T> {
+
+        private final long[] keys;
+
+        private final Object[] values;
+
+        private final int mask;
+
+        private Table(final int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+
+        private int slot(final long hash) {
+            return (int) (hash >>> 32) & mask;
+        }
+
+        /**
+         * Looks up a value. May be called without a lock, in which case the result is only
+         * valid if the stripe lock stamp is validated afterward. The number of probes is limited
+         * by the table size, so a concurrent modification can't result in an endless loop.
+         */
+        @SuppressWarnings("unchecked")
+        private T get(final long path, final long hash) {
+            int i = slot(hash);
+            for (int probes = 0; probes < keys.length; probes++) {
+                final long key = keys[i];
+                if (key == path) {
+                    return (T) values[i];
+                }
+                if (key == EMPTY) {
+                    return null;
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        private int indexOf(final long path, final long hash) {
+            int i = slot(hash);
+            for (int probes = 0; probes < keys.length; probes++) {
+                final long key = keys[i];
+                if (key == path) {
+                    return i;
+                }
+                if (key == EMPTY) {
+                    return -1;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T valueAt(final int index) {
+            return (T) values[index];
+        }
+
+        /**
+         * Inserts a key known not to be in the table. The table must have at least one empty slot.
+         */
+        private void insert(final long path, final long hash, final Object value) {
+            int i = slot(hash);
+            while (keys[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            values[i] = value;
+            keys[i] = path;
+        }
+
+        /**
+         * Removes the entry at the given index. Entries that follow in the same probe sequence
+         * are shifted back, so lookups never stop at the hole early.
+         */
+        private void removeAt(final int index) {
+            int hole = index;
+            int i = index;
+            while (true) {
+                i = (i + 1) & mask;
+                final long key = keys[i];
+                if (key == EMPTY) {
+                    break;
+                }
+                final int ideal = slot(hash(key));
+                // The entry can stay where it is, if its ideal slot is cyclically in (hole, i]
+                final boolean stays = (hole <= i) ? (ideal > hole && ideal <= i) : (ideal > hole || ideal <= i);
+                if (!stays) {
+                    keys[hole] = key;
+                    values[hole] = values[i];
+                    hole = i;
+                }
+            }
+            keys[hole] = EMPTY;
+            values[hole] = null;
+        }
+
+        /**
+         * Creates a new table twice as large as this one, with all entries of this table.
+         */
+        private Table<T> resize() {
+            final Table<T> t = new Table<>(keys.length << 1);
+            for (int i = 0; i < keys.length; i++) {
+                final long key = keys[i];
+                if (key != EMPTY) {
+                    t.insert(key, hash(key), values[i]);
+                }
+            }
+            return t;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A concurrent index from virtual node paths to objects. Used by {@link VirtualNodeCache} to map
+ * paths to mutation lists. Paths are non-negative longs.
+ *
+ * <p>All methods of this interface are thread safe. Updates to the same path are atomic.
+ *
+ * @param <T> the type of values in the index
+ */
+interface PathIndex<T> {
+
+    /**
+     * A function to compute a new value in the index for a path based on the current value.
+     *
+     * @param <T> the type of values in the index
+     */
+    @FunctionalInterface
+    interface RemappingFunction<T> {
+        /**
+         * Computes a new value for a path.
+         *
+         * @param path the path
+         * @param value the current value, or null if there is no value for the path
+         * @return the new value, or null to remove the path from the index
+         */
+        @Nullable
+        T apply(long path, @Nullable T value);
+    }
+
+    /**
+     * A consumer of path / value pairs, which may throw checked exceptions.
+     *
+     * @param <T> the type of values in the index
+     * @param <E> the type of exceptions thrown by the consumer
+     */
+    @FunctionalInterface
+    interface EntryConsumer<T, E extends Exception> {
+        /**
+         * Processes a path / value pair.
+         *
+         * @param path the path
+         * @param value the value, never null
+         * @throws E if the value cannot be processed
+         */
+        void accept(long path, @NonNull T value) throws E;
+    }
+
+    /**
+     * Creates a new path index of the type specified in the given virtual map config.
+     *
+     * @param virtualMapConfig virtual map config
+     * @return a new empty path index
+     * @param <T> the type of values in the index
+     */
+    static <T> PathIndex<T> create(@NonNull final VirtualMapConfig virtualMapConfig) {
+        return virtualMapConfig.primitivePathIndexEnabled()
+                ? new OpenAddressingPathIndex<>()
+                : new ConcurrentMapPathIndex<>();
+    }
+
+    /**
+     * Returns the value for the given path.
+     *
+     * @param path the path
+     * @return the value, or null if the path is not in the index
+     */
+    @Nullable
+    T get(long path);
+
+    /**
+     * Puts a value for the given path, replacing the previous value, if any.
+     *
+     * @param path the path
+     * @param value the value, must not be null
+     */
+    void put(long path, @NonNull T value);
+
+    /**
+     * Atomically computes a new value for the given path. If the remapping function returns null,
+     * the path is removed from the index. The function is called exactly once.
+     *
+     * @param path the path
+     * @param remappingFunction the function to compute the new value
+     * @return the new value, or null if the path was removed
+     */
+    @Nullable
+    T compute(long path, @NonNull RemappingFunction<T> remappingFunction);
+
+    /**
+     * Returns the number of paths in the index.
+     *
+     * @return the number of paths
+     */
+    int size();
+
+    /**
+     * Iterates over all path / value pairs in the index. The index must not be modified by the
+     * consumer. Updates made to the index concurrently from other threads may or may not be
+     * visible to the consumer.
+     *
+     * @param consumer the consumer to call for every pair
+     * @param <E> the type of exceptions thrown by the consumer
+     * @throws E if the consumer throws an exception
+     */
+    <E extends Exception> void forEach(@NonNull EntryConsumer<T, E> consumer) throws E;
+}
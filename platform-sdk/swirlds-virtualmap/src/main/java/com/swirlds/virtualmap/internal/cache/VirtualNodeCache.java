@@ -21,6 +21,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -210,14 +211,14 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Bytes>> pathToDirtyLeafIndex;
+    private final PathIndex<Mutation<Long, Bytes>> pathToDirtyLeafIndex;
 
     /**
      * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Hash>> pathToDirtyHashIndex;
+    private final PathIndex<Mutation<Long, Hash>> pathToDirtyHashIndex;
 
     /**
      * Whether this instance is released. A released cache is often the last in the
@@ -348,8 +349,8 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      */
     public VirtualNodeCache(final @NonNull VirtualMapConfig virtualMapConfig, long fastCopyVersion) {
         this.keyToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyHashIndex = new ConcurrentHashMap<>();
+        this.pathToDirtyLeafIndex = PathIndex.create(virtualMapConfig);
+        this.pathToDirtyHashIndex = PathIndex.create(virtualMapConfig);
         this.releaseLock = new ReentrantLock();
         this.lastReleased = new AtomicLong(-1L);
         this.fastCopyVersion.set(fastCopyVersion);
@@ -1148,7 +1149,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             @NonNull final AtomicLong estimatedSize,
             @NonNull final ToLongFunction<V> getValueSize,
             final long path,
-            final Map<Long, Mutation<Long, V>> index,
+            final PathIndex<Mutation<Long, V>> index,
             final ConcurrentArray<Mutation<Long, V>> dirtyPaths) {
         index.compute(path, (key, mutation) -> {
             // If there is no mutation or the mutation isn't for this version, then we need to create a new mutation.
@@ -1300,6 +1301,37 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
                 }));
     }
 
+    /**
+     * Same as {@link #purge(ConcurrentArray, Map, VirtualMapConfig)}, but for path indexes.
+     *
+     * @param array
+     * 		The array of mutations to remove from the index
+     * @param index
+     * 		The path index to look through for entries to purge
+     * @param <V>
+     * 		The value type referenced by the mutation list
+     */
+    private static <V> void purge(
+            final ConcurrentArray<Mutation<Long, V>> array,
+            final PathIndex<Mutation<Long, V>> index,
+            @NonNull final VirtualMapConfig virtualMapConfig) {
+        array.parallelTraverse(
+                getCleaningPool(virtualMapConfig),
+                element -> index.compute(element.key, (path, mutation) -> {
+                    if (mutation == null || element.equals(mutation)) {
+                        // Already removed for a more recent mutation
+                        return null;
+                    }
+                    for (Mutation<Long, V> m = mutation; m.next != null; m = m.next) {
+                        if (element.equals(m.next)) {
+                            m.next = null;
+                            break;
+                        }
+                    }
+                    return mutation;
+                }));
+    }
+
     /**
      * Node cache contains lists of hash and leaf mutations for every cache version. When caches
      * are merged, the lists are merged, too. To make merges very fast, duplicates aren't removed
@@ -1374,6 +1406,36 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
         }
     }
 
+    /**
+     * Same as {@link #setMapSnapshotAndArray(Map, Map, ConcurrentArray)}, but for path indexes.
+     *
+     * @param src Index that contains the original mutations
+     * @param dst Index that acts as the destination of mutations
+     * @param <L> Value type
+     */
+    private <L> void setMapSnapshotAndArray(
+            final PathIndex<Mutation<Long, L>> src,
+            final PathIndex<Mutation<Long, L>> dst,
+            final ConcurrentArray<Mutation<Long, L>> array) {
+        final long accepted = fastCopyVersion.get();
+        final long rejected = lastReleased.get();
+        src.forEach((path, value) -> {
+            Mutation<Long, L> mutation = value;
+
+            while (mutation != null && mutation.version > accepted) {
+                mutation = mutation.next;
+            }
+
+            if (mutation == null || mutation.version <= rejected) {
+                return;
+            }
+
+            dst.put(path, mutation);
+            array.add(mutation);
+            // Estimated size is not updated, which is hopefully fine
+        });
+    }
+
     /**
      * Serialize the {@link #pathToDirtyHashIndex}.
      *
@@ -1385,12 +1447,11 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		If something fails.
      */
     private void serializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
+            final PathIndex<Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Hash>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Hash> mutation = entry.getValue();
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyInternalIndex with a version ahead";
@@ -1399,7 +1460,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             if (!mutation.isDeleted()) {
                 out.writeSerializable(mutation.value, true);
             }
-        }
+        });
     }
 
     /**
@@ -1413,7 +1474,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		In case of trouble.
      */
     private void deserializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
+            final PathIndex<Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
             throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
@@ -1446,13 +1507,12 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		If something fails.
      */
     private void serializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, Bytes>> map, final SerializableDataOutputStream out) throws IOException {
+            final PathIndex<Mutation<Long, Bytes>> map, final SerializableDataOutputStream out) throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Bytes>> entry : map.entrySet()) {
+        map.forEach((path, mutation) -> {
             // Write path
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Bytes> mutation = entry.getValue();
+            out.writeLong(path);
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyLeafIndex with a version ahead";
@@ -1468,7 +1528,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             }
             out.writeLong(mutation.version);
             out.writeBoolean(mutation.isDeleted());
-        }
+        });
     }
 
     /**
@@ -1482,11 +1542,11 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		In case of trouble.
      */
     private void deserializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, Bytes>> map, final SerializableDataInputStream in) throws IOException {
+            final PathIndex<Mutation<Long, Bytes>> map, final SerializableDataInputStream in) throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
             // Read path
-            final Long path = in.readLong();
+            final long path = in.readLong();
             // Read key
             final int keyLen = in.readInt();
             final Bytes key;
@@ -1674,13 +1734,9 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
         //noinspection unchecked
         builder.append(toDebugStringIndex("keyToDirtyLeafIndex", (Map<Object, Mutation>) (Object) keyToDirtyLeafIndex))
                 .append("\n");
-        //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) pathToDirtyLeafIndex))
+        builder.append(toDebugStringIndex("pathToDirtyLeafIndex", toDebugMap(pathToDirtyLeafIndex)))
                 .append("\n");
-        //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) pathToDirtyHashIndex))
+        builder.append(toDebugStringIndex("pathToDirtyHashIndex", toDebugMap(pathToDirtyHashIndex)))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<Mutation>) (Object) dirtyLeaves));
@@ -1713,6 +1769,13 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
         return builder.toString();
     }
 
+    @SuppressWarnings("rawtypes")
+    private static Map<Object, Mutation> toDebugMap(final PathIndex<? extends Mutation> index) {
+        final Map<Object, Mutation> map = new TreeMap<>();
+        index.forEach(map::put);
+        return map;
+    }
+
     private String toDebugStringIndex(
             final String indexName, @SuppressWarnings("rawtypes") final Map<Object, Mutation> index) {
         final StringBuilder builder = new StringBuilder();
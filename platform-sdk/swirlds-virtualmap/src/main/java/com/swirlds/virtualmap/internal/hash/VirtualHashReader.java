@@ -0,0 +1,32 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.hash;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.function.LongFunction;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * Looks up clean hashes by path during hashing. {@link VirtualHasher} processes the tree in
+ * chunks, and all clean hashes needed to hash a chunk are requested at once using {@link
+ * #readHashes(long[], Hash[])}. Implementations backed by a data source should override this
+ * method to read all hashes in a single batch rather than one by one.
+ */
+@FunctionalInterface
+public interface VirtualHashReader extends LongFunction<Hash> {
+
+    /**
+     * Reads hashes for multiple paths at once. After this method returns, {@code hashes[i]}
+     * contains the hash for {@code paths[i]}. The default implementation reads hashes one by
+     * one using {@link #apply(long)}.
+     *
+     * @param paths
+     * 		Paths to read hashes for
+     * @param hashes
+     * 		Array to store hashes to, must be at least as long as {@code paths}
+     */
+    default void readHashes(@NonNull final long[] paths, @NonNull final Hash[] hashes) {
+        for (int i = 0; i < paths.length; i++) {
+            hashes[i] = apply(paths[i]);
+        }
+    }
+}
@@ -24,7 +24,6 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.LongFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.StackTrace;
@@ -92,7 +91,7 @@ public final class VirtualHasher {
      * A function to look up clean hashes by path during hashing. This function is stored in
      * a class field to avoid passing it as an arg to every hashing task.
      */
-    private LongFunction<Hash> hashReader;
+    private VirtualHashReader hashReader;
 
     /**
      * A listener to notify about hashing events. This listener is stored in a class field to
@@ -154,9 +153,12 @@ public final class VirtualHasher {
 
     // Chunk hash task. Has 2^height inputs, which are set either by other chunk tasks,
     // or by leaf tasks. The path does not belong to this chunk, it's used to set the
-    // hashing result to the output task
+    // hashing result to the output task. All clean hashes in the chunk, which are needed
+    // to hash it, are loaded in a single batch
     class ChunkHashTask extends HashProducingTask {
 
+        private static final Hash[] NO_HASHES = new Hash[0];
+
         // Output path
         private final long path;
 
@@ -193,8 +195,47 @@ public final class VirtualHasher {
             return ins[0];
         }
 
+        // Collects paths of all clean hashes needed to hash this chunk, and loads them in a
+        // single batch. The hashes are returned in the same order as they are used in onExecute()
+        private Hash[] loadCleanHashes() {
+            int len = 1 << height;
+            final boolean[] dirty = new boolean[len];
+            for (int i = 0; i < len; i++) {
+                dirty[i] = ins[i] != null;
+            }
+            // A chunk of height h has 2^(h+1)-2 nodes below the top-most node
+            final long[] paths = new long[len * 2 - 2];
+            int count = 0;
+            long rankPath = Path.getLeftGrandChildPath(path, height);
+            while (len > 1) {
+                for (int i = 0; i < len / 2; i++) {
+                    final boolean left = dirty[i * 2];
+                    final boolean right = dirty[i * 2 + 1];
+                    if (left || right) {
+                        if (!left) {
+                            paths[count++] = rankPath + i * 2;
+                        }
+                        if (!right) {
+                            paths[count++] = rankPath + i * 2 + 1;
+                        }
+                    }
+                    dirty[i] = left || right;
+                }
+                rankPath = Path.getParentPath(rankPath);
+                len = len >> 1;
+            }
+            if (count == 0) {
+                return NO_HASHES;
+            }
+            final Hash[] hashes = new Hash[count];
+            hashReader.readHashes((count == paths.length) ? paths : Arrays.copyOf(paths, count), hashes);
+            return hashes;
+        }
+
         @Override
         protected boolean onExecute() {
+            final Hash[] cleanHashes = loadCleanHashes();
+            int cleanHashIndex = 0;
             int len = 1 << height;
             long rankPath = Path.getLeftGrandChildPath(path, height);
             while (len > 1) {
@@ -206,10 +247,10 @@ public final class VirtualHasher {
                         ins[i] = null;
                     } else {
                         if (left == null) {
-                            left = hashReader.apply(rankPath + i * 2);
+                            left = cleanHashes[cleanHashIndex++];
                         }
                         if (right == null) {
-                            right = hashReader.apply(rankPath + i * 2 + 1);
+                            right = cleanHashes[cleanHashIndex++];
                         }
                         ins[i] = hash(left, right);
                         listener.onNodeHashed(hashedPath, ins[i]);
@@ -368,7 +409,9 @@ public final class VirtualHasher {
      * IllegalArgumentException}.
      *
      * @param hashReader
-     * 		Return a {@link Hash} by path. Used when this method needs to look up clean nodes.
+     * 		Return a {@link Hash} by path. Used when this method needs to look up clean nodes. Clean
+     * 		hashes are looked up in batches, one batch per hashing chunk, see {@link
+     * 		VirtualHashReader#readHashes(long[], Hash[])}.
      * @param sortedDirtyLeaves
      * 		A stream of dirty leaves sorted in <strong>ASCENDING PATH ORDER</strong>, such that path
      * 		1234 comes before 1235. If null or empty, a null hash result is returned.
@@ -385,7 +428,7 @@ public final class VirtualHasher {
      */
     @SuppressWarnings("rawtypes")
     public Hash hash(
-            final @NonNull LongFunction<Hash> hashReader,
+            final @NonNull VirtualHashReader hashReader,
             final @NonNull Iterator<VirtualLeafBytes> sortedDirtyLeaves,
             final long firstLeafPath,
             final long lastLeafPath,
@@ -414,11 +457,53 @@ public final class VirtualHasher {
                 pool)));
     }
 
+    /**
+     * Hash the given dirty leaves, similar to {@link #hash(VirtualHashReader, Iterator, long, long,
+     * VirtualHashListener, VirtualMapConfig)}. The difference is that dirty leaves are consumed on
+     * the current thread rather than on a hashing pool thread. Hashing tasks are still executed in
+     * the hashing pool. This method should be used, when the dirty leaves iterator may block for a
+     * long time, and multiple trees are hashed at the same time, for example, during reconnects.
+     * Otherwise, all hashing pool threads may be blocked waiting for dirty leaves.
+     *
+     * @param hashReader
+     * 		Return a {@link Hash} by path. Used when this method needs to look up clean nodes
+     * @param sortedDirtyLeaves
+     * 		A stream of dirty leaves sorted in <strong>ASCENDING PATH ORDER</strong>
+     * @param firstLeafPath
+     * 		The firstLeafPath of the tree that is being hashed
+     * @param lastLeafPath
+     * 		The lastLeafPath of the tree that is being hashed
+     * @param listener
+     *      Hash listener
+     * @param virtualMapConfig platform configuration for VirtualMap
+     * @return The hash of the root of the tree, or null if there are no dirty leaves
+     */
+    @SuppressWarnings("rawtypes")
+    public Hash hashOnCurrentThread(
+            final @NonNull VirtualHashReader hashReader,
+            final @NonNull Iterator<VirtualLeafBytes> sortedDirtyLeaves,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            final @NonNull VirtualHashListener listener,
+            final @NonNull VirtualMapConfig virtualMapConfig) {
+        requireNonNull(listener);
+        return hashInternal(
+                hashReader,
+                sortedDirtyLeaves,
+                firstLeafPath,
+                lastLeafPath,
+                listener,
+                virtualMapConfig,
+                getHashingPool(virtualMapConfig));
+    }
+
     /**
      * Internal method calculating the hash of the tree in a given fork-join pool.
      *
      * @param hashReader
-     * 		Return a {@link Hash} by path. Used when this method needs to look up clean nodes.
+     * 		Return a {@link Hash} by path. Used when this method needs to look up clean nodes. Clean
+     * 		hashes are looked up in batches, one batch per hashing chunk, see {@link
+     * 		VirtualHashReader#readHashes(long[], Hash[])}.
      * @param sortedDirtyLeaves
      * 		A stream of dirty leaves sorted in <strong>ASCENDING PATH ORDER</strong>, such that path
      * 		1234 comes before 1235. If null or empty, a null hash result is returned.
@@ -435,7 +520,7 @@ public final class VirtualHasher {
      * @return calculated root hash, or null if there are no dirty leaves to hash.
      */
     private Hash hashInternal(
-            final @NonNull LongFunction<Hash> hashReader,
+            final @NonNull VirtualHashReader hashReader,
             final @NonNull Iterator<VirtualLeafBytes> sortedDirtyLeaves,
             final long firstLeafPath,
             final long lastLeafPath,
@@ -655,4 +740,16 @@ public final class VirtualHasher {
     public Hash emptyRootHash() {
         return ChunkHashTask.hash(Cryptography.NULL_HASH, Cryptography.NULL_HASH);
     }
+
+    /**
+     * Calculates an internal node hash from the hashes of its children, the same way as it's done
+     * when virtual trees are hashed.
+     *
+     * @param left the left child hash
+     * @param right the right child hash
+     * @return the internal node hash
+     */
+    public static Hash hashInternalNode(final @NonNull Hash left, final @NonNull Hash right) {
+        return ChunkHashTask.hash(requireNonNull(left), requireNonNull(right));
+    }
 }
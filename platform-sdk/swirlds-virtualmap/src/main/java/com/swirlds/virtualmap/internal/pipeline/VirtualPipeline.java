@@ -4,7 +4,6 @@ package com.swirlds.virtualmap.internal.pipeline;
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.VIRTUAL_MERKLE_STATS;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.swirlds.base.function.CheckedSupplier;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
@@ -16,10 +15,13 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -94,11 +96,23 @@ import org.apache.logging.log4j.Logger;
  * 		before shutting down the pipeline. This method can be called concurrently to all other methods. Any concurrent
  * 		calls that race with this one and come after will not execute.</li>
  * </ul>
+ *
+ * <hr>
+ * <p><strong>Pipelined Mode</strong></p>
+ * <p>
+ * By default, all flushes and merges are done on a single lifecycle thread. If
+ * {@link VirtualMapConfig#pipelinedFlushesEnabled()} is set, flushes are still done on the lifecycle
+ * thread, while merges are done on a separate merge thread. When there is nothing to merge, the merge
+ * thread hashes immutable copies ahead of time, so the copy from round N+1 is hashed while the copy from
+ * round N is being flushed. Every copy is claimed by one of the threads before it's flushed or merged,
+ * so a copy is never flushed and merged at the same time.
+ * </p>
  */
 public class VirtualPipeline {
 
     private static final String PIPELINE_COMPONENT = "virtual-pipeline";
     private static final String PIPELINE_THREAD_NAME = "lifecycle";
+    private static final String MERGE_THREAD_NAME = "lifecycle-merge";
 
     private static final Logger logger = LogManager.getLogger(VirtualPipeline.class);
 
@@ -137,12 +151,35 @@ public class VirtualPipeline {
      */
     private final ExecutorService executorService;
 
+    /**
+     * A single-threaded executor on which we perform merge tasks in pipelined mode, or null if
+     * pipelined mode is disabled. See {@link VirtualMapConfig#pipelinedFlushesEnabled()}.
+     */
+    private final ExecutorService mergeExecutorService;
+
     /**
      * A flag that indicates whether hash/flush/merge work is scheduled. It's set to true when
      * a new copy is added to the pipeline, and reset to false right before the work is started.
      */
     private final AtomicBoolean workScheduled = new AtomicBoolean(false);
 
+    /**
+     * Same as {@link #workScheduled}, but for merge work on {@link #mergeExecutorService}.
+     */
+    private final AtomicBoolean mergeWorkScheduled = new AtomicBoolean(false);
+
+    /**
+     * Copies currently being flushed or merged in pipelined mode. A copy must be added to this set
+     * before it's flushed or merged, which guarantees no copy is flushed and merged at the same time.
+     */
+    private final Set<VirtualRoot> copiesInProgress = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Threads that wait because of family size backpressure wait on this monitor. It's notified
+     * every time a copy is flushed, and total size of all copies is reduced.
+     */
+    private final Object familySizeMonitor = new Object();
+
     /**
      * The configuration for this pipeline. To prevent using static configuration calls, we pass it with the constructor.
      */
@@ -159,13 +196,18 @@ public class VirtualPipeline {
         unhashedCopies = new ConcurrentLinkedDeque<>();
 
         alive = true;
-        executorService = Executors.newSingleThreadExecutor(new ThreadConfiguration(getStaticThreadManager())
+        executorService = createExecutor(PIPELINE_THREAD_NAME);
+        mergeExecutorService = config.pipelinedFlushesEnabled() ? createExecutor(MERGE_THREAD_NAME) : null;
+
+        statistics = new VirtualMapStatistics(label);
+    }
+
+    private static ExecutorService createExecutor(final String threadName) {
+        return Executors.newSingleThreadExecutor(new ThreadConfiguration(getStaticThreadManager())
                 .setComponent(PIPELINE_COMPONENT)
-                .setThreadName(PIPELINE_THREAD_NAME)
+                .setThreadName(threadName)
                 .setExceptionHandler((t, ex) -> logger.error(EXCEPTION.getMarker(), "Uncaught exception ", ex))
                 .buildFactory());
-
-        statistics = new VirtualMapStatistics(label);
     }
 
     /**
@@ -202,19 +244,22 @@ public class VirtualPipeline {
 
         try {
             final long sleepStartTime = System.currentTimeMillis();
-            long timeSleptSoFar;
-            do {
-                MILLISECONDS.sleep(1);
-                timeSleptSoFar = System.currentTimeMillis() - sleepStartTime;
+            long timeSleptSoFar = 0;
+            synchronized (familySizeMonitor) {
                 // Virtual map copy may be flushing on the lifecycle thread, while this thread is
-                // sleeping. After any flush, total family size is reduced, and the current thread
-                // may not sleep any longer. Re-calculate backpressure duration as of now and
-                // check it against the time this thread has slept so far
-                final long currentSleepTimeMillis = calculateFamilySizeBackpressurePause();
-                if ((currentSleepTimeMillis <= 0) || (timeSleptSoFar >= currentSleepTimeMillis)) {
-                    break;
+                // waiting. After any flush, total family size is reduced, and the lifecycle thread
+                // wakes this thread up. Re-calculate backpressure duration as of now and check it
+                // against the time this thread has waited so far
+                while (alive) {
+                    final long currentSleepTimeMillis =
+                            Math.min(sleepTimeMillis, calculateFamilySizeBackpressurePause());
+                    if (timeSleptSoFar >= currentSleepTimeMillis) {
+                        break;
+                    }
+                    familySizeMonitor.wait(currentSleepTimeMillis - timeSleptSoFar);
+                    timeSleptSoFar = System.currentTimeMillis() - sleepStartTime;
                 }
-            } while (timeSleptSoFar < sleepTimeMillis);
+            }
 
             // Record actual sleep time
             logger.info(VIRTUAL_MERKLE_STATS.getMarker(), "Total size backpressure: {} ms", timeSleptSoFar);
@@ -224,6 +269,16 @@ public class VirtualPipeline {
         }
     }
 
+    /**
+     * Wakes up all threads waiting because of family size backpressure, if any. Called every time
+     * total family size is reduced.
+     */
+    private void familySizeReduced() {
+        synchronized (familySizeMonitor) {
+            familySizeMonitor.notifyAll();
+        }
+    }
+
     long calculateFamilySizeBackpressurePause() {
         final long sizeThreshold = config.familyThrottleThreshold();
         if (sizeThreshold <= 0) {
@@ -410,14 +465,44 @@ public class VirtualPipeline {
 
     /**
      * Posts a new hash/flush/merge job to the lifecycle thread executor, if no job has been
-     * scheduled yet.
+     * scheduled yet. In pipelined mode, also posts a new merge job to the merge thread executor.
      */
     private void scheduleWork() {
+        scheduleFlushWork();
+        scheduleMergeWork();
+    }
+
+    private void scheduleFlushWork() {
         if (workScheduled.compareAndSet(false, true)) {
             executorService.submit(this::doWork);
         }
     }
 
+    private void scheduleMergeWork() {
+        if ((mergeExecutorService != null) && mergeWorkScheduled.compareAndSet(false, true)) {
+            mergeExecutorService.submit(this::doMergeWork);
+        }
+    }
+
+    /**
+     * Posts new work from one of the pipeline threads in pipelined mode. Unlike other callers of
+     * {@link #scheduleWork()}, pipeline threads may race with pipeline shutdown, in which case
+     * the work is just dropped.
+     *
+     * @param scheduler
+     * 		either {@link #scheduleFlushWork()} or {@link #scheduleMergeWork()}
+     */
+    private void rescheduleWork(final Runnable scheduler) {
+        if (!alive) {
+            return;
+        }
+        try {
+            scheduler.run();
+        } catch (final RejectedExecutionException e) {
+            // The pipeline has been shut down concurrently, nothing to do
+        }
+    }
+
     /**
      * Wait until the pipeline thread has finished and then return.
      *
@@ -430,7 +515,12 @@ public class VirtualPipeline {
      * 		if calling thread is interrupted
      */
     public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
-        return executorService.awaitTermination(timeout, unit);
+        if (mergeExecutorService == null) {
+            return executorService.awaitTermination(timeout, unit);
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return mergeExecutorService.awaitTermination(timeout, unit)
+                && executorService.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -529,31 +619,132 @@ public class VirtualPipeline {
                 logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Flush {}", copy.getFastCopyVersion());
                 flush(copy);
                 copies.remove(next);
+                familySizeReduced();
             } else if (canBeMerged(next)) {
                 assert !copy.isMerged();
                 logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Merge {}", copy.getFastCopyVersion());
                 merge(next);
                 copies.remove(next);
             }
-            statistics.setPipelineSize(copies.getSize());
-            logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Pipeline size {}", copies.getSize());
-            final long totalSize = currentTotalSize();
-            logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Total size {}", totalSize);
-            statistics.setNodeCacheSize(totalSize);
+            updatePipelineStatistics();
             next = next.getNext();
         }
     }
 
+    /**
+     * Flush all copies currently capable of flushing, in pipelined mode. Only the oldest copy can
+     * be flushed, so this method stops at the first copy that can't be flushed (yet). Merges are
+     * done on a different thread, see {@link #mergeCopies()}.
+     */
+    private void flushCopies() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final PipelineListNode<VirtualRoot> first = copies.getFirst();
+            if (first == null) {
+                break;
+            }
+            final VirtualRoot copy = first.getValue();
+            // The newest copy. Nothing can be done to it
+            if (!copy.isImmutable() || !copiesInProgress.add(copy)) {
+                break;
+            }
+            try {
+                if (copy.isMerged()) {
+                    // Merged and removed from the pipeline on the merge thread after the first
+                    // copy was read from the list above. Check the next copy
+                    continue;
+                }
+                if (!shouldBeFlushed(copy)) {
+                    break;
+                }
+                logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Flush {}", copy.getFastCopyVersion());
+                flush(copy);
+                copies.remove(first);
+            } finally {
+                copiesInProgress.remove(copy);
+            }
+            updatePipelineStatistics();
+            familySizeReduced();
+        }
+        // The oldest copy may have been skipped by the merge thread while it was checked here
+        rescheduleWork(this::scheduleMergeWork);
+    }
+
+    /**
+     * Merge all copies currently capable of merging, in pipelined mode. Copies that can't be merged
+     * yet are hashed, if not hashed already, so they are ready to be flushed or merged later.
+     */
+    private void mergeCopies() {
+        PipelineListNode<VirtualRoot> next = copies.getFirst();
+        // Iterate from the oldest copy to the newest
+        while ((next != null) && !Thread.currentThread().isInterrupted()) {
+            final VirtualRoot copy = next.getValue();
+            // The newest copy. Nothing can be done to it
+            if (!copy.isImmutable()) {
+                break;
+            }
+            boolean merged = false;
+            boolean targetIsFirst = false;
+            // Only claim copies that can be merged, so the lifecycle thread never skips a copy to
+            // flush just because it's being checked here
+            if (canBeMerged(next) && copiesInProgress.add(copy)) {
+                try {
+                    if (!copy.isFlushed() && !copy.isMerged() && canBeMerged(next)) {
+                        logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Merge {}", copy.getFastCopyVersion());
+                        merge(next);
+                        copies.remove(next);
+                        merged = true;
+                        targetIsFirst = next.getNext() == copies.getFirst();
+                    }
+                } finally {
+                    copiesInProgress.remove(copy);
+                }
+            }
+            if (merged) {
+                updatePipelineStatistics();
+                if (targetIsFirst) {
+                    // The merge target is now the oldest copy, it may be ready to flush
+                    rescheduleWork(this::scheduleFlushWork);
+                }
+            } else if (!copy.isHashed()) {
+                // Hash the copy ahead of time, while older copies may be flushing
+                hashCopy(copy);
+            }
+            next = next.getNext();
+        }
+    }
+
+    private void updatePipelineStatistics() {
+        statistics.setPipelineSize(copies.getSize());
+        logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Pipeline size {}", copies.getSize());
+        final long totalSize = currentTotalSize();
+        logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Total size {}", totalSize);
+        statistics.setNodeCacheSize(totalSize);
+    }
+
     private void doWork() {
         workScheduled.set(false);
         try {
-            hashFlushMerge();
+            if (mergeExecutorService == null) {
+                hashFlushMerge();
+            } else {
+                flushCopies();
+            }
         } catch (final Throwable e) { // NOSONAR: Must cleanup and log if an error occurred since this is on a thread.
             logger.error(EXCEPTION.getMarker(), "exception on virtual pipeline thread", e);
             shutdown(true);
         }
     }
 
+    private void doMergeWork() {
+        mergeWorkScheduled.set(false);
+        try {
+            mergeCopies();
+        } catch (final Throwable e) { // NOSONAR: Must cleanup and log if an error occurred since this is on a thread.
+            logger.error(EXCEPTION.getMarker(), "exception on virtual pipeline merge thread", e);
+            shutdown(true);
+        }
+    }
+
     /**
      * Shutdown the executor service.
      *
@@ -566,13 +757,36 @@ public class VirtualPipeline {
         alive = false;
         if (!executorService.isShutdown()) {
             if (immediately) {
+                if (mergeExecutorService != null) {
+                    mergeExecutorService.shutdownNow();
+                }
                 executorService.shutdownNow();
                 fireOnShutdown(immediately);
+            } else if (mergeExecutorService != null) {
+                // Let any merge in progress complete before the most recent copy is notified
+                mergeExecutorService.shutdown();
+                executorService.submit(() -> {
+                    awaitMergeExecutorTermination();
+                    fireOnShutdown(false);
+                });
+                executorService.shutdown();
             } else {
                 executorService.submit(() -> fireOnShutdown(false));
                 executorService.shutdown();
             }
         }
+        // Don't let any threads wait for family size backpressure any longer
+        familySizeReduced();
+    }
+
+    private void awaitMergeExecutorTermination() {
+        try {
+            while (!mergeExecutorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.info(VIRTUAL_MERKLE_STATS.getMarker(), "Waiting for merge thread to terminate");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -588,9 +802,10 @@ public class VirtualPipeline {
     <V, E extends Exception> V pausePipelineAndExecute(final String label, final CheckedSupplier<V, E> supplier)
             throws E {
         Objects.requireNonNull(supplier);
-        final CountDownLatch waitForBackgroundThreadToStart = new CountDownLatch(1);
+        final int threadCount = (mergeExecutorService != null) ? 2 : 1;
+        final CountDownLatch waitForBackgroundThreadToStart = new CountDownLatch(threadCount);
         final CountDownLatch waitForRunnableToFinish = new CountDownLatch(1);
-        executorService.execute(() -> {
+        final Runnable pause = () -> {
             waitForBackgroundThreadToStart.countDown();
 
             try {
@@ -600,7 +815,17 @@ public class VirtualPipeline {
                 throw new RuntimeException(
                         "Fatal error: interrupted while waiting for runnable " + label + " to finish");
             }
-        });
+        };
+        if (mergeExecutorService != null) {
+            mergeExecutorService.execute(pause);
+        }
+        try {
+            executorService.execute(pause);
+        } catch (final RejectedExecutionException e) {
+            // Don't leave the merge thread paused forever
+            waitForRunnableToFinish.countDown();
+            throw e;
+        }
 
         try {
             waitForBackgroundThreadToStart.await();
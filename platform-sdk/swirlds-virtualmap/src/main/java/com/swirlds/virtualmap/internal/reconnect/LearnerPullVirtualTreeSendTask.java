@@ -28,6 +28,10 @@ import org.hiero.base.crypto.Hash;
  * the provided {@link NodeTraversalOrder}. After the next path to request is {@link
  * Path#INVALID_PATH}, this request is sent to indicate that there will be no more requests from
  * the learner, and this task is finished.
+ *
+ * <p>If the traversal order has more than one partition, every partition is requested in a
+ * separate thread. In this case, {@link Path#INVALID_PATH} is sent after all partitions are
+ * finished.
  */
 public class LearnerPullVirtualTreeSendTask {
 
@@ -104,21 +108,15 @@ public class LearnerPullVirtualTreeSendTask {
                 throw new MerkleSynchronizationException("Timed out waiting for root node response from the teacher");
             }
 
-            while (true) {
-                final long path = traversalOrder.getNextPathToSend();
-                logger.debug(RECONNECT.getMarker(), "Learner send path: " + path);
-                if (path < Path.INVALID_PATH) {
-                    Thread.onSpinWait();
-                    continue;
-                }
-                final Hash hash = path == Path.INVALID_PATH ? null : view.getNodeHash(path);
-                out.sendAsync(new PullVirtualTreeRequest(path, hash));
-                view.getMapStats().incrementTransfersFromLearner();
-                if (path == Path.INVALID_PATH) {
-                    break;
-                }
-                responsesExpected.incrementAndGet();
+            final int partitionCount = traversalOrder.getPartitionCount();
+            if (partitionCount == 1) {
+                sendRequests(0);
+            } else {
+                sendRequestsInParallel(partitionCount);
             }
+            // Let the teacher know there will be no more requests
+            out.sendAsync(new PullVirtualTreeRequest(Path.INVALID_PATH, null));
+            view.getMapStats().incrementTransfersFromLearner();
             logger.debug(RECONNECT.getMarker(), "Learner send done");
         } catch (final InterruptedException ex) {
             logger.warn(RECONNECT.getMarker(), "Learner's sending task interrupted");
@@ -129,4 +127,62 @@ public class LearnerPullVirtualTreeSendTask {
             senderIsFinished.set(true);
         }
     }
+
+    /**
+     * Sends requests for all partitions, every partition in its own thread in the work group.
+     * All threads share the same output stream. This method waits for all threads to finish.
+     *
+     * @param partitionCount the number of partitions
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    private void sendRequestsInParallel(final int partitionCount) throws InterruptedException {
+        final CountDownLatch partitionsDone = new CountDownLatch(partitionCount);
+        final AtomicBoolean partitionFailed = new AtomicBoolean(false);
+        for (int i = 0; i < partitionCount; i++) {
+            final int partition = i;
+            workGroup.execute(NAME + "-" + partition, () -> {
+                try {
+                    sendRequests(partition);
+                } catch (final InterruptedException ex) {
+                    partitionFailed.set(true);
+                    logger.warn(RECONNECT.getMarker(), "Learner's sending task interrupted, partition {}", partition);
+                    Thread.currentThread().interrupt();
+                } catch (final Exception ex) {
+                    partitionFailed.set(true);
+                    throw new MerkleSynchronizationException(
+                            "Exception in the learner's sending task, partition " + partition, ex);
+                } finally {
+                    partitionsDone.countDown();
+                }
+            });
+        }
+        partitionsDone.await();
+        if (partitionFailed.get()) {
+            throw new MerkleSynchronizationException("Failed to send requests for some partitions");
+        }
+    }
+
+    /**
+     * Sends requests for all paths in the given partition, as provided by the traversal order,
+     * till there are no more paths to send in the partition.
+     *
+     * @param partition the partition index
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    private void sendRequests(final int partition) throws InterruptedException {
+        while (true) {
+            final long path = traversalOrder.getNextPathToSend(partition);
+            logger.debug(RECONNECT.getMarker(), "Learner send path: " + path);
+            if (path < Path.INVALID_PATH) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (path == Path.INVALID_PATH) {
+                break;
+            }
+            out.sendAsync(new PullVirtualTreeRequest(path, view.getNodeHash(path)));
+            view.getMapStats().incrementTransfersFromLearner();
+            responsesExpected.incrementAndGet();
+        }
+    }
 }
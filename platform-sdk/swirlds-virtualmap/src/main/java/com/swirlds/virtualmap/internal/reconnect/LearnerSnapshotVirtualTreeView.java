@@ -0,0 +1,263 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
+import com.swirlds.common.merkle.synchronization.task.ExpectedLesson;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.LearnerTreeView;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapMetadata;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+
+/**
+ * An implementation of {@link LearnerTreeView} for snapshot reconnects. Instead of comparing
+ * virtual nodes with the teacher, this view receives a complete data source snapshot from the
+ * teacher as a set of files, and replaces the learner data source with it. The original learner
+ * data isn't used at all, so this view is best suited for learners with no usable state.
+ *
+ * <p>All snapshot files are received to a temporary directory and verified using checksums. The
+ * number and the total size of received files are limited, see {@link VirtualMapConfig}. Then the
+ * snapshot is imported to the learner database, see {@link VirtualMap#importReconnectSnapshot(Path)}.
+ * Nothing received from the teacher is trusted: the virtual map is rehashed from the imported leaves,
+ * and the computed hash is verified as a part of the signed state hash.
+ *
+ * <p>This implementation is supposed to work with {@link TeacherSnapshotVirtualTreeView} on the
+ * teacher side.
+ */
+public final class LearnerSnapshotVirtualTreeView extends VirtualTreeViewBase implements LearnerTreeView<Long> {
+
+    private static final Logger logger = LogManager.getLogger(LearnerSnapshotVirtualTreeView.class);
+
+    private static final String NAME = "reconnect-learner-snapshot-receiver";
+
+    /**
+     * Platform configuration, used to create a temporary snapshot directory.
+     */
+    private final Configuration configuration;
+
+    private final ReconnectMapStats mapStats;
+
+    /**
+     * The directory to receive snapshot files to. Set once the snapshot is started to be received.
+     */
+    private volatile Path snapshotDir;
+
+    /**
+     * Create a new {@link LearnerSnapshotVirtualTreeView}.
+     *
+     * @param configuration
+     * 		Platform configuration. Cannot be null.
+     * @param map
+     * 		The map node of the <strong>reconnect</strong> tree. Cannot be null.
+     * @param originalState
+     * 		A {@link VirtualMapMetadata} for accessing state (first and last paths) from the
+     * 		unmodified <strong>original</strong> tree. Cannot be null.
+     * @param reconnectState
+     * 		A {@link VirtualMapMetadata} for accessing state (first and last paths) from the
+     * 		modified <strong>reconnect</strong> tree. Cannot be null.
+     * @param mapStats
+     *      A ReconnectMapStats object to collect reconnect metrics
+     */
+    public LearnerSnapshotVirtualTreeView(
+            @NonNull final Configuration configuration,
+            @NonNull final VirtualMap map,
+            @NonNull final VirtualMapMetadata originalState,
+            @NonNull final VirtualMapMetadata reconnectState,
+            @NonNull final ReconnectMapStats mapStats) {
+        super(map, originalState, reconnectState);
+        this.configuration = Objects.requireNonNull(configuration);
+        this.mapStats = Objects.requireNonNull(mapStats);
+    }
+
+    @Override
+    public void startLearnerTasks(
+            final LearningSynchronizer learningSynchronizer,
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final MerkleDataOutputStream outputStream,
+            final Queue<MerkleNode> rootsToReceive,
+            final AtomicReference<Long> reconstructedRoot) {
+        reconstructedRoot.set(0L);
+        workGroup.execute(NAME, () -> receiveSnapshot(inputStream, outputStream));
+    }
+
+    private void receiveSnapshot(final MerkleDataInputStream in, final MerkleDataOutputStream out) {
+        try {
+            snapshotDir = LegacyTemporaryFileBuilder.buildTemporaryDirectory("reconnect-snapshot", configuration);
+            final VirtualMapConfig virtualMapConfig = configuration.getConfigData(VirtualMapConfig.class);
+            final long totalSize = VirtualReconnectUtils.readSnapshotFiles(
+                    in,
+                    snapshotDir,
+                    virtualMapConfig.reconnectSnapshotMaxFiles(),
+                    virtualMapConfig.reconnectSnapshotMaxBytes());
+            logger.info(RECONNECT.getMarker(), "Received data source snapshot files, total size: {} bytes", totalSize);
+
+            map.importReconnectSnapshot(snapshotDir);
+            mapStats.incrementLeafData((int) Math.min(Integer.MAX_VALUE, reconnectState.getSize()), 0);
+
+            // Let the teacher know the snapshot is loaded
+            out.writeBoolean(true);
+            out.flush();
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to receive data source snapshot", e);
+        }
+    }
+
+    private void deleteSnapshotDir() {
+        final Path dir = snapshotDir;
+        if (dir != null) {
+            try {
+                FileUtils.deleteDirectory(dir);
+            } catch (final IOException e) {
+                logger.error(EXCEPTION.getMarker(), "Failed to delete received data source snapshot directory", e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void abort() {
+        deleteSnapshotDir();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRootOfState() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getOriginalRoot() {
+        return ROOT_PATH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash getNodeHash(final Long originalChild) {
+        throw new UnsupportedOperationException("LearnerSnapshotVirtualTreeView.getNodeHash()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void expectLessonFor(
+            final Long parent, final int childIndex, final Long original, final boolean nodeAlreadyPresent) {
+        throw new UnsupportedOperationException("LearnerSnapshotVirtualTreeView.expectLessonFor()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExpectedLesson<Long> getNextExpectedLesson() {
+        throw new UnsupportedOperationException("LearnerSnapshotVirtualTreeView.getNextExpectedLesson()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNextExpectedLesson() {
+        throw new UnsupportedOperationException("LearnerSnapshotVirtualTreeView.hasNextExpectedLesson()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long deserializeLeaf(final SerializableDataInputStream in) throws IOException {
+        throw new UnsupportedOperationException("LearnerSnapshotVirtualTreeView.deserializeLeaf()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long deserializeInternal(final SerializableDataInputStream in) throws IOException {
+        throw new UnsupportedOperationException("LearnerSnapshotVirtualTreeView.deserializeInternal()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize() {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            map.endLearnerReconnect();
+        } finally {
+            deleteSnapshotDir();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markForInitialization(final Long node) {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseNode(final Long node) {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChild(final Long parent, final int childIndex, final Long child) {
+        // No-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long convertMerkleRootToViewType(final MerkleNode node) {
+        throw new UnsupportedOperationException("Nested virtual maps not supported");
+    }
+}
@@ -25,6 +25,32 @@ public interface NodeTraversalOrder {
      */
     long getNextPathToSend() throws InterruptedException;
 
+    /**
+     * Returns the number of independent partitions, which paths may be requested from the teacher
+     * in parallel for. Must only be called after {@link #start(long, long, ReconnectNodeCount)}.
+     *
+     * @return the number of partitions, 1 if this traversal order doesn't support partitions
+     */
+    default int getPartitionCount() {
+        return 1;
+    }
+
+    /**
+     * Called by the learner's sending threads to send the next path in the given partition to
+     * teacher. Different partitions may be called from different threads, but the same partition
+     * is always called from a single thread. If this method returns {@link
+     * com.swirlds.virtualmap.internal.Path#INVALID_PATH}, it indicates there are no more paths to
+     * send in the partition.
+     *
+     * @param partition the partition index, from 0 to {@link #getPartitionCount()} exclusive
+     * @return the next virtual path in the partition to send to the teacher
+     * @throws InterruptedException if the current thread is interrupted while backpressure waiting
+     */
+    default long getNextPathToSend(final int partition) throws InterruptedException {
+        assert partition == 0;
+        return getNextPathToSend();
+    }
+
     /**
      * Notifies this object that a node response is received from the teacher.
      *
@@ -0,0 +1,249 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import com.swirlds.virtualmap.internal.Path;
+import com.swirlds.virtualmap.internal.hash.VirtualHashListener;
+import com.swirlds.virtualmap.internal.hash.VirtualHashReader;
+import com.swirlds.virtualmap.internal.hash.VirtualHasher;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * Hashes a virtual tree on the learner during a parallel reconnect. The tree is split into
+ * partitions using {@link ReconnectPartitions}. Every partition has its own dirty leaves
+ * iterator and is hashed by its own {@link VirtualHasher} in a separate thread, independently
+ * of other partitions. Partition hashers work with local paths, this class converts them to
+ * virtual paths when hashes and leaves are passed to {@link ReconnectHashLeafFlusher}. When all
+ * partitions are hashed, nodes above the partition rank are hashed using partition root hashes.
+ *
+ * <p>Dirty leaves are passed to this class using {@link #supply(VirtualLeafBytes)}. Leaves in
+ * every partition must be supplied in ascending path order. Leaves from different partitions may
+ * be interleaved in any way.
+ *
+ * <p>All partitions share the same flusher, since data source writes must not run concurrently.
+ */
+public class PartitionedReconnectHasher {
+
+    private static final Logger logger = LogManager.getLogger(PartitionedReconnectHasher.class);
+
+    private final ReconnectPartitions partitions;
+
+    private final VirtualHashReader hashReader;
+
+    private final ReconnectHashLeafFlusher flusher;
+
+    private final VirtualMapConfig virtualMapConfig;
+
+    // Dirty leaves, one iterator per partition. Leaves in these iterators have local paths
+    private final List<ConcurrentBlockingIterator<VirtualLeafBytes>> partitionLeaves;
+
+    // The last local path supplied to every partition, used to check leaf order. Only
+    // accessed on the thread that supplies leaves
+    private final long[] lastSuppliedPaths;
+
+    // Partition root hashes, or nulls for partitions without dirty leaves
+    private final Hash[] partitionHashes;
+
+    /**
+     * Creates a new partitioned hasher.
+     *
+     * @param partitions virtual tree partitions
+     * @param hashReader reads clean hashes by virtual path
+     * @param flusher flusher to send hashed nodes and leaves to
+     * @param virtualMapConfig virtual map config
+     * @param bufferSize the total number of dirty leaves to buffer, across all partitions
+     */
+    public PartitionedReconnectHasher(
+            @NonNull final ReconnectPartitions partitions,
+            @NonNull final VirtualHashReader hashReader,
+            @NonNull final ReconnectHashLeafFlusher flusher,
+            @NonNull final VirtualMapConfig virtualMapConfig,
+            final int bufferSize) {
+        this.partitions = requireNonNull(partitions);
+        this.hashReader = requireNonNull(hashReader);
+        this.flusher = requireNonNull(flusher);
+        this.virtualMapConfig = requireNonNull(virtualMapConfig);
+        final int partitionCount = partitions.getPartitionCount();
+        final int partitionBufferSize = Math.max(1, bufferSize / partitionCount);
+        partitionLeaves = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitionLeaves.add(new ConcurrentBlockingIterator<>(partitionBufferSize));
+        }
+        lastSuppliedPaths = new long[partitionCount];
+        Arrays.fill(lastSuppliedPaths, Path.INVALID_PATH);
+        partitionHashes = new Hash[partitionCount];
+    }
+
+    /**
+     * Starts hashing threads, one per partition.
+     *
+     * @param threadManager thread manager to create hashing threads
+     * @return a future, which is completed with the root hash when all partitions are hashed and
+     *      flushed, or with null if there are no dirty leaves
+     */
+    public CompletableFuture<Hash> start(@NonNull final ThreadManager threadManager) {
+        flusher.start(partitions.getFirstLeafPath(), partitions.getLastLeafPath());
+        final int partitionCount = partitions.getPartitionCount();
+        final CompletableFuture<?>[] partitionFutures = new CompletableFuture<?>[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            final int partition = i;
+            final CompletableFuture<Void> partitionFuture = new CompletableFuture<>();
+            partitionFutures[i] = partitionFuture;
+            new ThreadConfiguration(threadManager)
+                    .setComponent("virtualmap")
+                    .setThreadName("hasher-" + partition)
+                    .setRunnable(() -> {
+                        partitionHashes[partition] = hashPartition(partition);
+                        partitionFuture.complete(null);
+                    })
+                    .setExceptionHandler((thread, exception) -> {
+                        // Shut down all iterators. This will cause reconnect to terminate
+                        close();
+                        logger.error(EXCEPTION.getMarker(), "Failed to hash partition {}", partition, exception);
+                        partitionFuture.completeExceptionally(exception);
+                    })
+                    .build()
+                    .start();
+        }
+        return CompletableFuture.allOf(partitionFutures).thenApply(v -> hashTopRanks());
+    }
+
+    /**
+     * Passes a dirty leaf received from the teacher to the corresponding partition hasher. May
+     * block, if the partition hasher is slower than leaves are supplied.
+     *
+     * @param leaf the dirty leaf
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void supply(@NonNull final VirtualLeafBytes<?> leaf) throws InterruptedException {
+        final long path = leaf.path();
+        final int partition = partitions.getPartition(path);
+        if (partition < 0) {
+            throw new MerkleSynchronizationException("Leaf path is above the partition rank: " + path);
+        }
+        final long localPath = partitions.toLocalPath(path);
+        if (localPath <= lastSuppliedPaths[partition]) {
+            throw new MerkleSynchronizationException("Leaves received out of order in partition " + partition
+                    + ", path=" + path + ". Check teacher and learner use the same partition rank");
+        }
+        lastSuppliedPaths[partition] = localPath;
+        partitionLeaves.get(partition).supply(leaf.withPath(localPath));
+    }
+
+    /**
+     * Indicates that there will be no more dirty leaves. Partition hashers will complete once all
+     * leaves supplied so far are hashed.
+     */
+    public void close() {
+        partitionLeaves.forEach(ConcurrentBlockingIterator::close);
+    }
+
+    private Hash hashPartition(final int partition) {
+        final VirtualHasher hasher = new VirtualHasher();
+        return hasher.hashOnCurrentThread(
+                new PartitionHashReader(partition),
+                partitionLeaves.get(partition),
+                partitions.getLocalFirstLeafPath(partition),
+                partitions.getLocalLastLeafPath(partition),
+                new PartitionHashListener(partition),
+                virtualMapConfig);
+    }
+
+    /**
+     * Hashes all nodes above the partition rank, which have at least one dirty partition below
+     * them. Called when all partitions are hashed.
+     *
+     * @return the root hash, or null if no partitions have dirty leaves
+     */
+    private Hash hashTopRanks() {
+        Hash[] rankHashes = partitionHashes;
+        if (Arrays.stream(rankHashes).allMatch(h -> h == null)) {
+            flusher.finish();
+            return null;
+        }
+        for (int rank = partitions.getPartitionRank(); rank > 0; rank--) {
+            final Hash[] parentHashes = new Hash[rankHashes.length / 2];
+            for (int i = 0; i < parentHashes.length; i++) {
+                Hash left = rankHashes[i * 2];
+                Hash right = rankHashes[i * 2 + 1];
+                if ((left == null) && (right == null)) {
+                    continue;
+                }
+                if (left == null) {
+                    left = hashReader.apply(Path.getPathForRankAndIndex(rank, i * 2));
+                }
+                if (right == null) {
+                    right = hashReader.apply(Path.getPathForRankAndIndex(rank, i * 2 + 1));
+                }
+                parentHashes[i] = VirtualHasher.hashInternalNode(left, right);
+                flusher.updateHash(Path.getPathForRankAndIndex(rank - 1, i), parentHashes[i]);
+            }
+            rankHashes = parentHashes;
+        }
+        flusher.finish();
+        return rankHashes[0];
+    }
+
+    /**
+     * Reads clean hashes for a partition hasher. Converts local paths to virtual paths.
+     */
+    private final class PartitionHashReader implements VirtualHashReader {
+
+        private final int partition;
+
+        PartitionHashReader(final int partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public Hash apply(final long localPath) {
+            return hashReader.apply(partitions.toGlobalPath(partition, localPath));
+        }
+
+        @Override
+        public void readHashes(@NonNull final long[] localPaths, @NonNull final Hash[] hashes) {
+            final long[] paths = new long[localPaths.length];
+            for (int i = 0; i < localPaths.length; i++) {
+                paths[i] = partitions.toGlobalPath(partition, localPaths[i]);
+            }
+            hashReader.readHashes(paths, hashes);
+        }
+    }
+
+    /**
+     * Passes hashed nodes and leaves from a partition hasher to the flusher. Converts local
+     * paths to virtual paths.
+     */
+    private final class PartitionHashListener implements VirtualHashListener {
+
+        private final int partition;
+
+        PartitionHashListener(final int partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void onNodeHashed(final long localPath, final Hash hash) {
+            flusher.updateHash(partitions.toGlobalPath(partition, localPath), hash);
+        }
+
+        @Override
+        public void onLeafHashed(final VirtualLeafBytes<?> leaf) {
+            flusher.updateLeaf(leaf.withPath(partitions.toGlobalPath(partition, leaf.path())));
+        }
+    }
+}
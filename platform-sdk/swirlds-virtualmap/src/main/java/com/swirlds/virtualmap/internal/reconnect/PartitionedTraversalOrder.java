@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+
+/**
+ * Virtual node traversal policy used in parallel pull reconnects. The virtual tree is split into
+ * sub-trees using {@link ReconnectPartitions}, and every sub-tree is traversed independently
+ * using its own {@link TopToBottomTraversalOrder}. Sub-tree traversal orders work with local
+ * paths, this class converts them to virtual paths and back.
+ *
+ * <p>Nodes above the partition rank are never requested from the teacher. Their hashes are
+ * recalculated on the learner from partition root hashes. The only exception is the root node,
+ * which is always requested first to get the virtual tree path range.
+ *
+ * <p>Every partition is expected to be served by a separate sending thread, see {@link
+ * #getNextPathToSend(int)}. All nodes are received on a single receiving thread.
+ */
+public class PartitionedTraversalOrder implements NodeTraversalOrder {
+
+    private final int requestedPartitionRank;
+
+    private ReconnectNodeCount nodeCount;
+
+    private ReconnectPartitions partitions;
+
+    // Traversal orders, one per partition
+    private NodeTraversalOrder[] partitionOrders;
+
+    // Used by getNextPathToSend() only, when all partitions are requested from a single thread
+    private int nextPartition = 0;
+    private boolean[] partitionsDone;
+
+    /**
+     * Create a new partitioned traversal order.
+     *
+     * @param requestedPartitionRank the rank to split the virtual tree at
+     */
+    public PartitionedTraversalOrder(final int requestedPartitionRank) {
+        this.requestedPartitionRank = requestedPartitionRank;
+    }
+
+    @Override
+    public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
+        this.nodeCount = nodeCount;
+        partitions = new ReconnectPartitions(requestedPartitionRank, firstLeafPath, lastLeafPath);
+        final int count = partitions.getPartitionCount();
+        partitionOrders = new NodeTraversalOrder[count];
+        partitionsDone = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            partitionOrders[i] = new TopToBottomTraversalOrder();
+            partitionOrders[i].start(
+                    partitions.getLocalFirstLeafPath(i), partitions.getLocalLastLeafPath(i), nodeCount);
+        }
+    }
+
+    @Override
+    public int getPartitionCount() {
+        return partitions.getPartitionCount();
+    }
+
+    @Override
+    public long getNextPathToSend(final int partition) throws InterruptedException {
+        final long localPath = partitionOrders[partition].getNextPathToSend();
+        if (localPath < 0) {
+            // Either INVALID_PATH (no more paths) or a wait indicator
+            return localPath;
+        }
+        return partitions.toGlobalPath(partition, localPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Partitioned traversal order is designed to be used with one sending thread per partition.
+     * If this method is used instead, paths from all partitions are returned in turn.
+     */
+    @Override
+    public long getNextPathToSend() throws InterruptedException {
+        for (int i = 0; i < partitionOrders.length; i++) {
+            final int partition = nextPartition;
+            nextPartition = (nextPartition + 1) % partitionOrders.length;
+            if (partitionsDone[partition]) {
+                continue;
+            }
+            final long path = getNextPathToSend(partition);
+            if (path == Path.INVALID_PATH) {
+                partitionsDone[partition] = true;
+                continue;
+            }
+            return path;
+        }
+        return Path.INVALID_PATH;
+    }
+
+    @Override
+    public void nodeReceived(final long path, final boolean isClean) {
+        final int partition = partitions.getPartition(path);
+        if (partition < 0) {
+            // Only the root node is requested above the partition rank
+            nodeCount.incrementInternalCount();
+            if (isClean) {
+                nodeCount.incrementRedundantInternalCount();
+            }
+            return;
+        }
+        partitionOrders[partition].nodeReceived(partitions.toLocalPath(path), isClean);
+    }
+}
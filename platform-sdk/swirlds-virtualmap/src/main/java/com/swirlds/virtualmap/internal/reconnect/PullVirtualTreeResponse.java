@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.virtualmap.internal.reconnect;
 
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
 import java.io.IOException;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.SelfSerializable;
@@ -40,6 +41,9 @@ public class PullVirtualTreeResponse implements SelfSerializable {
 
     private Hash teacherHash;
 
+    // Dirty leaf record to send, if loaded in advance using preloadLeaf(). Only used on the teacher side
+    private VirtualLeafBytes leaf;
+
     /**
      * Zero-arg constructor for constructable registry.
      */
@@ -76,6 +80,20 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         this.learnerView = learnerTreeView;
     }
 
+    private boolean isClean() {
+        return (teacherHash == null) || teacherHash.equals(learnerHash);
+    }
+
+    /**
+     * Loads the leaf record to send, if this response is for a dirty leaf. This method is used by
+     * the teacher to read leaf records in parallel. If a record is not loaded in advance, it's loaded
+     * during serialization on the output stream thread.
+     */
+    void preloadLeaf() {
+        assert teacherView != null;
+        leaf = teacherView.loadLeafToSend(path, isClean());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -83,9 +101,9 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public void serialize(final SerializableDataOutputStream out) throws IOException {
         assert teacherView != null;
         out.writeLong(path);
-        final boolean isClean = (teacherHash == null) || teacherHash.equals(learnerHash);
+        final boolean isClean = isClean();
         out.write(isClean ? 0 : 1);
-        teacherView.writeNode(out, path, isClean);
+        teacherView.writeNode(out, path, isClean, leaf);
     }
 
     /**
@@ -24,13 +24,30 @@ public class ReconnectHashListener implements VirtualHashListener {
 
     private final ReconnectHashLeafFlusher flusher;
 
+    /**
+     * Whether hashed leaves are flushed to disk, or only hashes.
+     */
+    private final boolean flushLeaves;
+
     /**
      * Create a new {@link ReconnectHashListener}.
      *
      * @param flusher Hash / leaf flusher to use to flush data to disk
      */
     public ReconnectHashListener(@NonNull final ReconnectHashLeafFlusher flusher) {
+        this(flusher, true);
+    }
+
+    /**
+     * Create a new {@link ReconnectHashListener}.
+     *
+     * @param flusher Hash / leaf flusher to use to flush data to disk
+     * @param flushLeaves whether hashed leaves are flushed to disk. If false, only hashes are flushed,
+     *      which is used when leaves are already stored in the data source
+     */
+    public ReconnectHashListener(@NonNull final ReconnectHashLeafFlusher flusher, final boolean flushLeaves) {
         this.flusher = requireNonNull(flusher);
+        this.flushLeaves = flushLeaves;
     }
 
     /**
@@ -54,7 +71,9 @@ public class ReconnectHashListener implements VirtualHashListener {
      */
     @Override
     public void onLeafHashed(final VirtualLeafBytes leaf) {
-        flusher.updateLeaf(leaf);
+        if (flushLeaves) {
+            flusher.updateLeaf(leaf);
+        }
     }
 
     /**
@@ -0,0 +1,174 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.virtualmap.internal.Path;
+
+/**
+ * Splits a virtual tree into independent sub-trees (partitions) for parallel reconnect. All
+ * partitions are rooted at the same rank, the partition rank. Partition roots are always
+ * internal nodes. If the tree is too small to have internal nodes at the requested rank, a
+ * smaller rank is used. For empty and single-leaf trees, the partition rank is zero, and the
+ * whole tree is a single partition.
+ *
+ * <p>Every partition is a valid virtual tree on its own. Paths in a partition may be converted
+ * to local paths, relative to the partition root, and back. For example, a partition root has
+ * local path 0, its left child has local path 1, and so on. Leaves in a partition form a
+ * contiguous local path range, see {@link #getLocalFirstLeafPath(int)} and {@link
+ * #getLocalLastLeafPath(int)}. Local path order within a partition matches global path order.
+ *
+ * <p>Partitioning only depends on the requested rank and the tree leaf path range, so it is the
+ * same on the teacher and the learner, as long as they are configured with the same rank.
+ */
+public final class ReconnectPartitions {
+
+    private final long firstLeafPath;
+    private final long lastLeafPath;
+
+    // Effective partition rank, may be less than the requested rank for small trees
+    private final int partitionRank;
+
+    /**
+     * Creates a new partitioning for a virtual tree.
+     *
+     * @param requestedRank the rank to split the tree at, from config
+     * @param firstLeafPath the first leaf path of the virtual tree
+     * @param lastLeafPath the last leaf path of the virtual tree
+     */
+    public ReconnectPartitions(final int requestedRank, final long firstLeafPath, final long lastLeafPath) {
+        if (requestedRank < 0) {
+            throw new IllegalArgumentException("Partition rank must not be negative: " + requestedRank);
+        }
+        this.firstLeafPath = firstLeafPath;
+        this.lastLeafPath = lastLeafPath;
+        if (lastLeafPath <= 0) {
+            partitionRank = 0;
+        } else {
+            // Partition roots must be above the first leaf rank
+            partitionRank = Math.max(0, Math.min(requestedRank, Path.getRank(firstLeafPath) - 1));
+        }
+    }
+
+    /**
+     * Returns the first leaf path of the virtual tree.
+     */
+    public long getFirstLeafPath() {
+        return firstLeafPath;
+    }
+
+    /**
+     * Returns the last leaf path of the virtual tree.
+     */
+    public long getLastLeafPath() {
+        return lastLeafPath;
+    }
+
+    /**
+     * Returns the effective partition rank.
+     */
+    public int getPartitionRank() {
+        return partitionRank;
+    }
+
+    /**
+     * Returns the number of partitions, 2^(partition rank).
+     */
+    public int getPartitionCount() {
+        return 1 << partitionRank;
+    }
+
+    /**
+     * Returns the path of the root node of the given partition.
+     *
+     * @param partition the partition index
+     * @return the partition root path
+     */
+    public long getPartitionRootPath(final int partition) {
+        return Path.getPathForRankAndIndex(partitionRank, partition);
+    }
+
+    /**
+     * Returns the partition index for the given path. Paths above the partition rank don't
+     * belong to any partition, this method returns -1 for them.
+     *
+     * @param path the virtual path
+     * @return the partition index, or -1 if the path is above the partition rank
+     */
+    public int getPartition(final long path) {
+        final int rank = Path.getRank(path);
+        if (rank < partitionRank) {
+            return -1;
+        }
+        return (int) (Path.getIndexInRank(path) >> (rank - partitionRank));
+    }
+
+    /**
+     * Converts a path to a local path within its partition. The path must not be above the
+     * partition rank.
+     *
+     * @param path the virtual path
+     * @return the local path relative to the partition root
+     */
+    public long toLocalPath(final long path) {
+        final int localRank = Path.getRank(path) - partitionRank;
+        assert localRank >= 0;
+        final long index = Path.getIndexInRank(path);
+        final long localIndex = index & ((1L << localRank) - 1);
+        return Path.getPathForRankAndIndex(localRank, localIndex);
+    }
+
+    /**
+     * Converts a local path within a partition to a virtual path.
+     *
+     * @param partition the partition index
+     * @param localPath the local path relative to the partition root
+     * @return the virtual path
+     */
+    public long toGlobalPath(final int partition, final long localPath) {
+        final int localRank = Path.getRank(localPath);
+        final long localIndex = Path.getIndexInRank(localPath);
+        return Path.getPathForRankAndIndex(partitionRank + localRank, ((long) partition << localRank) + localIndex);
+    }
+
+    /**
+     * Returns the first leaf path in the given partition, as a local path. If the tree is empty,
+     * returns {@link Path#INVALID_PATH}.
+     *
+     * @param partition the partition index
+     * @return the local first leaf path
+     */
+    public long getLocalFirstLeafPath(final int partition) {
+        if (lastLeafPath <= 0) {
+            return firstLeafPath;
+        }
+        final long localLastLeafPath = getLocalLastLeafPath(partition);
+        // Similar to the whole tree, the first leaf is the node next to the last leaf parent
+        return Path.getParentPath(localLastLeafPath) + 1;
+    }
+
+    /**
+     * Returns the last leaf path in the given partition, as a local path. If the tree is empty,
+     * returns {@link Path#INVALID_PATH}.
+     *
+     * @param partition the partition index
+     * @return the local last leaf path
+     */
+    public long getLocalLastLeafPath(final int partition) {
+        if (lastLeafPath <= 0) {
+            return lastLeafPath;
+        }
+        final int lastLeafRank = Path.getRank(lastLeafPath);
+        final int localLastLeafRank = lastLeafRank - partitionRank;
+        final long firstIndexInPartition = (long) partition << localLastLeafRank;
+        final long lastIndex = Path.getIndexInRank(lastLeafPath);
+        if (lastIndex >= firstIndexInPartition) {
+            // The partition has some leaves at the last leaf rank
+            final long lastIndexInPartition =
+                    Math.min(lastIndex, firstIndexInPartition + (1L << localLastLeafRank) - 1);
+            return Path.getPathForRankAndIndex(localLastLeafRank, lastIndexInPartition - firstIndexInPartition);
+        } else {
+            // All leaves in the partition are at the first leaf rank, which is one rank above the last leaf rank
+            assert localLastLeafRank > 1;
+            return Path.getPathForRankAndIndex(localLastLeafRank - 1, (1L << (localLastLeafRank - 1)) - 1);
+        }
+    }
+}
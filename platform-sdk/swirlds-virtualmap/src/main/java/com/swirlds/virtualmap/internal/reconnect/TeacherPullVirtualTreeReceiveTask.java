@@ -13,6 +13,11 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.common.utility.throttle.RateLimiter;
 import com.swirlds.virtualmap.internal.Path;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.crypto.Hash;
@@ -24,6 +29,12 @@ import org.hiero.base.io.streams.SerializableDataInputStream;
  * streams serialize objects to the underlying output streams in a separate thread. This is
  * where the provided hash from the learner is compared with the corresponding hash on the
  * teacher.
+ *
+ * <p>If the virtual tree is split into multiple partitions, see {@link ReconnectPartitions},
+ * this task only reads requests from the learner. Requests are then processed by partition
+ * worker threads, one per partition. Every worker loads teacher hashes and leaf records for
+ * its partition, so disk reads for different partitions run in parallel. Responses for every
+ * partition are sent in the same order as requests are received.
  */
 public class TeacherPullVirtualTreeReceiveTask {
 
@@ -31,6 +42,9 @@ public class TeacherPullVirtualTreeReceiveTask {
 
     private static final String NAME = "reconnect-teacher-receiver";
 
+    // A marker put to partition queues, when there are no more requests from the learner
+    private static final PullVirtualTreeRequest NO_MORE_REQUESTS = new PullVirtualTreeRequest(Path.INVALID_PATH, null);
+
     private final StandardWorkGroup workGroup;
     private final SerializableDataInputStream in;
     private final AsyncOutputStream<PullVirtualTreeResponse> out;
@@ -39,6 +53,15 @@ public class TeacherPullVirtualTreeReceiveTask {
     private final RateLimiter rateLimiter;
     private final int sleepNanos;
 
+    private final ReconnectPartitions partitions;
+
+    // Requests to process, one queue per partition. Null, if all requests are processed on the
+    // receiving thread
+    private final List<BlockingQueue<PullVirtualTreeRequest>> partitionQueues;
+
+    // Partition workers that haven't finished yet
+    private final CountDownLatch partitionWorkersRunning;
+
     /**
      * Create new thread that will send data lessons and queries for a subtree.
      *
@@ -48,6 +71,8 @@ public class TeacherPullVirtualTreeReceiveTask {
      * @param in                    the input stream
      * @param out                   the output stream
      * @param view                  an object that interfaces with the subtree
+     * @param partitions            virtual tree partitions, requests for different partitions are
+     *                              processed in parallel
      */
     public TeacherPullVirtualTreeReceiveTask(
             @NonNull final Time time,
@@ -55,11 +80,25 @@ public class TeacherPullVirtualTreeReceiveTask {
             final StandardWorkGroup workGroup,
             final SerializableDataInputStream in,
             final AsyncOutputStream<PullVirtualTreeResponse> out,
-            final TeacherPullVirtualTreeView view) {
+            final TeacherPullVirtualTreeView view,
+            @NonNull final ReconnectPartitions partitions) {
         this.workGroup = workGroup;
         this.in = in;
         this.out = out;
         this.view = view;
+        this.partitions = partitions;
+
+        final int partitionCount = partitions.getPartitionCount();
+        if (partitionCount > 1) {
+            partitionQueues = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                partitionQueues.add(new ArrayBlockingQueue<>(reconnectConfig.asyncStreamBufferSize()));
+            }
+            partitionWorkersRunning = new CountDownLatch(partitionCount);
+        } else {
+            partitionQueues = null;
+            partitionWorkersRunning = null;
+        }
 
         final int maxRate = reconnectConfig.teacherMaxNodesPerSecond();
         if (maxRate > 0) {
@@ -76,6 +115,12 @@ public class TeacherPullVirtualTreeReceiveTask {
      */
     void exec() {
         workGroup.execute(NAME, this::run);
+        if (partitionQueues != null) {
+            for (int i = 0; i < partitionQueues.size(); i++) {
+                final int partition = i;
+                workGroup.execute(NAME + "-" + partition, () -> runPartitionWorker(partition));
+            }
+        }
     }
 
     /**
@@ -105,19 +150,22 @@ public class TeacherPullVirtualTreeReceiveTask {
                     logger.info(RECONNECT.getMarker(), "Teacher receiver is complete as requested by the learner");
                     break;
                 }
-                final long path = request.getPath();
-                final Hash learnerHash = request.getHash();
-                final Hash teacherHash = view.loadHash(path);
-                // The only valid scenario, when teacherHash may be null, is the empty tree
-                if ((teacherHash == null) && (path != 0)) {
-                    throw new MerkleSerializationException(
-                            "Cannot load node hash (bad request from learner?), path = " + path);
+                // Requests above the partition rank, e.g. for the root node, are processed right away
+                final int partition = (partitionQueues != null) ? partitions.getPartition(request.getPath()) : -1;
+                if (partition >= 0) {
+                    partitionQueues.get(partition).put(request);
+                } else {
+                    // All real work is done in the async output thread. This call just registers a response
+                    // and returns immediately
+                    out.sendAsync(createResponse(request));
                 }
-                final PullVirtualTreeResponse response =
-                        new PullVirtualTreeResponse(view, path, learnerHash, teacherHash);
-                // All real work is done in the async output thread. This call just registers a response
-                // and returns immediately
-                out.sendAsync(response);
+            }
+            if (partitionQueues != null) {
+                for (final BlockingQueue<PullVirtualTreeRequest> queue : partitionQueues) {
+                    queue.put(NO_MORE_REQUESTS);
+                }
+                // Don't close the output stream till all partition responses are sent
+                partitionWorkersRunning.await();
             }
             logger.debug(RECONNECT.getMarker(), "Teacher receive done");
         } catch (final InterruptedException ex) {
@@ -127,4 +175,53 @@ public class TeacherPullVirtualTreeReceiveTask {
             throw new MerkleSynchronizationException("Exception in the teacher's receiving task", ex);
         }
     }
+
+    /**
+     * Processes requests for a single partition, till there are no more requests from the learner.
+     * Leaf records are loaded on this thread rather than on the async output thread.
+     *
+     * @param partition the partition index
+     */
+    private void runPartitionWorker(final int partition) {
+        final BlockingQueue<PullVirtualTreeRequest> queue = partitionQueues.get(partition);
+        try {
+            while (true) {
+                final PullVirtualTreeRequest request = queue.take();
+                if (request == NO_MORE_REQUESTS) {
+                    break;
+                }
+                final PullVirtualTreeResponse response = createResponse(request);
+                response.preloadLeaf();
+                out.sendAsync(response);
+            }
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Teacher's partition worker is interrupted, partition {}", partition);
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException(
+                    "Exception in the teacher's partition worker, partition " + partition, ex);
+        } finally {
+            partitionWorkersRunning.countDown();
+        }
+    }
+
+    /**
+     * Creates a response for the given request. This is where the learner hash is compared with
+     * the corresponding hash on the teacher.
+     *
+     * @param request the request from the learner
+     * @return the response to send to the learner
+     * @throws MerkleSerializationException if the requested hash cannot be loaded
+     */
+    private PullVirtualTreeResponse createResponse(final PullVirtualTreeRequest request)
+            throws MerkleSerializationException {
+        final long path = request.getPath();
+        final Hash learnerHash = request.getHash();
+        final Hash teacherHash = view.loadHash(path);
+        // The only valid scenario, when teacherHash may be null, is the empty tree
+        if ((teacherHash == null) && (path != 0)) {
+            throw new MerkleSerializationException("Cannot load node hash (bad request from learner?), path = " + path);
+        }
+        return new PullVirtualTreeResponse(view, path, learnerHash, teacherHash);
+    }
 }
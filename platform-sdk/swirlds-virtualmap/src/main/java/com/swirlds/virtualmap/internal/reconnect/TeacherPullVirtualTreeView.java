@@ -16,9 +16,11 @@ import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
 import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualMapMetadata;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
@@ -45,6 +47,12 @@ public final class TeacherPullVirtualTreeView extends VirtualTreeViewBase implem
 
     private final ReconnectConfig reconnectConfig;
 
+    /**
+     * The rank to split the virtual tree at, for parallel reconnects. If zero, all requests from
+     * the learner are processed on a single thread.
+     */
+    private final int partitionRank;
+
     /**
      * The {@link RecordAccessor} used for accessing the original map state.
      */
@@ -78,9 +86,36 @@ public final class TeacherPullVirtualTreeView extends VirtualTreeViewBase implem
             final VirtualMap map,
             final VirtualMapMetadata state,
             final VirtualPipeline pipeline) {
+        this(threadManager, reconnectConfig, map, state, pipeline, 0);
+    }
+
+    /**
+     * Create a new {@link TeacherPullVirtualTreeView} for parallel reconnects. Requests from the
+     * learner are split into partitions using {@link ReconnectPartitions}, and every partition is
+     * processed on its own thread.
+     *
+     * @param threadManager
+     * 		responsible for creating and managing threads
+     * @param map
+     * 		The map node on the teacher side of the saved state that we are going to reconnect.
+     * @param state
+     * 		The state of the virtual tree that we are synchronizing.
+     * @param pipeline
+     * 		The pipeline managing the virtual map.
+     * @param partitionRank
+     * 		The rank to split the virtual tree at. Must be the same as used by the learner
+     */
+    public TeacherPullVirtualTreeView(
+            final ThreadManager threadManager,
+            final ReconnectConfig reconnectConfig,
+            final VirtualMap map,
+            final VirtualMapMetadata state,
+            final VirtualPipeline pipeline,
+            final int partitionRank) {
         // There is no distinction between originalState and reconnectState in this implementation
         super(map, state, state);
         this.reconnectConfig = reconnectConfig;
+        this.partitionRank = partitionRank;
         new ThreadConfiguration(threadManager)
                 .setRunnable(() -> {
                     try {
@@ -108,8 +143,10 @@ public final class TeacherPullVirtualTreeView extends VirtualTreeViewBase implem
                 teachingSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
 
-        final TeacherPullVirtualTreeReceiveTask teacherReceiveTask =
-                new TeacherPullVirtualTreeReceiveTask(time, reconnectConfig, workGroup, inputStream, out, this);
+        final ReconnectPartitions partitions = new ReconnectPartitions(
+                partitionRank, reconnectState.getFirstLeafPath(), reconnectState.getLastLeafPath());
+        final TeacherPullVirtualTreeReceiveTask teacherReceiveTask = new TeacherPullVirtualTreeReceiveTask(
+                time, reconnectConfig, workGroup, inputStream, out, this, partitions);
         teacherReceiveTask.exec();
     }
 
@@ -117,6 +154,10 @@ public final class TeacherPullVirtualTreeView extends VirtualTreeViewBase implem
         return (path >= reconnectState.getFirstLeafPath()) && (path <= reconnectState.getLastLeafPath());
     }
 
+    private boolean isLeafToSend(final long path, final boolean isClean) {
+        return !isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0);
+    }
+
     /**
      * Writes the virtual node identified by a given path to the output stream.
      *
@@ -129,20 +170,39 @@ public final class TeacherPullVirtualTreeView extends VirtualTreeViewBase implem
      * @param out the output stream
      * @param path the virtual path
      * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @param leaf the leaf record to write, if already loaded using {@link #loadLeafToSend(long, boolean)},
+     *      or null to load it in this method
      * @throws IOException if an I/O error occurs
      */
-    public void writeNode(final SerializableDataOutputStream out, final long path, final boolean isClean)
+    public void writeNode(
+            final SerializableDataOutputStream out,
+            final long path,
+            final boolean isClean,
+            @Nullable final VirtualLeafBytes leaf)
             throws IOException {
         checkValidNode(path, reconnectState);
         if (path == 0) {
             out.writeLong(reconnectState.getFirstLeafPath());
             out.writeLong(reconnectState.getLastLeafPath());
         }
-        if (!isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0)) {
-            VirtualReconnectUtils.writeLeafRecord(out, records.findLeafRecord(path));
+        if (isLeafToSend(path, isClean)) {
+            VirtualReconnectUtils.writeLeafRecord(out, (leaf != null) ? leaf : records.findLeafRecord(path));
         }
     }
 
+    /**
+     * Loads the leaf record, which will be written for the virtual node identified by a given path
+     * in {@link #writeNode(SerializableDataOutputStream, long, boolean, VirtualLeafBytes)}.
+     *
+     * @param path the virtual path
+     * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @return the leaf record to write, or null if no leaf record is written for the node
+     */
+    @Nullable
+    public VirtualLeafBytes loadLeafToSend(final long path, final boolean isClean) {
+        return isLeafToSend(path, isClean) ? records.findLeafRecord(path) : null;
+    }
+
     /**
      * Read the virtual node hash identified by a given path.
      *
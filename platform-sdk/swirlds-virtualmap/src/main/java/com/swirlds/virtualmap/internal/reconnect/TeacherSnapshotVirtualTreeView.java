@@ -0,0 +1,263 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
+import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapMetadata;
+import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+
+/**
+ * An implementation of {@link TeacherTreeView} for snapshot reconnects. Instead of comparing
+ * virtual nodes with the learner, this view sends a complete data source snapshot to the learner
+ * as a set of files.
+ *
+ * <p>When this view is created, a data source snapshot is written to a temporary directory in
+ * background, the same way as when the virtual map is written to disk. Then a single task in the
+ * provided work group sends all snapshot files to the learner, and waits for the learner to confirm
+ * the snapshot is loaded.
+ *
+ * <p>This implementation is supposed to work with {@link LearnerSnapshotVirtualTreeView} on the
+ * learner side.
+ */
+public final class TeacherSnapshotVirtualTreeView extends VirtualTreeViewBase implements TeacherTreeView<Long> {
+
+    private static final Logger logger = LogManager.getLogger(TeacherSnapshotVirtualTreeView.class);
+
+    private static final String NAME = "reconnect-teacher-snapshot-sender";
+
+    /**
+     * The directory to write the data source snapshot to. Set once the snapshot is started.
+     */
+    private volatile Path snapshotDir;
+
+    /**
+     * This latch counts down when the view is fully initialized and ready for use.
+     */
+    private final CountDownLatch readyLatch = new CountDownLatch(1);
+
+    /**
+     * Indicates whether this teacher view is ready after {@link #readyLatch} is released.
+     */
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    /**
+     * Create a new {@link TeacherSnapshotVirtualTreeView}.
+     *
+     * @param threadManager
+     * 		responsible for creating and managing threads
+     * @param configuration
+     * 		platform configuration, used to create a temporary snapshot directory
+     * @param map
+     * 		The map node on the teacher side of the saved state that we are going to reconnect.
+     * @param state
+     * 		The state of the virtual tree that we are synchronizing.
+     * @param pipeline
+     * 		The pipeline managing the virtual map.
+     */
+    public TeacherSnapshotVirtualTreeView(
+            final ThreadManager threadManager,
+            final Configuration configuration,
+            final VirtualMap map,
+            final VirtualMapMetadata state,
+            final VirtualPipeline pipeline) {
+        // There is no distinction between originalState and reconnectState in this implementation
+        super(map, state, state);
+        new ThreadConfiguration(threadManager)
+                .setRunnable(() -> {
+                    try {
+                        snapshotDir =
+                                LegacyTemporaryFileBuilder.buildTemporaryDirectory("reconnect-snapshot", configuration);
+                        pipeline.pausePipelineAndRun("snapshot", () -> {
+                            map.snapshot(snapshotDir);
+                            return null;
+                        });
+                        ready.set(true);
+                    } catch (final IOException e) {
+                        logger.error(EXCEPTION.getMarker(), "Failed to create a data source snapshot to send", e);
+                    } finally {
+                        readyLatch.countDown();
+                    }
+                })
+                .setComponent("virtualmap")
+                .setThreadName("snapshotter")
+                .build()
+                .start();
+    }
+
+    @Override
+    public void startTeacherTasks(
+            final TeachingSynchronizer teachingSynchronizer,
+            final Time time,
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final MerkleDataOutputStream outputStream,
+            final Queue<TeacherSubtree> subtrees) {
+        workGroup.execute(NAME, () -> sendSnapshot(inputStream, outputStream));
+    }
+
+    private void sendSnapshot(final MerkleDataInputStream in, final MerkleDataOutputStream out) {
+        try {
+            final long totalSize = VirtualReconnectUtils.writeSnapshotFiles(out, snapshotDir);
+            logger.info(RECONNECT.getMarker(), "Sent data source snapshot files, total size: {} bytes", totalSize);
+            if (!in.readBoolean()) {
+                throw new MerkleSynchronizationException("Learner failed to load data source snapshot");
+            }
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to send data source snapshot", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void waitUntilReady() throws InterruptedException {
+        readyLatch.await();
+        if (!ready.get()) {
+            throw new RuntimeException("Failed to wait until teacher view is ready");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getRoot() {
+        return ROOT_PATH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addToHandleQueue(final Long node) {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.addToHandleQueue()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getNextNodeToHandle() {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.getNextNodeToHandle()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean areThereNodesToHandle() {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.areThereNodesToHandle()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getChildAndPrepareForQueryResponse(final Long parent, final int childIndex) {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.getChildAndPrepareForQueryResponse()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getNodeForNextResponse() {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.getNodeForNextResponse()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isResponseExpected() {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.isResponseExpected()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerResponseForNode(final Long node, final boolean learnerHasNode) {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.registerResponseForNode()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasLearnerConfirmedFor(final Long node) {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.hasLearnerConfirmedFor()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeLeaf(final SerializableDataOutputStream out, final Long leaf) throws IOException {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.serializeLeaf()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeInternal(final SerializableDataOutputStream out, final Long internal) throws IOException {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.serializeInternal()");
+    }
+
+    @Override
+    public void writeChildHashes(final Long parent, final SerializableDataOutputStream out) throws IOException {
+        throw new UnsupportedOperationException("TeacherSnapshotVirtualTreeView.writeChildHashes()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCustomReconnectRoot(final Long node) {
+        return node == ROOT_PATH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            readyLatch.await();
+            if (snapshotDir != null) {
+                FileUtils.deleteDirectory(snapshotDir);
+            }
+        } catch (final IOException e) {
+            logger.error(EXCEPTION.getMarker(), "Failed to delete data source snapshot directory", e);
+        } catch (final InterruptedException e) {
+            logger.error(EXCEPTION.getMarker(), "Interrupted while deleting data source snapshot directory", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
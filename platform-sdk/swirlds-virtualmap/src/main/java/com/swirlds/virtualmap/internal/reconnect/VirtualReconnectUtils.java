@@ -3,8 +3,16 @@ package com.swirlds.virtualmap.internal.reconnect;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
 import org.hiero.base.io.streams.SerializableDataInputStream;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
 
@@ -13,6 +21,16 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  */
 public class VirtualReconnectUtils {
 
+    /**
+     * Max length of a snapshot file name, relative to the snapshot directory.
+     */
+    private static final int MAX_SNAPSHOT_FILE_NAME_CHARS = 4096;
+
+    /**
+     * Buffer size to send and receive snapshot files.
+     */
+    private static final int SNAPSHOT_FILE_CHUNK_SIZE = 1024 * 1024;
+
     /**
      * Reads bytes from an input stream to an array, until array length bytes are read, or EOF
      * is encountered.
@@ -69,4 +87,111 @@ public class VirtualReconnectUtils {
             out.writeInt(-1);
         }
     }
+
+    /**
+     * Writes all files in the given snapshot directory and its subdirectories to the output stream.
+     * The number of files is written first. Then for every file, its name relative to the snapshot
+     * directory, its size, its content, and its CRC32C checksum are written. This method should match
+     * {@link #readSnapshotFiles(SerializableDataInputStream, Path, int, long)}.
+     *
+     * @param out the output stream to write to
+     * @param snapshotDir the snapshot directory
+     * @return the total size of all files written, in bytes
+     * @throws IOException if an I/O error occurs
+     */
+    public static long writeSnapshotFiles(final SerializableDataOutputStream out, final Path snapshotDir)
+            throws IOException {
+        final List<Path> files;
+        try (final Stream<Path> stream = Files.walk(snapshotDir)) {
+            files = stream.filter(Files::isRegularFile).sorted().toList();
+        }
+        out.writeInt(files.size());
+        final byte[] buffer = new byte[SNAPSHOT_FILE_CHUNK_SIZE];
+        long totalSize = 0;
+        for (final Path file : files) {
+            final String fileName = snapshotDir.relativize(file).toString().replace(File.separatorChar, '/');
+            out.writeNormalisedString(fileName);
+            final long fileSize = Files.size(file);
+            out.writeLong(fileSize);
+            final CRC32C checksum = new CRC32C();
+            try (final InputStream in = Files.newInputStream(file)) {
+                long remaining = fileSize;
+                while (remaining > 0) {
+                    final int bytesRead = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (bytesRead < 0) {
+                        throw new IOException("Snapshot file is truncated: " + file);
+                    }
+                    checksum.update(buffer, 0, bytesRead);
+                    out.write(buffer, 0, bytesRead);
+                    remaining -= bytesRead;
+                }
+            }
+            out.writeLong(checksum.getValue());
+            totalSize += fileSize;
+        }
+        out.flush();
+        return totalSize;
+    }
+
+    /**
+     * Reads snapshot files, as written by {@link #writeSnapshotFiles(SerializableDataOutputStream, Path)},
+     * from the input stream to the given directory. File checksums are verified.
+     *
+     * <p>Files are sent by the teacher, so their number and sizes are limited. The total size of all
+     * files must not exceed the given limit, nor the usable space in the snapshot directory. Every file
+     * size is checked before the file is read, so the limits are never exceeded on disk.
+     *
+     * @param in the input stream to read from
+     * @param snapshotDir the directory to read files to
+     * @param maxFileCount the max number of files to read
+     * @param maxTotalSize the max total size of all files to read, in bytes
+     * @return the total size of all files read, in bytes
+     * @throws IOException if an I/O error occurs, if a file name or checksum is not valid, or if
+     *      a limit is exceeded
+     */
+    public static long readSnapshotFiles(
+            final SerializableDataInputStream in,
+            final Path snapshotDir,
+            final int maxFileCount,
+            final long maxTotalSize)
+            throws IOException {
+        final Path baseDir = snapshotDir.toAbsolutePath().normalize();
+        final int fileCount = in.readInt();
+        if ((fileCount < 0) || (fileCount > maxFileCount)) {
+            throw new IOException("Invalid snapshot file count: " + fileCount + ", max=" + maxFileCount);
+        }
+        final long sizeLimit = Math.min(maxTotalSize, Files.getFileStore(baseDir).getUsableSpace());
+        final byte[] buffer = new byte[SNAPSHOT_FILE_CHUNK_SIZE];
+        long totalSize = 0;
+        for (int i = 0; i < fileCount; i++) {
+            final String fileName = in.readNormalisedString(MAX_SNAPSHOT_FILE_NAME_CHARS);
+            final Path file = baseDir.resolve(fileName).normalize();
+            // Files must never be written outside the snapshot directory
+            if (!file.startsWith(baseDir) || file.equals(baseDir)) {
+                throw new IOException("Invalid snapshot file name: " + fileName);
+            }
+            final long fileSize = in.readLong();
+            if ((fileSize < 0) || (fileSize > sizeLimit - totalSize)) {
+                throw new IOException("Invalid snapshot file size: " + fileName + ", size=" + fileSize
+                        + ", total size so far=" + totalSize + ", limit=" + sizeLimit);
+            }
+            Files.createDirectories(file.getParent());
+            final CRC32C checksum = new CRC32C();
+            try (final OutputStream fileOut = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW)) {
+                long remaining = fileSize;
+                while (remaining > 0) {
+                    final int chunkSize = (int) Math.min(buffer.length, remaining);
+                    in.readFully(buffer, 0, chunkSize);
+                    checksum.update(buffer, 0, chunkSize);
+                    fileOut.write(buffer, 0, chunkSize);
+                    remaining -= chunkSize;
+                }
+            }
+            if (in.readLong() != checksum.getValue()) {
+                throw new IOException("Snapshot file checksum mismatch: " + fileName);
+            }
+            totalSize += fileSize;
+        }
+        return totalSize;
+    }
 }
@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PathIndexTest {
+
+    static Stream<Supplier<PathIndex<String>>> indexes() {
+        return Stream.of(ConcurrentMapPathIndex::new, OpenAddressingPathIndex::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("indexes")
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    void putGetCompute(final Supplier<PathIndex<String>> supplier) {
+        final PathIndex<String> index = supplier.get();
+        assertNull(index.get(0));
+        index.put(0, "zero");
+        index.put(1, "one");
+        assertEquals("zero", index.get(0));
+        assertEquals("one", index.get(1));
+        assertEquals(2, index.size());
+
+        assertEquals("one+", index.compute(1, (path, value) -> value + "+"));
+        assertEquals("one+", index.get(1));
+        assertEquals("two", index.compute(2, (path, value) -> value == null ? "two" : "wrong"));
+        assertEquals(3, index.size());
+
+        assertNull(index.compute(0, (path, value) -> null));
+        assertNull(index.get(0));
+        assertNull(index.compute(100, (path, value) -> null));
+        assertEquals(2, index.size());
+
+        final Map<Long, String> all = new HashMap<>();
+        index.forEach(all::put);
+        assertEquals(Map.of(1L, "one+", 2L, "two"), all);
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    void negativePathsRejected() {
+        final PathIndex<String> index = new OpenAddressingPathIndex<>();
+        assertThrows(IllegalArgumentException.class, () -> index.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> index.put(-1, "x"));
+    }
+
+    /**
+     * Random puts and removals, compared against a reference map. Covers table resizes and
+     * backward shift deletion with long probe sequences.
+     */
+    @ParameterizedTest
+    @MethodSource("indexes")
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    void randomOperationsMatchReference(final Supplier<PathIndex<String>> supplier) {
+        final PathIndex<String> index = supplier.get();
+        final Map<Long, String> reference = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            final long path = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                index.compute(path, (p, v) -> null);
+                reference.remove(path);
+            } else {
+                final String value = Long.toString(i);
+                index.put(path, value);
+                reference.put(path, value);
+            }
+        }
+        assertEquals(reference.size(), index.size());
+        for (long path = 0; path < 20_000; path++) {
+            assertEquals(reference.get(path), index.get(path), "Wrong value for path " + path);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("indexes")
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    void concurrentComputes(final Supplier<PathIndex<String>> supplier) throws Exception {
+        final PathIndex<String> index = supplier.get();
+        final int threads = 8;
+        final int paths = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = IntStream.range(0, threads)
+                    .mapToObj(t -> executor.submit(() -> {
+                        for (long path = 0; path < paths; path++) {
+                            index.compute(path, (p, v) -> v == null ? "x" : v + "x");
+                            assertNotNull(index.get(path));
+                        }
+                    }))
+                    .toArray(Future[]::new);
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(paths, index.size());
+        for (long path = 0; path < paths; path++) {
+            assertEquals(threads, index.get(path).length());
+        }
+    }
+}
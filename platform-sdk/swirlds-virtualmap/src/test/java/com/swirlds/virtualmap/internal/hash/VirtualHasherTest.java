@@ -23,7 +23,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.LongFunction;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -284,6 +284,49 @@ class VirtualHasherTest extends VirtualHasherTestBase {
         return args.stream();
     }
 
+    /**
+     * Test that all clean hashes needed to hash a tree are read in batches, and every clean hash
+     * is read at most once.
+     *
+     * @param firstLeafPath
+     * 		The first leaf path.
+     * @param lastLeafPath
+     * 		The last leaf path.
+     * @param dirtyPaths
+     * 		The leaf paths that are dirty in this tree.
+     */
+    @ParameterizedTest
+    @MethodSource("hashingPermutations")
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Clean hashes are read in batches")
+    void cleanHashesReadInBatches(final long firstLeafPath, final long lastLeafPath, final List<Long> dirtyPaths)
+            throws Exception {
+        final TestDataSource ds = new TestDataSource(firstLeafPath, lastLeafPath);
+        final VirtualHasher hasher = new VirtualHasher();
+        final Hash expected = hashTree(ds);
+        final List<VirtualLeafBytes> leaves = invalidateNodes(ds, dirtyPaths.stream());
+        final Set<Long> readPaths = ConcurrentHashMap.newKeySet();
+        final VirtualHashReader hashReader = new VirtualHashReader() {
+            @Override
+            public Hash apply(final long path) {
+                throw new AssertionError("Hashes should be read in batches");
+            }
+
+            @Override
+            public void readHashes(final long[] paths, final Hash[] hashes) {
+                for (int i = 0; i < paths.length; i++) {
+                    if (!readPaths.add(paths[i])) {
+                        throw new AssertionError("Hash is read more than once, path=" + paths[i]);
+                    }
+                    hashes[i] = ds.loadHash(paths[i]);
+                }
+            }
+        };
+        final Hash rootHash =
+                hasher.hash(hashReader, leaves.iterator(), firstLeafPath, lastLeafPath, null, VIRTUAL_MAP_CONFIG);
+        assertEquals(expected, rootHash, "Hash value does not match expected");
+    }
+
     /**
      * Given our "canonical" 53-leaf dirty list (as used during the design phase when diagramming),
      * run the test repeatedly to make sure it always works. Early on I found some threading bugs
@@ -367,7 +410,7 @@ class VirtualHasherTest extends VirtualHasherTestBase {
                         path, TestKey.longToKey(path), new TestValue(path), TestValueCodec.INSTANCE))
                 .iterator();
 
-        final LongFunction<Hash> hashReader = path -> {
+        final VirtualHashReader hashReader = path -> {
             throw new AssertionError("Hashes not be queried");
         };
 
@@ -8,6 +8,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -38,6 +39,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -854,6 +856,79 @@ class VirtualPipelineTests {
         }
     }
 
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Family size backpressure wakes up on flush")
+    void familySizeBackpressureWakesUpOnFlush() throws InterruptedException {
+        final Configuration configuration = new TestConfigBuilder()
+                .withSource(new SimpleConfigSource().withValue(VirtualMapConfig_.FAMILY_THROTTLE_THRESHOLD, 1000L))
+                .withConfigDataType(VirtualMapConfig.class)
+                .getOrCreateConfig();
+        config = configuration.getConfigData(VirtualMapConfig.class);
+
+        // All copies are flushable. Sizes are set after the copies are created, otherwise
+        // backpressure would be applied during setup
+        final List<DummyVirtualRoot> copies = setupCopies(21, i -> true);
+        copies.forEach(copy -> copy.setEstimatedSize(100));
+        final DummyVirtualRoot last = copies.get(copies.size() - 1);
+        // 20 immutable copies, 100 each, the threshold is 1000, so the pause is 100^2 ms
+        assertEquals(100 * 100, last.getPipeline().calculateFamilySizeBackpressurePause());
+
+        final AtomicReference<DummyVirtualRoot> newCopy = new AtomicReference<>();
+        final Thread copyThread = new Thread(() -> newCopy.set(last.copy()));
+        copyThread.start();
+        MILLISECONDS.sleep(200);
+        assertNull(newCopy.get(), "Copy should be blocked by backpressure");
+
+        // Release all older copies. They are flushed, and the copy thread should wake up
+        // long before the full backpressure pause (21 immutable copies, 110^2 ms) is over
+        for (int i = 0; i < copies.size() - 1; i++) {
+            copies.get(i).release();
+        }
+        copyThread.join(5_000);
+        assertNotNull(newCopy.get(), "Copy should not wait for the full backpressure pause");
+
+        last.release();
+        newCopy.get().release();
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Pipelined flushes and merges")
+    void pipelinedFlushesAndMerges() throws InterruptedException {
+        final Configuration configuration = new TestConfigBuilder()
+                .withSource(new SimpleConfigSource().withValue(VirtualMapConfig_.PIPELINED_FLUSHES_ENABLED, true))
+                .withConfigDataType(VirtualMapConfig.class)
+                .getOrCreateConfig();
+        config = configuration.getConfigData(VirtualMapConfig.class);
+
+        // Create 101 copies. Every 10th copy is flush eligible
+        final int copyCount = 101;
+        final List<DummyVirtualRoot> copies = setupCopies(copyCount, i -> i % 10 == 0);
+        // Make the last copy immutable, so copy #99 can be merged into it
+        final DummyVirtualRoot mutableCopy = copies.get(copyCount - 1).copy();
+        for (int i = 0; i < copyCount - 1; i++) {
+            copies.get(i).release();
+        }
+        copies.get(90).waitUntilFlushed();
+        copies.get(99).waitUntilMerged();
+
+        for (int i = 0; i < copyCount - 1; i++) {
+            final DummyVirtualRoot copy = copies.get(i);
+            if (i % 10 == 0) {
+                assertTrue(copy.isFlushed(), "Copy should be flushed. Copy #" + i);
+            } else {
+                assertTrue(copy.isMerged(), "Copy should be merged. Copy #" + i);
+            }
+        }
+        assertValidity(copies);
+
+        copies.get(copyCount - 1).release();
+        mutableCopy.release();
+        assertTrue(mutableCopy.getPipeline().awaitTermination(5, SECONDS), "Timed out");
+        assertTrue(mutableCopy.isShutdownHandlerCalled(), "Callback should now be invoked");
+    }
+
     @Test
     @DisplayName("Get same copy hash in multiple threads")
     void concurrentHashing() throws InterruptedException {
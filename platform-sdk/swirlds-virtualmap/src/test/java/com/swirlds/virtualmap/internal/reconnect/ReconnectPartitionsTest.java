@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.virtualmap.internal.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ReconnectPartitionsTest {
+
+    @Test
+    @DisplayName("Empty and single-leaf trees are a single partition")
+    void smallTrees() {
+        final ReconnectPartitions empty = new ReconnectPartitions(3, Path.INVALID_PATH, Path.INVALID_PATH);
+        assertEquals(0, empty.getPartitionRank());
+        assertEquals(1, empty.getPartitionCount());
+        assertEquals(Path.INVALID_PATH, empty.getLocalFirstLeafPath(0));
+        assertEquals(Path.INVALID_PATH, empty.getLocalLastLeafPath(0));
+
+        final ReconnectPartitions single = new ReconnectPartitions(3, 1, 1);
+        assertEquals(0, single.getPartitionRank());
+        assertEquals(1, single.getPartitionCount());
+        assertEquals(1, single.getLocalFirstLeafPath(0));
+        assertEquals(1, single.getLocalLastLeafPath(0));
+    }
+
+    @Test
+    @DisplayName("Partition rank is limited by tree size")
+    void partitionRankLimit() {
+        // 2 leaves, first leaf rank is 1
+        assertEquals(0, new ReconnectPartitions(3, 1, 2).getPartitionRank());
+        // 4 leaves, first leaf rank is 2
+        assertEquals(1, new ReconnectPartitions(3, 3, 6).getPartitionRank());
+        // 5 leaves, first leaf rank is 2
+        assertEquals(1, new ReconnectPartitions(3, 4, 8).getPartitionRank());
+        // 1000 leaves
+        assertEquals(3, new ReconnectPartitions(3, 999, 1998).getPartitionRank());
+        assertEquals(0, new ReconnectPartitions(0, 999, 1998).getPartitionRank());
+        assertThrows(IllegalArgumentException.class, () -> new ReconnectPartitions(-1, 999, 1998));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4})
+    @DisplayName("Every leaf maps to a local leaf path and back")
+    void leafPathMapping(final int requestedRank) {
+        for (long leafCount = 2; leafCount <= 300; leafCount++) {
+            final long firstLeafPath = leafCount - 1;
+            final long lastLeafPath = leafCount * 2 - 2;
+            final ReconnectPartitions partitions =
+                    new ReconnectPartitions(requestedRank, firstLeafPath, lastLeafPath);
+            final int partitionCount = partitions.getPartitionCount();
+            final long[] lastLocalPaths = new long[partitionCount];
+            final long[] leafCounts = new long[partitionCount];
+            for (int i = 0; i < partitionCount; i++) {
+                lastLocalPaths[i] = Path.INVALID_PATH;
+            }
+            for (long path = firstLeafPath; path <= lastLeafPath; path++) {
+                final int partition = partitions.getPartition(path);
+                assertTrue(partition >= 0 && partition < partitionCount, "Wrong partition for path " + path);
+                final long localPath = partitions.toLocalPath(path);
+                assertEquals(path, partitions.toGlobalPath(partition, localPath), "Wrong global path");
+                assertTrue(localPath >= partitions.getLocalFirstLeafPath(partition), "Local path out of range");
+                assertTrue(localPath <= partitions.getLocalLastLeafPath(partition), "Local path out of range");
+                assertTrue(localPath > lastLocalPaths[partition], "Local path order must match global order");
+                lastLocalPaths[partition] = localPath;
+                leafCounts[partition]++;
+            }
+            for (int i = 0; i < partitionCount; i++) {
+                final long first = partitions.getLocalFirstLeafPath(i);
+                final long last = partitions.getLocalLastLeafPath(i);
+                assertEquals(last - first + 1, leafCounts[i], "Wrong leaf count in partition " + i);
+                assertEquals(last, lastLocalPaths[i], "Wrong last leaf path in partition " + i);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    @DisplayName("Internal nodes below the partition rank map to local paths and back")
+    void internalPathMapping(final int requestedRank) {
+        final ReconnectPartitions partitions = new ReconnectPartitions(requestedRank, 99, 198);
+        assertEquals(requestedRank, partitions.getPartitionRank());
+        for (int i = 0; i < partitions.getPartitionCount(); i++) {
+            final long rootPath = partitions.getPartitionRootPath(i);
+            assertEquals(i, partitions.getPartition(rootPath));
+            assertEquals(Path.ROOT_PATH, partitions.toLocalPath(rootPath));
+        }
+        for (long path = 0; path < 99; path++) {
+            final int partition = partitions.getPartition(path);
+            if (Path.getRank(path) < partitions.getPartitionRank()) {
+                assertEquals(-1, partition, "Paths above the partition rank have no partition");
+            } else {
+                assertEquals(path, partitions.toGlobalPath(partition, partitions.toLocalPath(path)));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueCodec;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Virtual Map Parallel Reconnect Test")
+class VirtualMapParallelReconnectTest extends VirtualMapReconnectTestBase {
+
+    private static final int PARTITION_RANK = 2;
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @Override
+    protected Configuration createConfiguration() {
+        return new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.RECONNECT_MODE, VirtualMapReconnectMode.PULL_PARALLEL)
+                .withValue(VirtualMapConfig_.RECONNECT_PARTITION_RANK, PARTITION_RANK)
+                .getOrCreateConfig();
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Empty teacher and empty learner")
+    void emptyTeacherAndLearner() {
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Single-leaf teacher and full learner")
+    void singleLeafTeacherFullLearner() {
+        teacherMap.put(A_KEY, AARDVARK, TestValueCodec.INSTANCE);
+
+        learnerMap.put(A_KEY, APPLE, TestValueCodec.INSTANCE);
+        learnerMap.put(B_KEY, BANANA, TestValueCodec.INSTANCE);
+        learnerMap.put(C_KEY, CHERRY, TestValueCodec.INSTANCE);
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Full teacher and empty learner")
+    void fullTeacherEmptyLearner() {
+        teacherMap.put(A_KEY, APPLE, TestValueCodec.INSTANCE);
+        teacherMap.put(B_KEY, BANANA, TestValueCodec.INSTANCE);
+        teacherMap.put(C_KEY, CHERRY, TestValueCodec.INSTANCE);
+        teacherMap.put(D_KEY, DATE, TestValueCodec.INSTANCE);
+        teacherMap.put(E_KEY, EGGPLANT, TestValueCodec.INSTANCE);
+        teacherMap.put(F_KEY, FIG, TestValueCodec.INSTANCE);
+        teacherMap.put(G_KEY, GRAPE, TestValueCodec.INSTANCE);
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+
+    static Stream<Arguments> provideTreeSizes() {
+        return Stream.of(
+                // Trees too small to be partitioned at the configured rank
+                Arguments.of(0, 5, 3),
+                Arguments.of(3, 0, 0),
+                Arguments.of(6, 6, 4),
+                // Trees with all partitions
+                Arguments.of(0, 100, 0),
+                Arguments.of(100, 0, 0),
+                Arguments.of(100, 100, 50),
+                Arguments.of(100, 100, 100),
+                Arguments.of(150, 70, 30),
+                Arguments.of(70, 150, 70),
+                Arguments.of(1000, 999, 500));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTreeSizes")
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Teacher and learner with overlapping keys")
+    void partiallyEqualTrees(final int teacherSize, final int learnerSize, final int equalSize) {
+        for (int i = 0; i < teacherSize; i++) {
+            final TestValue value = new TestValue(i < equalSize ? "value" + i : "teacher" + i);
+            teacherMap.put(TestKey.longToKey(i), value, TestValueCodec.INSTANCE);
+        }
+        for (int i = 0; i < learnerSize; i++) {
+            final TestValue value = new TestValue(i < equalSize ? "value" + i : "learner" + i);
+            learnerMap.put(TestKey.longToKey(i), value, TestValueCodec.INSTANCE);
+        }
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+}
@@ -15,6 +15,7 @@ import com.swirlds.common.merkle.synchronization.task.QueryResponse;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
 import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.virtualmap.VirtualMap;
@@ -85,13 +86,18 @@ public abstract class VirtualMapReconnectTestBase {
 
     protected abstract VirtualDataSourceBuilder createBuilder();
 
+    protected Configuration createConfiguration() {
+        return CONFIGURATION;
+    }
+
     @BeforeEach
     void setupEach() {
         final VirtualDataSourceBuilder dataSourceBuilder = createBuilder();
+        final Configuration configuration = createConfiguration();
         teacherBuilder = new BrokenBuilder(dataSourceBuilder);
         learnerBuilder = new BrokenBuilder(dataSourceBuilder);
-        teacherMap = new VirtualMap("Teacher", teacherBuilder, CONFIGURATION);
-        learnerMap = new VirtualMap("Learner", learnerBuilder, CONFIGURATION);
+        teacherMap = new VirtualMap("Teacher", teacherBuilder, configuration);
+        learnerMap = new VirtualMap("Learner", learnerBuilder, configuration);
     }
 
     @BeforeAll
@@ -216,6 +222,11 @@ public abstract class VirtualMapReconnectTestBase {
             return new BreakableDataSource(this, delegate.restore(label, from));
         }
 
+        @Override
+        public BreakableDataSource importSnapshot(final String label, final Path from) {
+            return new BreakableDataSource(this, delegate.importSnapshot(label, from));
+        }
+
         public void setNumCallsBeforeThrow(int num) {
             this.numCallsBeforeThrow = num;
         }
@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class VirtualReconnectUtilsTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path teacherDir;
+
+    private byte[] snapshotBytes;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        teacherDir = Files.createDirectories(tempDir.resolve("teacher"));
+        Files.write(teacherDir.resolve("a.bin"), new byte[1000]);
+        Files.createDirectories(teacherDir.resolve("sub"));
+        Files.write(teacherDir.resolve("sub").resolve("b.bin"), new byte[] {1, 2, 3});
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bytes)) {
+            assertEquals(1003, VirtualReconnectUtils.writeSnapshotFiles(out, teacherDir));
+        }
+        snapshotBytes = bytes.toByteArray();
+    }
+
+    private long readSnapshot(final Path learnerDir, final int maxFileCount, final long maxTotalSize)
+            throws IOException {
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new ByteArrayInputStream(snapshotBytes))) {
+            return VirtualReconnectUtils.readSnapshotFiles(in, learnerDir, maxFileCount, maxTotalSize);
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot files are received within limits")
+    void receivedWithinLimits() throws IOException {
+        final Path learnerDir = Files.createDirectories(tempDir.resolve("learner"));
+        assertEquals(1003, readSnapshot(learnerDir, 2, 1003));
+        assertArrayEquals(
+                Files.readAllBytes(teacherDir.resolve("sub").resolve("b.bin")),
+                Files.readAllBytes(learnerDir.resolve("sub").resolve("b.bin")));
+    }
+
+    @Test
+    @DisplayName("Too many snapshot files are rejected before any file is received")
+    void tooManyFiles() throws IOException {
+        final Path learnerDir = Files.createDirectories(tempDir.resolve("learner"));
+        assertThrows(IOException.class, () -> readSnapshot(learnerDir, 1, Long.MAX_VALUE));
+        assertFalse(Files.exists(learnerDir.resolve("a.bin")));
+    }
+
+    @Test
+    @DisplayName("Snapshot files over the total size limit are rejected before they are received")
+    void tooManyBytes() throws IOException {
+        final Path learnerDir = Files.createDirectories(tempDir.resolve("learner"));
+        assertThrows(IOException.class, () -> readSnapshot(learnerDir, 2, 1002));
+        // The first file fits the limit, the second one doesn't
+        assertEquals(1000, Files.size(learnerDir.resolve("a.bin")));
+        assertFalse(Files.exists(learnerDir.resolve("sub").resolve("b.bin")));
+
+        final Path learnerDir2 = Files.createDirectories(tempDir.resolve("learner2"));
+        assertThrows(IOException.class, () -> readSnapshot(learnerDir2, 2, 999));
+        assertFalse(Files.exists(learnerDir2.resolve("a.bin")));
+    }
+}